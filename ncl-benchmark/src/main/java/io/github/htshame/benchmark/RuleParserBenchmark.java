@@ -0,0 +1,125 @@
+package io.github.htshame.benchmark;
+
+import io.github.htshame.parser.CompiledRulesCache;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.rule.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Rules loading benchmark: parsing of the rules XML versus reading the compiled ruleset snapshot.
+ * <p>
+ * Run with <code>mvn -P benchmark package</code> and
+ * <code>java -jar ncl-benchmark/target/benchmarks.jar RuleParserBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = RuleParserBenchmark.ITERATIONS)
+@Measurement(iterations = RuleParserBenchmark.ITERATIONS)
+@Fork(1)
+public class RuleParserBenchmark {
+
+    /**
+     * Number of warmup and measurement iterations.
+     */
+    static final int ITERATIONS = 5;
+
+    private static final int RULE_COUNT = 150;
+
+    private Path directory;
+    private File rulesFile;
+    private CompiledRulesCache compiledRulesCache;
+
+    /**
+     * Default constructor.
+     */
+    public RuleParserBenchmark() {
+
+    }
+
+    /**
+     * Write the rules file and its compiled snapshot.
+     *
+     * @throws IOException - thrown if the rules file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ncl-benchmark");
+        rulesFile = directory.resolve("rules.xml").toFile();
+        Files.write(rulesFile.toPath(), rulesXml().getBytes(StandardCharsets.UTF_8));
+        compiledRulesCache = new CompiledRulesCache(directory.resolve("compiled-rules").toFile(), "benchmark");
+        compiledRulesCache.parseRules(rulesFile);
+    }
+
+    /**
+     * Delete the rules file and its compiled snapshot.
+     *
+     * @throws IOException - thrown if the files cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Parse the rules XML.
+     *
+     * @return rules.
+     */
+    @Benchmark
+    public List<Rule> parseRulesXml() {
+        return RuleParser.parseRules(rulesFile);
+    }
+
+    /**
+     * Read the compiled ruleset snapshot.
+     *
+     * @return rules.
+     */
+    @Benchmark
+    public List<Rule> readCompiledSnapshot() {
+        return compiledRulesCache.parseRules(rulesFile);
+    }
+
+    private static String rulesXml() {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rules>\n");
+        for (int i = 0; i < RULE_COUNT / 2; i++) {
+            xml.append("    <rule name=\"attr-starts-with\">\n")
+                    .append("        <tag>createIndex").append(i).append("</tag>\n")
+                    .append("        <targetAttr>indexName</targetAttr>\n")
+                    .append("        <requiredPrefix>idx_").append(i).append("_</requiredPrefix>\n")
+                    .append("    </rule>\n")
+                    .append("    <rule name=\"no-hyphens-in-attributes\">\n")
+                    .append("        <excludedAttrs>\n")
+                    .append("            <attr>defaultValue").append(i).append("</attr>\n")
+                    .append("            <attr>remarks</attr>\n")
+                    .append("        </excludedAttrs>\n")
+                    .append("    </rule>\n");
+        }
+        return xml.append("</rules>\n").toString();
+    }
+}
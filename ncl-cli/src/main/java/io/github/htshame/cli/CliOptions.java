@@ -0,0 +1,153 @@
+package io.github.htshame.cli;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options.
+ * <br>
+ * Options are named after the Maven plugin parameters and are given as <code>--name value</code>
+ * or <code>--name=value</code>. A flag given without a value is set to <code>true</code>.
+ */
+final class CliOptions {
+
+    private static final String PREFIX = "--";
+
+    private final Map<String, String> values;
+
+    private CliOptions(final Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Parse command line arguments.
+     *
+     * @param args     - command line arguments.
+     * @param options  - names of the options that take a value.
+     * @param flags    - names of the boolean flags.
+     * @return parsed options.
+     * @throws IllegalArgumentException - thrown if an argument is unknown or an option has no value.
+     */
+    static CliOptions parse(final String[] args,
+                            final String[] options,
+                            final String[] flags) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String name = arg.substring(PREFIX.length(), separator < 0 ? arg.length() : separator);
+            String value = separator < 0 ? null : arg.substring(separator + 1);
+            if (contains(options, name)) {
+                if (value == null) {
+                    if (i + 1 == args.length) {
+                        throw new IllegalArgumentException("Option --" + name + " requires a value");
+                    }
+                    value = args[++i];
+                }
+            } else if (contains(flags, name)) {
+                if (value == null) {
+                    value = "true";
+                } else if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+                    throw new IllegalArgumentException("Flag --" + name + " must be 'true' or 'false'");
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+            values.put(name, value);
+        }
+        return new CliOptions(values);
+    }
+
+    /**
+     * Get option value.
+     *
+     * @param name         - option name.
+     * @param defaultValue - value if the option is not given.
+     * @return option value.
+     */
+    String get(final String name,
+               final String defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Get flag value.
+     *
+     * @param name         - flag name.
+     * @param defaultValue - value if the flag is not given.
+     * @return flag value.
+     */
+    boolean getFlag(final String name,
+                    final boolean defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Get file option value.
+     *
+     * @param name - option name.
+     * @return file. Null if the option is not given.
+     */
+    File getFile(final String name) {
+        String value = values.get(name);
+        return value == null ? null : new File(value);
+    }
+
+    /**
+     * Get URL option value.
+     *
+     * @param name - option name.
+     * @return URL. Null if the option is not given.
+     * @throws IllegalArgumentException - thrown if the value is not a valid URL.
+     */
+    URL getUrl(final String name) {
+        String value = values.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new URL(value);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Option --" + name + " is not a valid URL: " + value);
+        }
+    }
+
+    /**
+     * Get numeric option value.
+     *
+     * @param name         - option name.
+     * @param defaultValue - value if the option is not given.
+     * @return option value.
+     * @throws IllegalArgumentException - thrown if the value is not a number.
+     */
+    long getLong(final String name,
+                 final long defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option --" + name + " must be a number: " + value);
+        }
+    }
+
+    private static boolean contains(final String[] names,
+                                    final String name) {
+        for (String candidate : names) {
+            if (candidate.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
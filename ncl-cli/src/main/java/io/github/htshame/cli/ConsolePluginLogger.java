@@ -0,0 +1,53 @@
+package io.github.htshame.cli;
+
+import io.github.htshame.log.PluginLogger;
+
+import java.io.PrintStream;
+
+/**
+ * Logger writing info messages to the standard output and warnings and errors to the standard error.
+ */
+final class ConsolePluginLogger implements PluginLogger {
+
+    private final PrintStream out;
+    private final PrintStream err;
+    private final boolean quiet;
+
+    /**
+     * Constructor.
+     *
+     * @param out   - standard output.
+     * @param err   - standard error.
+     * @param quiet - whether info messages are suppressed.
+     */
+    ConsolePluginLogger(final PrintStream out,
+                        final PrintStream err,
+                        final boolean quiet) {
+        this.out = out;
+        this.err = err;
+        this.quiet = quiet;
+    }
+
+    @Override
+    public void info(final String message) {
+        if (!quiet) {
+            out.println(message);
+        }
+    }
+
+    @Override
+    public void warn(final String message) {
+        err.println("[WARNING] " + message);
+    }
+
+    @Override
+    public void error(final String message) {
+        err.println("[ERROR] " + message);
+    }
+
+    @Override
+    public void error(final String message,
+                      final Exception e) {
+        err.println("[ERROR] " + message + ": " + e);
+    }
+}
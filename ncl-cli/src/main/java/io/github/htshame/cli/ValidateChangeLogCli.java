@@ -0,0 +1,298 @@
+package io.github.htshame.cli;
+
+import io.github.htshame.core.ChangeLogWatcher;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.core.ValidateChangeLogService;
+import io.github.htshame.daemon.ValidationDaemonClient;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.log.PluginLogger;
+
+import java.io.File;
+import java.io.PrintStream;
+
+/**
+ * Command line validator of changeLog files, for pre-commit hooks and builds without Maven.
+ * <br>
+ * Options are named after the parameters of the <code>validate-liquibase-changeLog</code> mojo,
+ * e.g. <code>--changeLogDirectory src/main/resources/db --pathToRulesFile rules.xml</code>.
+ * <br>
+ * Exit codes: <code>0</code> - no violations, <code>1</code> - violations found,
+ * <code>2</code> - invalid arguments.
+ */
+public final class ValidateChangeLogCli {
+
+    /**
+     * Exit code if no violations are found.
+     */
+    static final int EXIT_OK = 0;
+
+    /**
+     * Exit code if violations are found.
+     */
+    static final int EXIT_VIOLATIONS = 1;
+
+    /**
+     * Exit code if the arguments are invalid.
+     */
+    static final int EXIT_USAGE = 2;
+
+    private static final String PATH_TO_RULES_FILE = "pathToRulesFile";
+    private static final String RULES_FILE_URL = "rulesFileUrl";
+    private static final String RULES_FILE_SHA256 = "rulesFileSha256";
+    private static final String PATH_TO_EXCLUSIONS_FILE = "pathToExclusionsFile";
+    private static final String EXCLUSIONS_FILE_URL = "exclusionsFileUrl";
+    private static final String EXCLUSIONS_FILE_SHA256 = "exclusionsFileSha256";
+    private static final String CONFIG_CACHE_DIRECTORY = "configCacheDirectory";
+    private static final String CONFIG_CACHE_TTL_SECONDS = "configCacheTtlSeconds";
+    private static final String COMPILED_RULES_CACHE_DIRECTORY = "compiledRulesCacheDirectory";
+    private static final String CHANGE_SET_RESULT_CACHE_DIRECTORY = "changeSetResultCacheDirectory";
+    private static final String PARSED_CHANGE_LOG_CACHE_DIRECTORY = "parsedChangeLogCacheDirectory";
+    private static final String CHANGE_LOG_DIRECTORY = "changeLogDirectory";
+    private static final String CHANGE_LOG_FORMAT = "changeLogFormat";
+    private static final String PIPELINE_THREADS = "pipelineThreads";
+    private static final String CHANGE_SET_THREADS = "changeSetThreads";
+    private static final String OUTPUT_DIRECTORY = "outputDirectory";
+    private static final String DAEMON_DIRECTORY = "daemonDirectory";
+    private static final String DAEMON_IDLE_TIMEOUT_SECONDS = "daemonIdleTimeoutSeconds";
+    private static final String WATCH_DEBOUNCE_MILLIS = "watchDebounceMillis";
+    private static final String SHOULD_FAIL_BUILD = "shouldFailBuild";
+    private static final String SHOULD_GENERATE_EXCLUSIONS = "shouldGenerateExclusions";
+    private static final String SHOULD_GENERATE_METRICS = "shouldGenerateMetrics";
+    private static final String SHOULD_GENERATE_TRACE = "shouldGenerateTrace";
+    private static final String USE_DAEMON = "useDaemon";
+    private static final String WATCH = "watch";
+    private static final String QUIET = "quiet";
+    private static final String HELP = "help";
+    private static final String VERSION = "version";
+
+    private static final String[] OPTIONS = {
+            PATH_TO_RULES_FILE, RULES_FILE_URL, RULES_FILE_SHA256,
+            PATH_TO_EXCLUSIONS_FILE, EXCLUSIONS_FILE_URL, EXCLUSIONS_FILE_SHA256,
+            CONFIG_CACHE_DIRECTORY, CONFIG_CACHE_TTL_SECONDS, COMPILED_RULES_CACHE_DIRECTORY,
+            CHANGE_SET_RESULT_CACHE_DIRECTORY, PARSED_CHANGE_LOG_CACHE_DIRECTORY,
+            CHANGE_LOG_DIRECTORY, CHANGE_LOG_FORMAT,
+            PIPELINE_THREADS, CHANGE_SET_THREADS, OUTPUT_DIRECTORY, DAEMON_DIRECTORY, DAEMON_IDLE_TIMEOUT_SECONDS,
+            WATCH_DEBOUNCE_MILLIS};
+
+    private static final String[] FLAGS = {
+            SHOULD_FAIL_BUILD, SHOULD_GENERATE_EXCLUSIONS, SHOULD_GENERATE_METRICS, SHOULD_GENERATE_TRACE,
+            USE_DAEMON, WATCH, QUIET, HELP, VERSION};
+
+    private static final long DEFAULT_DAEMON_IDLE_TIMEOUT_SECONDS = 10800L;
+    private static final String INVALID_PATH = "Invalid path: ";
+
+    private static final String USAGE = "Usage: java -jar ncl-cli.jar --changeLogDirectory <dir>"
+            + " (--pathToRulesFile <file> | --rulesFileUrl <url>) [options]\n"
+            + "\n"
+            + "Options (see the Maven plugin parameters of the same name):\n"
+            + "  --changeLogDirectory <dir>          directory with changeLog files\n"
+            + "  --changeLogFormat <format>          xml, yaml, yml or json (default: xml)\n"
+            + "  --pathToRulesFile <file>            rules file\n"
+            + "  --rulesFileUrl <url>                rules file URL\n"
+            + "  --rulesFileSha256 <sha256>          expected SHA-256 of the downloaded rules file\n"
+            + "  --pathToExclusionsFile <file>       exclusions file\n"
+            + "  --exclusionsFileUrl <url>           exclusions file URL\n"
+            + "  --exclusionsFileSha256 <sha256>     expected SHA-256 of the downloaded exclusions file\n"
+            + "  --configCacheDirectory <dir>        cache of downloaded config files\n"
+            + "  --configCacheTtlSeconds <seconds>   time the cached config files are used as is (default: 0)\n"
+            + "  --compiledRulesCacheDirectory <dir>\n"
+            + "                                      cache of compiled rules snapshots (default: no cache)\n"
+            + "  --changeSetResultCacheDirectory <dir>\n"
+            + "                                      cache of changeSet rule results (default: no cache)\n"
+            + "  --parsedChangeLogCacheDirectory <dir>\n"
+            + "                                      cache of parsed changeLog files (default: no cache)\n"
+            + "  --shouldFailBuild[=false]           exit with code 1 if violations are found (default: true)\n"
+            + "  --shouldGenerateExclusions          print exclusions file content for the violations\n"
+            + "  --shouldGenerateMetrics             write ncl-metrics.json and ncl-metrics.prom\n"
+            + "  --shouldGenerateTrace               write ncl-trace.json\n"
+            + "  --outputDirectory <dir>             directory of the reports (default: current directory)\n"
+            + "  --pipelineThreads <count>           worker threads of every pipeline stage (default: 0)\n"
+            + "  --changeSetThreads <count>          threads evaluating changeSets of a large changeLog (default: 0)\n"
+            + "  --useDaemon                         validate in a long-lived validation daemon\n"
+            + "  --daemonDirectory <dir>             validation daemon state and log files\n"
+            + "  --daemonIdleTimeoutSeconds <sec>    idle time after which the daemon stops (default: 10800)\n"
+            + "  --watch                             validate changed files as they are saved until stopped\n"
+            + "  --watchDebounceMillis <millis>      quiet time before changed files are validated (default: 50)\n"
+            + "  --quiet                             print warnings and errors only\n"
+            + "  --version                           print version\n"
+            + "  --help                              print this help";
+
+    /**
+     * Private constructor.
+     */
+    private ValidateChangeLogCli() {
+
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args - command line arguments.
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Validate changeLog files.
+     *
+     * @param args - command line arguments.
+     * @param out  - standard output.
+     * @param err  - standard error.
+     * @return exit code.
+     */
+    static int run(final String[] args,
+                   final PrintStream out,
+                   final PrintStream err) {
+        CliOptions options;
+        PluginConfig config;
+        try {
+            options = CliOptions.parse(args, OPTIONS, FLAGS);
+            if (options.getFlag(HELP, false)) {
+                out.println(USAGE);
+                return EXIT_OK;
+            }
+            if (options.getFlag(VERSION, false)) {
+                out.println(version());
+                return EXIT_OK;
+            }
+            config = prepareConfig(options);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println("Run with --help for usage.");
+            return EXIT_USAGE;
+        }
+
+        PluginLogger logger = new ConsolePluginLogger(out, err, options.getFlag(QUIET, false));
+        try {
+            if (options.getFlag(WATCH, false)) {
+                try (ChangeLogWatcher watcher = new ChangeLogWatcher(logger, config,
+                        options.getLong(WATCH_DEBOUNCE_MILLIS, ChangeLogWatcher.DEFAULT_DEBOUNCE_MILLIS))) {
+                    watcher.watch();
+                }
+            } else if (options.getFlag(USE_DAEMON, false)) {
+                new ValidationDaemonClient(
+                        options.getFile(DAEMON_DIRECTORY) == null
+                                ? new File(config.getConfigCacheDirectory(), "daemon-cli")
+                                : options.getFile(DAEMON_DIRECTORY),
+                        options.getLong(DAEMON_IDLE_TIMEOUT_SECONDS, DEFAULT_DAEMON_IDLE_TIMEOUT_SECONDS),
+                        logger).execute(config);
+            } else {
+                new ValidateChangeLogService(logger, config).execute();
+            }
+        } catch (ValidateChangeLogException e) {
+            if (options.getFlag(SHOULD_FAIL_BUILD, true)) {
+                logger.error(e.getMessage());
+                return EXIT_VIOLATIONS;
+            }
+            logger.warn(e.getMessage() + " Exit code is 0 because of --shouldFailBuild=false");
+        }
+        return EXIT_OK;
+    }
+
+    /**
+     * Build plugin configuration and validate it the same way the mojo does.
+     *
+     * @param options - command line options.
+     * @return plugin configuration.
+     * @throws IllegalArgumentException - thrown if the options are invalid.
+     */
+    private static PluginConfig prepareConfig(final CliOptions options) {
+        File changeLogDirectory = options.getFile(CHANGE_LOG_DIRECTORY);
+        File pathToRulesFile = options.getFile(PATH_TO_RULES_FILE);
+        File pathToExclusionsFile = options.getFile(PATH_TO_EXCLUSIONS_FILE);
+        String changeLogFormat = options.get(CHANGE_LOG_FORMAT, ChangeLogFormatEnum.XML.getValue());
+        long configCacheTtlSeconds = options.getLong(CONFIG_CACHE_TTL_SECONDS, 0L);
+        long pipelineThreads = options.getLong(PIPELINE_THREADS, 0L);
+        long changeSetThreads = options.getLong(CHANGE_SET_THREADS, 0L);
+
+        if (changeLogDirectory == null || !changeLogDirectory.isDirectory()) {
+            throw new IllegalArgumentException(INVALID_PATH + changeLogDirectory);
+        }
+        if (pathToRulesFile != null && !pathToRulesFile.exists()) {
+            throw new IllegalArgumentException(INVALID_PATH + pathToRulesFile);
+        }
+        if (pathToExclusionsFile != null && !pathToExclusionsFile.exists()) {
+            throw new IllegalArgumentException(INVALID_PATH + pathToExclusionsFile);
+        }
+        if ((pathToRulesFile == null) == (options.get(RULES_FILE_URL, null) == null)) {
+            throw new IllegalArgumentException(
+                    "Exactly one of '--pathToRulesFile' or '--rulesFileUrl' options must be present");
+        }
+        if (pathToExclusionsFile != null && options.get(EXCLUSIONS_FILE_URL, null) != null) {
+            throw new IllegalArgumentException(
+                    "Only one of '--pathToExclusionsFile' or '--exclusionsFileUrl' options must be present");
+        }
+        if (configCacheTtlSeconds < 0) {
+            throw new IllegalArgumentException("'--configCacheTtlSeconds' option must not be negative");
+        }
+        if (pipelineThreads < 0 || pipelineThreads > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("'--pipelineThreads' option must not be negative");
+        }
+        if (changeSetThreads < 0 || changeSetThreads > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("'--changeSetThreads' option must not be negative");
+        }
+        if (options.getLong(DAEMON_IDLE_TIMEOUT_SECONDS, DEFAULT_DAEMON_IDLE_TIMEOUT_SECONDS) <= 0) {
+            throw new IllegalArgumentException("'--daemonIdleTimeoutSeconds' option must be positive");
+        }
+        if (options.getLong(WATCH_DEBOUNCE_MILLIS, ChangeLogWatcher.DEFAULT_DEBOUNCE_MILLIS) < 0) {
+            throw new IllegalArgumentException("'--watchDebounceMillis' option must not be negative");
+        }
+        try {
+            ChangeLogFormatEnum.fromValue(changeLogFormat.toLowerCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("ChangeLog format [" + changeLogFormat + "] is not supported");
+        }
+
+        File configCacheDirectory = options.getFile(CONFIG_CACHE_DIRECTORY);
+        if (configCacheDirectory == null) {
+            configCacheDirectory = defaultConfigCacheDirectory();
+        }
+        File outputDirectory = options.getFile(OUTPUT_DIRECTORY);
+        return PluginConfig.builder()
+                .changeLogFormat(changeLogFormat)
+                .pathToRulesFile(pathToRulesFile)
+                .rulesFileUrl(options.getUrl(RULES_FILE_URL))
+                .rulesFileSha256(options.get(RULES_FILE_SHA256, null))
+                .pathToExclusionsFile(pathToExclusionsFile)
+                .exclusionsFileUrl(options.getUrl(EXCLUSIONS_FILE_URL))
+                .exclusionsFileSha256(options.get(EXCLUSIONS_FILE_SHA256, null))
+                .configCacheDirectory(configCacheDirectory)
+                .configCacheTtlSeconds(configCacheTtlSeconds)
+                .compiledRulesCacheDirectory(options.getFile(COMPILED_RULES_CACHE_DIRECTORY))
+                .changeSetResultCacheDirectory(options.getFile(CHANGE_SET_RESULT_CACHE_DIRECTORY))
+                .parsedChangeLogCacheDirectory(options.getFile(PARSED_CHANGE_LOG_CACHE_DIRECTORY))
+                .changeLogDirectory(changeLogDirectory)
+                .shouldGenerateExclusions(options.getFlag(SHOULD_GENERATE_EXCLUSIONS, false))
+                .pluginVersion(version())
+                .pluginType(PluginTypeEnum.CLI)
+                .shouldGenerateMetrics(options.getFlag(SHOULD_GENERATE_METRICS, false))
+                .shouldGenerateTrace(options.getFlag(SHOULD_GENERATE_TRACE, false))
+                .pipelineThreads((int) pipelineThreads)
+                .changeSetThreads((int) changeSetThreads)
+                .outputDirectory(outputDirectory == null ? new File(".") : outputDirectory)
+                .build();
+    }
+
+    /**
+     * Get default config cache directory: the one the Maven plugin uses with the default local repository,
+     * so that downloaded config files are shared with Maven builds.
+     *
+     * @return config cache directory.
+     */
+    private static File defaultConfigCacheDirectory() {
+        return new File(System.getProperty("user.home"), ".m2/repository/.cache/naming-convention-liquibase");
+    }
+
+    /**
+     * Get version of the command line validator.
+     *
+     * @return version from the jar manifest, <code>development</code> if not run from the jar.
+     */
+    static String version() {
+        String version = ValidateChangeLogCli.class.getPackage().getImplementationVersion();
+        return version == null ? "development" : version;
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.htshame.cli;
+
+import io.github.htshame.daemon.ValidationDaemonClient;
+import io.github.htshame.log.PluginLogger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Command line validator test.
+ */
+public class ValidateChangeLogCliTest {
+
+    private static final String RULES = "src/test/resources/rules.xml";
+    private static final String EXCLUSIONS = "src/test/resources/exclusions.xml";
+    private static final String CHANGE_LOG_DIRECTORY = "src/test/resources/db/xml";
+    private static final String VIOLATIONS = "Validation failed: 32 violation(s) found.";
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private File cacheDirectory;
+
+    /**
+     * Init.
+     *
+     * @throws IOException - thrown if the cache directory cannot be created.
+     */
+    @Before
+    public void init() throws IOException {
+        cacheDirectory = temporaryFolder.newFolder("cache");
+    }
+
+    /**
+     * Test violations fail the run.
+     */
+    @Test
+    public void testViolationsFound() {
+        // arrange
+        String[] args = args("--pathToExclusionsFile", EXCLUSIONS);
+
+        // act
+        int actual = run(args);
+
+        // assert
+        assertEquals(ValidateChangeLogCli.EXIT_VIOLATIONS, actual);
+        assertTrue(err().contains("[ERROR] " + VIOLATIONS));
+        assertTrue(err().contains("[ERROR] ====== Liquibase changeset validation failed ======"));
+    }
+
+    /**
+     * Test violations do not fail the run with <code>--shouldFailBuild=false</code>.
+     */
+    @Test
+    public void testShouldFailBuildFalse() {
+        // arrange
+        String[] args = args("--pathToExclusionsFile=" + EXCLUSIONS, "--shouldFailBuild=false", "--quiet");
+
+        // act
+        int actual = run(args);
+
+        // assert
+        assertEquals(ValidateChangeLogCli.EXIT_OK, actual);
+        assertTrue(err().contains("[WARNING] " + VIOLATIONS + " Exit code is 0 because of --shouldFailBuild=false"));
+        assertEquals("", out());
+    }
+
+    /**
+     * Test run without changeLog files of the format.
+     */
+    @Test
+    public void testNoViolations() {
+        // arrange
+        String[] args = args("--changeLogFormat", "json", "--shouldGenerateExclusions");
+
+        // act
+        int actual = run(args);
+
+        // assert
+        assertEquals(ValidateChangeLogCli.EXIT_OK, actual);
+        assertTrue(out().contains("All ChangeLog files passed validation"));
+    }
+
+    /**
+     * Test validation in the validation daemon.
+     */
+    @Test
+    public void testUseDaemon() throws IOException {
+        // arrange
+        File daemonDirectory = temporaryFolder.newFolder("daemon");
+        String[] args = args("--pathToExclusionsFile", EXCLUSIONS, "--useDaemon",
+                "--daemonDirectory", daemonDirectory.getPath(), "--daemonIdleTimeoutSeconds", "60");
+
+        try {
+            // act
+            int actual = run(args);
+
+            // assert
+            assertEquals(ValidateChangeLogCli.EXIT_VIOLATIONS, actual);
+            assertTrue(err().contains("[ERROR] " + VIOLATIONS));
+            assertTrue(out().contains("Started validation daemon"));
+        } finally {
+            new ValidationDaemonClient(daemonDirectory, 1L, new SilentPluginLogger()).stop();
+        }
+    }
+
+    /**
+     * Test that watch mode stops if rules cannot be loaded.
+     *
+     * @throws IOException - thrown if the rules file cannot be written.
+     */
+    @Test
+    public void testWatchWithInvalidRules() throws IOException {
+        // arrange
+        File rules = temporaryFolder.newFile("rules.xml");
+        String[] args = args("--pathToRulesFile", rules.getPath(), "--watch");
+
+        // act
+        int actual = run(args);
+
+        // assert
+        assertEquals(ValidateChangeLogCli.EXIT_VIOLATIONS, actual);
+        assertTrue(err().startsWith("[ERROR] Error parsing rules file."));
+    }
+
+    /**
+     * Test help.
+     */
+    @Test
+    public void testHelp() {
+        // act
+        int actual = run(new String[]{"--help"});
+
+        // assert
+        assertEquals(ValidateChangeLogCli.EXIT_OK, actual);
+        assertTrue(out().startsWith("Usage: java -jar ncl-cli.jar"));
+    }
+
+    /**
+     * Test version outside of the jar.
+     */
+    @Test
+    public void testVersion() {
+        // act
+        int actual = run(new String[]{"--version=true"});
+
+        // assert
+        assertEquals(ValidateChangeLogCli.EXIT_OK, actual);
+        assertEquals("development", out().trim());
+    }
+
+    /**
+     * Test invalid arguments.
+     */
+    @Test
+    public void testInvalidArguments() {
+        assertUsageError("Unexpected argument: rules.xml", "rules.xml");
+        assertUsageError("Unknown option: --unknown", "--unknown");
+        assertUsageError("Option --pathToRulesFile requires a value", "--pathToRulesFile");
+        assertUsageError("Flag --quiet must be 'true' or 'false'", "--quiet=yes");
+        assertUsageError("Invalid path: null", "--quiet");
+        assertUsageError("Invalid path: missing", "--changeLogDirectory", "missing");
+        assertUsageError("Invalid path: missing.xml", args("--pathToExclusionsFile", "missing.xml"));
+        assertUsageError("Exactly one of '--pathToRulesFile' or '--rulesFileUrl' options must be present",
+                args("--rulesFileUrl", "https://example.com/rules.xml"));
+        assertUsageError("Only one of '--pathToExclusionsFile' or '--exclusionsFileUrl' options must be present",
+                args("--pathToExclusionsFile", EXCLUSIONS, "--exclusionsFileUrl", "https://example.com/e.xml"));
+        assertUsageError("Option --exclusionsFileUrl is not a valid URL: example",
+                args("--exclusionsFileUrl", "example"));
+        assertUsageError("Option --configCacheTtlSeconds must be a number: soon",
+                args("--configCacheTtlSeconds", "soon"));
+        assertUsageError("'--configCacheTtlSeconds' option must not be negative",
+                args("--configCacheTtlSeconds", "-1"));
+        assertUsageError("'--pipelineThreads' option must not be negative", args("--pipelineThreads", "-1"));
+        assertUsageError("'--daemonIdleTimeoutSeconds' option must be positive",
+                args("--daemonIdleTimeoutSeconds", "0"));
+        assertUsageError("ChangeLog format [txt] is not supported", args("--changeLogFormat", "txt"));
+        assertUsageError("'--watchDebounceMillis' option must not be negative",
+                args("--watch", "--watchDebounceMillis", "-1"));
+    }
+
+    private void assertUsageError(final String expectedMessage,
+                                  final String... args) {
+        // arrange
+        out.reset();
+        err.reset();
+
+        // act
+        int actual = run(args);
+
+        // assert
+        assertEquals(ValidateChangeLogCli.EXIT_USAGE, actual);
+        assertEquals(expectedMessage + System.lineSeparator() + "Run with --help for usage." + System.lineSeparator(),
+                err());
+    }
+
+    private String[] args(final String... extra) {
+        List<String> args = new ArrayList<>(Arrays.asList(
+                "--changeLogDirectory", CHANGE_LOG_DIRECTORY,
+                "--pathToRulesFile", RULES,
+                "--configCacheDirectory", cacheDirectory.getPath()));
+        args.addAll(Arrays.asList(extra));
+        return args.toArray(new String[0]);
+    }
+
+    private int run(final String[] args) {
+        return ValidateChangeLogCli.run(args,
+                new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private String out() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String err() {
+        return err.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Logger discarding all messages.
+     */
+    private static final class SilentPluginLogger implements PluginLogger {
+
+        @Override
+        public void info(final String message) {
+
+        }
+
+        @Override
+        public void warn(final String message) {
+
+        }
+
+        @Override
+        public void error(final String message) {
+
+        }
+
+        @Override
+        public void error(final String message,
+                          final Exception e) {
+
+        }
+    }
+}
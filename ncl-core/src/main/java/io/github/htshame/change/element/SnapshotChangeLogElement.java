@@ -0,0 +1,154 @@
+package io.github.htshame.change.element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable changeLog element that holds its whole subtree in memory.
+ * <br>
+ * Used for changeLogs loaded from the parsed changeLog cache, and for changeSets evaluated by several threads,
+ * since DOM elements are not thread-safe even for reading. It behaves as the element of the format
+ * it was taken from: e.g. a missing XML attribute has an empty value, while a missing YAML or JSON property is null.
+ */
+public final class SnapshotChangeLogElement implements ChangeLogElement {
+
+    private final String name;
+    private final Map<String, String> properties;
+    private final String value;
+    private final List<ChangeLogElement> children;
+    private final String missingPropertyValue;
+
+    /**
+     * Constructor.
+     *
+     * @param name                 - element name.
+     * @param properties           - element properties in their order. Not copied.
+     * @param value                - value.
+     * @param children             - child elements. Not copied.
+     * @param missingPropertyValue - value of a property the element does not have.
+     */
+    public SnapshotChangeLogElement(final String name,
+                                    final Map<String, String> properties,
+                                    final String value,
+                                    final List<ChangeLogElement> children,
+                                    final String missingPropertyValue) {
+        this.name = name;
+        this.properties = Collections.unmodifiableMap(properties);
+        this.value = value;
+        this.children = Collections.unmodifiableList(children);
+        this.missingPropertyValue = missingPropertyValue;
+    }
+
+    /**
+     * Copy the element and its whole subtree.
+     *
+     * @param element              - element to copy.
+     * @param missingPropertyValue - value of a property the element does not have.
+     * @return copy of the element.
+     */
+    public static SnapshotChangeLogElement copyOf(final ChangeLogElement element,
+                                                  final String missingPropertyValue) {
+        List<ChangeLogElement> sourceChildren = element.getChildren();
+        List<ChangeLogElement> children = new ArrayList<>(sourceChildren.size());
+        for (ChangeLogElement child : sourceChildren) {
+            children.add(copyOf(child, missingPropertyValue));
+        }
+        return new SnapshotChangeLogElement(
+                element.getName(),
+                new LinkedHashMap<>(element.getProperties()),
+                element.getValue(),
+                children,
+                missingPropertyValue);
+    }
+
+    /**
+     * Get element name.
+     *
+     * @return element name.
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether element has a provided property.
+     *
+     * @param propertyName - property name.
+     * @return <code>true</code> if contains, <code>false</code> - if not.
+     */
+    @Override
+    public boolean hasProperty(final String propertyName) {
+        return properties.containsKey(propertyName);
+    }
+
+    /**
+     * Get property value by name.
+     *
+     * @param propertyName - property name.
+     * @return property value.
+     */
+    @Override
+    public String getPropertyValue(final String propertyName) {
+        return properties.containsKey(propertyName) ? properties.get(propertyName) : missingPropertyValue;
+    }
+
+    /**
+     * Get value.
+     *
+     * @return value.
+     */
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Get child elements.
+     *
+     * @return list of child elements.
+     */
+    @Override
+    public List<ChangeLogElement> getChildren() {
+        return children;
+    }
+
+    /**
+     * Get properties.
+     *
+     * @return property-value map.
+     */
+    @Override
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Find elements by name.
+     *
+     * @param root       - root object.
+     * @param searchName - element name.
+     * @return list of elements with the provided name, the root included.
+     */
+    @Override
+    public List<ChangeLogElement> findElementsByName(final ChangeLogElement root,
+                                                     final String searchName) {
+        List<ChangeLogElement> result = new ArrayList<>();
+        traverse(root, searchName, result);
+        return result;
+    }
+
+    private static void traverse(final ChangeLogElement element,
+                                 final String searchName,
+                                 final List<ChangeLogElement> result) {
+        if (searchName.equals(element.getName())) {
+            result.add(element);
+        }
+        for (ChangeLogElement child : element.getChildren()) {
+            traverse(child, searchName, result);
+        }
+    }
+}
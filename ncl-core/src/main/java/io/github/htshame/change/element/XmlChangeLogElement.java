@@ -128,7 +128,7 @@ public class XmlChangeLogElement implements ChangeLogElement {
     @Override
     public String getValue() {
         Node firstChild = element.getFirstChild();
-        if (firstChild == null) {
+        if (firstChild == null || firstChild.getNodeValue() == null) {
             return "";
         }
         return firstChild.getNodeValue().trim();
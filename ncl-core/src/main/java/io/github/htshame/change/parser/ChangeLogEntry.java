@@ -0,0 +1,63 @@
+package io.github.htshame.change.parser;
+
+import io.github.htshame.change.element.ChangeLogElement;
+
+/**
+ * Top-level entry of a changeLog: a changeSet or a non-changeSet element, e.g. <code>include</code>
+ * or <code>property</code>.
+ */
+public final class ChangeLogEntry {
+
+    private final ChangeLogElement element;
+    private final boolean changeSet;
+
+    /**
+     * Private constructor.
+     *
+     * @param element   - element.
+     * @param changeSet - <code>true</code> if the element is a changeSet.
+     */
+    private ChangeLogEntry(final ChangeLogElement element,
+                           final boolean changeSet) {
+        this.element = element;
+        this.changeSet = changeSet;
+    }
+
+    /**
+     * Create changeSet entry.
+     *
+     * @param element - changeSet element.
+     * @return changeLog entry.
+     */
+    public static ChangeLogEntry changeSet(final ChangeLogElement element) {
+        return new ChangeLogEntry(element, true);
+    }
+
+    /**
+     * Create non-changeSet entry.
+     *
+     * @param element - non-changeSet element.
+     * @return changeLog entry.
+     */
+    public static ChangeLogEntry nonChangeSet(final ChangeLogElement element) {
+        return new ChangeLogEntry(element, false);
+    }
+
+    /**
+     * Get element.
+     *
+     * @return element.
+     */
+    public ChangeLogElement getElement() {
+        return element;
+    }
+
+    /**
+     * Whether the entry is a changeSet.
+     *
+     * @return <code>true</code> if the entry is a changeSet, <code>false</code> - if not.
+     */
+    public boolean isChangeSet() {
+        return changeSet;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.htshame.change.parser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the entries of a changeLog tree that is already read by the format library.
+ * <br>
+ * The tree is split into top-level nodes, and every node is turned into its entries only when it is reached,
+ * so a consumer that stops early does not pay for the rest of the changeLog. A node may give several entries,
+ * e.g. a YAML list item with several keys. Ranges of nodes are split in halves for parallel streams,
+ * unless the tree cannot be read by several threads at once.
+ */
+final class ChangeLogEntrySpliterator implements Spliterator<ChangeLogEntry> {
+
+    private static final int CHARACTERISTICS = ORDERED | NONNULL | IMMUTABLE;
+
+    private final TopLevelNodes nodes;
+    private final boolean splittable;
+    private final Deque<ChangeLogEntry> pending = new ArrayDeque<>();
+    private int index;
+    private final int end;
+
+    /**
+     * Constructor.
+     *
+     * @param nodes      - top-level nodes of the changeLog tree.
+     * @param splittable - <code>true</code> if the tree can be read by several threads at once.
+     * @param index      - index of the first node, inclusive.
+     * @param end        - index of the last node, exclusive.
+     */
+    private ChangeLogEntrySpliterator(final TopLevelNodes nodes,
+                                      final boolean splittable,
+                                      final int index,
+                                      final int end) {
+        this.nodes = nodes;
+        this.splittable = splittable;
+        this.index = index;
+        this.end = end;
+    }
+
+    /**
+     * Create spliterator over all top-level nodes.
+     *
+     * @param nodes      - top-level nodes of the changeLog tree.
+     * @param splittable - <code>true</code> if the tree can be read by several threads at once.
+     * @return spliterator.
+     */
+    static ChangeLogEntrySpliterator of(final TopLevelNodes nodes,
+                                        final boolean splittable) {
+        return new ChangeLogEntrySpliterator(nodes, splittable, 0, nodes.size());
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ChangeLogEntry> action) {
+        while (pending.isEmpty() && index < end) {
+            nodes.entries(index++, pending::add);
+        }
+        ChangeLogEntry entry = pending.poll();
+        if (entry == null) {
+            return false;
+        }
+        action.accept(entry);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super ChangeLogEntry> action) {
+        while (!pending.isEmpty()) {
+            action.accept(pending.poll());
+        }
+        while (index < end) {
+            nodes.entries(index++, action);
+        }
+    }
+
+    @Override
+    public Spliterator<ChangeLogEntry> trySplit() {
+        int middle = (index + end) >>> 1;
+        if (!splittable || !pending.isEmpty() || middle <= index) {
+            return null;
+        }
+        ChangeLogEntrySpliterator prefix = new ChangeLogEntrySpliterator(nodes, true, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    /**
+     * Estimate number of entries: the number of remaining top-level nodes.
+     *
+     * @return estimated number of entries.
+     */
+    @Override
+    public long estimateSize() {
+        return (long) end - index + pending.size();
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Top-level nodes of a changeLog tree.
+     */
+    interface TopLevelNodes {
+
+        /**
+         * Get number of top-level nodes.
+         *
+         * @return number of nodes.
+         */
+        int size();
+
+        /**
+         * Turn the node into changeLog entries, in document order.
+         *
+         * @param index  - index of the node.
+         * @param action - consumer of the entries.
+         */
+        void entries(int index, Consumer<? super ChangeLogEntry> action);
+    }
+}
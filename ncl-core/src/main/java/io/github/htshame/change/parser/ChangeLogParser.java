@@ -1,16 +1,101 @@
 package io.github.htshame.change.parser;
 
 import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.event.FileParsedEvent;
+import io.github.htshame.event.FlightRecorderEvents;
 import io.github.htshame.exception.ChangeLogParseException;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * ChangeLog parser interface.
+ * <br>
+ * Parsers read the changeLog with the format library and return its top-level entries, changeSets
+ * and non-changeSet elements, in document order. Entries are created as they are consumed, so consumers
+ * can stop early or split them for parallel streams. Methods returning lists collect the entries.
  */
 public interface ChangeLogParser {
 
+    /**
+     * Get format of the parsed changeLogs.
+     *
+     * @return changeLog format.
+     */
+    ChangeLogFormatEnum getFormat();
+
+    /**
+     * Parse top-level entries of changeLog.
+     * <br>
+     * The changeLog is read and checked before the spliterator is returned, so entries are consumed without
+     * parsing errors. The spliterator holds no resources and needs no closing.
+     *
+     * @param source - changeLog source.
+     * @return spliterator over the entries in document order.
+     * @throws ChangeLogParseException - thrown if reading or parsing fails.
+     */
+    Spliterator<ChangeLogEntry> parseEntries(ChangeLogSource source) throws ChangeLogParseException;
+
+    /**
+     * Parse top-level entries of changeLog as a stream.
+     *
+     * @param source   - changeLog source.
+     * @param parallel - <code>true</code> for a parallel stream.
+     * @return stream of the entries in document order.
+     * @throws ChangeLogParseException - thrown if reading or parsing fails.
+     */
+    default Stream<ChangeLogEntry> streamEntries(ChangeLogSource source,
+                                                 boolean parallel) throws ChangeLogParseException {
+        return StreamSupport.stream(parseEntries(source), parallel);
+    }
+
+    /**
+     * Parse changeSets and non-changeSet elements of changeLog in a single pass.
+     *
+     * @param source - changeLog source.
+     * @return parsed changeLog.
+     * @throws ChangeLogParseException - thrown if reading or parsing fails.
+     */
+    default ParsedChangeLog parseChangeLog(ChangeLogSource source) throws ChangeLogParseException {
+        FileParsedEvent event = FlightRecorderEvents.isEnabled() ? new FileParsedEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        Spliterator<ChangeLogEntry> entries = parseEntries(source);
+        List<ChangeLogElement> changeSets = new ArrayList<>();
+        List<ChangeLogElement> nonChangeSets = new ArrayList<>();
+        try {
+            entries.forEachRemaining(entry ->
+                    (entry.isChangeSet() ? changeSets : nonChangeSets).add(entry.getElement()));
+        } catch (RuntimeException e) {
+            throw new ChangeLogParseException(source.getName(), e);
+        }
+        if (event != null) {
+            event.complete(source, getFormat(), changeSets.size() + nonChangeSets.size());
+        }
+        return ParsedChangeLog.parsed(source, getFormat(), changeSets, nonChangeSets);
+    }
+
+    /**
+     * Parse changeSets and non-changeSet elements of changeLog in a single pass.
+     *
+     * @param changeLogFile - changeLog file. Used for error messages and diagnostics.
+     * @param content       - changeLog file content.
+     * @return parsed changeLog.
+     * @throws ChangeLogParseException - thrown if parsing fails.
+     */
+    default ParsedChangeLog parseChangeLog(File changeLogFile, byte[] content) throws ChangeLogParseException {
+        return parseChangeLog(ChangeLogSource.of(changeLogFile.toPath(), content));
+    }
+
     /**
      * ChangeLog file parser.
      *
@@ -18,7 +103,9 @@ public interface ChangeLogParser {
      * @return list of changeSets.
      * @throws ChangeLogParseException - thrown if parsing fails.
      */
-    List<ChangeLogElement> parseChangeSets(File changeLogFile) throws ChangeLogParseException;
+    default List<ChangeLogElement> parseChangeSets(File changeLogFile) throws ChangeLogParseException {
+        return parseChangeLog(ChangeLogSource.of(changeLogFile)).getChangeSets();
+    }
 
     /**
      * Parse non-changeSet elements of changeLog.
@@ -27,5 +114,37 @@ public interface ChangeLogParser {
      * @return list of non-changeSet elements.
      * @throws ChangeLogParseException - if parsing goes wrong.
      */
-    List<ChangeLogElement> parseNonChangeSets(File changeLogFile) throws ChangeLogParseException;
+    default List<ChangeLogElement> parseNonChangeSets(File changeLogFile) throws ChangeLogParseException {
+        return parseChangeLog(ChangeLogSource.of(changeLogFile)).getNonChangeSets();
+    }
+
+    /**
+     * Read changeLog content.
+     *
+     * @param source - changeLog source.
+     * @return changeLog content.
+     * @throws ChangeLogParseException - thrown if the content cannot be read.
+     */
+    static byte[] readContent(ChangeLogSource source) throws ChangeLogParseException {
+        try {
+            return source.getContent();
+        } catch (IOException e) {
+            throw new ChangeLogParseException(source.getName(), e);
+        }
+    }
+
+    /**
+     * Read changeLog file content.
+     *
+     * @param changeLogFile - changeLog file.
+     * @return changeLog file content.
+     * @throws ChangeLogParseException - thrown if the file cannot be read.
+     */
+    static byte[] readContent(File changeLogFile) throws ChangeLogParseException {
+        try {
+            return Files.readAllBytes(changeLogFile.toPath());
+        } catch (IOException e) {
+            throw new ChangeLogParseException(changeLogFile.getName(), e);
+        }
+    }
 }
@@ -0,0 +1,275 @@
+package io.github.htshame.change.parser;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.exception.ChangeLogParseException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of the tag names present in every changeLog, keyed by the changeLog content.
+ * <br>
+ * Every changeLog is summarized by a 64-bit Bloom filter of its tag names and by the exact, sorted set of them.
+ * The Bloom filter rejects most absent tags without a lookup, the exact set confirms the rest, so the summary
+ * never reports a tag the changeLog does not contain. A changeLog none of whose tags is targeted by the rules
+ * does not have to be parsed or evaluated.
+ * <br>
+ * The index is kept in a single file and updated incrementally: summaries of changeLogs found in this execution
+ * are written first, then stored summaries that were not used. An index file that cannot be read is ignored
+ * and rewritten.
+ */
+public final class ChangeLogTagIndex {
+
+    /**
+     * Index file name.
+     */
+    static final String INDEX_FILE_NAME = "tags.index";
+
+    private static final int MAGIC = 0x4E434C49;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_ENTRIES = 100_000;
+    private static final int BLOOM_INDEX_BITS = 6;
+    private static final int BLOOM_INDEX_MASK = Long.SIZE - 1;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final Path indexFile;
+    private final ConcurrentMap<String, Tags> tags = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Tags> storedTags = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile boolean modified;
+
+    /**
+     * Constructor.
+     *
+     * @param indexFile - file that keeps the index between executions.
+     */
+    public ChangeLogTagIndex(final File indexFile) {
+        this.indexFile = indexFile.toPath();
+    }
+
+    /**
+     * Get tag names of the changeLog.
+     *
+     * @param key - cache key of the changeLog content.
+     * @return tag names. Null if the changeLog is not indexed.
+     */
+    public Tags get(final String key) {
+        load();
+        Tags result = tags.get(key);
+        if (result == null) {
+            result = storedTags.get(key);
+            if (result != null) {
+                tags.putIfAbsent(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Index tag names of the successfully parsed changeLog.
+     *
+     * @param key       - cache key of the changeLog content.
+     * @param changeLog - parsed changeLog.
+     * @throws ChangeLogParseException - thrown if the changeLog failed to parse.
+     */
+    public void put(final String key,
+                    final ParsedChangeLog changeLog) throws ChangeLogParseException {
+        TreeSet<String> names = new TreeSet<>();
+        collectNames(changeLog.getChangeSets(), names);
+        collectNames(changeLog.getNonChangeSets(), names);
+        if (tags.putIfAbsent(key, Tags.of(names.toArray(new String[0]))) == null) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Write the index to the index file. Failures are ignored: changeLogs are indexed again by the next execution.
+     */
+    public void save() {
+        if (!modified) {
+            return;
+        }
+        Path directory = indexFile.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "tags", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                int remaining = writeTags(out, tags, null, MAX_ENTRIES);
+                writeTags(out, storedTags, tags, remaining);
+                out.writeUTF("");
+            }
+            moveInPlace(temp, indexFile);
+            modified = false;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void collectNames(final List<ChangeLogElement> elements,
+                                     final TreeSet<String> names) {
+        for (ChangeLogElement element : elements) {
+            if (element.getName() != null) {
+                names.add(element.getName());
+            }
+            collectNames(element.getChildren(), names);
+        }
+    }
+
+    /**
+     * Read stored index once. An index that cannot be read is ignored.
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            if (Files.isRegularFile(indexFile)) {
+                try (DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                    readTags(in);
+                } catch (IOException | RuntimeException e) {
+                    storedTags.clear();
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    private void readTags(final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            return;
+        }
+        String key = in.readUTF();
+        while (!key.isEmpty()) {
+            long bloomFilter = in.readLong();
+            String[] names = new String[in.readInt()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+            }
+            storedTags.put(key, new Tags(bloomFilter, names));
+            key = in.readUTF();
+        }
+    }
+
+    private static int writeTags(final DataOutputStream out,
+                                 final Map<String, Tags> source,
+                                 final Map<String, Tags> written,
+                                 final int remaining) throws IOException {
+        int left = remaining;
+        for (Map.Entry<String, Tags> entry : source.entrySet()) {
+            if (left == 0) {
+                break;
+            }
+            if (written != null && written.containsKey(entry.getKey())) {
+                continue;
+            }
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue().bloomFilter);
+            out.writeInt(entry.getValue().names.length);
+            for (String name : entry.getValue().names) {
+                out.writeUTF(name);
+            }
+            left--;
+        }
+        return left;
+    }
+
+    private static void moveInPlace(final Path source,
+                                    final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Tag names of a single changeLog.
+     */
+    public static final class Tags {
+
+        private final long bloomFilter;
+        private final String[] names;
+
+        /**
+         * Constructor.
+         *
+         * @param bloomFilter - Bloom filter of the tag names.
+         * @param names       - sorted tag names.
+         */
+        private Tags(final long bloomFilter,
+                     final String[] names) {
+            this.bloomFilter = bloomFilter;
+            this.names = names;
+        }
+
+        /**
+         * Create summary of the tag names.
+         *
+         * @param names - sorted tag names.
+         * @return tag names.
+         */
+        static Tags of(final String[] names) {
+            long bloomFilter = 0;
+            for (String name : names) {
+                bloomFilter |= bloomBits(name);
+            }
+            return new Tags(bloomFilter, names);
+        }
+
+        /**
+         * Check whether the changeLog contains the tag.
+         *
+         * @param name - tag name.
+         * @return <code>true</code> if the changeLog contains at least one tag with the name.
+         */
+        public boolean contains(final String name) {
+            long bits = bloomBits(name);
+            return (bloomFilter & bits) == bits && Arrays.binarySearch(names, name) >= 0;
+        }
+
+        /**
+         * Get two bits of the Bloom filter set by the tag name. {@link String#hashCode()} is specified,
+         * so the bits are the same in every JVM.
+         *
+         * @param name - tag name.
+         * @return Bloom filter bits.
+         */
+        private static long bloomBits(final String name) {
+            int hash = name.hashCode() * GOLDEN_RATIO;
+            return (1L << (hash & BLOOM_INDEX_MASK)) | (1L << ((hash >>> BLOOM_INDEX_BITS) & BLOOM_INDEX_MASK));
+        }
+    }
+}
@@ -2,15 +2,15 @@ package io.github.htshame.change.parser;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.github.htshame.change.element.ChangeLogElement;
 import io.github.htshame.change.element.JsonChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.exception.ChangeLogParseException;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import static io.github.htshame.util.ChangeSetUtil.CHANGE_SET_TAG_NAME;
 import static io.github.htshame.util.ChangeSetUtil.DATABASE_CHANGELOG_NAME;
@@ -20,8 +20,6 @@ import static io.github.htshame.util.ChangeSetUtil.DATABASE_CHANGELOG_NAME;
  */
 public class JsonChangeLogParser implements ChangeLogParser {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
     /**
      * Default constructor.
      */
@@ -30,77 +28,84 @@ public class JsonChangeLogParser implements ChangeLogParser {
     }
 
     /**
-     * Parse changeLog.
+     * Get format of the parsed changeLogs.
      *
-     * @param changeLogFile - changeLog file.
-     * @return list of changeSets.
-     * @throws ChangeLogParseException - thrown if parsing fails.
+     * @return changeLog format.
      */
     @Override
-    public List<ChangeLogElement> parseChangeSets(final File changeLogFile) throws ChangeLogParseException {
-        try {
-            JsonNode root = objectMapper.readTree(changeLogFile);
-            JsonNode changeLogArray = root.get(DATABASE_CHANGELOG_NAME);
-
-            if (changeLogArray == null || !changeLogArray.isArray()) {
-                throw new ChangeLogParseException(changeLogFile.getName(),
-                        new IllegalStateException("Missing or invalid 'databaseChangeLog' array"));
-            }
-
-            List<ChangeLogElement> changeSets = new ArrayList<>();
-
-            for (JsonNode entryNode : changeLogArray) {
-                JsonNode changeSetNode = entryNode.get(CHANGE_SET_TAG_NAME);
-                if (changeSetNode == null || !entryNode.isObject()) {
-                    continue;
-                }
-
-                for (Map.Entry<String, JsonNode> field : entryNode.properties()) {
-                    if (CHANGE_SET_TAG_NAME.equals(field.getKey())) {
-                        changeSets.add(new JsonChangeLogElement(field.getKey(), field.getValue()));
-                    }
-                }
-            }
-            return changeSets;
-        } catch (IOException e) {
-            throw new ChangeLogParseException(changeLogFile.getName(), e);
-        }
+    public ChangeLogFormatEnum getFormat() {
+        return ChangeLogFormatEnum.JSON;
     }
 
     /**
-     * Parse non-changeSet elements of changeLog.
+     * Parse top-level entries of changeLog.
+     * <br>
+     * Every field of a <code>databaseChangeLog</code> array item is an entry. The entries can be split
+     * for parallel streams.
      *
-     * @param changeLogFile - changeLog file.
-     * @return list of non-changeSet elements.
-     * @throws ChangeLogParseException - if parsing goes wrong.
+     * @param source - changeLog source.
+     * @return spliterator over the entries in document order.
+     * @throws ChangeLogParseException - thrown if reading or parsing fails.
      */
     @Override
-    public List<ChangeLogElement> parseNonChangeSets(final File changeLogFile) throws ChangeLogParseException {
+    public Spliterator<ChangeLogEntry> parseEntries(final ChangeLogSource source) throws ChangeLogParseException {
+        byte[] content = ChangeLogParser.readContent(source);
+        JsonNode root;
         try {
-            List<ChangeLogElement> changeSets = new ArrayList<>();
-            JsonNode root = objectMapper.readTree(changeLogFile);
-            JsonNode changeLogArray = root.get(DATABASE_CHANGELOG_NAME);
+            root = ObjectMapperHolder.OBJECT_MAPPER.readTree(content);
+        } catch (IOException e) {
+            throw new ChangeLogParseException(source.getName(), e);
+        }
+        JsonNode changeLogArray = root == null ? null : root.get(DATABASE_CHANGELOG_NAME);
+        if (changeLogArray == null || !changeLogArray.isArray()) {
+            throw new ChangeLogParseException(source.getName(),
+                    new IllegalStateException("Missing or invalid 'databaseChangeLog' array"));
+        }
+        return ChangeLogEntrySpliterator.of(new TopLevelItems(changeLogArray), true);
+    }
 
-            if (changeLogArray == null || !changeLogArray.isArray()) {
-                throw new ChangeLogParseException(
-                        changeLogFile.getName(),
-                        new IllegalStateException("Missing or invalid 'databaseChangeLog' array"));
-            }
+    /**
+     * Top-level nodes of the JSON changeLog: items of the <code>databaseChangeLog</code> array.
+     */
+    private static final class TopLevelItems implements ChangeLogEntrySpliterator.TopLevelNodes {
+
+        private final JsonNode items;
 
-            for (JsonNode entryNode : changeLogArray) {
-                if (!entryNode.isObject()) {
-                    continue;
-                }
+        /**
+         * Constructor.
+         *
+         * @param items - <code>databaseChangeLog</code> array.
+         */
+        private TopLevelItems(final JsonNode items) {
+            this.items = items;
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
 
-                for (Map.Entry<String, JsonNode> field : entryNode.properties()) {
-                    if (!CHANGE_SET_TAG_NAME.equals(field.getKey())) {
-                        changeSets.add(new JsonChangeLogElement(field.getKey(), field.getValue()));
-                    }
-                }
+        @Override
+        public void entries(final int index,
+                            final Consumer<? super ChangeLogEntry> action) {
+            JsonNode item = items.get(index);
+            if (!item.isObject()) {
+                return;
+            }
+            for (Map.Entry<String, JsonNode> field : item.properties()) {
+                JsonChangeLogElement element = new JsonChangeLogElement(field.getKey(), field.getValue());
+                action.accept(CHANGE_SET_TAG_NAME.equals(field.getKey())
+                        ? ChangeLogEntry.changeSet(element)
+                        : ChangeLogEntry.nonChangeSet(element));
             }
-            return changeSets;
-        } catch (IOException e) {
-            throw new ChangeLogParseException(changeLogFile.getName(), e);
         }
     }
+
+    /**
+     * Holder of the object mapper, so that Jackson is loaded only when JSON changeLog files are parsed.
+     */
+    private static final class ObjectMapperHolder {
+
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    }
 }
@@ -0,0 +1,144 @@
+package io.github.htshame.change.parser;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogParseException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of parsing a single changeLog.
+ * <br>
+ * Holds both changeSets and non-changeSet elements, so the changeLog is parsed once for all rule validators.
+ * If parsing failed, the failure is rethrown to every validator that asks for the parsed elements.
+ */
+public final class ParsedChangeLog {
+
+    private final ChangeLogSource source;
+    private final ChangeLogFormatEnum format;
+    private final List<ChangeLogElement> changeSets;
+    private final List<ChangeLogElement> nonChangeSets;
+    private final ChangeLogParseException failure;
+
+    /**
+     * Private constructor.
+     *
+     * @param source        - changeLog source.
+     * @param format        - changeLog format.
+     * @param changeSets    - changeSets.
+     * @param nonChangeSets - non-changeSet elements.
+     * @param failure       - parsing failure.
+     */
+    private ParsedChangeLog(final ChangeLogSource source,
+                            final ChangeLogFormatEnum format,
+                            final List<ChangeLogElement> changeSets,
+                            final List<ChangeLogElement> nonChangeSets,
+                            final ChangeLogParseException failure) {
+        this.source = source;
+        this.format = format;
+        this.changeSets = changeSets;
+        this.nonChangeSets = nonChangeSets;
+        this.failure = failure;
+    }
+
+    /**
+     * Create successfully parsed changeLog.
+     *
+     * @param source        - changeLog source.
+     * @param format        - changeLog format.
+     * @param changeSets    - changeSets.
+     * @param nonChangeSets - non-changeSet elements.
+     * @return parsed changeLog.
+     */
+    public static ParsedChangeLog parsed(final ChangeLogSource source,
+                                         final ChangeLogFormatEnum format,
+                                         final List<ChangeLogElement> changeSets,
+                                         final List<ChangeLogElement> nonChangeSets) {
+        return new ParsedChangeLog(
+                source,
+                format,
+                Collections.unmodifiableList(changeSets),
+                Collections.unmodifiableList(nonChangeSets),
+                null);
+    }
+
+    /**
+     * Create changeLog that failed to parse.
+     *
+     * @param source  - changeLog source.
+     * @param format  - changeLog format.
+     * @param failure - parsing failure.
+     * @return parsed changeLog.
+     */
+    public static ParsedChangeLog failed(final ChangeLogSource source,
+                                         final ChangeLogFormatEnum format,
+                                         final ChangeLogParseException failure) {
+        return new ParsedChangeLog(source, format, Collections.emptyList(), Collections.emptyList(), failure);
+    }
+
+    /**
+     * Get changeLog source.
+     *
+     * @return changeLog source.
+     */
+    public ChangeLogSource getSource() {
+        return source;
+    }
+
+    /**
+     * Get changeLog format.
+     *
+     * @return changeLog format.
+     */
+    public ChangeLogFormatEnum getFormat() {
+        return format;
+    }
+
+    /**
+     * Get changeSets.
+     *
+     * @return list of changeSets.
+     * @throws ChangeLogParseException - thrown if changeLog parsing failed.
+     */
+    public List<ChangeLogElement> getChangeSets() throws ChangeLogParseException {
+        throwIfFailed();
+        return changeSets;
+    }
+
+    /**
+     * Get non-changeSet elements.
+     *
+     * @return list of non-changeSet elements.
+     * @throws ChangeLogParseException - thrown if changeLog parsing failed.
+     */
+    public List<ChangeLogElement> getNonChangeSets() throws ChangeLogParseException {
+        throwIfFailed();
+        return nonChangeSets;
+    }
+
+    /**
+     * Get number of parsed elements.
+     *
+     * @return number of changeSets and non-changeSet elements.
+     */
+    public int getElementCount() {
+        return changeSets.size() + nonChangeSets.size();
+    }
+
+    /**
+     * Get parsing failure.
+     *
+     * @return parsing failure. Null if the changeLog was parsed successfully.
+     */
+    public ChangeLogParseException getFailure() {
+        return failure;
+    }
+
+    private void throwIfFailed() throws ChangeLogParseException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
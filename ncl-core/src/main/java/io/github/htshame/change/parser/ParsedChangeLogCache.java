@@ -0,0 +1,324 @@
+package io.github.htshame.change.parser;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.element.SnapshotChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogParseException;
+import io.github.htshame.util.HashUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-disk cache of the parsed changeLogs.
+ * <br>
+ * Parsed changeLogs are stored as compact binary trees keyed by SHA-256 of the plugin version and the changeLog
+ * format and content only, so they stay valid when rules or exclusions change, and trees of another plugin version,
+ * whose parsers may build other elements, are never used. Every tree holds a table of the distinct strings
+ * followed by the elements, which refer to the strings by index. A changeLog loaded from the cache is built
+ * of {@link SnapshotChangeLogElement} instances and is not parsed by the XML, YAML or JSON parser.
+ * Trees that cannot be read are ignored and rewritten. Changes to the tree layout
+ * must increase the format version.
+ * <br>
+ * The directory also holds the {@link ChangeLogTagIndex} of the cached changeLogs.
+ */
+public final class ParsedChangeLogCache {
+
+    /**
+     * Tree file extension.
+     */
+    static final String TREE_EXTENSION = ".tree";
+
+    private static final int MAGIC = 0x4E434C54;
+    private static final int FORMAT_VERSION = 1;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+
+    private final Path directory;
+    private final String pluginVersion;
+    private final ChangeLogTagIndex tagIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param directory     - directory of the trees.
+     * @param pluginVersion - plugin version. Trees of other versions are not used.
+     */
+    public ParsedChangeLogCache(final File directory,
+                                final String pluginVersion) {
+        this.directory = directory.toPath();
+        this.pluginVersion = pluginVersion;
+        this.tagIndex = new ChangeLogTagIndex(new File(directory, ChangeLogTagIndex.INDEX_FILE_NAME));
+    }
+
+    /**
+     * Get index of the tag names of the cached changeLogs.
+     *
+     * @return tag index.
+     */
+    public ChangeLogTagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Write the tag index. Trees are written as soon as changeLogs are parsed.
+     */
+    public void save() {
+        tagIndex.save();
+    }
+
+    /**
+     * Compute cache key of the changeLog content.
+     *
+     * @param changeLogFormat - changeLog format.
+     * @param content         - changeLog content.
+     * @return hex-encoded SHA-256 of the plugin version, the format and the content.
+     */
+    public String key(final ChangeLogFormatEnum changeLogFormat,
+                      final byte[] content) {
+        MessageDigest digest = HashUtil.newSha256Digest();
+        digest.update(String.valueOf(pluginVersion).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(changeLogFormat.name().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        return HashUtil.toHex(digest.digest());
+    }
+
+    /**
+     * Read the parsed changeLog from the cache.
+     *
+     * @param key             - cache key of the changeLog content.
+     * @param source          - changeLog source.
+     * @param changeLogFormat - changeLog format.
+     * @return parsed changeLog. Null if there is no tree or it cannot be read.
+     */
+    public ParsedChangeLog read(final String key,
+                                final ChangeLogSource source,
+                                final ChangeLogFormatEnum changeLogFormat) {
+        Path treePath = directory.resolve(key + TREE_EXTENSION);
+        if (!Files.isRegularFile(treePath)) {
+            return null;
+        }
+        try {
+            byte[] tree = Files.readAllBytes(treePath);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(tree));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            String missingPropertyValue = in.readBoolean() ? "" : null;
+            String[] strings = new String[readSize(in)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readSize(in)];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            List<ChangeLogElement> changeSets = readElements(in, strings, missingPropertyValue);
+            List<ChangeLogElement> nonChangeSets = readElements(in, strings, missingPropertyValue);
+            return ParsedChangeLog.parsed(source, changeLogFormat, changeSets, nonChangeSets);
+        } catch (IOException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Write the parsed changeLog to the cache. Failures are ignored: the changeLog is parsed again next time.
+     *
+     * @param key       - cache key of the changeLog content.
+     * @param changeLog - successfully parsed changeLog.
+     */
+    public void write(final String key,
+                      final ParsedChangeLog changeLog) {
+        Path temp = null;
+        try {
+            Strings strings = new Strings();
+            ByteArrayOutputStream elements = new ByteArrayOutputStream();
+            DataOutputStream elementsOut = new DataOutputStream(elements);
+            writeElements(elementsOut, changeLog.getChangeSets(), strings);
+            writeElements(elementsOut, changeLog.getNonChangeSets(), strings);
+
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "tree", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeBoolean(changeLog.getFormat() == ChangeLogFormatEnum.XML);
+                writeVarInt(out, strings.values.size());
+                for (String value : strings.values) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    writeVarInt(out, bytes.length);
+                    out.write(bytes);
+                }
+                elements.writeTo(out);
+            }
+            moveInPlace(temp, directory.resolve(key + TREE_EXTENSION));
+        } catch (IOException | ChangeLogParseException e) {
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void writeElements(final DataOutputStream out,
+                                      final List<ChangeLogElement> elements,
+                                      final Strings strings) throws IOException {
+        writeVarInt(out, elements.size());
+        for (ChangeLogElement element : elements) {
+            writeElement(out, element, strings);
+        }
+    }
+
+    private static void writeElement(final DataOutputStream out,
+                                     final ChangeLogElement element,
+                                     final Strings strings) throws IOException {
+        writeVarInt(out, strings.reference(element.getName()));
+        Map<String, String> properties = element.getProperties();
+        writeVarInt(out, properties.size());
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            writeVarInt(out, strings.reference(property.getKey()));
+            writeVarInt(out, strings.reference(property.getValue()));
+        }
+        writeVarInt(out, strings.reference(element.getValue()));
+        writeElements(out, element.getChildren(), strings);
+    }
+
+    private static List<ChangeLogElement> readElements(final DataInputStream in,
+                                                       final String[] strings,
+                                                       final String missingPropertyValue) throws IOException {
+        int size = readSize(in);
+        List<ChangeLogElement> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(readElement(in, strings, missingPropertyValue));
+        }
+        return elements;
+    }
+
+    private static ChangeLogElement readElement(final DataInputStream in,
+                                                final String[] strings,
+                                                final String missingPropertyValue) throws IOException {
+        String name = string(strings, readVarInt(in));
+        int propertyCount = readSize(in);
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (int i = 0; i < propertyCount; i++) {
+            properties.put(string(strings, readVarInt(in)), string(strings, readVarInt(in)));
+        }
+        String value = string(strings, readVarInt(in));
+        List<ChangeLogElement> children = readElements(in, strings, missingPropertyValue);
+        return new SnapshotChangeLogElement(name, properties, value, children, missingPropertyValue);
+    }
+
+    /**
+     * Get string by reference.
+     *
+     * @param strings   - string table.
+     * @param reference - index of the string plus one. <code>0</code> for null.
+     * @return string.
+     */
+    private static String string(final String[] strings,
+                                 final int reference) {
+        return reference == 0 ? null : strings[reference - 1];
+    }
+
+    private static void writeVarInt(final DataOutputStream out,
+                                    final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.writeByte((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += VARINT_PAYLOAD_BITS) {
+            int next = in.readUnsignedByte();
+            value |= (next & VARINT_PAYLOAD_MASK) << shift;
+            if ((next & VARINT_CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException("Malformed tree");
+    }
+
+    /**
+     * Read number of items that follow. Every item takes at least one byte of the tree.
+     *
+     * @param in - tree input.
+     * @return number of items.
+     * @throws IOException - thrown if the number exceeds the rest of the tree.
+     */
+    private static int readSize(final DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        if (size < 0 || size > in.available()) {
+            throw new EOFException("Malformed tree");
+        }
+        return size;
+    }
+
+    private static void moveInPlace(final Path source,
+                                    final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Table of the distinct strings of a tree.
+     */
+    private static final class Strings {
+
+        private final Map<String, Integer> references = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        /**
+         * Get reference of the string, adding it to the table on first use.
+         *
+         * @param value - string.
+         * @return index of the string plus one. <code>0</code> for null.
+         */
+        private int reference(final String value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer reference = references.get(value);
+            if (reference == null) {
+                values.add(value);
+                reference = values.size();
+                references.put(value, reference);
+            }
+            return reference;
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package io.github.htshame.change.parser;
 
-import io.github.htshame.change.element.ChangeLogElement;
 import io.github.htshame.change.element.XmlChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.exception.ChangeLogParseException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -10,13 +11,13 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import static io.github.htshame.util.ChangeSetUtil.CHANGE_SET_TAG_NAME;
-import static io.github.htshame.util.XmlUtil.newXmlDocumentBuilder;
+import static io.github.htshame.util.XmlUtil.xmlDocumentBuilder;
 
 /**
  * XML changeLog parser.
@@ -31,54 +32,76 @@ public class XmlChangeLogParser implements ChangeLogParser {
     }
 
     /**
-     * ChangeLog file parser.
+     * Get format of the parsed changeLogs.
      *
-     * @param changeLogFile - changeLog file.
-     * @return list of changeSets.
-     * @throws ChangeLogParseException - thrown if parsing fails.
+     * @return changeLog format.
      */
     @Override
-    public List<ChangeLogElement> parseChangeSets(final File changeLogFile) throws ChangeLogParseException {
+    public ChangeLogFormatEnum getFormat() {
+        return ChangeLogFormatEnum.XML;
+    }
+
+    /**
+     * Parse top-level entries of changeLog.
+     * <br>
+     * ChangeSets nested in other elements follow the element. DOM cannot be read by several threads at once,
+     * so the entries are not split for parallel streams.
+     *
+     * @param source - changeLog source.
+     * @return spliterator over the entries in document order.
+     * @throws ChangeLogParseException - thrown if reading or parsing fails.
+     */
+    @Override
+    public Spliterator<ChangeLogEntry> parseEntries(final ChangeLogSource source) throws ChangeLogParseException {
+        byte[] content = ChangeLogParser.readContent(source);
         try {
-            Document document = newXmlDocumentBuilder().parse(changeLogFile);
+            Document document = xmlDocumentBuilder()
+                    .parse(new ByteArrayInputStream(content), source.getSystemId());
             document.getDocumentElement().normalize();
-            NodeList changeSetList = document.getElementsByTagName(CHANGE_SET_TAG_NAME);
-
-            List<ChangeLogElement> changeSets = new ArrayList<>();
-            for (int i = 0; i < changeSetList.getLength(); i++) {
-                changeSets.add(new XmlChangeLogElement((Element) changeSetList.item(i)));
-            }
-            return changeSets;
+            return ChangeLogEntrySpliterator.of(new TopLevelElements(document.getDocumentElement()), false);
         } catch (ParserConfigurationException | IOException | SAXException e) {
-            throw new ChangeLogParseException(changeLogFile.getName(), e);
+            throw new ChangeLogParseException(source.getName(), e);
         }
     }
 
     /**
-     * Parse non-changeSet elements of changeLog.
-     *
-     * @param changeLogFile - changeLog file.
-     * @return list of non-changeSet elements.
-     * @throws ChangeLogParseException - if parsing goes wrong.
+     * Top-level nodes of the XML document: children of the document element.
      */
-    public List<ChangeLogElement> parseNonChangeSets(final File changeLogFile) throws ChangeLogParseException {
-        try {
-            Document document = newXmlDocumentBuilder().parse(changeLogFile);
-            document.getDocumentElement().normalize();
+    private static final class TopLevelElements implements ChangeLogEntrySpliterator.TopLevelNodes {
 
-            NodeList allNodes = document.getDocumentElement().getChildNodes();
-            List<ChangeLogElement> nonChangeSets = new ArrayList<>();
+        private final NodeList nodes;
 
-            for (int i = 0; i < allNodes.getLength(); i++) {
-                Node node = allNodes.item(i);
-                if (node.getNodeType() == Node.ELEMENT_NODE
-                        && !CHANGE_SET_TAG_NAME.equals(node.getNodeName())) {
-                    nonChangeSets.add(new XmlChangeLogElement((Element) node));
-                }
+        /**
+         * Constructor.
+         *
+         * @param documentElement - document element.
+         */
+        private TopLevelElements(final Element documentElement) {
+            this.nodes = documentElement.getChildNodes();
+        }
+
+        @Override
+        public int size() {
+            return nodes.getLength();
+        }
+
+        @Override
+        public void entries(final int index,
+                            final Consumer<? super ChangeLogEntry> action) {
+            Node node = nodes.item(index);
+            if (node.getNodeType() != Node.ELEMENT_NODE) {
+                return;
+            }
+            Element element = (Element) node;
+            if (CHANGE_SET_TAG_NAME.equals(element.getNodeName())) {
+                action.accept(ChangeLogEntry.changeSet(new XmlChangeLogElement(element)));
+                return;
+            }
+            action.accept(ChangeLogEntry.nonChangeSet(new XmlChangeLogElement(element)));
+            NodeList nestedChangeSets = element.getElementsByTagName(CHANGE_SET_TAG_NAME);
+            for (int i = 0; i < nestedChangeSets.getLength(); i++) {
+                action.accept(ChangeLogEntry.changeSet(new XmlChangeLogElement((Element) nestedChangeSets.item(i))));
             }
-            return nonChangeSets;
-        } catch (ParserConfigurationException | IOException | SAXException e) {
-            throw new ChangeLogParseException(changeLogFile.getName(), e);
         }
     }
 }
@@ -2,15 +2,19 @@ package io.github.htshame.change.parser;
 
 import io.github.htshame.change.element.ChangeLogElement;
 import io.github.htshame.change.element.YamlChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.exception.ChangeLogParseException;
 import org.yaml.snakeyaml.Yaml;
 
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import static io.github.htshame.util.ChangeSetUtil.CHANGE_SET_TAG_NAME;
 import static io.github.htshame.util.ChangeSetUtil.DATABASE_CHANGELOG_NAME;
@@ -30,48 +34,39 @@ public class YamlChangeLogParser implements ChangeLogParser {
     }
 
     /**
-     * Parse changeLog.
+     * Get format of the parsed changeLogs.
      *
-     * @param changeLogFile - changeLog file.
-     * @return list of changeSets.
-     * @throws ChangeLogParseException - thrown if parsing fails.
+     * @return changeLog format.
      */
     @Override
-    public List<ChangeLogElement> parseChangeSets(final File changeLogFile) throws ChangeLogParseException {
-        try (FileInputStream inputStream = new FileInputStream(changeLogFile)) {
+    public ChangeLogFormatEnum getFormat() {
+        return ChangeLogFormatEnum.YAML;
+    }
+
+    /**
+     * Parse top-level entries of changeLog.
+     * <br>
+     * Every key of a <code>databaseChangeLog</code> list item is an entry. Elements are built from the loaded
+     * YAML when the entries are consumed, and the entries can be split for parallel streams.
+     *
+     * @param source - changeLog source.
+     * @return spliterator over the entries in document order.
+     * @throws ChangeLogParseException - thrown if reading or parsing fails.
+     */
+    @Override
+    public Spliterator<ChangeLogEntry> parseEntries(final ChangeLogSource source) throws ChangeLogParseException {
+        byte[] content = ChangeLogParser.readContent(source);
+        try (InputStream inputStream = new ByteArrayInputStream(content)) {
             Yaml yaml = new Yaml();
             Object loaded = yaml.load(inputStream);
-
-            List<?> changeLogEntries = getObjectList(loaded);
-
-            List<ChangeLogElement> changeSetElements = new ArrayList<>();
-
-            for (Object changeLogEntry : changeLogEntries) {
-                if (!(changeLogEntry instanceof Map<?, ?>)) {
-                    continue;
-                }
-                Map<?, ?> entryMap = (Map<?, ?>) changeLogEntry;
-
-                for (Map.Entry<?, ?> changeSetEntry : entryMap.entrySet()) {
-                    String key = changeSetEntry.getKey().toString();
-                    if (!CHANGE_SET_TAG_NAME.equals(key)) {
-                        continue;
-                    }
-
-                    ChangeLogElement element =
-                            buildChangeSetElement(CHANGE_SET_TAG_NAME, changeSetEntry.getValue());
-                    changeSetElements.add(element);
-                }
-            }
-
-            return changeSetElements;
+            return ChangeLogEntrySpliterator.of(new TopLevelItems(getObjectList(loaded)), true);
         } catch (Exception e) {
-            throw new ChangeLogParseException(changeLogFile.getName(), e);
+            throw new ChangeLogParseException(source.getName(), e);
         }
     }
 
-    private ChangeLogElement buildChangeSetElement(final String name,
-                                                   final Object node) {
+    private static ChangeLogElement buildChangeSetElement(final String name,
+                                                          final Object node) {
         if (node instanceof Map<?, ?>) {
             Map<?, ?> map = (Map<?, ?>) node;
             Map<String, String> properties = new LinkedHashMap<>();
@@ -109,45 +104,6 @@ public class YamlChangeLogParser implements ChangeLogParser {
         return new YamlChangeLogElement(name, null, null, node != null ? node.toString() : null);
     }
 
-    /**
-     * Parse non-changeSet elements of changeLog.
-     *
-     * @param changeLogFile - changeLog file.
-     * @return list of non-changeSet elements.
-     * @throws ChangeLogParseException - if parsing goes wrong.
-     */
-    public List<ChangeLogElement> parseNonChangeSets(final File changeLogFile) throws ChangeLogParseException {
-        try (FileInputStream inputStream = new FileInputStream(changeLogFile)) {
-            Yaml yaml = new Yaml();
-            Object loaded = yaml.load(inputStream);
-
-            List<?> changeLogEntries = getObjectList(loaded);
-
-            List<ChangeLogElement> nonChangeSetElements = new ArrayList<>();
-
-            for (Object changeLogEntry : changeLogEntries) {
-                if (!(changeLogEntry instanceof Map<?, ?>)) {
-                    continue;
-                }
-                Map<?, ?> entryMap = (Map<?, ?>) changeLogEntry;
-
-                for (Map.Entry<?, ?> entry : entryMap.entrySet()) {
-                    String key = entry.getKey().toString();
-                    if (CHANGE_SET_TAG_NAME.equals(key)) {
-                        continue;
-                    }
-
-                    ChangeLogElement element = buildChangeSetElement(key, entry.getValue());
-                    nonChangeSetElements.add(element);
-                }
-            }
-
-            return nonChangeSetElements;
-        } catch (Exception e) {
-            throw new ChangeLogParseException(changeLogFile.getName(), e);
-        }
-    }
-
     /**
      * Get object list from YAML file.
      *
@@ -166,4 +122,42 @@ public class YamlChangeLogParser implements ChangeLogParser {
         }
         return (List<?>) dbChangeLog;
     }
+
+    /**
+     * Top-level nodes of the YAML changeLog: items of the <code>databaseChangeLog</code> list.
+     */
+    private static final class TopLevelItems implements ChangeLogEntrySpliterator.TopLevelNodes {
+
+        private final List<?> items;
+
+        /**
+         * Constructor.
+         *
+         * @param items - items of the <code>databaseChangeLog</code> list.
+         */
+        private TopLevelItems(final List<?> items) {
+            this.items = items;
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public void entries(final int index,
+                            final Consumer<? super ChangeLogEntry> action) {
+            Object item = items.get(index);
+            if (!(item instanceof Map<?, ?>)) {
+                return;
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) item).entrySet()) {
+                String key = entry.getKey().toString();
+                ChangeLogElement element = buildChangeSetElement(key, entry.getValue());
+                action.accept(CHANGE_SET_TAG_NAME.equals(key)
+                        ? ChangeLogEntry.changeSet(element)
+                        : ChangeLogEntry.nonChangeSet(element));
+            }
+        }
+    }
 }
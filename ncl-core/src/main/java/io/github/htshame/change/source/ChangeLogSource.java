@@ -0,0 +1,223 @@
+package io.github.htshame.change.source;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Source of a changeLog: a file on any NIO file system (default, zip, in-memory), a byte array or a stream.
+ * <br>
+ * The content is read once, on first use, and then shared by the parser and all changeLog file rules,
+ * so validating a changeLog reads it only once whatever the number of rules.
+ * The content is never copied: byte arrays are used as they are given and must not be modified afterwards.
+ * The class is thread-safe.
+ */
+public final class ChangeLogSource {
+
+    private final String name;
+    private final String location;
+    private final Path path;
+    private volatile byte[] content;
+
+    /**
+     * Private constructor.
+     *
+     * @param name     - changeLog file name.
+     * @param location - changeLog location.
+     * @param path     - changeLog path. Null if the changeLog is not a file.
+     * @param content  - changeLog content. Null if it is not read yet.
+     */
+    private ChangeLogSource(final String name,
+                            final String location,
+                            final Path path,
+                            final byte[] content) {
+        this.name = name;
+        this.location = location;
+        this.path = path;
+        this.content = content;
+    }
+
+    /**
+     * Create source of a changeLog file on any file system.
+     *
+     * @param path - changeLog path.
+     * @return changeLog source. The file is read on first use.
+     */
+    public static ChangeLogSource of(final Path path) {
+        return new ChangeLogSource(fileName(path), location(path), path, null);
+    }
+
+    /**
+     * Create source of a changeLog file.
+     *
+     * @param file - changeLog file.
+     * @return changeLog source. The file is read on first use.
+     */
+    public static ChangeLogSource of(final File file) {
+        return new ChangeLogSource(file.getName(), file.getPath(), file.toPath(), null);
+    }
+
+    /**
+     * Create source of a changeLog file which content is already read.
+     *
+     * @param path    - changeLog path.
+     * @param content - changeLog content. Not copied.
+     * @return changeLog source.
+     */
+    public static ChangeLogSource of(final Path path,
+                                     final byte[] content) {
+        return new ChangeLogSource(fileName(path), location(path), path, Objects.requireNonNull(content));
+    }
+
+    /**
+     * Create source of changeLog content held in memory.
+     *
+     * @param location - changeLog location, e.g. a file name or a resource path. Its last segment is the file name
+     *                 used for messages and exclusions.
+     * @param content  - changeLog content. Not copied.
+     * @return changeLog source.
+     */
+    public static ChangeLogSource of(final String location,
+                                     final byte[] content) {
+        return new ChangeLogSource(fileName(location), location, null, Objects.requireNonNull(content));
+    }
+
+    /**
+     * Create source of changeLog content read from a stream.
+     *
+     * @param location - changeLog location, e.g. a file name or a resource path. Its last segment is the file name
+     *                 used for messages and exclusions.
+     * @param content  - changeLog content. Read fully, but not closed by this method.
+     * @return changeLog source.
+     * @throws IOException - thrown if the stream cannot be read.
+     */
+    public static ChangeLogSource of(final String location,
+                                     final InputStream content) throws IOException {
+        return of(location, content.readAllBytes());
+    }
+
+    /**
+     * Get changeLog file name. Used for messages and exclusions.
+     *
+     * @return changeLog file name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get changeLog location. Used for diagnostics, metrics and traces.
+     * <br>
+     * It is the path of files of the default file system, the URI of files of other file systems
+     * and the given location of content held in memory.
+     *
+     * @return changeLog location.
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Get changeLog path.
+     *
+     * @return changeLog path. Null if the changeLog is held in memory.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get system id of the changeLog, used to resolve relative references of the content.
+     *
+     * @return URI of the changeLog file. Null if the changeLog is held in memory.
+     */
+    public String getSystemId() {
+        return path == null ? null : path.toUri().toString();
+    }
+
+    /**
+     * Get changeLog content, reading the file on first use.
+     * <br>
+     * The returned array is shared and must not be modified.
+     *
+     * @return changeLog content.
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    public byte[] getContent() throws IOException {
+        byte[] result = content;
+        if (result == null) {
+            result = Files.readAllBytes(path);
+            content = result;
+        }
+        return result;
+    }
+
+    /**
+     * Open stream of the changeLog content. The content is not copied.
+     *
+     * @return stream of the changeLog content.
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    public InputStream openStream() throws IOException {
+        return new ByteArrayInputStream(getContent());
+    }
+
+    /**
+     * Open reader of the changeLog content decoded as UTF-8. The content is not copied.
+     *
+     * @return reader of the changeLog content.
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    public BufferedReader openReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(openStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get changeLog size in bytes without reading the file.
+     *
+     * @return changeLog size in bytes. <code>0</code> if the file cannot be accessed.
+     */
+    public long size() {
+        byte[] result = content;
+        if (result != null) {
+            return result.length;
+        }
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Get changeLog location.
+     *
+     * @return changeLog location.
+     */
+    @Override
+    public String toString() {
+        return location;
+    }
+
+    private static String fileName(final Path path) {
+        Path fileName = path.getFileName();
+        return fileName == null ? path.toString() : fileName.toString();
+    }
+
+    private static String fileName(final String location) {
+        int separator = Math.max(location.lastIndexOf('/'), location.lastIndexOf('\\'));
+        return location.substring(separator + 1);
+    }
+
+    private static String location(final Path path) {
+        return path.getFileSystem() == FileSystems.getDefault() ? path.toString() : path.toUri().toString();
+    }
+}
@@ -0,0 +1,412 @@
+package io.github.htshame.core;
+
+import io.github.htshame.change.parser.ParsedChangeLog;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.log.PluginLogger;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.validator.ValidationManager;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watches the changeLog directories and validates changeLog files as they are saved.
+ * <br>
+ * All changeLog files are validated once. After that, every burst of file system events is collected
+ * until no event arrives for the debounce time, and only the changed changeLog files are parsed and validated.
+ * Parsed changeLog files are kept in memory, so a change of the rules or exclusions file reloads them
+ * and validates all changeLog files again without reading them.
+ * Rules and exclusions loaded from URLs are not reloaded.
+ */
+public final class ChangeLogWatcher implements Closeable {
+
+    /**
+     * Default debounce time in milliseconds.
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 50L;
+
+    private final PluginLogger logger;
+    private final PluginConfig config;
+    private final long debounceMillis;
+    private final ValidateChangeLogService service;
+    private final ValidationManager validationManager = new ValidationManager();
+    private final List<Path> changeLogDirectories;
+    private final Path rulesFile;
+    private final Path exclusionsFile;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, ParsedChangeLog> changeLogs = new TreeMap<>();
+    private final Map<Path, List<RuleValidationErrorDto>> violations = new TreeMap<>();
+
+    private List<Rule> rules;
+    private ExclusionParser exclusionParser;
+
+    /**
+     * Constructor.
+     *
+     * @param logger         - logger.
+     * @param config         - configuration.
+     * @param debounceMillis - time without file system events after which changed files are validated.
+     * @throws ValidateChangeLogException - thrown if the file system cannot be watched.
+     */
+    public ChangeLogWatcher(final PluginLogger logger,
+                            final PluginConfig config,
+                            final long debounceMillis) throws ValidateChangeLogException {
+        this.logger = logger;
+        this.config = config;
+        this.debounceMillis = debounceMillis;
+        this.service = new ValidateChangeLogService(logger, config);
+        this.changeLogDirectories = config.getChangeLogDirectories().stream()
+                .map(ChangeLogWatcher::absolute)
+                .distinct()
+                .collect(Collectors.toList());
+        this.rulesFile = absolute(config.getPathToRulesFile());
+        this.exclusionsFile = absolute(config.getPathToExclusionsFile());
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new ValidateChangeLogException("Failed to watch file system: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validate all changeLog files and keep validating changed files until the watcher is closed.
+     *
+     * @throws ValidateChangeLogException - thrown if the initial rules, exclusions or changeLog files
+     *                                    cannot be loaded.
+     */
+    public void watch() throws ValidateChangeLogException {
+        rules = service.prepareRules();
+        exclusionParser = service.prepareExclusions();
+        try {
+            for (Path changeLogDirectory : changeLogDirectories) {
+                registerDirectories(changeLogDirectory);
+            }
+            registerDirectory(rulesFile);
+            registerDirectory(exclusionsFile);
+        } catch (IOException e) {
+            throw new ValidateChangeLogException("Failed to watch directory: " + e.getMessage());
+        }
+
+        long start = System.nanoTime();
+        Set<Path> changeLogFiles = new LinkedHashSet<>();
+        try {
+            for (File changeLogFile : ChangeLogFilesCollector.collectChangeLogFiles(
+                    changeLogDirectories.stream().map(Path::toFile).collect(Collectors.toList()),
+                    config.getChangeLogFormats(), config.getChangeLogIgnore())) {
+                changeLogFiles.add(changeLogFile.toPath());
+            }
+        } catch (ChangeLogCollectorException e) {
+            throw new ValidateChangeLogException(e.getMessage());
+        }
+        parse(changeLogFiles);
+        validate(changeLogFiles, start);
+        logger.info("Watching " + describeDirectories() + " for changes");
+
+        try {
+            while (true) {
+                Set<Path> changedPaths = new LinkedHashSet<>();
+                WatchKey key = watchService.take();
+                start = System.nanoTime();
+                boolean overflow = false;
+                while (key != null) {
+                    overflow |= collectEvents(key, changedPaths);
+                    key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                }
+                if (overflow) {
+                    changedPaths.addAll(changeLogs.keySet());
+                    for (Path changeLogDirectory : changeLogDirectories) {
+                        changedPaths.addAll(listChangeLogFiles(changeLogDirectory));
+                    }
+                }
+                onChange(changedPaths, start);
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.info("Stopped watching " + describeDirectories());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop watching.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close watch service: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Collect changed paths of the watch key and watch created directories.
+     *
+     * @param key          - signalled watch key.
+     * @param changedPaths - changed paths.
+     * @return <code>true</code> if events were lost.
+     */
+    private boolean collectEvents(final WatchKey key,
+                                  final Set<Path> changedPaths) {
+        boolean overflow = false;
+        Path directory = watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                overflow = true;
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            changedPaths.add(path);
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    registerDirectories(path);
+                    changedPaths.addAll(listChangeLogFiles(path));
+                } catch (IOException e) {
+                    overflow = true;
+                }
+            }
+        }
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+        return overflow;
+    }
+
+    /**
+     * Reload rules and exclusions if they changed and validate changed changeLog files.
+     *
+     * @param changedPaths - changed paths.
+     * @param start        - start time in nanoseconds.
+     */
+    private void onChange(final Set<Path> changedPaths,
+                          final long start) {
+        boolean reloaded = false;
+        if (changedPaths.contains(rulesFile) || changedPaths.contains(exclusionsFile)) {
+            try {
+                rules = service.prepareRules();
+                exclusionParser = service.prepareExclusions();
+                reloaded = true;
+                logger.info("Reloaded rules and exclusions");
+            } catch (ValidateChangeLogException e) {
+                logger.warn("Keeping the previous rules and exclusions: " + e.getMessage());
+            }
+        }
+
+        boolean removed = false;
+        Set<Path> changeLogFiles = new LinkedHashSet<>();
+        for (Path path : changedPaths) {
+            Path changeLogDirectory = changeLogDirectoryOf(path);
+            if (changeLogDirectory != null) {
+                removed |= removeDeleted(path);
+                if (Files.isRegularFile(path)
+                        && ChangeLogFilesCollector.isChangeLogFile(path, config.getChangeLogFormats())
+                        && !isIgnored(changeLogDirectory, path)) {
+                    changeLogFiles.add(path);
+                }
+            }
+        }
+        parse(changeLogFiles);
+        if (reloaded) {
+            changeLogFiles.addAll(changeLogs.keySet());
+        }
+        if (reloaded || removed || !changeLogFiles.isEmpty()) {
+            validate(changeLogFiles, start);
+        }
+    }
+
+    /**
+     * Forget deleted changeLog files at or under the path.
+     *
+     * @param path - changed path.
+     * @return <code>true</code> if a changeLog file was deleted.
+     */
+    private boolean removeDeleted(final Path path) {
+        boolean removed = false;
+        Iterator<Path> iterator = changeLogs.keySet().iterator();
+        while (iterator.hasNext()) {
+            Path changeLogFile = iterator.next();
+            if (changeLogFile.startsWith(path) && !Files.isRegularFile(changeLogFile)) {
+                iterator.remove();
+                violations.remove(changeLogFile);
+                logger.info("[" + relativize(changeLogFile) + "] removed");
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Read and parse changeLog files and keep them in memory.
+     *
+     * @param changeLogFiles - changeLog files.
+     */
+    private void parse(final Set<Path> changeLogFiles) {
+        for (Path changeLogFile : changeLogFiles) {
+            changeLogs.put(changeLogFile,
+                    validationManager.parse(changeLogFile.toFile(), config.getChangeLogFormat()));
+        }
+    }
+
+    /**
+     * Validate parsed changeLog files and report their violations and the total of all files.
+     *
+     * @param changeLogFiles - changeLog files to validate.
+     * @param start          - start time in nanoseconds.
+     */
+    private void validate(final Set<Path> changeLogFiles,
+                          final long start) {
+        for (Path changeLogFile : changeLogFiles) {
+            ParsedChangeLog changeLog = changeLogs.get(changeLogFile);
+            List<RuleValidationErrorDto> validationErrors =
+                    validationManager.evaluate(changeLog, rules, exclusionParser);
+            violations.put(changeLogFile, validationErrors);
+            if (validationErrors.isEmpty()) {
+                logger.info("[" + relativize(changeLogFile) + "] passed validation");
+            }
+            for (RuleValidationErrorDto validationError : validationErrors) {
+                logger.error(validationError.getErrorMessage() == null
+                        ? validationError.getGenericMessage()
+                        : validationError.getErrorMessage());
+            }
+        }
+
+        int violationCount = 0;
+        int failedFileCount = 0;
+        for (List<RuleValidationErrorDto> validationErrors : violations.values()) {
+            violationCount += validationErrors.size();
+            failedFileCount += validationErrors.isEmpty() ? 0 : 1;
+        }
+        String elapsed = " Validated " + changeLogFiles.size() + " file(s) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms.";
+        if (violationCount == 0) {
+            logger.info("All ChangeLog files passed validation." + elapsed);
+        } else {
+            logger.warn("Validation failed: " + violationCount + " violation(s) found in "
+                    + failedFileCount + " file(s)." + elapsed);
+        }
+    }
+
+    /**
+     * Watch the directory and all its subdirectories.
+     *
+     * @param root - directory.
+     * @throws IOException - thrown if a directory cannot be watched.
+     */
+    private void registerDirectories(final Path root) throws IOException {
+        List<Path> directories;
+        try (Stream<Path> paths = Files.walk(root)) {
+            directories = paths.filter(Files::isDirectory).collect(Collectors.toList());
+        }
+        for (Path directory : directories) {
+            watchedDirectories.put(directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE), directory);
+        }
+    }
+
+    /**
+     * Watch the directory of the configuration file.
+     *
+     * @param configFile - configuration file. Null if there is no local file.
+     * @throws IOException - thrown if the directory cannot be watched.
+     */
+    private void registerDirectory(final Path configFile) throws IOException {
+        if (configFile == null || changeLogDirectoryOf(configFile) != null) {
+            return;
+        }
+        Path directory = configFile.getParent();
+        watchedDirectories.put(directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY), directory);
+    }
+
+    /**
+     * List changeLog files under the directory.
+     *
+     * @param directory - directory.
+     * @return changeLog files. Empty if the directory cannot be read.
+     */
+    private List<Path> listChangeLogFiles(final Path directory) {
+        List<Path> changeLogFiles = new ArrayList<>();
+        try {
+            for (File changeLogFile : ChangeLogFilesCollector.collectChangeLogFiles(
+                    List.of(directory.toFile()), config.getChangeLogFormats(), config.getChangeLogIgnore())) {
+                changeLogFiles.add(changeLogFile.toPath());
+            }
+        } catch (ChangeLogCollectorException e) {
+            logger.warn(e.getMessage());
+        }
+        return changeLogFiles;
+    }
+
+    /**
+     * Check whether the changed file is skipped by the ignore patterns or ignore files.
+     *
+     * @param changeLogDirectory - changeLog directory of the file.
+     * @param path               - changed file.
+     * @return <code>true</code> if the file is ignored or the ignore files cannot be read.
+     */
+    private boolean isIgnored(final Path changeLogDirectory,
+                              final Path path) {
+        try {
+            return config.getChangeLogIgnore().isIgnored(changeLogDirectory, path, false);
+        } catch (IOException e) {
+            logger.warn("Failed to read ignore file: " + e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Get the changeLog directory the path is in.
+     *
+     * @param path - absolute path.
+     * @return changeLog directory. Null if the path is not in any changeLog directory.
+     */
+    private Path changeLogDirectoryOf(final Path path) {
+        for (Path changeLogDirectory : changeLogDirectories) {
+            if (path.startsWith(changeLogDirectory)) {
+                return changeLogDirectory;
+            }
+        }
+        return null;
+    }
+
+    private String describeDirectories() {
+        return changeLogDirectories.stream().map(Path::toString).collect(Collectors.joining(", "));
+    }
+
+    private Path relativize(final Path changeLogFile) {
+        Path changeLogDirectory = changeLogDirectoryOf(changeLogFile);
+        return changeLogDirectory == null ? changeLogFile : changeLogDirectory.relativize(changeLogFile);
+    }
+
+    private static Path absolute(final File file) {
+        return file == null ? null : file.toPath().toAbsolutePath().normalize();
+    }
+}
@@ -2,9 +2,16 @@ package io.github.htshame.core;
 
 import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.util.ChangeLogIgnore;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Plugin configuration class.
@@ -15,11 +22,29 @@ public final class PluginConfig {
     private final File pathToRulesFile;
     private final File pathToExclusionsFile;
     private final File changeLogDirectory;
+    private final List<File> changeLogDirectories;
+    private final Set<ChangeLogFormatEnum> changeLogFormats;
+    private final File changeLogMasterFile;
+    private final List<File> changeLogArchives;
+    private final String changeLogArchiveDirectory;
+    private final ChangeLogIgnore changeLogIgnore;
     private final boolean shouldGenerateExclusions;
     private final String pluginVersion;
     private final PluginTypeEnum pluginType;
     private final URL rulesFileUrl;
     private final URL exclusionsFileUrl;
+    private final boolean shouldGenerateMetrics;
+    private final boolean shouldGenerateTrace;
+    private final int pipelineThreads;
+    private final int changeSetThreads;
+    private final File configCacheDirectory;
+    private final long configCacheTtlSeconds;
+    private final File compiledRulesCacheDirectory;
+    private final File changeSetResultCacheDirectory;
+    private final File parsedChangeLogCacheDirectory;
+    private final String rulesFileSha256;
+    private final String exclusionsFileSha256;
+    private final File outputDirectory;
 
     /**
      * Private constructor used by the Builder.
@@ -31,11 +56,33 @@ public final class PluginConfig {
         this.pathToRulesFile = builder.pathToRulesFileBuilder;
         this.pathToExclusionsFile = builder.pathToExclusionsFileBuilder;
         this.changeLogDirectory = builder.changeLogDirectoryBuilder;
+        this.changeLogDirectories = Collections.unmodifiableList(
+                collectDirectories(builder.changeLogDirectoryBuilder, builder.changeLogDirectoriesBuilder));
+        this.changeLogFormats = Collections.unmodifiableSet(builder.changeLogFormatsBuilder.isEmpty()
+                ? formatSet(Collections.singletonList(builder.changeLogFormatBuilder))
+                : formatSet(builder.changeLogFormatsBuilder));
+        this.changeLogMasterFile = builder.changeLogMasterFileBuilder;
+        this.changeLogArchives = Collections.unmodifiableList(new ArrayList<>(builder.changeLogArchivesBuilder));
+        this.changeLogArchiveDirectory = builder.changeLogArchiveDirectoryBuilder;
+        this.changeLogIgnore = ChangeLogIgnore.of(
+                builder.changeLogIgnorePatternsBuilder, builder.changeLogIgnoreFileBuilder);
         this.shouldGenerateExclusions = builder.shouldGenerateExclusionsBuilder;
         this.pluginVersion = builder.pluginVersionBuilder;
         this.pluginType = builder.pluginTypeBuilder;
         this.rulesFileUrl = builder.rulesFileUrlBuilder;
         this.exclusionsFileUrl = builder.exclusionsFileUrlBuilder;
+        this.shouldGenerateMetrics = builder.shouldGenerateMetricsBuilder;
+        this.shouldGenerateTrace = builder.shouldGenerateTraceBuilder;
+        this.pipelineThreads = builder.pipelineThreadsBuilder;
+        this.changeSetThreads = builder.changeSetThreadsBuilder;
+        this.configCacheDirectory = builder.configCacheDirectoryBuilder;
+        this.configCacheTtlSeconds = builder.configCacheTtlSecondsBuilder;
+        this.compiledRulesCacheDirectory = builder.compiledRulesCacheDirectoryBuilder;
+        this.changeSetResultCacheDirectory = builder.changeSetResultCacheDirectoryBuilder;
+        this.parsedChangeLogCacheDirectory = builder.parsedChangeLogCacheDirectoryBuilder;
+        this.rulesFileSha256 = builder.rulesFileSha256Builder;
+        this.exclusionsFileSha256 = builder.exclusionsFileSha256Builder;
+        this.outputDirectory = builder.outputDirectoryBuilder;
     }
 
     /**
@@ -63,11 +110,30 @@ public final class PluginConfig {
         private File pathToRulesFileBuilder;
         private File pathToExclusionsFileBuilder;
         private File changeLogDirectoryBuilder;
+        private List<File> changeLogDirectoriesBuilder = Collections.emptyList();
+        private List<ChangeLogFormatEnum> changeLogFormatsBuilder = Collections.emptyList();
+        private File changeLogMasterFileBuilder;
+        private List<File> changeLogArchivesBuilder = Collections.emptyList();
+        private String changeLogArchiveDirectoryBuilder;
+        private List<String> changeLogIgnorePatternsBuilder;
+        private String changeLogIgnoreFileBuilder;
         private boolean shouldGenerateExclusionsBuilder;
         private String pluginVersionBuilder;
         private PluginTypeEnum pluginTypeBuilder;
         private URL rulesFileUrlBuilder;
         private URL exclusionsFileUrlBuilder;
+        private boolean shouldGenerateMetricsBuilder;
+        private boolean shouldGenerateTraceBuilder;
+        private int pipelineThreadsBuilder;
+        private int changeSetThreadsBuilder;
+        private File configCacheDirectoryBuilder;
+        private long configCacheTtlSecondsBuilder;
+        private File compiledRulesCacheDirectoryBuilder;
+        private File changeSetResultCacheDirectoryBuilder;
+        private File parsedChangeLogCacheDirectoryBuilder;
+        private String rulesFileSha256Builder;
+        private String exclusionsFileSha256Builder;
+        private File outputDirectoryBuilder;
 
         /**
          * Set changeLog format.
@@ -80,6 +146,23 @@ public final class PluginConfig {
             return this;
         }
 
+        /**
+         * Set changeLog formats validated together. Every file is parsed according to its extension.
+         *
+         * @param changeLogFormats - changeLog formats. Null or empty to validate the <code>changeLogFormat</code> only.
+         * @return this builder.
+         */
+        public Builder changeLogFormats(final List<String> changeLogFormats) {
+            List<ChangeLogFormatEnum> formats = new ArrayList<>();
+            if (changeLogFormats != null) {
+                for (String changeLogFormat : changeLogFormats) {
+                    formats.add(ChangeLogFormatEnum.fromValue(changeLogFormat.trim().toLowerCase()));
+                }
+            }
+            this.changeLogFormatsBuilder = formats;
+            return this;
+        }
+
         /**
          * Set path to rules file.
          *
@@ -113,6 +196,74 @@ public final class PluginConfig {
             return this;
         }
 
+        /**
+         * Set changeLog directories validated in addition to the changeLog directory.
+         *
+         * @param changeLogDirectories - changeLog directories. Null or empty if there are no other directories.
+         * @return this builder.
+         */
+        public Builder changeLogDirectories(final List<File> changeLogDirectories) {
+            this.changeLogDirectoriesBuilder = changeLogDirectories == null
+                    ? Collections.emptyList()
+                    : changeLogDirectories;
+            return this;
+        }
+
+        /**
+         * Set master changeLog file. If set, only the master changeLog and the files it includes are validated.
+         *
+         * @param changeLogMasterFile - master changeLog file. Null to validate all files of the changeLog directory.
+         * @return this builder.
+         */
+        public Builder changeLogMasterFile(final File changeLogMasterFile) {
+            this.changeLogMasterFileBuilder = changeLogMasterFile;
+            return this;
+        }
+
+        /**
+         * Set JAR or ZIP archives which changeLog files are validated without extraction.
+         *
+         * @param changeLogArchives - archives. Null or empty if there are no archives.
+         * @return this builder.
+         */
+        public Builder changeLogArchives(final List<File> changeLogArchives) {
+            this.changeLogArchivesBuilder = changeLogArchives == null ? Collections.emptyList() : changeLogArchives;
+            return this;
+        }
+
+        /**
+         * Set directory inside the archives that contains changeLog files.
+         *
+         * @param changeLogArchiveDirectory - directory inside the archives. Null for the whole archive.
+         * @return this builder.
+         */
+        public Builder changeLogArchiveDirectory(final String changeLogArchiveDirectory) {
+            this.changeLogArchiveDirectoryBuilder = changeLogArchiveDirectory;
+            return this;
+        }
+
+        /**
+         * Set <code>.gitignore</code>-style patterns of paths skipped while changeLog directories are walked.
+         *
+         * @param changeLogIgnorePatterns - ignore patterns. Null or empty if nothing is ignored.
+         * @return this builder.
+         */
+        public Builder changeLogIgnorePatterns(final List<String> changeLogIgnorePatterns) {
+            this.changeLogIgnorePatternsBuilder = changeLogIgnorePatterns;
+            return this;
+        }
+
+        /**
+         * Set name of <code>.gitignore</code>-style files read from every walked directory.
+         *
+         * @param changeLogIgnoreFile - name of ignore files, e.g. <code>.gitignore</code>. Null if not read.
+         * @return this builder.
+         */
+        public Builder changeLogIgnoreFile(final String changeLogIgnoreFile) {
+            this.changeLogIgnoreFileBuilder = changeLogIgnoreFile;
+            return this;
+        }
+
         /**
          * Set whether exclusions file should be generated.
          *
@@ -168,6 +319,138 @@ public final class PluginConfig {
             return this;
         }
 
+        /**
+         * Set whether performance metrics should be generated.
+         *
+         * @param shouldGenerateMetrics - whether performance metrics should be generated.
+         * @return this builder.
+         */
+        public Builder shouldGenerateMetrics(final boolean shouldGenerateMetrics) {
+            this.shouldGenerateMetricsBuilder = shouldGenerateMetrics;
+            return this;
+        }
+
+        /**
+         * Set whether trace file should be generated.
+         *
+         * @param shouldGenerateTrace - whether trace file should be generated.
+         * @return this builder.
+         */
+        public Builder shouldGenerateTrace(final boolean shouldGenerateTrace) {
+            this.shouldGenerateTraceBuilder = shouldGenerateTrace;
+            return this;
+        }
+
+        /**
+         * Set number of worker threads of every stage of the validation pipeline.
+         *
+         * @param pipelineThreads - number of threads. <code>0</code> disables the pipeline.
+         * @return this builder.
+         */
+        public Builder pipelineThreads(final int pipelineThreads) {
+            this.pipelineThreadsBuilder = pipelineThreads;
+            return this;
+        }
+
+        /**
+         * Set number of threads evaluating changeSets of a single large changeLog.
+         *
+         * @param changeSetThreads - number of threads. <code>0</code> evaluates changeSets one by one.
+         * @return this builder.
+         */
+        public Builder changeSetThreads(final int changeSetThreads) {
+            this.changeSetThreadsBuilder = changeSetThreads;
+            return this;
+        }
+
+        /**
+         * Set cache directory of the remote config files.
+         *
+         * @param configCacheDirectory - cache directory. Null disables caching.
+         * @return this builder.
+         */
+        public Builder configCacheDirectory(final File configCacheDirectory) {
+            this.configCacheDirectoryBuilder = configCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Set time during which the cached remote config files are used without revalidation.
+         *
+         * @param configCacheTtlSeconds - time in seconds.
+         * @return this builder.
+         */
+        public Builder configCacheTtlSeconds(final long configCacheTtlSeconds) {
+            this.configCacheTtlSecondsBuilder = configCacheTtlSeconds;
+            return this;
+        }
+
+        /**
+         * Set cache directory of the compiled rules snapshots.
+         *
+         * @param compiledRulesCacheDirectory - cache directory. Null disables caching.
+         * @return this builder.
+         */
+        public Builder compiledRulesCacheDirectory(final File compiledRulesCacheDirectory) {
+            this.compiledRulesCacheDirectoryBuilder = compiledRulesCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Set cache directory of the changeSet rule results.
+         *
+         * @param changeSetResultCacheDirectory - cache directory. Null disables caching.
+         * @return this builder.
+         */
+        public Builder changeSetResultCacheDirectory(final File changeSetResultCacheDirectory) {
+            this.changeSetResultCacheDirectoryBuilder = changeSetResultCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Set cache directory of the parsed changeLog files.
+         *
+         * @param parsedChangeLogCacheDirectory - cache directory. Null disables caching.
+         * @return this builder.
+         */
+        public Builder parsedChangeLogCacheDirectory(final File parsedChangeLogCacheDirectory) {
+            this.parsedChangeLogCacheDirectoryBuilder = parsedChangeLogCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Set expected SHA-256 of the rules file downloaded from <code>rulesFileUrl</code>.
+         *
+         * @param rulesFileSha256 - hex-encoded SHA-256.
+         * @return this builder.
+         */
+        public Builder rulesFileSha256(final String rulesFileSha256) {
+            this.rulesFileSha256Builder = rulesFileSha256;
+            return this;
+        }
+
+        /**
+         * Set expected SHA-256 of the exclusions file downloaded from <code>exclusionsFileUrl</code>.
+         *
+         * @param exclusionsFileSha256 - hex-encoded SHA-256.
+         * @return this builder.
+         */
+        public Builder exclusionsFileSha256(final String exclusionsFileSha256) {
+            this.exclusionsFileSha256Builder = exclusionsFileSha256;
+            return this;
+        }
+
+        /**
+         * Set output directory for the generated reports.
+         *
+         * @param outputDirectory - output directory.
+         * @return this builder.
+         */
+        public Builder outputDirectory(final File outputDirectory) {
+            this.outputDirectoryBuilder = outputDirectory;
+            return this;
+        }
+
         /**
          * Build the {@link PluginConfig} instance.
          *
@@ -214,6 +497,61 @@ public final class PluginConfig {
         return changeLogDirectory;
     }
 
+    /**
+     * Get all changeLog directories: the changeLog directory followed by the other changeLog directories.
+     *
+     * @return unmodifiable list of changeLog directories, without duplicates. Empty list if none is set.
+     */
+    public List<File> getChangeLogDirectories() {
+        return changeLogDirectories;
+    }
+
+    /**
+     * Get changeLog formats validated together.
+     *
+     * @return unmodifiable set of changeLog formats. Contains the <code>changeLogFormat</code> if no formats are set.
+     *         YAML and YML formats always come together.
+     */
+    public Set<ChangeLogFormatEnum> getChangeLogFormats() {
+        return changeLogFormats;
+    }
+
+    /**
+     * Get master changeLog file.
+     *
+     * @return master changeLog file. Null if all files of the changeLog directory are validated.
+     */
+    public File getChangeLogMasterFile() {
+        return changeLogMasterFile;
+    }
+
+    /**
+     * Get JAR or ZIP archives which changeLog files are validated without extraction.
+     *
+     * @return unmodifiable list of archives. Empty list if there are no archives.
+     */
+    public List<File> getChangeLogArchives() {
+        return changeLogArchives;
+    }
+
+    /**
+     * Get directory inside the archives that contains changeLog files.
+     *
+     * @return directory inside the archives. Null for the whole archive.
+     */
+    public String getChangeLogArchiveDirectory() {
+        return changeLogArchiveDirectory;
+    }
+
+    /**
+     * Get paths skipped while changeLog directories are walked.
+     *
+     * @return ignored paths. {@link ChangeLogIgnore#NONE} if nothing is ignored.
+     */
+    public ChangeLogIgnore getChangeLogIgnore() {
+        return changeLogIgnore;
+    }
+
     /**
      * Get should generate exclusions flag.
      *
@@ -258,4 +596,137 @@ public final class PluginConfig {
     public URL getExclusionsFileUrl() {
         return exclusionsFileUrl;
     }
+
+    /**
+     * Get should generate metrics flag.
+     *
+     * @return should generate metrics flag.
+     */
+    public boolean getShouldGenerateMetrics() {
+        return shouldGenerateMetrics;
+    }
+
+    /**
+     * Get should generate trace flag.
+     *
+     * @return should generate trace flag.
+     */
+    public boolean getShouldGenerateTrace() {
+        return shouldGenerateTrace;
+    }
+
+    /**
+     * Get number of worker threads of every stage of the validation pipeline.
+     *
+     * @return number of threads. <code>0</code> if the pipeline is disabled.
+     */
+    public int getPipelineThreads() {
+        return pipelineThreads;
+    }
+
+    /**
+     * Get number of threads evaluating changeSets of a single large changeLog.
+     *
+     * @return number of threads. <code>0</code> if changeSets are evaluated one by one.
+     */
+    public int getChangeSetThreads() {
+        return changeSetThreads;
+    }
+
+    /**
+     * Get cache directory of the remote config files.
+     *
+     * @return cache directory. Null if caching is disabled.
+     */
+    public File getConfigCacheDirectory() {
+        return configCacheDirectory;
+    }
+
+    /**
+     * Get time during which the cached remote config files are used without revalidation.
+     *
+     * @return time in seconds.
+     */
+    public long getConfigCacheTtlSeconds() {
+        return configCacheTtlSeconds;
+    }
+
+    /**
+     * Get cache directory of the compiled rules snapshots.
+     *
+     * @return cache directory. Null if caching is disabled.
+     */
+    public File getCompiledRulesCacheDirectory() {
+        return compiledRulesCacheDirectory;
+    }
+
+    /**
+     * Get cache directory of the changeSet rule results.
+     *
+     * @return cache directory. Null if caching is disabled.
+     */
+    public File getChangeSetResultCacheDirectory() {
+        return changeSetResultCacheDirectory;
+    }
+
+    /**
+     * Get cache directory of the parsed changeLog files.
+     *
+     * @return cache directory. Null if caching is disabled.
+     */
+    public File getParsedChangeLogCacheDirectory() {
+        return parsedChangeLogCacheDirectory;
+    }
+
+    /**
+     * Get expected SHA-256 of the rules file downloaded from <code>rulesFileUrl</code>.
+     *
+     * @return hex-encoded SHA-256. Null if not pinned.
+     */
+    public String getRulesFileSha256() {
+        return rulesFileSha256;
+    }
+
+    /**
+     * Get expected SHA-256 of the exclusions file downloaded from <code>exclusionsFileUrl</code>.
+     *
+     * @return hex-encoded SHA-256. Null if not pinned.
+     */
+    public String getExclusionsFileSha256() {
+        return exclusionsFileSha256;
+    }
+
+    /**
+     * Get output directory for the generated reports.
+     *
+     * @return output directory.
+     */
+    public File getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    private static List<File> collectDirectories(final File changeLogDirectory,
+                                                 final List<File> changeLogDirectories) {
+        Set<File> directories = new LinkedHashSet<>();
+        if (changeLogDirectory != null) {
+            directories.add(changeLogDirectory);
+        }
+        directories.addAll(changeLogDirectories);
+        return new ArrayList<>(directories);
+    }
+
+    private static Set<ChangeLogFormatEnum> formatSet(final List<ChangeLogFormatEnum> changeLogFormats) {
+        Set<ChangeLogFormatEnum> formats = EnumSet.noneOf(ChangeLogFormatEnum.class);
+        for (ChangeLogFormatEnum changeLogFormat : changeLogFormats) {
+            if (changeLogFormat == null) {
+                continue;
+            }
+            formats.add(changeLogFormat);
+            if (changeLogFormat == ChangeLogFormatEnum.YAML || changeLogFormat == ChangeLogFormatEnum.YML) {
+                formats.add(ChangeLogFormatEnum.YAML);
+                formats.add(ChangeLogFormatEnum.YML);
+            }
+        }
+        return formats;
+    }
 }
@@ -0,0 +1,128 @@
+package io.github.htshame.core;
+
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.util.HashUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM-wide registry of the parsed configuration shared by plugin executions.
+ * <br>
+ * In a multi-module build every module runs the plugin in the same JVM, usually with the same rules
+ * and exclusions. Parsed configuration is kept by SHA-256 of the file content, so every file is parsed
+ * once per JVM and a changed file is parsed again. Only the most recently used entries are kept.
+ * Shared values must not be modified.
+ *
+ * @param <T> - parsed configuration type.
+ */
+final class SharedConfigRegistry<T> {
+
+    /**
+     * Parsed rules.
+     */
+    static final SharedConfigRegistry<List<Rule>> RULES = new SharedConfigRegistry<>();
+
+    /**
+     * Parsed exclusions.
+     */
+    static final SharedConfigRegistry<ExclusionParser> EXCLUSIONS = new SharedConfigRegistry<>();
+
+    private static final int MAX_ENTRIES = 8;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<String, T> entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, T> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Private constructor.
+     */
+    private SharedConfigRegistry() {
+
+    }
+
+    /**
+     * Get parsed configuration, parsing it if it is not registered yet.
+     * <br>
+     * Concurrent executions may parse the same content at the same time; the first result is kept.
+     *
+     * @param pluginVersion - plugin version. Parsed configuration of other versions is not used.
+     * @param content       - configuration file content.
+     * @param parser        - parser of the content. Exceptions are propagated and nothing is registered.
+     * @param <E>           - exception thrown by the parser.
+     * @return parsed configuration.
+     * @throws E - thrown if parsing fails.
+     */
+    <E extends Exception> T get(final String pluginVersion,
+                                final byte[] content,
+                                final Parser<T, E> parser) throws E {
+        String key = key(pluginVersion, content);
+        synchronized (entries) {
+            T value = entries.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        T parsed = parser.parse();
+        synchronized (entries) {
+            T value = entries.putIfAbsent(key, parsed);
+            return value != null ? value : parsed;
+        }
+    }
+
+    /**
+     * Remove all entries.
+     */
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Get number of entries.
+     *
+     * @return number of entries.
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String key(final String pluginVersion,
+                              final byte[] content) {
+        MessageDigest digest = HashUtil.newSha256Digest();
+        digest.update(String.valueOf(pluginVersion).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        return HashUtil.toHex(digest.digest());
+    }
+
+    /**
+     * Parser of the configuration content.
+     *
+     * @param <T> - parsed configuration type.
+     * @param <E> - exception thrown if parsing fails.
+     */
+    @FunctionalInterface
+    interface Parser<T, E extends Exception> {
+
+        /**
+         * Parse configuration.
+         *
+         * @return parsed configuration.
+         * @throws E - thrown if parsing fails.
+         */
+        T parse() throws E;
+    }
+}
@@ -1,7 +1,7 @@
 package io.github.htshame.core;
 
+import io.github.htshame.change.parser.ParsedChangeLogCache;
 import io.github.htshame.dto.RuleValidationErrorDto;
-import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.exception.ChangeLogCollectorException;
 import io.github.htshame.exception.ConfigApiGatewayException;
 import io.github.htshame.exception.ExclusionParserException;
@@ -9,15 +9,40 @@ import io.github.htshame.exception.RuleParserException;
 import io.github.htshame.exception.ValidateChangeLogException;
 import io.github.htshame.gateway.ConfigApiGateway;
 import io.github.htshame.log.PluginLogger;
+import io.github.htshame.metrics.ValidationMetrics;
+import io.github.htshame.parser.CompiledRulesCache;
 import io.github.htshame.parser.ExclusionParser;
 import io.github.htshame.parser.RuleParser;
 import io.github.htshame.rule.Rule;
 import io.github.htshame.service.ExclusionsGenerationService;
+import io.github.htshame.service.MetricsReportService;
+import io.github.htshame.service.TraceReportService;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
 import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.util.DaemonThreadFactory;
+import io.github.htshame.util.HashUtil;
+import io.github.htshame.validator.ArchiveValidator;
+import io.github.htshame.validator.ChangeSetResultCache;
+import io.github.htshame.validator.IncludeGraphValidator;
 import io.github.htshame.validator.ValidationManager;
+import io.github.htshame.validator.ValidationPipeline;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Validate changeLog service. It handles and orchestrates all business logic of the plugin.
@@ -26,15 +51,28 @@ public final class ValidateChangeLogService {
 
     private static final String BASE_URL = "https://htshame.github.io";
     private static final String PROJECT_NAME_PATH = "/naming-convention-liquibase-maven-plugin";
+    private static final int STARTUP_THREADS = 2;
+    private static final String RULES_ERROR = "Error parsing ruleset XML file. Message: ";
+    private static final String EXCLUSIONS_ERROR = "Error parsing exclusion XML file";
 
     private final PluginLogger logger;
     private final PluginConfig config;
     private final ValidationManager validationManager;
     private final ExclusionsGenerationService exclusionsGenerator;
+    private final MetricsReportService metricsReporter;
+    private final TraceReportService traceReporter;
+    private final Tracer tracer;
     private final ConfigApiGateway configApiGateway;
+    private final CompiledRulesCache compiledRulesCache;
+    private final ChangeSetResultCache changeSetResultCache;
+    private final ParsedChangeLogCache parsedChangeLogCache;
+    private final ForkJoinPool changeSetPool;
 
     /**
      * Constructor.
+     * <br>
+     * The pool evaluating changeSets of large changeLogs is owned by the service and shut down
+     * at the end of {@link #execute()} and {@link #validateFiles(List)}.
      *
      * @param logger - logger.
      * @param config - configuration.
@@ -43,9 +81,29 @@ public final class ValidateChangeLogService {
                                     final PluginConfig config) {
         this.logger = logger;
         this.config = config;
-        this.validationManager = new ValidationManager();
+        this.tracer = config.getShouldGenerateTrace() ? new Tracer() : Tracer.disabled();
+        this.changeSetResultCache = config.getChangeSetResultCacheDirectory() == null
+                ? null
+                : new ChangeSetResultCache(
+                        new File(config.getChangeSetResultCacheDirectory(), changeSetResultsFileName(config)),
+                        config.getPluginVersion());
+        this.parsedChangeLogCache = config.getParsedChangeLogCacheDirectory() == null
+                ? null
+                : new ParsedChangeLogCache(config.getParsedChangeLogCacheDirectory(), config.getPluginVersion());
+        this.changeSetPool = config.getChangeSetThreads() > 0 ? new ForkJoinPool(config.getChangeSetThreads()) : null;
+        this.validationManager = new ValidationManager(
+                config.getShouldGenerateMetrics() ? new ValidationMetrics() : ValidationMetrics.disabled(),
+                tracer, false, changeSetResultCache, parsedChangeLogCache, changeSetPool);
         this.exclusionsGenerator = new ExclusionsGenerationService(logger, config);
-        this.configApiGateway = new ConfigApiGateway();
+        this.metricsReporter = new MetricsReportService(logger, config);
+        this.traceReporter = new TraceReportService(logger, config);
+        this.configApiGateway = new ConfigApiGateway(
+                config.getConfigCacheDirectory(),
+                config.getConfigCacheTtlSeconds(),
+                logger);
+        this.compiledRulesCache = config.getCompiledRulesCacheDirectory() == null
+                ? null
+                : new CompiledRulesCache(config.getCompiledRulesCacheDirectory(), config.getPluginVersion());
     }
 
     /**
@@ -54,16 +112,122 @@ public final class ValidateChangeLogService {
      * @throws ValidateChangeLogException - validation exception.
      */
     public void execute() throws ValidateChangeLogException {
-        List<Rule> rules = prepareRules();
-        ExclusionParser exclusionParser = prepareExclusions();
-        List<File> changeLogFiles = prepareChangeLogFiles(config.getChangeLogFormat());
+        Span span = tracer.startSpan(SpanNames.EXECUTE)
+                .setAttribute(SpanAttributes.FORMAT, config.getChangeLogFormat().getValue())
+                .setAttribute(SpanAttributes.FILE_PATH, config.getChangeLogDirectories());
+        try {
+            validate();
+        } catch (ValidateChangeLogException e) {
+            span.setError(e.getMessage());
+            throw e;
+        } finally {
+            span.end();
+            if (config.getShouldGenerateTrace()) {
+                traceReporter.report(tracer);
+            }
+        }
+    }
 
-        List<RuleValidationErrorDto> validationErrors = validationManager.validate(
-                changeLogFiles,
-                rules,
-                exclusionParser,
-                config.getChangeLogFormat());
+    /**
+     * Load rules, exclusions and changeLog files and validate the changeLog files.
+     * <br>
+     * Rules and exclusions are loaded in background while the changeLog directories are walked,
+     * since any of them may block on a download or on a slow file system.
+     * All changeLog directories are walked once for all changeLog formats, and rules are compiled once
+     * for all of them: every file is parsed by the parser of its extension.
+     * If the master changeLog is set, only the files it includes are validated instead of the changeLog directories.
+     * ChangeLog files of the archives are validated after the files of the changeLog directories.
+     * Each failed step logs its own error; the failure of rules, then exclusions, then changeLog files is thrown.
+     *
+     * @throws ValidateChangeLogException - validation exception.
+     */
+    private void validate() throws ValidateChangeLogException {
+        List<RuleValidationErrorDto> validationErrors;
+        Span parent = tracer.getCurrentSpan();
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(
+                STARTUP_THREADS, new DaemonThreadFactory("startup"));
+        try {
+            Future<List<Rule>> rulesFuture = startupExecutor.submit(() -> prepareRules(parent));
+            Future<ExclusionParser> exclusionsFuture = startupExecutor.submit(() -> prepareExclusions(parent));
+            List<File> changeLogFiles = null;
+            ValidateChangeLogException changeLogFilesFailure = null;
+            if (!config.getChangeLogDirectories().isEmpty()
+                    && config.getChangeLogMasterFile() == null
+                    && config.getPipelineThreads() == 0) {
+                try {
+                    changeLogFiles = prepareChangeLogFiles(parent);
+                } catch (ValidateChangeLogException e) {
+                    changeLogFilesFailure = e;
+                }
+            }
+            List<Rule> rules = await(rulesFuture);
+            ExclusionParser exclusionParser = await(exclusionsFuture);
+            if (changeLogFilesFailure != null) {
+                throw changeLogFilesFailure;
+            }
+
+            if (config.getChangeLogMasterFile() != null) {
+                validationErrors = validateIncludeGraph(rules, exclusionParser);
+            } else if (config.getChangeLogDirectories().isEmpty()) {
+                validationErrors = new ArrayList<>();
+            } else if (changeLogFiles == null) {
+                validationErrors = validateInPipeline(rules, exclusionParser);
+            } else {
+                validationErrors = validationManager.validate(
+                        changeLogFiles,
+                        rules,
+                        exclusionParser,
+                        config.getChangeLogFormat());
+            }
+            validationErrors.addAll(validateArchives(rules, exclusionParser));
+        } finally {
+            startupExecutor.shutdownNow();
+            shutdownChangeSetPool();
+        }
+        saveCaches();
+
+        if (config.getShouldGenerateMetrics()) {
+            metricsReporter.report(validationManager.getMetrics());
+        }
+
+        reportViolations(validationErrors);
+    }
 
+    /**
+     * Validate the given changeLog files instead of the files of the changeLog directory.
+     * <br>
+     * Violations are returned as they are: they are neither logged nor reported.
+     * Build tools validating changed files only use it and report violations of all files
+     * with {@link #reportViolations(List)}.
+     *
+     * @param changeLogFiles - changeLog files of the configured format.
+     * @return list of validation errors. Empty list if there are no errors.
+     * @throws ValidateChangeLogException - if rules or exclusions cannot be loaded.
+     */
+    public List<RuleValidationErrorDto> validateFiles(final List<File> changeLogFiles)
+            throws ValidateChangeLogException {
+        Span parent = tracer.getCurrentSpan();
+        List<RuleValidationErrorDto> validationErrors;
+        try {
+            List<Rule> rules = prepareRules(parent);
+            ExclusionParser exclusionParser = prepareExclusions(parent);
+            validationErrors =
+                    validationManager.validate(changeLogFiles, rules, exclusionParser, config.getChangeLogFormat());
+        } finally {
+            shutdownChangeSetPool();
+        }
+        saveCaches();
+        return validationErrors;
+    }
+
+    /**
+     * Log validation errors and generate exclusions if requested.
+     *
+     * @param validationErrors - list of validation errors.
+     * @throws ValidateChangeLogException - thrown if there are validation errors.
+     */
+    public void reportViolations(final List<RuleValidationErrorDto> validationErrors)
+            throws ValidateChangeLogException {
         try {
             checkValidationResult(validationErrors);
         } catch (ValidateChangeLogException e) {
@@ -75,6 +239,51 @@ public final class ValidateChangeLogService {
         }
     }
 
+    /**
+     * Get pool evaluating changeSets of large changeLogs.
+     *
+     * @return pool. Null if changeSets are evaluated one by one.
+     */
+    ForkJoinPool getChangeSetPool() {
+        return changeSetPool;
+    }
+
+    /**
+     * Shut down the pool evaluating changeSets of large changeLogs, so that no worker threads outlive the validation
+     * in long-lived JVMs: the daemon and watch mode create a service for every validation.
+     */
+    private void shutdownChangeSetPool() {
+        if (changeSetPool != null) {
+            changeSetPool.shutdown();
+        }
+    }
+
+    /**
+     * Wait for the startup task.
+     *
+     * @param future - startup task.
+     * @param <T>    - result type.
+     * @return result of the startup task.
+     * @throws ValidateChangeLogException - if the startup task fails.
+     */
+    private static <T> T await(final Future<T> future) throws ValidateChangeLogException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidateChangeLogException("Interrupted while loading rules and exclusions");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ValidateChangeLogException) {
+                throw (ValidateChangeLogException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
     /**
      * Check is validation errors exist. Log them if they do.
      *
@@ -98,19 +307,42 @@ public final class ValidateChangeLogService {
         throw new ValidateChangeLogException("Validation failed: " + validationErrors.size() + " violation(s) found.");
     }
 
+    /**
+     * Prepare validation rules. Unchanged rules are not parsed again.
+     *
+     * @return list of rules.
+     * @throws ValidateChangeLogException - if rule parsing fails.
+     */
+    List<Rule> prepareRules() throws ValidateChangeLogException {
+        return prepareRules(tracer.getCurrentSpan());
+    }
+
+    /**
+     * Prepare exclusions. Unchanged exclusions are not parsed again.
+     *
+     * @return instance of exclusion parser.
+     * @throws ValidateChangeLogException - if exclusions parsing fails.
+     */
+    ExclusionParser prepareExclusions() throws ValidateChangeLogException {
+        return prepareExclusions(tracer.getCurrentSpan());
+    }
+
     /**
      * Prepare validation rules.
      *
+     * @param parent - parent span.
      * @return list of rules.
      * @throws ValidateChangeLogException - if rule parsing fails.
      */
-    private List<Rule> prepareRules() throws ValidateChangeLogException {
-        try {
+    private List<Rule> prepareRules(final Span parent) throws ValidateChangeLogException {
+        try (Span span = tracer.startSpan(SpanNames.RULES_LOAD, parent)) {
             File rulesFile = config.getPathToRulesFile();
-            if (rulesFile == null) {
-                rulesFile = configApiGateway.getFile(config.getRulesFileUrl());
-            }
-            return RuleParser.parseRules(rulesFile);
+            span.setAttribute(SpanAttributes.SOURCE, rulesFile == null ? config.getRulesFileUrl() : rulesFile);
+            List<Rule> rules = rulesFile != null
+                    ? loadRules(rulesFile)
+                    : configApiGateway.read(config.getRulesFileUrl(), config.getRulesFileSha256(), this::loadRules);
+            span.setAttribute(SpanAttributes.COUNT, rules.size());
+            return rules;
         } catch (RuleParserException | ConfigApiGatewayException e) {
             logger.error("Error parsing rules file. Double-check the path to rules XML file "
                     + "provided in <pathToRulesFile> or <rulesFileUrl>. The sample file: "
@@ -123,16 +355,22 @@ public final class ValidateChangeLogService {
     /**
      * Prepare exclusions.
      *
+     * @param parent - parent span.
      * @return instance of exclusion parser.
      * @throws ValidateChangeLogException - if exclusions parsing fails.
      */
-    private ExclusionParser prepareExclusions() throws ValidateChangeLogException {
-        try {
+    private ExclusionParser prepareExclusions(final Span parent) throws ValidateChangeLogException {
+        try (Span span = tracer.startSpan(SpanNames.EXCLUSIONS_LOAD, parent)) {
             File exclusionsFile = config.getPathToExclusionsFile();
+            span.setAttribute(SpanAttributes.SOURCE,
+                    exclusionsFile == null ? config.getExclusionsFileUrl() : exclusionsFile);
             if (exclusionsFile == null && config.getExclusionsFileUrl() != null) {
-                exclusionsFile = configApiGateway.getFile(config.getExclusionsFileUrl());
+                return configApiGateway.read(
+                        config.getExclusionsFileUrl(),
+                        config.getExclusionsFileSha256(),
+                        this::loadExclusions);
             }
-            return ExclusionParser.parseExclusions(exclusionsFile);
+            return loadExclusions(exclusionsFile);
         } catch (ExclusionParserException | ConfigApiGatewayException e) {
             logger.error("Error parsing exclusions file. Double-check the path to exclusions XML file "
                     + "provided in <pathToExclusionsFile> or <exclusionsFileUrl>. The sample file: "
@@ -143,20 +381,247 @@ public final class ValidateChangeLogService {
     }
 
     /**
-     * Collect changeLog files to validate.
+     * Load rules from the rules file.
      *
-     * @param changeLogFormatEnum - changeLog format.
-     * @return list of changeLog files.
+     * @param rulesFile - rules file.
+     * @return list of rules.
+     * @throws RuleParserException - if the file cannot be read or parsed.
+     */
+    private List<Rule> loadRules(final File rulesFile) {
+        try (InputStream content = new FileInputStream(rulesFile)) {
+            return loadRules(content, rulesFile.toURI().toString());
+        } catch (IOException e) {
+            throw new RuleParserException(RULES_ERROR + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Load rules from the rules content, parsing it only if it is not in the shared registry yet.
+     *
+     * @param content  - rules content.
+     * @param systemId - system id of the content.
+     * @return list of rules.
+     * @throws RuleParserException - if the content cannot be read or parsed.
+     */
+    private List<Rule> loadRules(final InputStream content,
+                                 final String systemId) {
+        byte[] bytes;
+        try {
+            bytes = content.readAllBytes();
+        } catch (IOException e) {
+            throw new RuleParserException(RULES_ERROR + e.getMessage(), e);
+        }
+        return SharedConfigRegistry.RULES.get(config.getPluginVersion(), bytes, () -> compiledRulesCache == null
+                ? RuleParser.parseRules(new ByteArrayInputStream(bytes), systemId)
+                : compiledRulesCache.parseRules(new ByteArrayInputStream(bytes), systemId));
+    }
+
+    /**
+     * Load exclusions from the exclusions file.
+     *
+     * @param exclusionsFile - exclusions file. Null if there are no exclusions.
+     * @return instance of exclusion parser.
+     * @throws ExclusionParserException - if the file cannot be read or parsed.
+     */
+    private ExclusionParser loadExclusions(final File exclusionsFile) throws ExclusionParserException {
+        if (exclusionsFile == null) {
+            return ExclusionParser.parseExclusions(exclusionsFile);
+        }
+        try (InputStream content = new FileInputStream(exclusionsFile)) {
+            return loadExclusions(content, exclusionsFile.getPath());
+        } catch (IOException e) {
+            throw new ExclusionParserException(EXCLUSIONS_ERROR);
+        }
+    }
+
+    /**
+     * Load exclusions from the exclusions content, parsing it only if it is not in the shared registry yet.
+     *
+     * @param content - exclusions content.
+     * @param source  - exclusions source.
+     * @return instance of exclusion parser.
+     * @throws ExclusionParserException - if the content cannot be read or parsed.
+     */
+    private ExclusionParser loadExclusions(final InputStream content,
+                                           final String source) throws ExclusionParserException {
+        byte[] bytes;
+        try {
+            bytes = content.readAllBytes();
+        } catch (IOException e) {
+            throw new ExclusionParserException(EXCLUSIONS_ERROR);
+        }
+        return SharedConfigRegistry.EXCLUSIONS.get(config.getPluginVersion(), bytes,
+                () -> ExclusionParser.parseExclusions(new ByteArrayInputStream(bytes), source));
+    }
+
+    /**
+     * Walk the changeLog directories and validate the files in the staged pipeline.
+     *
+     * @param rules           - rules.
+     * @param exclusionParser - exclusions.
+     * @return list of validation errors.
      * @throws ValidateChangeLogException - if changeLog collection fails.
      */
-    private List<File> prepareChangeLogFiles(final ChangeLogFormatEnum changeLogFormatEnum)
+    private List<RuleValidationErrorDto> validateInPipeline(final List<Rule> rules,
+                                                            final ExclusionParser exclusionParser)
+            throws ValidateChangeLogException {
+        ValidationPipeline pipeline = new ValidationPipeline(validationManager, tracer, config.getPipelineThreads());
+        try {
+            return pipeline.validate(
+                    config.getChangeLogDirectories(),
+                    config.getChangeLogFormats(),
+                    config.getChangeLogIgnore(),
+                    rules,
+                    exclusionParser);
+        } catch (ChangeLogCollectorException e) {
+            logChangeLogCollectionError(e);
+            throw new ValidateChangeLogException(e.getMessage());
+        }
+    }
+
+    /**
+     * Validate the master changeLog and the changeLog files it includes.
+     * <br>
+     * Includes that are not relative to the changeLog file are resolved against the changeLog directory,
+     * or against the directory of the master changeLog if the changeLog directory is not set.
+     *
+     * @param rules           - rules.
+     * @param exclusionParser - exclusions.
+     * @return list of validation errors.
+     * @throws ValidateChangeLogException - if the master changeLog or an included directory cannot be read.
+     */
+    private List<RuleValidationErrorDto> validateIncludeGraph(final List<Rule> rules,
+                                                              final ExclusionParser exclusionParser)
+            throws ValidateChangeLogException {
+        File masterFile = config.getChangeLogMasterFile().getAbsoluteFile();
+        File searchPath = config.getChangeLogDirectory() == null
+                ? masterFile.getParentFile()
+                : config.getChangeLogDirectory();
+        try {
+            return new IncludeGraphValidator(validationManager, tracer, workerThreads())
+                    .validate(masterFile.toPath(),
+                            searchPath.toPath(),
+                            config.getChangeLogFormats(),
+                            rules,
+                            exclusionParser);
+        } catch (ChangeLogCollectorException e) {
+            logger.error("Error reading included changeLog files. Double-check the master changeLog "
+                    + "provided in <changeLogMasterFile> and its include and includeAll elements", e);
+            throw new ValidateChangeLogException(e.getMessage());
+        }
+    }
+
+    /**
+     * Get number of worker threads: the pipeline threads, or one thread per CPU if the pipeline is disabled.
+     *
+     * @return number of worker threads.
+     */
+    private int workerThreads() {
+        return config.getPipelineThreads() > 0
+                ? config.getPipelineThreads()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Validate changeLog files of the archives without extracting them.
+     * <br>
+     * Archives are validated concurrently by the worker threads.
+     *
+     * @param rules           - rules.
+     * @param exclusionParser - exclusions.
+     * @return list of validation errors. Empty list if there are no archives.
+     * @throws ValidateChangeLogException - if an archive cannot be read.
+     */
+    private List<RuleValidationErrorDto> validateArchives(final List<Rule> rules,
+                                                          final ExclusionParser exclusionParser)
             throws ValidateChangeLogException {
+        List<File> archives = config.getChangeLogArchives();
+        if (archives.isEmpty()) {
+            return new ArrayList<>();
+        }
         try {
-            return ChangeLogFilesCollector.collectChangeLogFiles(config.getChangeLogDirectory(), changeLogFormatEnum);
+            List<RuleValidationErrorDto> validationErrors =
+                    new ArchiveValidator(validationManager, tracer, workerThreads())
+                    .validate(archives,
+                            config.getChangeLogArchiveDirectory(),
+                            config.getChangeLogFormats(),
+                            rules,
+                            exclusionParser);
+            logger.info("Validated changeLog files of " + archives.size() + " archive(s)");
+            return validationErrors;
+        } catch (ChangeLogCollectorException e) {
+            logger.error("Error reading changeLog archive. Double-check the archives provided in "
+                    + "<changeLogArchives> or <changeLogArtifacts> and the directory provided in "
+                    + "<changeLogArchiveDirectory>", e);
+            throw new ValidateChangeLogException(e.getMessage());
+        }
+    }
+
+    /**
+     * Collect changeLog files of all changeLog directories and formats to validate.
+     *
+     * @param parent - parent span.
+     * @return list of changeLog files.
+     * @throws ValidateChangeLogException - if changeLog collection fails.
+     */
+    private List<File> prepareChangeLogFiles(final Span parent)
+            throws ValidateChangeLogException {
+        try (Span span = tracer.startSpan(SpanNames.CHANGELOG_COLLECT, parent)) {
+            span.setAttribute(SpanAttributes.FILE_PATH, config.getChangeLogDirectories());
+            List<File> changeLogFiles = ChangeLogFilesCollector.collectChangeLogFiles(
+                    config.getChangeLogDirectories(), config.getChangeLogFormats(), config.getChangeLogIgnore());
+            span.setAttribute(SpanAttributes.COUNT, changeLogFiles.size());
+            return changeLogFiles;
         } catch (ChangeLogCollectorException e) {
-            logger.error("Error changeLog files. Double-check the changeLog directory "
-                    + "provided in <changeLogDirectory> and changeLog format provided in <changeLogFormat>", e);
+            logChangeLogCollectionError(e);
             throw new ValidateChangeLogException(e.getMessage());
         }
     }
+
+    /**
+     * Get name of the file that keeps changeSet results of the execution between builds.
+     * <br>
+     * Every set of changeLog locations has its own results file, so modules sharing the cache directory
+     * do not overwrite results of each other.
+     *
+     * @param config - configuration.
+     * @return results file name.
+     */
+    private static String changeSetResultsFileName(final PluginConfig config) {
+        StringBuilder locations = new StringBuilder();
+        for (File directory : config.getChangeLogDirectories()) {
+            locations.append(directory.getAbsolutePath()).append('\n');
+        }
+        if (config.getChangeLogMasterFile() != null) {
+            locations.append(config.getChangeLogMasterFile().getAbsolutePath()).append('\n');
+        }
+        for (File archive : config.getChangeLogArchives()) {
+            locations.append(archive.getAbsolutePath()).append('\n');
+        }
+        return HashUtil.sha256Hex(locations.toString().getBytes(StandardCharsets.UTF_8))
+                + ChangeSetResultCache.RESULTS_EXTENSION;
+    }
+
+    /**
+     * Log changeLog collection error.
+     *
+     * @param e - collection exception.
+     */
+    private void logChangeLogCollectionError(final ChangeLogCollectorException e) {
+        logger.error("Error changeLog files. Double-check the changeLog directories "
+                + "provided in <changeLogDirectory> or <changeLogDirectories> and changeLog formats "
+                + "provided in <changeLogFormat> or <changeLogFormats>", e);
+    }
+
+    /**
+     * Write changeSet results and the changeLog tag index for the next execution.
+     */
+    private void saveCaches() {
+        if (changeSetResultCache != null) {
+            changeSetResultCache.save();
+        }
+        if (parsedChangeLogCache != null) {
+            parsedChangeLogCache.save();
+        }
+    }
 }
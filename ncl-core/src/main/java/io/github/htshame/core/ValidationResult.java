@@ -0,0 +1,90 @@
+package io.github.htshame.core;
+
+import io.github.htshame.dto.RuleValidationErrorDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a {@link ValidationSession} validation.
+ * <br>
+ * Violations are kept in the order the changeLog files were given.
+ */
+public final class ValidationResult {
+
+    private final int validatedFileCount;
+    private final List<RuleValidationErrorDto> violations;
+
+    /**
+     * Constructor.
+     *
+     * @param validatedFileCount - number of validated changeLog files.
+     * @param violations         - violations.
+     */
+    ValidationResult(final int validatedFileCount,
+                     final List<RuleValidationErrorDto> violations) {
+        this.validatedFileCount = validatedFileCount;
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Check whether the changeLog files passed validation.
+     *
+     * @return true if there are no violations.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Get number of validated changeLog files.
+     *
+     * @return number of validated changeLog files.
+     */
+    public int getValidatedFileCount() {
+        return validatedFileCount;
+    }
+
+    /**
+     * Get violations.
+     *
+     * @return unmodifiable list of violations. Empty list if there are no violations.
+     */
+    public List<RuleValidationErrorDto> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Get violations mapped by changeLog file name.
+     * <br>
+     * Failures to read or parse a changeLog file carry no file name and are mapped by null.
+     *
+     * @return violations mapped by changeLog file name, in the order of the violations.
+     */
+    public Map<String, List<RuleValidationErrorDto>> getViolationsByFile() {
+        Map<String, List<RuleValidationErrorDto>> violationsByFile = new LinkedHashMap<>();
+        for (RuleValidationErrorDto violation : violations) {
+            violationsByFile.computeIfAbsent(violation.getChangeLogFileName(), key -> new ArrayList<>())
+                    .add(violation);
+        }
+        return violationsByFile;
+    }
+
+    /**
+     * Get human-readable messages of the violations, as they are logged by the plugin.
+     *
+     * @return list of messages.
+     */
+    public List<String> getMessages() {
+        List<String> messages = new ArrayList<>(violations.size());
+        for (RuleValidationErrorDto violation : violations) {
+            messages.add(violation.getErrorMessage() == null
+                    ? violation.getGenericMessage()
+                    : violation.getErrorMessage());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,297 @@
+package io.github.htshame.core;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.exception.ExclusionParserException;
+import io.github.htshame.exception.RuleParserException;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.metrics.ValidationMetrics;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.validator.ValidationManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validation session for embedding the validation into applications and tests.
+ * <br>
+ * Rules and exclusions are parsed once when the session is built, and rule validators are created once
+ * per set of rules left after exclusions, so every validation only parses and evaluates changeLog files.
+ * Nothing is logged, reported or written. The session is immutable and thread-safe:
+ * a single session may be shared by any number of threads for any number of validations.
+ * <pre>
+ * ValidationSession session = ValidationSession.builder()
+ *         .changeLogFormat("xml")
+ *         .rulesFileUrl(getClass().getResource("/rules.xml"))
+ *         .build();
+ * ValidationResult result = session.validateDirectory(new File("src/main/resources/db/changelog"));
+ * </pre>
+ */
+public final class ValidationSession {
+
+    private final ChangeLogFormatEnum changeLogFormat;
+    private final List<Rule> rules;
+    private final ExclusionParser exclusionParser;
+    private final ValidationManager validationManager;
+
+    /**
+     * Private constructor used by the Builder.
+     *
+     * @param changeLogFormat - changeLog format.
+     * @param rules           - rules.
+     * @param exclusionParser - exclusions.
+     */
+    private ValidationSession(final ChangeLogFormatEnum changeLogFormat,
+                              final List<Rule> rules,
+                              final ExclusionParser exclusionParser) {
+        this.changeLogFormat = changeLogFormat;
+        this.rules = Collections.unmodifiableList(rules);
+        this.exclusionParser = exclusionParser;
+        this.validationManager = new ValidationManager(ValidationMetrics.disabled(), Tracer.disabled(), true);
+    }
+
+    /**
+     * Create a new builder instance.
+     *
+     * @return builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validate changeLog file.
+     *
+     * @param changeLogFile - changeLog file of the session format.
+     * @return validation result. Failure to read or parse the file is a violation.
+     */
+    public ValidationResult validate(final File changeLogFile) {
+        return validate(Collections.singletonList(changeLogFile));
+    }
+
+    /**
+     * Validate changeLog files.
+     *
+     * @param changeLogFiles - changeLog files of the session format.
+     * @return validation result. Failure to read or parse a file is a violation.
+     */
+    public ValidationResult validate(final Collection<File> changeLogFiles) {
+        List<ChangeLogSource> sources = new ArrayList<>(changeLogFiles.size());
+        for (File changeLogFile : changeLogFiles) {
+            sources.add(ChangeLogSource.of(changeLogFile));
+        }
+        return validateSources(sources);
+    }
+
+    /**
+     * Validate changeLog source, e.g. a file inside a zip file or content held in memory.
+     *
+     * @param source - changeLog source of the session format.
+     * @return validation result. Failure to read or parse the source is a violation.
+     */
+    public ValidationResult validate(final ChangeLogSource source) {
+        return validateSources(Collections.singletonList(source));
+    }
+
+    /**
+     * Validate changeLog sources.
+     *
+     * @param sources - changeLog sources of the session format.
+     * @return validation result. Failure to read or parse a source is a violation.
+     */
+    public ValidationResult validateSources(final Collection<ChangeLogSource> sources) {
+        List<RuleValidationErrorDto> violations = new ArrayList<>();
+        for (ChangeLogSource source : sources) {
+            violations.addAll(validationManager.evaluate(
+                    validationManager.parse(source, changeLogFormat), rules, exclusionParser));
+        }
+        return new ValidationResult(sources.size(), violations);
+    }
+
+    /**
+     * Validate all changeLog files of the session format in the directory and its subdirectories.
+     *
+     * @param changeLogDirectory - changeLog directory.
+     * @return validation result.
+     * @throws ValidateChangeLogException - thrown if the directory cannot be walked.
+     */
+    public ValidationResult validateDirectory(final File changeLogDirectory) throws ValidateChangeLogException {
+        return validateDirectory(changeLogDirectory.toPath());
+    }
+
+    /**
+     * Validate all changeLog files of the session format in the directory of any file system and its subdirectories.
+     *
+     * @param changeLogDirectory - changeLog directory, e.g. a directory inside a zip file.
+     * @return validation result.
+     * @throws ValidateChangeLogException - thrown if the directory cannot be walked.
+     */
+    public ValidationResult validateDirectory(final Path changeLogDirectory) throws ValidateChangeLogException {
+        try {
+            return validateSources(
+                    ChangeLogFilesCollector.collectChangeLogSources(changeLogDirectory, changeLogFormat));
+        } catch (ChangeLogCollectorException e) {
+            throw new ValidateChangeLogException(e.getMessage());
+        }
+    }
+
+    /**
+     * Get changeLog format of the session.
+     *
+     * @return changeLog format.
+     */
+    public ChangeLogFormatEnum getChangeLogFormat() {
+        return changeLogFormat;
+    }
+
+    /**
+     * Get rules of the session.
+     *
+     * @return unmodifiable list of rules.
+     */
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Builder for {@link ValidationSession}.
+     */
+    public static final class Builder {
+
+        private ChangeLogFormatEnum changeLogFormatBuilder = ChangeLogFormatEnum.XML;
+        private File pathToRulesFileBuilder;
+        private URL rulesFileUrlBuilder;
+        private File pathToExclusionsFileBuilder;
+        private URL exclusionsFileUrlBuilder;
+
+        /**
+         * Private constructor.
+         */
+        private Builder() {
+
+        }
+
+        /**
+         * Set changeLog format. Default value is <code>xml</code>.
+         *
+         * @param changeLogFormat - changeLog format.
+         * @return builder instance.
+         */
+        public Builder changeLogFormat(final String changeLogFormat) {
+            this.changeLogFormatBuilder = ChangeLogFormatEnum.fromValue(changeLogFormat.toLowerCase());
+            return this;
+        }
+
+        /**
+         * Set path to rules file.
+         *
+         * @param pathToRulesFile - path to rules file.
+         * @return builder instance.
+         */
+        public Builder pathToRulesFile(final File pathToRulesFile) {
+            this.pathToRulesFileBuilder = pathToRulesFile;
+            return this;
+        }
+
+        /**
+         * Set URL of rules file, e.g. a classpath resource. Used if the path to rules file is not set.
+         *
+         * @param rulesFileUrl - URL of rules file.
+         * @return builder instance.
+         */
+        public Builder rulesFileUrl(final URL rulesFileUrl) {
+            this.rulesFileUrlBuilder = rulesFileUrl;
+            return this;
+        }
+
+        /**
+         * Set path to exclusions file.
+         *
+         * @param pathToExclusionsFile - path to exclusions file.
+         * @return builder instance.
+         */
+        public Builder pathToExclusionsFile(final File pathToExclusionsFile) {
+            this.pathToExclusionsFileBuilder = pathToExclusionsFile;
+            return this;
+        }
+
+        /**
+         * Set URL of exclusions file, e.g. a classpath resource. Used if the path to exclusions file is not set.
+         *
+         * @param exclusionsFileUrl - URL of exclusions file.
+         * @return builder instance.
+         */
+        public Builder exclusionsFileUrl(final URL exclusionsFileUrl) {
+            this.exclusionsFileUrlBuilder = exclusionsFileUrl;
+            return this;
+        }
+
+        /**
+         * Parse rules and exclusions and build the session.
+         *
+         * @return validation session.
+         * @throws ValidateChangeLogException - thrown if rules are not set or rules or exclusions cannot be parsed.
+         */
+        public ValidationSession build() throws ValidateChangeLogException {
+            if (pathToRulesFileBuilder == null && rulesFileUrlBuilder == null) {
+                throw new ValidateChangeLogException("Either path to rules file or rules file URL must be set");
+            }
+            return new ValidationSession(changeLogFormatBuilder, parseRules(), parseExclusions());
+        }
+
+        /**
+         * Parse rules.
+         *
+         * @return list of rules.
+         * @throws ValidateChangeLogException - thrown if rules cannot be parsed.
+         */
+        private List<Rule> parseRules() throws ValidateChangeLogException {
+            if (pathToRulesFileBuilder != null) {
+                try {
+                    return RuleParser.parseRules(pathToRulesFileBuilder);
+                } catch (RuleParserException e) {
+                    throw new ValidateChangeLogException(e.getMessage());
+                }
+            }
+            try (InputStream content = rulesFileUrlBuilder.openStream()) {
+                return RuleParser.parseRules(content, rulesFileUrlBuilder.toString());
+            } catch (RuleParserException e) {
+                throw new ValidateChangeLogException(e.getMessage());
+            } catch (IOException e) {
+                throw new ValidateChangeLogException("Error parsing ruleset XML file. Message: " + e.getMessage());
+            }
+        }
+
+        /**
+         * Parse exclusions.
+         *
+         * @return instance of exclusion parser. Empty if no exclusions are set.
+         * @throws ValidateChangeLogException - thrown if exclusions cannot be parsed.
+         */
+        private ExclusionParser parseExclusions() throws ValidateChangeLogException {
+            try {
+                if (pathToExclusionsFileBuilder == null && exclusionsFileUrlBuilder != null) {
+                    try (InputStream content = exclusionsFileUrlBuilder.openStream()) {
+                        return ExclusionParser.parseExclusions(content, exclusionsFileUrlBuilder.toString());
+                    }
+                }
+                return ExclusionParser.parseExclusions(pathToExclusionsFileBuilder);
+            } catch (IOException | ExclusionParserException e) {
+                throw new ValidateChangeLogException("Error parsing exclusion XML file");
+            }
+        }
+    }
+}
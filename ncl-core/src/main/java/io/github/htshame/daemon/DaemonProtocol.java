@@ -0,0 +1,280 @@
+package io.github.htshame.daemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.enums.PluginTypeEnum;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wire format of the validation daemon.
+ * <br>
+ * Every message is a JSON object on its own line. A client sends one request per connection:
+ * <code>validate</code> with the plugin configuration or <code>shutdown</code>. For <code>validate</code>
+ * the daemon answers with <code>log</code> messages followed by one <code>result</code> message.
+ */
+final class DaemonProtocol {
+
+    /**
+     * Message type field.
+     */
+    static final String TYPE = "type";
+
+    /**
+     * Daemon token field.
+     */
+    static final String TOKEN = "token";
+
+    /**
+     * Plugin configuration field.
+     */
+    static final String CONFIG = "config";
+
+    /**
+     * Log level field.
+     */
+    static final String LEVEL = "level";
+
+    /**
+     * Log message field.
+     */
+    static final String MESSAGE = "message";
+
+    /**
+     * Exception field of an error log message.
+     */
+    static final String EXCEPTION = "exception";
+
+    /**
+     * Failure message field of the result.
+     */
+    static final String FAILURE = "failure";
+
+    /**
+     * Validation request type.
+     */
+    static final String VALIDATE = "validate";
+
+    /**
+     * Shutdown request type.
+     */
+    static final String SHUTDOWN = "shutdown";
+
+    /**
+     * Log message type.
+     */
+    static final String LOG = "log";
+
+    /**
+     * Result message type.
+     */
+    static final String RESULT = "result";
+
+    /**
+     * Info log level.
+     */
+    static final String INFO = "info";
+
+    /**
+     * Warn log level.
+     */
+    static final String WARN = "warn";
+
+    /**
+     * Error log level.
+     */
+    static final String ERROR = "error";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Private constructor.
+     */
+    private DaemonProtocol() {
+
+    }
+
+    /**
+     * Create message of the given type.
+     *
+     * @param type - message type.
+     * @return message.
+     */
+    static ObjectNode message(final String type) {
+        return MAPPER.createObjectNode().put(TYPE, type);
+    }
+
+    /**
+     * Write message as a single line and flush it.
+     *
+     * @param writer  - writer.
+     * @param message - message.
+     * @throws IOException - thrown if writing fails.
+     */
+    static void write(final Writer writer,
+                      final JsonNode message) throws IOException {
+        writer.write(MAPPER.writeValueAsString(message));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Read next message.
+     *
+     * @param reader - reader.
+     * @return message. Null if the connection is closed.
+     * @throws IOException - thrown if reading fails or the message is not JSON.
+     */
+    static JsonNode read(final BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        return line == null ? null : MAPPER.readTree(line);
+    }
+
+    /**
+     * Convert plugin configuration to JSON. Paths are made absolute, since the daemon has its own working directory.
+     *
+     * @param config - plugin configuration.
+     * @return JSON configuration.
+     */
+    static ObjectNode toJson(final PluginConfig config) {
+        ObjectNode json = MAPPER.createObjectNode();
+        json.put("changeLogFormat", config.getChangeLogFormat().getValue());
+        ArrayNode changeLogFormats = json.putArray("changeLogFormats");
+        for (ChangeLogFormatEnum changeLogFormat : config.getChangeLogFormats()) {
+            changeLogFormats.add(changeLogFormat.getValue());
+        }
+        json.put("pathToRulesFile", path(config.getPathToRulesFile()));
+        json.put("rulesFileUrl", url(config.getRulesFileUrl()));
+        json.put("rulesFileSha256", config.getRulesFileSha256());
+        json.put("pathToExclusionsFile", path(config.getPathToExclusionsFile()));
+        json.put("exclusionsFileUrl", url(config.getExclusionsFileUrl()));
+        json.put("exclusionsFileSha256", config.getExclusionsFileSha256());
+        json.put("configCacheDirectory", path(config.getConfigCacheDirectory()));
+        json.put("configCacheTtlSeconds", config.getConfigCacheTtlSeconds());
+        json.put("compiledRulesCacheDirectory", path(config.getCompiledRulesCacheDirectory()));
+        json.put("changeSetResultCacheDirectory", path(config.getChangeSetResultCacheDirectory()));
+        json.put("parsedChangeLogCacheDirectory", path(config.getParsedChangeLogCacheDirectory()));
+        json.put("changeLogDirectory", path(config.getChangeLogDirectory()));
+        ArrayNode changeLogDirectories = json.putArray("changeLogDirectories");
+        for (File changeLogDirectory : config.getChangeLogDirectories()) {
+            changeLogDirectories.add(path(changeLogDirectory));
+        }
+        json.put("changeLogMasterFile", path(config.getChangeLogMasterFile()));
+        ArrayNode changeLogArchives = json.putArray("changeLogArchives");
+        for (File changeLogArchive : config.getChangeLogArchives()) {
+            changeLogArchives.add(path(changeLogArchive));
+        }
+        json.put("changeLogArchiveDirectory", config.getChangeLogArchiveDirectory());
+        ArrayNode changeLogIgnorePatterns = json.putArray("changeLogIgnorePatterns");
+        for (String changeLogIgnorePattern : config.getChangeLogIgnore().getPatterns()) {
+            changeLogIgnorePatterns.add(changeLogIgnorePattern);
+        }
+        json.put("changeLogIgnoreFile", config.getChangeLogIgnore().getIgnoreFileName());
+        json.put("shouldGenerateExclusions", config.getShouldGenerateExclusions());
+        json.put("pluginVersion", config.getPluginVersion());
+        json.put("pluginType", config.getPluginType() == null ? null : config.getPluginType().name());
+        json.put("shouldGenerateMetrics", config.getShouldGenerateMetrics());
+        json.put("shouldGenerateTrace", config.getShouldGenerateTrace());
+        json.put("pipelineThreads", config.getPipelineThreads());
+        json.put("changeSetThreads", config.getChangeSetThreads());
+        json.put("outputDirectory", path(config.getOutputDirectory()));
+        return json;
+    }
+
+    /**
+     * Convert JSON configuration to plugin configuration.
+     *
+     * @param json - JSON configuration.
+     * @return plugin configuration.
+     * @throws MalformedURLException - thrown if a config file URL is malformed.
+     */
+    static PluginConfig fromJson(final JsonNode json) throws MalformedURLException {
+        String pluginType = text(json, "pluginType");
+        List<String> changeLogFormats = new ArrayList<>();
+        for (JsonNode changeLogFormat : json.path("changeLogFormats")) {
+            changeLogFormats.add(changeLogFormat.asText());
+        }
+        List<File> changeLogDirectories = new ArrayList<>();
+        for (JsonNode changeLogDirectory : json.path("changeLogDirectories")) {
+            changeLogDirectories.add(new File(changeLogDirectory.asText()));
+        }
+        List<File> changeLogArchives = new ArrayList<>();
+        for (JsonNode changeLogArchive : json.path("changeLogArchives")) {
+            changeLogArchives.add(new File(changeLogArchive.asText()));
+        }
+        List<String> changeLogIgnorePatterns = new ArrayList<>();
+        for (JsonNode changeLogIgnorePattern : json.path("changeLogIgnorePatterns")) {
+            changeLogIgnorePatterns.add(changeLogIgnorePattern.asText());
+        }
+        return PluginConfig.builder()
+                .changeLogFormat(text(json, "changeLogFormat"))
+                .changeLogFormats(changeLogFormats)
+                .pathToRulesFile(file(text(json, "pathToRulesFile")))
+                .rulesFileUrl(url(text(json, "rulesFileUrl")))
+                .rulesFileSha256(text(json, "rulesFileSha256"))
+                .pathToExclusionsFile(file(text(json, "pathToExclusionsFile")))
+                .exclusionsFileUrl(url(text(json, "exclusionsFileUrl")))
+                .exclusionsFileSha256(text(json, "exclusionsFileSha256"))
+                .configCacheDirectory(file(text(json, "configCacheDirectory")))
+                .configCacheTtlSeconds(json.path("configCacheTtlSeconds").asLong())
+                .compiledRulesCacheDirectory(file(text(json, "compiledRulesCacheDirectory")))
+                .changeSetResultCacheDirectory(file(text(json, "changeSetResultCacheDirectory")))
+                .parsedChangeLogCacheDirectory(file(text(json, "parsedChangeLogCacheDirectory")))
+                .changeLogDirectory(file(text(json, "changeLogDirectory")))
+                .changeLogDirectories(changeLogDirectories)
+                .changeLogMasterFile(file(text(json, "changeLogMasterFile")))
+                .changeLogArchives(changeLogArchives)
+                .changeLogArchiveDirectory(text(json, "changeLogArchiveDirectory"))
+                .changeLogIgnorePatterns(changeLogIgnorePatterns)
+                .changeLogIgnoreFile(text(json, "changeLogIgnoreFile"))
+                .shouldGenerateExclusions(json.path("shouldGenerateExclusions").asBoolean())
+                .pluginVersion(text(json, "pluginVersion"))
+                .pluginType(pluginType == null ? null : PluginTypeEnum.valueOf(pluginType))
+                .shouldGenerateMetrics(json.path("shouldGenerateMetrics").asBoolean())
+                .shouldGenerateTrace(json.path("shouldGenerateTrace").asBoolean())
+                .pipelineThreads(json.path("pipelineThreads").asInt())
+                .changeSetThreads(json.path("changeSetThreads").asInt())
+                .outputDirectory(file(text(json, "outputDirectory")))
+                .build();
+    }
+
+    /**
+     * Get text field.
+     *
+     * @param json  - JSON object.
+     * @param field - field name.
+     * @return field value. Null if the field is missing or null.
+     */
+    static String text(final JsonNode json,
+                       final String field) {
+        JsonNode value = json.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String path(final File file) {
+        return file == null ? null : file.getAbsolutePath();
+    }
+
+    private static File file(final String path) {
+        return path == null ? null : new File(path);
+    }
+
+    private static String url(final URL url) {
+        return url == null ? null : url.toString();
+    }
+
+    private static URL url(final String url) throws MalformedURLException {
+        return url == null ? null : new URL(url);
+    }
+}
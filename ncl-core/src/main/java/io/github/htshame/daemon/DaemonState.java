@@ -0,0 +1,137 @@
+package io.github.htshame.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Properties;
+
+/**
+ * State file of a running validation daemon: how to reach it and what it was started for.
+ * <br>
+ * The file is readable by its owner only where the file system supports it,
+ * since the token authorizes requests to the daemon.
+ */
+final class DaemonState {
+
+    private static final String PORT_KEY = "port";
+    private static final String TOKEN_KEY = "token";
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String PID_KEY = "pid";
+
+    private final int port;
+    private final String token;
+    private final String fingerprint;
+    private final long pid;
+
+    /**
+     * Constructor.
+     *
+     * @param port        - daemon port on the loopback interface.
+     * @param token       - token authorizing requests.
+     * @param fingerprint - fingerprint of the plugin version, classpath and daemon settings.
+     * @param pid         - daemon process id.
+     */
+    DaemonState(final int port,
+                final String token,
+                final String fingerprint,
+                final long pid) {
+        this.port = port;
+        this.token = token;
+        this.fingerprint = fingerprint;
+        this.pid = pid;
+    }
+
+    /**
+     * Read state file.
+     *
+     * @param stateFile - state file.
+     * @return daemon state. Null if there is no state file or it cannot be read.
+     */
+    static DaemonState read(final Path stateFile) {
+        if (!Files.isRegularFile(stateFile)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(stateFile)) {
+            Properties properties = new Properties();
+            properties.load(in);
+            return new DaemonState(
+                    Integer.parseInt(properties.getProperty(PORT_KEY)),
+                    properties.getProperty(TOKEN_KEY),
+                    properties.getProperty(FINGERPRINT_KEY),
+                    Long.parseLong(properties.getProperty(PID_KEY)));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Write state file. The file is written next to its final location first and then moved in place.
+     *
+     * @param stateFile - state file.
+     * @throws IOException - thrown if the file cannot be written.
+     */
+    void write(final Path stateFile) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(PORT_KEY, String.valueOf(port));
+        properties.setProperty(TOKEN_KEY, token);
+        properties.setProperty(FINGERPRINT_KEY, fingerprint);
+        properties.setProperty(PID_KEY, String.valueOf(pid));
+        Files.createDirectories(stateFile.getParent());
+        Path temp = Files.createTempFile(stateFile.getParent(), "daemon", ".tmp");
+        try {
+            Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            temp.toFile().setReadable(false, false);
+            temp.toFile().setReadable(true, true);
+        }
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "naming-convention-liquibase validation daemon");
+        }
+        try {
+            Files.move(temp, stateFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Get daemon port.
+     *
+     * @return port.
+     */
+    int getPort() {
+        return port;
+    }
+
+    /**
+     * Get token.
+     *
+     * @return token.
+     */
+    String getToken() {
+        return token;
+    }
+
+    /**
+     * Get fingerprint of the plugin version, classpath and daemon settings.
+     *
+     * @return fingerprint.
+     */
+    String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Get daemon process id.
+     *
+     * @return process id.
+     */
+    long getPid() {
+        return pid;
+    }
+}
@@ -0,0 +1,301 @@
+package io.github.htshame.daemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.htshame.core.ValidateChangeLogService;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.log.PluginLogger;
+import io.github.htshame.util.DaemonThreadFactory;
+import io.github.htshame.util.HashUtil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Long-lived validation daemon.
+ * <br>
+ * The daemon listens on the loopback interface and runs {@link ValidateChangeLogService} for
+ * the requests of {@link ValidationDaemonClient}. Parsed rules and exclusions, parser pools and
+ * JIT-compiled code stay warm between builds. The port and the token authorizing requests
+ * are published in the state file. The daemon stops when it has been idle for the idle timeout
+ * or on a <code>shutdown</code> request.
+ */
+public final class ValidationDaemon implements Closeable {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int BACKLOG = 50;
+    private static final long IDLE_CHECK_MILLIS = 1000L;
+    private static final int STATE_FILE_ARG = 0;
+    private static final int FINGERPRINT_ARG = 1;
+    private static final int IDLE_TIMEOUT_ARG = 2;
+    private static final int ARG_COUNT = 3;
+
+    private final Path stateFile;
+    private final String token;
+    private final long idleTimeoutMillis;
+    private final ServerSocket serverSocket;
+    private final ExecutorService requestExecutor;
+    private final ScheduledExecutorService idleMonitor;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile long lastActivityMillis = System.currentTimeMillis();
+
+    private ValidationDaemon(final Path stateFile,
+                             final long idleTimeoutSeconds) throws IOException {
+        this.stateFile = stateFile;
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(idleTimeoutSeconds);
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        this.token = HashUtil.toHex(tokenBytes);
+        this.serverSocket = new ServerSocket(0, BACKLOG, InetAddress.getLoopbackAddress());
+        this.requestExecutor = Executors.newCachedThreadPool(new DaemonThreadFactory("daemon-request"));
+        this.idleMonitor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("daemon-idle"));
+    }
+
+    /**
+     * Start daemon and publish its state file.
+     *
+     * @param stateFile          - state file.
+     * @param fingerprint        - fingerprint of the plugin version, classpath and daemon settings.
+     * @param idleTimeoutSeconds - time in seconds without requests after which the daemon stops.
+     * @return running daemon.
+     * @throws IOException - thrown if the daemon cannot listen or the state file cannot be written.
+     */
+    public static ValidationDaemon start(final Path stateFile,
+                                         final String fingerprint,
+                                         final long idleTimeoutSeconds) throws IOException {
+        ValidationDaemon daemon = new ValidationDaemon(stateFile, idleTimeoutSeconds);
+        try {
+            new DaemonState(
+                    daemon.getPort(),
+                    daemon.token,
+                    fingerprint,
+                    ProcessHandle.current().pid()).write(stateFile);
+        } catch (IOException e) {
+            daemon.close();
+            throw e;
+        }
+        Thread acceptThread = new DaemonThreadFactory("daemon-accept").newThread(daemon::acceptRequests);
+        acceptThread.start();
+        daemon.idleMonitor.scheduleWithFixedDelay(
+                daemon::stopIfIdle, IDLE_CHECK_MILLIS, IDLE_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+        return daemon;
+    }
+
+    /**
+     * Daemon process entry point.
+     * <br>
+     * Arguments: state file, fingerprint, idle timeout in seconds.
+     *
+     * @param args - arguments.
+     * @throws IOException          - thrown if the daemon cannot be started.
+     * @throws InterruptedException - thrown if interrupted while running.
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length != ARG_COUNT) {
+            throw new IllegalArgumentException(
+                    "Usage: ValidationDaemon <stateFile> <fingerprint> <idleTimeoutSeconds>");
+        }
+        ValidationDaemon daemon = start(
+                Paths.get(args[STATE_FILE_ARG]),
+                args[FINGERPRINT_ARG],
+                Long.parseLong(args[IDLE_TIMEOUT_ARG]));
+        daemon.awaitStop();
+        System.exit(0);
+    }
+
+    /**
+     * Get port the daemon listens on.
+     *
+     * @return port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Wait until the daemon stops.
+     *
+     * @throws InterruptedException - thrown if interrupted while waiting.
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Whether the daemon is stopped.
+     *
+     * @return <code>true</code> if stopped.
+     */
+    public boolean isStopped() {
+        return stopped.getCount() == 0;
+    }
+
+    /**
+     * Stop the daemon. Requests in progress are completed.
+     * The state file is deleted if it still belongs to this daemon.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // the socket is being closed anyway
+        }
+        DaemonState state = DaemonState.read(stateFile);
+        if (state != null && token.equals(state.getToken())) {
+            try {
+                Files.deleteIfExists(stateFile);
+            } catch (IOException e) {
+                stateFile.toFile().deleteOnExit();
+            }
+        }
+        idleMonitor.shutdownNow();
+        requestExecutor.shutdown();
+        stopped.countDown();
+    }
+
+    private void acceptRequests() {
+        while (!closed.get()) {
+            try {
+                Socket socket = serverSocket.accept();
+                activeRequests.incrementAndGet();
+                lastActivityMillis = System.currentTimeMillis();
+                requestExecutor.execute(() -> handle(socket));
+            } catch (IOException e) {
+                close();
+            }
+        }
+    }
+
+    private void stopIfIdle() {
+        if (activeRequests.get() == 0 && System.currentTimeMillis() - lastActivityMillis >= idleTimeoutMillis) {
+            close();
+        }
+    }
+
+    private void handle(final Socket socket) {
+        try (Socket client = socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8))) {
+            JsonNode request = DaemonProtocol.read(reader);
+            if (request == null || !isAuthorized(DaemonProtocol.text(request, DaemonProtocol.TOKEN))) {
+                return;
+            }
+            String type = DaemonProtocol.text(request, DaemonProtocol.TYPE);
+            if (DaemonProtocol.SHUTDOWN.equals(type)) {
+                DaemonProtocol.write(writer, DaemonProtocol.message(DaemonProtocol.RESULT));
+                close();
+            } else if (DaemonProtocol.VALIDATE.equals(type)) {
+                validate(request, writer);
+            }
+        } catch (IOException e) {
+            // the client has gone; there is nobody to report to
+        } finally {
+            lastActivityMillis = System.currentTimeMillis();
+            activeRequests.decrementAndGet();
+        }
+    }
+
+    private void validate(final JsonNode request,
+                          final Writer writer) throws IOException {
+        SocketPluginLogger logger = new SocketPluginLogger(writer);
+        ObjectNode result = DaemonProtocol.message(DaemonProtocol.RESULT);
+        try {
+            new ValidateChangeLogService(logger, DaemonProtocol.fromJson(request.get(DaemonProtocol.CONFIG)))
+                    .execute();
+        } catch (ValidateChangeLogException e) {
+            result.put(DaemonProtocol.FAILURE, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Validation daemon failed to validate changeLog files.", e);
+            result.put(DaemonProtocol.FAILURE, "Validation daemon failed: " + e);
+        }
+        synchronized (writer) {
+            DaemonProtocol.write(writer, result);
+        }
+    }
+
+    private boolean isAuthorized(final String requestToken) {
+        return requestToken != null && MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8),
+                requestToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Logger sending log messages to the client.
+     */
+    private static final class SocketPluginLogger implements PluginLogger {
+
+        private final Writer writer;
+
+        private SocketPluginLogger(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void info(final String message) {
+            send(DaemonProtocol.INFO, message, null);
+        }
+
+        @Override
+        public void warn(final String message) {
+            send(DaemonProtocol.WARN, message, null);
+        }
+
+        @Override
+        public void error(final String message) {
+            send(DaemonProtocol.ERROR, message, null);
+        }
+
+        @Override
+        public void error(final String message,
+                          final Exception e) {
+            send(DaemonProtocol.ERROR, message, e);
+        }
+
+        private void send(final String level,
+                          final String message,
+                          final Exception e) {
+            ObjectNode log = DaemonProtocol.message(DaemonProtocol.LOG)
+                    .put(DaemonProtocol.LEVEL, level)
+                    .put(DaemonProtocol.MESSAGE, message);
+            if (e != null) {
+                log.put(DaemonProtocol.EXCEPTION, e.toString());
+            }
+            synchronized (writer) {
+                try {
+                    DaemonProtocol.write(writer, log);
+                } catch (IOException ex) {
+                    // the client has gone; validation completes without it
+                }
+            }
+        }
+    }
+}
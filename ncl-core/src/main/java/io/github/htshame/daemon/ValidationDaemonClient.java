@@ -0,0 +1,338 @@
+package io.github.htshame.daemon;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.core.ValidateChangeLogService;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.exception.ValidationDaemonException;
+import io.github.htshame.log.PluginLogger;
+import io.github.htshame.util.HashUtil;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Client of the {@link ValidationDaemon}.
+ * <br>
+ * The daemon of the directory is started on first use as a separate JVM with the plugin classpath.
+ * It is restarted when the plugin version, the plugin classpath or the idle timeout change.
+ * Changes of rules and exclusions do not need a restart: they are picked up by content.
+ * If the daemon cannot be started or reached, the changeLog files are validated in the calling JVM.
+ * If the daemon fails after it has started logging the validation, the execution fails instead,
+ * so that the log is not repeated.
+ */
+public final class ValidationDaemonClient {
+
+    /**
+     * State file name.
+     */
+    static final String STATE_FILE_NAME = "daemon.properties";
+
+    private static final String LOCK_FILE_NAME = "daemon.lock";
+    private static final String LOG_FILE_NAME = "daemon.log";
+    private static final int CONNECT_TIMEOUT = 1000;
+    private static final long START_TIMEOUT_MILLIS = 30000L;
+    private static final long START_POLL_MILLIS = 50L;
+    private static final int ATTEMPTS = 2;
+
+    /**
+     * Serializes daemon start-up between threads of this JVM. File locks are held per JVM.
+     */
+    private static final Object START_LOCK = new Object();
+
+    private final Path directory;
+    private final long idleTimeoutSeconds;
+    private final PluginLogger logger;
+
+    /**
+     * Constructor.
+     *
+     * @param directory          - daemon directory with the state, lock and log files.
+     * @param idleTimeoutSeconds - time in seconds without requests after which the daemon stops.
+     * @param logger             - logger.
+     */
+    public ValidationDaemonClient(final File directory,
+                                  final long idleTimeoutSeconds,
+                                  final PluginLogger logger) {
+        this.directory = directory.toPath();
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+        this.logger = logger;
+    }
+
+    /**
+     * Validate changeLog files in the daemon, starting it if needed.
+     * <br>
+     * Log messages of the validation are replayed to the logger of this client. The request is sent again
+     * or the changeLog files are validated in this JVM only if the daemon has not replayed any message yet.
+     *
+     * @param config - plugin configuration.
+     * @throws ValidateChangeLogException - validation exception.
+     */
+    public void execute(final PluginConfig config) throws ValidateChangeLogException {
+        ValidationDaemonException failure = null;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            try {
+                validate(ensureDaemon(config.getPluginVersion()), config);
+                return;
+            } catch (ValidationDaemonException e) {
+                failure = e;
+            }
+        }
+        logger.warn(failure.getMessage() + ". Validating in the build JVM.");
+        new ValidateChangeLogService(logger, config).execute();
+    }
+
+    /**
+     * Stop the daemon of the directory if it is running.
+     *
+     * @return <code>true</code> if a running daemon was asked to stop.
+     */
+    public boolean stop() {
+        DaemonState state = DaemonState.read(directory.resolve(STATE_FILE_NAME));
+        return state != null && shutdown(state);
+    }
+
+    /**
+     * Get running daemon matching the fingerprint, starting or restarting it if needed.
+     *
+     * @param pluginVersion - plugin version.
+     * @return state of the running daemon.
+     */
+    DaemonState ensureDaemon(final String pluginVersion) {
+        List<Path> classpath = classpath();
+        String fingerprint = fingerprint(pluginVersion, classpath);
+        Path stateFile = directory.resolve(STATE_FILE_NAME);
+        DaemonState state = DaemonState.read(stateFile);
+        if (isUsable(state, fingerprint)) {
+            return state;
+        }
+        synchronized (START_LOCK) {
+            try {
+                Files.createDirectories(directory);
+                try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE_NAME),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock lock = channel.lock()) {
+                    state = DaemonState.read(stateFile);
+                    if (isUsable(state, fingerprint)) {
+                        return state;
+                    }
+                    if (state != null) {
+                        shutdown(state);
+                        Files.deleteIfExists(stateFile);
+                    }
+                    return startDaemon(stateFile, fingerprint, classpath);
+                }
+            } catch (IOException e) {
+                throw new ValidationDaemonException("Failed to start validation daemon: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private DaemonState startDaemon(final Path stateFile,
+                                    final String fingerprint,
+                                    final List<Path> classpath) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(classpath.stream().map(Path::toString).reduce((a, b) -> a + File.pathSeparator + b).orElse(""));
+        command.add(ValidationDaemon.class.getName());
+        command.add(stateFile.toString());
+        command.add(fingerprint);
+        command.add(String.valueOf(idleTimeoutSeconds));
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(directory.resolve(LOG_FILE_NAME).toFile()))
+                .start();
+        logger.info("Started validation daemon (pid " + process.pid() + ")");
+
+        long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            DaemonState state = DaemonState.read(stateFile);
+            if (state != null && state.getPid() == process.pid() && isUsable(state, fingerprint)) {
+                return state;
+            }
+            if (!process.isAlive()) {
+                throw new ValidationDaemonException("Validation daemon exited with code " + process.exitValue()
+                        + ". See " + directory.resolve(LOG_FILE_NAME));
+            }
+            try {
+                Thread.sleep(START_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValidationDaemonException("Interrupted while starting validation daemon", e);
+            }
+        }
+        process.destroy();
+        throw new ValidationDaemonException("Validation daemon did not start in " + START_TIMEOUT_MILLIS + " ms");
+    }
+
+    private void validate(final DaemonState state,
+                          final PluginConfig config) throws ValidateChangeLogException {
+        boolean replayed = false;
+        try (Socket socket = connect(state);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            ObjectNode request = DaemonProtocol.message(DaemonProtocol.VALIDATE)
+                    .put(DaemonProtocol.TOKEN, state.getToken());
+            request.set(DaemonProtocol.CONFIG, DaemonProtocol.toJson(config));
+            DaemonProtocol.write(writer, request);
+            JsonNode message;
+            while ((message = DaemonProtocol.read(reader)) != null) {
+                if (DaemonProtocol.RESULT.equals(DaemonProtocol.text(message, DaemonProtocol.TYPE))) {
+                    String failure = DaemonProtocol.text(message, DaemonProtocol.FAILURE);
+                    if (failure != null) {
+                        throw new ValidateChangeLogException(failure);
+                    }
+                    return;
+                }
+                replay(message);
+                replayed = true;
+            }
+            if (replayed) {
+                throw interruptedValidation("Validation daemon closed the connection");
+            }
+            throw new ValidationDaemonException("Validation daemon closed the connection");
+        } catch (IOException e) {
+            if (replayed) {
+                throw interruptedValidation("Validation daemon is not reachable: " + e.getMessage());
+            }
+            throw new ValidationDaemonException("Validation daemon is not reachable: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Create failure of a validation the daemon has already logged part of.
+     * It is not run again, so that its log is not repeated.
+     *
+     * @param message - error message.
+     * @return validation exception.
+     */
+    private ValidateChangeLogException interruptedValidation(final String message) {
+        return new ValidateChangeLogException(message + " during validation. See " + directory.resolve(LOG_FILE_NAME));
+    }
+
+    private void replay(final JsonNode log) {
+        String level = DaemonProtocol.text(log, DaemonProtocol.LEVEL);
+        String message = DaemonProtocol.text(log, DaemonProtocol.MESSAGE);
+        String exception = DaemonProtocol.text(log, DaemonProtocol.EXCEPTION);
+        if (DaemonProtocol.WARN.equals(level)) {
+            logger.warn(message);
+        } else if (DaemonProtocol.ERROR.equals(level) && exception != null) {
+            logger.error(message, new ValidationDaemonException(exception));
+        } else if (DaemonProtocol.ERROR.equals(level)) {
+            logger.error(message);
+        } else {
+            logger.info(message);
+        }
+    }
+
+    private static boolean shutdown(final DaemonState state) {
+        try (Socket socket = connect(state);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            DaemonProtocol.write(writer, DaemonProtocol.message(DaemonProtocol.SHUTDOWN)
+                    .put(DaemonProtocol.TOKEN, state.getToken()));
+            return DaemonProtocol.read(reader) != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isUsable(final DaemonState state,
+                                    final String fingerprint) {
+        if (state == null || !fingerprint.equals(state.getFingerprint())) {
+            return false;
+        }
+        try (Socket socket = connect(state)) {
+            return socket.isConnected();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Socket connect(final DaemonState state) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), state.getPort()), CONNECT_TIMEOUT);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        return socket;
+    }
+
+    /**
+     * Compute fingerprint of the plugin version, classpath and idle timeout.
+     * Classpath entries are identified by path, size and modification time, so a rebuilt snapshot jar restarts
+     * the daemon.
+     *
+     * @param pluginVersion - plugin version.
+     * @param classpath     - daemon classpath.
+     * @return hex-encoded SHA-256 fingerprint.
+     */
+    String fingerprint(final String pluginVersion,
+                       final List<Path> classpath) {
+        StringBuilder value = new StringBuilder()
+                .append(pluginVersion).append('\n')
+                .append(idleTimeoutSeconds).append('\n');
+        for (Path entry : classpath) {
+            File file = entry.toFile();
+            value.append(entry).append(':').append(file.length()).append(':').append(file.lastModified()).append('\n');
+        }
+        MessageDigest digest = HashUtil.newSha256Digest();
+        return HashUtil.toHex(digest.digest(value.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Get daemon classpath: locations of the plugin classes and of its dependencies.
+     *
+     * @return classpath entries.
+     */
+    static List<Path> classpath() {
+        Set<Path> entries = new LinkedHashSet<>();
+        for (Class<?> type : List.of(
+                ValidationDaemon.class, ObjectMapper.class, JsonFactory.class, JsonProperty.class, Yaml.class)) {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            if (codeSource == null) {
+                throw new ValidationDaemonException("Classpath location of " + type.getName() + " is unknown");
+            }
+            try {
+                entries.add(Paths.get(codeSource.getLocation().toURI()));
+            } catch (URISyntaxException e) {
+                throw new ValidationDaemonException("Invalid classpath location of " + type.getName(), e);
+            }
+        }
+        return new ArrayList<>(entries);
+    }
+}
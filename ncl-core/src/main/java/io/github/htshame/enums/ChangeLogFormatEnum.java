@@ -42,6 +42,56 @@ public enum ChangeLogFormatEnum {
         return format;
     }
 
+    /**
+     * Check whether the file name has the extension of the format.
+     * <br>
+     * YAML and YML formats both match <code>.yaml</code> and <code>.yml</code> files. The check ignores case
+     * and compares the extension in place, without copying the file name.
+     *
+     * @param fileName - file name or path.
+     * @return <code>true</code> if the file is a changeLog file of the format.
+     */
+    public boolean matches(final String fileName) {
+        if (isYaml()) {
+            return hasExtension(fileName, YAML.format) || hasExtension(fileName, YML.format);
+        }
+        return hasExtension(fileName, format);
+    }
+
+    /**
+     * Get format of the file by its extension.
+     *
+     * @param fileName - file name or path.
+     * @return format of the file. Null if the extension is not a changeLog format.
+     */
+    public static ChangeLogFormatEnum fromFileName(final String fileName) {
+        for (ChangeLogFormatEnum changeLogFormatEnum : ChangeLogFormatEnum.values()) {
+            if (hasExtension(fileName, changeLogFormatEnum.format)) {
+                return changeLogFormatEnum;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check whether the file name ends with the dot and the extension, ignoring case.
+     *
+     * @param fileName  - file name or path.
+     * @param extension - extension without the dot.
+     * @return <code>true</code> if the file name has the extension.
+     */
+    private static boolean hasExtension(final String fileName,
+                                        final String extension) {
+        int dot = fileName.length() - extension.length() - 1;
+        return dot >= 0
+                && fileName.charAt(dot) == '.'
+                && fileName.regionMatches(true, dot + 1, extension, 0, extension.length());
+    }
+
+    private boolean isYaml() {
+        return this == YAML || this == YML;
+    }
+
     /**
      * Get enum from string.
      *
@@ -1,7 +1,7 @@
 package io.github.htshame.enums;
 
 /**
- * Plugin type enum to address subtle differences between Maven and Gradle logic.
+ * Plugin type enum to address subtle differences between Maven, Gradle and command line logic.
  */
 public enum PluginTypeEnum {
     /**
@@ -11,5 +11,9 @@ public enum PluginTypeEnum {
     /**
      * Gradle.
      */
-    GRADLE
+    GRADLE,
+    /**
+     * Command line.
+     */
+    CLI
 }
@@ -0,0 +1,29 @@
+package io.github.htshame.event;
+
+/**
+ * Java Flight Recorder event categories.
+ */
+final class EventCategory {
+
+    /**
+     * Top-level category of all plugin events.
+     */
+    static final String PLUGIN = "Naming Convention Liquibase";
+
+    /**
+     * Parsing category.
+     */
+    static final String PARSING = "Parsing";
+
+    /**
+     * Validation category.
+     */
+    static final String VALIDATION = "Validation";
+
+    /**
+     * Private constructor.
+     */
+    private EventCategory() {
+
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.htshame.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when the exclusions file is loaded.
+ */
+@Name(ExclusionsLoadedEvent.NAME)
+@Label("Exclusions Loaded")
+@Description("Exclusions file has been parsed")
+@Category({EventCategory.PLUGIN, EventCategory.PARSING})
+@StackTrace(false)
+public final class ExclusionsLoadedEvent extends Event {
+
+    /**
+     * Event name.
+     */
+    public static final String NAME = "ncl.ExclusionsLoaded";
+
+    @Label("Source")
+    private String source;
+
+    @Label("File Exclusions")
+    private int fileExclusions;
+
+    @Label("ChangeSet Exclusions")
+    private int changeSetExclusions;
+
+    @Label("ChangeLog Exclusions")
+    private int changeLogExclusions;
+
+    /**
+     * Default constructor.
+     */
+    public ExclusionsLoadedEvent() {
+
+    }
+
+    /**
+     * End the event and commit it if recording is enabled.
+     *
+     * @param exclusionsSource        - exclusions source.
+     * @param fileExclusionCount      - number of files with exclusions.
+     * @param changeSetExclusionCount - number of changeSets with exclusions.
+     * @param changeLogExclusionCount - number of changeLogs with exclusions.
+     */
+    public void complete(final String exclusionsSource,
+                         final int fileExclusionCount,
+                         final int changeSetExclusionCount,
+                         final int changeLogExclusionCount) {
+        end();
+        if (shouldCommit()) {
+            this.source = exclusionsSource;
+            this.fileExclusions = fileExclusionCount;
+            this.changeSetExclusions = changeSetExclusionCount;
+            this.changeLogExclusions = changeLogExclusionCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.htshame.event;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when a changeLog file is parsed.
+ */
+@Name(FileParsedEvent.NAME)
+@Label("ChangeLog File Parsed")
+@Description("ChangeLog file has been parsed into changeLog elements")
+@Category({EventCategory.PLUGIN, EventCategory.PARSING})
+@StackTrace(false)
+public final class FileParsedEvent extends Event {
+
+    /**
+     * Event name.
+     */
+    public static final String NAME = "ncl.FileParsed";
+
+    @Label("Path")
+    private String path;
+
+    @Label("Format")
+    private String format;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Elements")
+    private int elements;
+
+    /**
+     * Default constructor.
+     */
+    public FileParsedEvent() {
+
+    }
+
+    /**
+     * End the event and commit it if recording is enabled.
+     *
+     * @param source          - parsed changeLog source.
+     * @param changeLogFormat - changeLog format.
+     * @param elementCount    - number of parsed elements.
+     */
+    public void complete(final ChangeLogSource source,
+                         final ChangeLogFormatEnum changeLogFormat,
+                         final int elementCount) {
+        end();
+        if (shouldCommit()) {
+            this.path = source.getLocation();
+            this.format = changeLogFormat.getValue();
+            this.bytes = source.size();
+            this.elements = elementCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.htshame.event;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Guard of the plugin Java Flight Recorder events.
+ * <br>
+ * Loading the first event class initializes event instrumentation in the JVM, which takes longer
+ * than validating a small project. Events are therefore created only once Flight Recorder is initialized:
+ * by <code>-XX:StartFlightRecording</code>, <code>jcmd JFR.start</code> or the <code>jdk.jfr</code> API.
+ */
+public final class FlightRecorderEvents {
+
+    /**
+     * Private constructor.
+     */
+    private FlightRecorderEvents() {
+
+    }
+
+    /**
+     * Whether plugin events should be created.
+     *
+     * @return <code>true</code> if Flight Recorder is initialized.
+     */
+    public static boolean isEnabled() {
+        return FlightRecorder.isInitialized();
+    }
+}
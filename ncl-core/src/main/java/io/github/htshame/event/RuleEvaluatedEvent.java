@@ -0,0 +1,71 @@
+package io.github.htshame.event;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.RuleEnum;
+import io.github.htshame.util.ChangeSetUtil;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when a rule is evaluated against a changeLog element or file.
+ */
+@Name(RuleEvaluatedEvent.NAME)
+@Label("Rule Evaluated")
+@Description("Rule has been evaluated against a changeSet, a changeLog element or a changeLog file")
+@Category({EventCategory.PLUGIN, EventCategory.VALIDATION})
+@StackTrace(false)
+public final class RuleEvaluatedEvent extends Event {
+
+    /**
+     * Event name.
+     */
+    public static final String NAME = "ncl.RuleEvaluated";
+
+    @Label("Rule")
+    private String rule;
+
+    @Label("File")
+    private String file;
+
+    @Label("ChangeSet ID")
+    private String changeSetId;
+
+    @Label("Violation Count")
+    private int violationCount;
+
+    /**
+     * Default constructor.
+     */
+    public RuleEvaluatedEvent() {
+
+    }
+
+    /**
+     * End the event and commit it if recording is enabled.
+     *
+     * @param ruleName         - evaluated rule.
+     * @param source           - changeLog source.
+     * @param changeLogElement - evaluated changeLog element. <code>null</code> for changeLog file rules.
+     * @param violations       - number of violations found.
+     */
+    public void complete(final RuleEnum ruleName,
+                         final ChangeLogSource source,
+                         final ChangeLogElement changeLogElement,
+                         final int violations) {
+        end();
+        if (shouldCommit()) {
+            this.rule = ruleName.getValue();
+            this.file = source.getLocation();
+            this.changeSetId = changeLogElement == null
+                    ? null
+                    : ChangeSetUtil.getAttributesFromAncestor(changeLogElement).getId();
+            this.violationCount = violations;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.htshame.exception;
+
+/**
+ * Exception thrown when the validation daemon cannot be started or reached.
+ */
+public class ValidationDaemonException extends RuntimeException {
+
+    /**
+     * Constructor.
+     *
+     * @param message - error message.
+     */
+    public ValidationDaemonException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param message - error message.
+     * @param cause   - cause.
+     */
+    public ValidationDaemonException(final String message,
+                                     final Throwable cause) {
+        super(message, cause);
+    }
+}
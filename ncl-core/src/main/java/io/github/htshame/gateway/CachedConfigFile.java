@@ -0,0 +1,81 @@
+package io.github.htshame.gateway;
+
+import java.nio.file.Path;
+
+/**
+ * Config file stored in the local cache, together with the HTTP validators of the response it came from.
+ */
+final class CachedConfigFile {
+
+    private final Path path;
+    private final String sha256;
+    private final String etag;
+    private final String lastModified;
+    private final long fetchedAtMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param path            - path to the cached content.
+     * @param sha256          - SHA-256 of the content.
+     * @param etag            - <code>ETag</code> response header. May be null.
+     * @param lastModified    - <code>Last-Modified</code> response header. May be null.
+     * @param fetchedAtMillis - time when the content was last fetched or revalidated.
+     */
+    CachedConfigFile(final Path path,
+                     final String sha256,
+                     final String etag,
+                     final String lastModified,
+                     final long fetchedAtMillis) {
+        this.path = path;
+        this.sha256 = sha256;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.fetchedAtMillis = fetchedAtMillis;
+    }
+
+    /**
+     * Get path to the cached content.
+     *
+     * @return path to the cached content.
+     */
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get SHA-256 of the content.
+     *
+     * @return hex-encoded SHA-256.
+     */
+    String getSha256() {
+        return sha256;
+    }
+
+    /**
+     * Get <code>ETag</code> response header.
+     *
+     * @return ETag. Null if the server did not send it.
+     */
+    String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Get <code>Last-Modified</code> response header.
+     *
+     * @return last modified date. Null if the server did not send it.
+     */
+    String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Get time when the content was last fetched or revalidated.
+     *
+     * @return epoch milliseconds.
+     */
+    long getFetchedAtMillis() {
+        return fetchedAtMillis;
+    }
+}
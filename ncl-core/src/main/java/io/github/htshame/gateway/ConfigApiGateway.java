@@ -1,27 +1,59 @@
 package io.github.htshame.gateway;
 
 import io.github.htshame.exception.ConfigApiGatewayException;
+import io.github.htshame.log.PluginLogger;
+import io.github.htshame.util.HashUtil;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration API gateway.
+ * <br>
+ * If a cache directory is provided, downloaded files are kept in a content-addressed cache
+ * and revalidated with <code>If-None-Match</code> / <code>If-Modified-Since</code> requests.
+ * Within the TTL the cached copy is used without any request. If the server cannot be reached,
+ * the last good copy is used.
  */
 public class ConfigApiGateway {
 
     private static final int BUFFER_SIZE = 8192;
     private static final int TIMEOUT = 10000;
+    private static final int NOT_MODIFIED = 304;
+
+    private final ConfigFileCache cache;
+    private final long cacheTtlMillis;
+    private final PluginLogger logger;
 
     /**
      * Default constructor.
      */
     public ConfigApiGateway() {
+        this(null, 0L, null);
+    }
 
+    /**
+     * Constructor.
+     *
+     * @param cacheDirectory  - cache directory. Null to disable caching.
+     * @param cacheTtlSeconds - time in seconds during which the cached copy is used without revalidation.
+     * @param logger          - logger.
+     */
+    public ConfigApiGateway(final File cacheDirectory,
+                            final long cacheTtlSeconds,
+                            final PluginLogger logger) {
+        this.cache = cacheDirectory == null ? null : new ConfigFileCache(cacheDirectory.toPath());
+        this.cacheTtlMillis = TimeUnit.SECONDS.toMillis(cacheTtlSeconds);
+        this.logger = logger;
     }
 
     /**
@@ -31,42 +63,281 @@ public class ConfigApiGateway {
      * @return config file.
      */
     public File getFile(final URL configFileUrl) {
-        try {
-            HttpURLConnection connection = (HttpURLConnection) configFileUrl.openConnection();
+        return getFile(configFileUrl, null);
+    }
 
-            connection.setRequestMethod("GET");
-            connection.setRequestProperty("Accept", "application/xml");
-            connection.setInstanceFollowRedirects(true);
-            connection.setConnectTimeout(TIMEOUT);
-            connection.setReadTimeout(TIMEOUT);
+    /**
+     * Get config file and verify its content.
+     *
+     * @param configFileUrl  - config file URL.
+     * @param expectedSha256 - expected hex-encoded SHA-256 of the content. Null to skip verification.
+     * @return config file.
+     */
+    public File getFile(final URL configFileUrl,
+                        final String expectedSha256) {
+        if (cache == null) {
+            return download(configFileUrl, expectedSha256);
+        }
+        CachedConfigFile cached = cache.read(configFileUrl);
+        if (cached != null && expectedSha256 != null) {
+            if (cached.getSha256().equalsIgnoreCase(expectedSha256)) {
+                return cached.getPath().toFile();
+            }
+            cached = null;
+        }
+        if (cached != null && System.currentTimeMillis() - cached.getFetchedAtMillis() < cacheTtlMillis) {
+            return cached.getPath().toFile();
+        }
+        try {
+            return fetch(configFileUrl, cached, expectedSha256).getPath().toFile();
+        } catch (ConfigApiGatewayException e) {
+            if (cached == null) {
+                throw e;
+            }
+            logger.warn(e.getMessage() + ". Using the cached copy: " + cached.getPath());
+            return cached.getPath().toFile();
+        }
+    }
 
-            int status = connection.getResponseCode();
-            String statusString = String.valueOf(status);
-            if (statusString.indexOf("2") != 0 && statusString.indexOf("3") != 0) {
+    /**
+     * Read config file content without writing it to a temp file.
+     * <br>
+     * If caching is enabled, the content is read from the cached copy. Otherwise the response body
+     * is streamed straight into the reader and verified once the reader is done.
+     *
+     * @param configFileUrl  - config file URL.
+     * @param expectedSha256 - expected hex-encoded SHA-256 of the content. Null to skip verification.
+     * @param reader         - config file content reader.
+     * @param <T>            - result type.
+     * @param <E>            - exception thrown by the reader.
+     * @return read result.
+     * @throws E - thrown if reading fails.
+     */
+    public <T, E extends Exception> T read(final URL configFileUrl,
+                                           final String expectedSha256,
+                                           final ConfigReader<T, E> reader) throws E {
+        try {
+            if (cache != null) {
+                Path path = getFile(configFileUrl, expectedSha256).toPath();
+                try (InputStream content = Files.newInputStream(path)) {
+                    return reader.read(content, path.toUri().toString());
+                }
+            }
+            HttpURLConnection connection = openConnection(configFileUrl);
+            checkStatus(configFileUrl, connection);
+            try {
+                T result;
+                DigestingInputStream content = new DigestingInputStream(connection.getInputStream());
+                try {
+                    result = reader.read(content, configFileUrl.toString());
+                } finally {
+                    content.close();
+                }
+                verifySha256(configFileUrl, HashUtil.toHex(content.getDigest()), expectedSha256);
+                return result;
+            } finally {
                 connection.disconnect();
-                throw new ConfigApiGatewayException("Error reading configuration content from URL: " + configFileUrl
-                        + ". Status code: " + status);
             }
+        } catch (IOException e) {
+            throw new ConfigApiGatewayException("Error getting config file from URL: " + configFileUrl
+                    + ". Error message: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Download config file into a temp file.
+     *
+     * @param configFileUrl  - config file URL.
+     * @param expectedSha256 - expected SHA-256 of the content. Null to skip verification.
+     * @return config file.
+     */
+    private File download(final URL configFileUrl,
+                          final String expectedSha256) {
+        try {
+            HttpURLConnection connection = openConnection(configFileUrl);
+            checkStatus(configFileUrl, connection);
 
             File xmlFile = File.createTempFile("naming_convention_liquibase_maven_pluginconfig_file", ".xml");
             xmlFile.deleteOnExit();
 
-            try (InputStream in = connection.getInputStream();
-                 FileOutputStream out = new FileOutputStream(xmlFile)) {
+            String sha256 = copy(connection, xmlFile.toPath());
+            try {
+                verifySha256(configFileUrl, sha256, expectedSha256);
+            } catch (ConfigApiGatewayException e) {
+                Files.deleteIfExists(xmlFile.toPath());
+                throw e;
+            }
+            return xmlFile;
+        } catch (IOException e) {
+            throw new ConfigApiGatewayException("Error getting config file from URL: " + configFileUrl
+                    + ". Error message: " + e.getMessage());
+        }
+    }
 
-                byte[] buffer = new byte[BUFFER_SIZE];
-                int bytesRead;
+    /**
+     * Fetch config file into the cache, revalidating the cached copy if there is one.
+     *
+     * @param configFileUrl  - config file URL.
+     * @param cached         - cached copy. Null if there is none.
+     * @param expectedSha256 - expected SHA-256 of the content. Null to skip verification.
+     * @return cached config file.
+     */
+    private CachedConfigFile fetch(final URL configFileUrl,
+                                   final CachedConfigFile cached,
+                                   final String expectedSha256) {
+        try {
+            HttpURLConnection connection = openConnection(configFileUrl);
+            if (cached != null && cached.getEtag() != null) {
+                connection.setRequestProperty("If-None-Match", cached.getEtag());
+            }
+            if (cached != null && cached.getLastModified() != null) {
+                connection.setRequestProperty("If-Modified-Since", cached.getLastModified());
+            }
+            if (cached != null && connection.getResponseCode() == NOT_MODIFIED) {
+                connection.disconnect();
+                return cache.touch(configFileUrl, cached);
+            }
+            checkStatus(configFileUrl, connection);
 
-                while ((bytesRead = in.read(buffer)) != -1) {
-                    out.write(buffer, 0, bytesRead);
-                }
+            Path downloaded = cache.createTempFile();
+            try {
+                String sha256 = copy(connection, downloaded);
+                verifySha256(configFileUrl, sha256, expectedSha256);
+                return cache.store(
+                        configFileUrl,
+                        downloaded,
+                        sha256,
+                        connection.getHeaderField("ETag"),
+                        connection.getHeaderField("Last-Modified"));
             } finally {
-                connection.disconnect();
+                Files.deleteIfExists(downloaded);
             }
-            return xmlFile;
         } catch (IOException e) {
             throw new ConfigApiGatewayException("Error getting config file from URL: " + configFileUrl
                     + ". Error message: " + e.getMessage());
         }
     }
+
+    private static HttpURLConnection openConnection(final URL configFileUrl) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) configFileUrl.openConnection();
+
+        connection.setRequestMethod("GET");
+        connection.setRequestProperty("Accept", "application/xml");
+        connection.setInstanceFollowRedirects(true);
+        connection.setConnectTimeout(TIMEOUT);
+        connection.setReadTimeout(TIMEOUT);
+        return connection;
+    }
+
+    private static void checkStatus(final URL configFileUrl,
+                                    final HttpURLConnection connection) throws IOException {
+        int status = connection.getResponseCode();
+        String statusString = String.valueOf(status);
+        if (statusString.indexOf("2") != 0 && statusString.indexOf("3") != 0) {
+            connection.disconnect();
+            throw new ConfigApiGatewayException("Error reading configuration content from URL: " + configFileUrl
+                    + ". Status code: " + status);
+        }
+    }
+
+    /**
+     * Copy response body to the file.
+     *
+     * @param connection - connection.
+     * @param target     - target file.
+     * @return hex-encoded SHA-256 of the response body.
+     * @throws IOException - thrown if reading or writing fails.
+     */
+    private static String copy(final HttpURLConnection connection,
+                               final Path target) throws IOException {
+        MessageDigest digest = HashUtil.newSha256Digest();
+        try (InputStream in = connection.getInputStream();
+             OutputStream out = Files.newOutputStream(target)) {
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+
+            while ((bytesRead = in.read(buffer)) != -1) {
+                out.write(buffer, 0, bytesRead);
+                digest.update(buffer, 0, bytesRead);
+            }
+        } finally {
+            connection.disconnect();
+        }
+        return HashUtil.toHex(digest.digest());
+    }
+
+    /**
+     * Input stream that computes SHA-256 of the content read through it.
+     * <br>
+     * The remaining content is consumed on close, so the digest always covers the whole body.
+     */
+    private static final class DigestingInputStream extends FilterInputStream {
+
+        private final MessageDigest digest = HashUtil.newSha256Digest();
+        private byte[] result;
+
+        private DigestingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                digest.update((byte) b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int bytesRead = super.read(b, off, len);
+            if (bytesRead > 0) {
+                digest.update(b, off, bytesRead);
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead = read(buffer, 0, (int) Math.min(n, BUFFER_SIZE));
+            return Math.max(bytesRead, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (result != null) {
+                return;
+            }
+            try {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                while (read(buffer, 0, BUFFER_SIZE) != -1) {
+                    continue;
+                }
+            } finally {
+                result = digest.digest();
+                super.close();
+            }
+        }
+
+        private byte[] getDigest() {
+            return result;
+        }
+    }
+
+    private static void verifySha256(final URL configFileUrl,
+                                     final String actualSha256,
+                                     final String expectedSha256) {
+        if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(actualSha256)) {
+            throw new ConfigApiGatewayException("SHA-256 of config file from URL: " + configFileUrl
+                    + " is [" + actualSha256 + "], expected [" + expectedSha256 + "]");
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package io.github.htshame.gateway;
+
+import io.github.htshame.util.HashUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Content-addressed on-disk cache of the remote config files.
+ * <br>
+ * Content is stored once per SHA-256 as <code>&lt;sha256&gt;.xml</code>.
+ * Every URL has a <code>&lt;sha256 of URL&gt;.properties</code> entry pointing to the content
+ * and keeping the <code>ETag</code> and <code>Last-Modified</code> headers for revalidation.
+ * All files are written to a temp file first and then moved in place,
+ * so the cache can be shared by concurrent builds.
+ */
+final class ConfigFileCache {
+
+    private static final String CONTENT_EXTENSION = ".xml";
+    private static final String ENTRY_EXTENSION = ".properties";
+    private static final String SHA_256_KEY = "sha256";
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+    private static final String FETCHED_AT_KEY = "fetchedAt";
+
+    private final Path directory;
+
+    /**
+     * Constructor.
+     *
+     * @param directory - cache directory.
+     */
+    ConfigFileCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read cache entry of the URL.
+     *
+     * @param url - config file URL.
+     * @return cached config file. Null if there is no entry or the cached content is corrupted.
+     */
+    CachedConfigFile read(final URL url) {
+        Path entryPath = entryPath(url);
+        if (!Files.isRegularFile(entryPath)) {
+            return null;
+        }
+        try {
+            Properties entry = new Properties();
+            try (InputStream in = Files.newInputStream(entryPath)) {
+                entry.load(in);
+            }
+            String sha256 = entry.getProperty(SHA_256_KEY);
+            if (sha256 == null) {
+                return null;
+            }
+            Path contentPath = directory.resolve(sha256 + CONTENT_EXTENSION);
+            if (!Files.isRegularFile(contentPath) || !sha256.equals(HashUtil.sha256Hex(contentPath))) {
+                return null;
+            }
+            return new CachedConfigFile(
+                    contentPath,
+                    sha256,
+                    entry.getProperty(ETAG_KEY),
+                    entry.getProperty(LAST_MODIFIED_KEY),
+                    Long.parseLong(entry.getProperty(FETCHED_AT_KEY, "0")));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Create temp file in the cache directory to download the content into.
+     *
+     * @return path to the temp file.
+     * @throws IOException - thrown if the file cannot be created.
+     */
+    Path createTempFile() throws IOException {
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, "download", ".tmp");
+    }
+
+    /**
+     * Store downloaded content and the cache entry of the URL.
+     *
+     * @param url          - config file URL.
+     * @param downloaded   - temp file with the downloaded content. Moved into the cache or deleted.
+     * @param sha256       - SHA-256 of the downloaded content.
+     * @param etag         - <code>ETag</code> response header. May be null.
+     * @param lastModified - <code>Last-Modified</code> response header. May be null.
+     * @return cached config file.
+     * @throws IOException - thrown if the cache cannot be written.
+     */
+    CachedConfigFile store(final URL url,
+                           final Path downloaded,
+                           final String sha256,
+                           final String etag,
+                           final String lastModified) throws IOException {
+        Path contentPath = directory.resolve(sha256 + CONTENT_EXTENSION);
+        if (Files.isRegularFile(contentPath) && sha256.equals(HashUtil.sha256Hex(contentPath))) {
+            Files.deleteIfExists(downloaded);
+        } else {
+            moveInPlace(downloaded, contentPath);
+        }
+        CachedConfigFile cached = new CachedConfigFile(
+                contentPath, sha256, etag, lastModified, System.currentTimeMillis());
+        writeEntry(url, cached);
+        return cached;
+    }
+
+    /**
+     * Mark cached content as revalidated.
+     *
+     * @param url    - config file URL.
+     * @param cached - cached config file.
+     * @return cached config file with the updated fetch time.
+     * @throws IOException - thrown if the cache cannot be written.
+     */
+    CachedConfigFile touch(final URL url,
+                           final CachedConfigFile cached) throws IOException {
+        CachedConfigFile touched = new CachedConfigFile(
+                cached.getPath(),
+                cached.getSha256(),
+                cached.getEtag(),
+                cached.getLastModified(),
+                System.currentTimeMillis());
+        writeEntry(url, touched);
+        return touched;
+    }
+
+    private void writeEntry(final URL url,
+                            final CachedConfigFile cached) throws IOException {
+        Properties entry = new Properties();
+        entry.setProperty(SHA_256_KEY, cached.getSha256());
+        if (cached.getEtag() != null) {
+            entry.setProperty(ETAG_KEY, cached.getEtag());
+        }
+        if (cached.getLastModified() != null) {
+            entry.setProperty(LAST_MODIFIED_KEY, cached.getLastModified());
+        }
+        entry.setProperty(FETCHED_AT_KEY, String.valueOf(cached.getFetchedAtMillis()));
+        Path temp = createTempFile();
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            entry.store(out, url.toString());
+        }
+        moveInPlace(temp, entryPath(url));
+    }
+
+    private Path entryPath(final URL url) {
+        return directory.resolve(HashUtil.sha256Hex(url.toString().getBytes(StandardCharsets.UTF_8))
+                + ENTRY_EXTENSION);
+    }
+
+    private static void moveInPlace(final Path source,
+                                    final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException | FileAlreadyExistsException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.htshame.gateway;
+
+import java.io.InputStream;
+
+/**
+ * Reader of the config file content.
+ *
+ * @param <T> - result type.
+ * @param <E> - exception thrown if reading fails.
+ */
+@FunctionalInterface
+public interface ConfigReader<T, E extends Exception> {
+
+    /**
+     * Read config file content.
+     *
+     * @param content  - config file content.
+     * @param systemId - system id of the content: URL or file URI.
+     * @return read result.
+     * @throws E - thrown if reading fails.
+     */
+    T read(InputStream content, String systemId) throws E;
+}
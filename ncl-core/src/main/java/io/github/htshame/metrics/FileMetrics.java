@@ -0,0 +1,113 @@
+package io.github.htshame.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics collected for a single changeLog file.
+ */
+public final class FileMetrics {
+
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder elementsParsed = new LongAdder();
+    private final LongAdder violations = new LongAdder();
+
+    /**
+     * Default constructor.
+     */
+    FileMetrics() {
+
+    }
+
+    /**
+     * Record parsing.
+     *
+     * @param nanos    - parsing time in nanoseconds.
+     * @param bytes    - number of bytes read.
+     * @param elements - number of parsed elements.
+     */
+    void recordParse(final long nanos,
+                     final long bytes,
+                     final long elements) {
+        parseNanos.add(nanos);
+        bytesRead.add(bytes);
+        elementsParsed.add(elements);
+    }
+
+    /**
+     * Record rule evaluation.
+     *
+     * @param nanos          - evaluation time in nanoseconds.
+     * @param violationCount - number of violations found.
+     */
+    void recordEvaluation(final long nanos,
+                          final long violationCount) {
+        evaluationNanos.add(nanos);
+        violations.add(violationCount);
+    }
+
+    /**
+     * Record bytes read outside of parsing.
+     *
+     * @param bytes - number of bytes read.
+     */
+    void recordBytesRead(final long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    /**
+     * Get parsing time in nanoseconds.
+     *
+     * @return parsing time in nanoseconds.
+     */
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    /**
+     * Get rule evaluation time in nanoseconds.
+     *
+     * @return rule evaluation time in nanoseconds.
+     */
+    public long getEvaluationNanos() {
+        return evaluationNanos.sum();
+    }
+
+    /**
+     * Get total time spent on the file in nanoseconds.
+     *
+     * @return total time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return getParseNanos() + getEvaluationNanos();
+    }
+
+    /**
+     * Get number of bytes read.
+     *
+     * @return number of bytes read.
+     */
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    /**
+     * Get number of elements built by the changeLog parsers. Elements of changeLogs loaded from the parsed
+     * changeLog cache are not counted.
+     *
+     * @return number of parsed elements.
+     */
+    public long getElementsParsed() {
+        return elementsParsed.sum();
+    }
+
+    /**
+     * Get number of violations.
+     *
+     * @return number of violations.
+     */
+    public long getViolations() {
+        return violations.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.htshame.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics collected for a single rule across all changeLog files.
+ */
+public final class RuleMetrics {
+
+    private final LongAdder evaluationNanos = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder violations = new LongAdder();
+
+    /**
+     * Default constructor.
+     */
+    RuleMetrics() {
+
+    }
+
+    /**
+     * Record rule evaluation.
+     *
+     * @param nanos           - evaluation time in nanoseconds.
+     * @param invocationCount - number of rule invocations.
+     * @param violationCount  - number of violations found.
+     */
+    void record(final long nanos,
+                final long invocationCount,
+                final long violationCount) {
+        evaluationNanos.add(nanos);
+        invocations.add(invocationCount);
+        violations.add(violationCount);
+    }
+
+    /**
+     * Get evaluation time in nanoseconds.
+     *
+     * @return evaluation time in nanoseconds.
+     */
+    public long getEvaluationNanos() {
+        return evaluationNanos.sum();
+    }
+
+    /**
+     * Get number of rule invocations.
+     *
+     * @return number of rule invocations.
+     */
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Get number of violations.
+     *
+     * @return number of violations.
+     */
+    public long getViolations() {
+        return violations.sum();
+    }
+}
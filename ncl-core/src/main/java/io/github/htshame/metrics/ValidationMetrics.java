@@ -0,0 +1,125 @@
+package io.github.htshame.metrics;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.RuleEnum;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collects performance metrics of a single validation run.
+ * <br>
+ * Metrics are collected per changeLog file and per rule. The class is thread-safe.
+ */
+public final class ValidationMetrics {
+
+    private static final ValidationMetrics DISABLED = new ValidationMetrics(false);
+
+    private final boolean enabled;
+    private final ConcurrentMap<String, FileMetrics> fileMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RuleEnum, RuleMetrics> ruleMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public ValidationMetrics() {
+        this(true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param enabled - whether metrics should be recorded.
+     */
+    private ValidationMetrics(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get metrics that record nothing. Used by long-lived validations that never report metrics.
+     *
+     * @return disabled metrics.
+     */
+    public static ValidationMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Record changeLog parsing.
+     *
+     * @param source   - changeLog source.
+     * @param nanos    - parsing time in nanoseconds.
+     * @param elements - number of parsed elements.
+     */
+    public void recordParse(final ChangeLogSource source,
+                            final long nanos,
+                            final long elements) {
+        if (!enabled) {
+            return;
+        }
+        getFileMetrics(source).recordParse(nanos, source.size(), elements);
+    }
+
+    /**
+     * Record changeLog read which is not a part of parsing.
+     *
+     * @param source - changeLog source.
+     */
+    public void recordBytesRead(final ChangeLogSource source) {
+        if (!enabled) {
+            return;
+        }
+        getFileMetrics(source).recordBytesRead(source.size());
+    }
+
+    /**
+     * Record rule evaluation against the changeLog.
+     *
+     * @param source      - changeLog source.
+     * @param rule        - rule.
+     * @param nanos       - evaluation time in nanoseconds.
+     * @param invocations - number of rule invocations.
+     * @param violations  - number of violations found.
+     */
+    public void recordRuleEvaluation(final ChangeLogSource source,
+                                     final RuleEnum rule,
+                                     final long nanos,
+                                     final long invocations,
+                                     final long violations) {
+        if (!enabled) {
+            return;
+        }
+        getFileMetrics(source).recordEvaluation(nanos, violations);
+        ruleMetrics.computeIfAbsent(rule, key -> new RuleMetrics()).record(nanos, invocations, violations);
+    }
+
+    /**
+     * Get metrics of all changeLog files, mapped by changeLog location.
+     *
+     * @return file metrics.
+     */
+    public Map<String, FileMetrics> getFileMetrics() {
+        return Collections.unmodifiableMap(fileMetrics);
+    }
+
+    /**
+     * Get metrics of all rules.
+     *
+     * @return rule metrics.
+     */
+    public Map<RuleEnum, RuleMetrics> getRuleMetrics() {
+        return Collections.unmodifiableMap(ruleMetrics);
+    }
+
+    /**
+     * Get or create metrics of the changeLog.
+     *
+     * @param source - changeLog source.
+     * @return file metrics.
+     */
+    private FileMetrics getFileMetrics(final ChangeLogSource source) {
+        return fileMetrics.computeIfAbsent(source.getLocation(), key -> new FileMetrics());
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.htshame.parser;
+
+import io.github.htshame.exception.RuleParserException;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.util.HashUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * On-disk cache of the compiled rulesets.
+ * <br>
+ * The rules parsed by {@link RuleParser} are stored as a binary snapshot keyed by SHA-256 of the rules file
+ * and the plugin version. When the same rules file is used again, rule processors are read straight from
+ * the snapshot and the rules XML is not parsed. A snapshot that cannot be read is ignored and rewritten.
+ */
+public final class CompiledRulesCache {
+
+    /**
+     * Snapshot file extension.
+     */
+    static final String SNAPSHOT_EXTENSION = ".rules";
+
+    private static final int MAGIC = 0x4E434C52;
+    private static final int FORMAT_VERSION = 1;
+    private static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=8;io.github.htshame.rule.processor.**;java.util.HashSet;java.util.Map$Entry;"
+                    + "java.lang.String;java.lang.Integer;java.lang.Number;!*");
+
+    private final Path directory;
+    private final String pluginVersion;
+
+    /**
+     * Constructor.
+     *
+     * @param directory     - directory of the snapshots.
+     * @param pluginVersion - plugin version. Snapshots of other versions are not used.
+     */
+    public CompiledRulesCache(final File directory,
+                              final String pluginVersion) {
+        this.directory = directory.toPath();
+        this.pluginVersion = pluginVersion;
+    }
+
+    /**
+     * Get rules of the rules file.
+     *
+     * @param rulesetFile - file with rules.
+     * @return list of rules.
+     * @throws RuleParserException - thrown if parsing fails.
+     */
+    public List<Rule> parseRules(final File rulesetFile) {
+        try (InputStream content = new FileInputStream(rulesetFile)) {
+            return parseRules(content, rulesetFile.toURI().toString());
+        } catch (IOException e) {
+            return RuleParser.parseRules(rulesetFile);
+        }
+    }
+
+    /**
+     * Get rules of the rules content.
+     *
+     * @param content  - rules XML content. Not closed by this method.
+     * @param systemId - system id of the content (file URI or URL).
+     * @return list of rules.
+     * @throws RuleParserException - thrown if reading or parsing fails.
+     */
+    public List<Rule> parseRules(final InputStream content,
+                                 final String systemId) {
+        byte[] bytes;
+        try {
+            bytes = content.readAllBytes();
+        } catch (IOException e) {
+            throw new RuleParserException("Error parsing ruleset XML file. Message: " + e.getMessage(), e);
+        }
+        Path snapshotPath = directory.resolve(snapshotKey(bytes) + SNAPSHOT_EXTENSION);
+        List<Rule> rules = readSnapshot(snapshotPath);
+        if (rules == null) {
+            rules = RuleParser.parseRules(new ByteArrayInputStream(bytes), systemId);
+            writeSnapshot(snapshotPath, rules);
+        }
+        return rules;
+    }
+
+    /**
+     * Compute snapshot key of the rules content.
+     *
+     * @param content - rules XML content.
+     * @return hex-encoded SHA-256 of the plugin version and the content.
+     */
+    String snapshotKey(final byte[] content) {
+        MessageDigest digest = HashUtil.newSha256Digest();
+        digest.update(String.valueOf(pluginVersion).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        return HashUtil.toHex(digest.digest());
+    }
+
+    /**
+     * Read rules from the snapshot.
+     *
+     * @param snapshotPath - snapshot file.
+     * @return list of rules. Null if there is no snapshot or it cannot be read.
+     */
+    static List<Rule> readSnapshot(final Path snapshotPath) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int size = in.readInt();
+            ObjectInputStream objectIn = new ObjectInputStream(in);
+            objectIn.setObjectInputFilter(SNAPSHOT_FILTER);
+            List<Rule> rules = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rules.add((Rule) objectIn.readObject());
+            }
+            return rules;
+        } catch (IOException | ClassNotFoundException | ClassCastException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeSnapshot(final Path snapshotPath,
+                               final List<Rule> rules) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "snapshot", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(rules.size());
+                ObjectOutputStream objectOut = new ObjectOutputStream(out);
+                for (Rule rule : rules) {
+                    objectOut.writeObject(rule);
+                }
+                objectOut.flush();
+            }
+            moveInPlace(temp, snapshotPath);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void moveInPlace(final Path source,
+                                    final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+}
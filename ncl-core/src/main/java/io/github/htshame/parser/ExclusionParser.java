@@ -3,6 +3,8 @@ package io.github.htshame.parser;
 import io.github.htshame.dto.ChangeSetExclusionDto;
 import io.github.htshame.enums.ExclusionTypeEnum;
 import io.github.htshame.enums.RuleEnum;
+import io.github.htshame.event.ExclusionsLoadedEvent;
+import io.github.htshame.event.FlightRecorderEvents;
 import io.github.htshame.exception.ExclusionParserException;
 import io.github.htshame.parser.exclusion.ChangeLogExclusionHandler;
 import io.github.htshame.parser.exclusion.ChangeSetExclusionHandler;
@@ -16,13 +18,15 @@ import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
-import static io.github.htshame.util.XmlUtil.newXmlDocumentBuilder;
+import static io.github.htshame.util.XmlUtil.xmlDocumentBuilder;
 
 /**
  * This class parses the exclusions XML file.
@@ -80,9 +84,30 @@ public final class ExclusionParser {
         if (exclusionsFile == null) {
             return new ExclusionParser();
         }
+        try (InputStream content = new FileInputStream(exclusionsFile)) {
+            return parseExclusions(content, exclusionsFile.getPath());
+        } catch (IOException e) {
+            throw new ExclusionParserException("Error parsing exclusion XML file");
+        }
+    }
+
+    /**
+     * Parse exclusions from a stream, e.g. straight from an HTTP response body.
+     *
+     * @param content - exclusions XML content. Not closed by this method.
+     * @param source  - source of the content (file path or URL), used for diagnostics.
+     * @return exclusion parser.
+     * @throws ExclusionParserException - if parsing fails.
+     */
+    public static ExclusionParser parseExclusions(final InputStream content,
+                                                  final String source) throws ExclusionParserException {
+        ExclusionsLoadedEvent event = FlightRecorderEvents.isEnabled() ? new ExclusionsLoadedEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
         ExclusionParser parser = new ExclusionParser();
         try {
-            Document document = newXmlDocumentBuilder().parse(exclusionsFile);
+            Document document = xmlDocumentBuilder().parse(content);
 
             NodeList elements = document.getDocumentElement().getChildNodes();
             for (int i = 0; i < elements.getLength(); i++) {
@@ -94,6 +119,12 @@ public final class ExclusionParser {
                 EXCLUSION_TYPE_MAP.get(ExclusionTypeEnum.fromTypeName(element.getTagName()))
                         .handle(element, parser);
             }
+            if (event != null) {
+                event.complete(source,
+                        parser.fileRuleExclusions.size(),
+                        parser.changeSetRuleExclusions.size(),
+                        parser.changeLogRuleExclusions.size());
+            }
             return parser;
         } catch (ParserConfigurationException | IOException | SAXException e) {
             throw new ExclusionParserException("Error parsing exclusion XML file");
@@ -13,12 +13,15 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.function.Function;
 
-import static io.github.htshame.util.XmlUtil.newXmlDocumentBuilder;
+import static io.github.htshame.util.XmlUtil.xmlDocumentBuilder;
 
 /**
  * Parses the rules XML file.
@@ -79,9 +82,26 @@ public final class RuleParser {
      * @throws RuleParserException - thrown if parsing fails.
      */
     public static List<Rule> parseRules(final File rulesetFile) {
+        try (InputStream content = new FileInputStream(rulesetFile)) {
+            return parseRules(content, rulesetFile.toURI().toString());
+        } catch (IOException e) {
+            throw new RuleParserException("Error parsing ruleset XML file. Message: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parse rules from a stream, e.g. straight from an HTTP response body.
+     *
+     * @param content  - rules XML content. Not closed by this method.
+     * @param systemId - system id of the content (file URI or URL), used to resolve relative references.
+     * @return list of rules.
+     * @throws RuleParserException - thrown if parsing fails.
+     */
+    public static List<Rule> parseRules(final InputStream content,
+                                        final String systemId) {
         List<Rule> rules = new ArrayList<>();
         try {
-            Document document = newXmlDocumentBuilder().parse(rulesetFile);
+            Document document = xmlDocumentBuilder().parse(content, systemId);
             NodeList ruleNodes = document.getElementsByTagName(RuleStructureEnum.RULE.getValue());
             for (int i = 0; i < ruleNodes.getLength(); i++) {
                 Element ruleElement = (Element) ruleNodes.item(i);
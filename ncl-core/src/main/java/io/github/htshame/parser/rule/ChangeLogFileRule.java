@@ -1,5 +1,6 @@
 package io.github.htshame.parser.rule;
 
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.exception.ValidationException;
 import io.github.htshame.rule.Rule;
 
@@ -10,11 +11,23 @@ import java.io.File;
  */
 public interface ChangeLogFileRule extends Rule {
 
+    /**
+     * Validates the changeLog against the rule which implements {@link ChangeLogFileRule}.
+     * <br>
+     * Rules read the content of the source, which is read once and shared with the parser and other rules.
+     *
+     * @param source - changeLog source.
+     * @throws ValidationException - thrown if validation fails.
+     */
+    void validateChangeLogFile(ChangeLogSource source) throws ValidationException;
+
     /**
      * Validates the changeLog file against the rule which implements {@link ChangeLogFileRule}.
      *
      * @param changeLogFile - changeLog file.
      * @throws ValidationException - thrown if validation fails.
      */
-    void validateChangeLogFile(File changeLogFile) throws ValidationException;
+    default void validateChangeLogFile(File changeLogFile) throws ValidationException {
+        validateChangeLogFile(ChangeLogSource.of(changeLogFile));
+    }
 }
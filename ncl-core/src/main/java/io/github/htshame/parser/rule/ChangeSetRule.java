@@ -25,4 +25,16 @@ public interface ChangeSetRule extends Rule {
                            String changeLogFileName,
                            ChangeLogFormatEnum changeLogFormat) throws ValidationException;
 
+    /**
+     * Whether the result of the rule depends on the values of the changeSet <code>id</code> and <code>author</code>.
+     * <br>
+     * Results of other rules are reused for changeSets with the same structure, whatever their id and author.
+     * Only the presence of the changeSet id and author, and whether they are blank, is taken into account.
+     *
+     * @return <code>true</code> if the rule reads the changeSet id or author. <code>false</code> - if not.
+     */
+    default boolean dependsOnChangeSetIdentity() {
+        return false;
+    }
+
 }
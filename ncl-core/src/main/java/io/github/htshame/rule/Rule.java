@@ -2,10 +2,15 @@ package io.github.htshame.rule;
 
 import io.github.htshame.enums.RuleEnum;
 
+import java.io.Serializable;
+import java.util.Set;
+
 /**
  * Rule interface.
+ * <br>
+ * Rules are serializable, so that parsed rules can be stored in a compiled ruleset snapshot.
  */
-public interface Rule {
+public interface Rule extends Serializable {
 
     /**
      * Get rule name.
@@ -13,4 +18,14 @@ public interface Rule {
      * @return rule name.
      */
     RuleEnum getName();
+
+    /**
+     * Get names of the tags the rule targets. The rule can report an error only on a changeLog
+     * that contains at least one of them, so other changeLogs do not have to be parsed for it.
+     *
+     * @return tag names. Null if the rule can report an error on any changeLog.
+     */
+    default Set<String> getTargetTags() {
+        return null;
+    }
 }
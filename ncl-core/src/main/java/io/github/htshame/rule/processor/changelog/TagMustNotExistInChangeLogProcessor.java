@@ -12,6 +12,7 @@ import io.github.htshame.util.RuleUtil;
 import org.w3c.dom.Element;
 
 import java.util.Objects;
+import java.util.Set;
 
 import static io.github.htshame.util.ErrorMessageUtil.getChangeLogErrorMessage;
 import static io.github.htshame.util.ErrorMessageUtil.validationErrorMessage;
@@ -34,7 +35,15 @@ import static io.github.htshame.util.RuleUtil.getText;
  */
 public class TagMustNotExistInChangeLogProcessor implements ChangeLogRule {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Forbidden tag.
+     */
     private final String forbiddenTag;
+    /**
+     * Target file name.
+     */
     private final String targetFileName;
 
     /**
@@ -100,4 +109,14 @@ public class TagMustNotExistInChangeLogProcessor implements ChangeLogRule {
     public RuleEnum getName() {
         return RuleEnum.TAG_MUST_NOT_EXIST_IN_CHANGELOG;
     }
+
+    /**
+     * Get names of the tags the rule targets.
+     *
+     * @return <code>rule.tag</code> value.
+     */
+    @Override
+    public Set<String> getTargetTags() {
+        return Set.of(forbiddenTag);
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.htshame.rule.processor.changelogfile;
 
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.dto.RuleValidationErrorDto;
 import io.github.htshame.enums.RuleEnum;
 import io.github.htshame.enums.RuleStructureEnum;
@@ -9,8 +10,6 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Objects;
@@ -42,7 +41,15 @@ import static io.github.htshame.util.RuleUtil.shouldCollectValuesRuleListFormat;
  */
 public class ChangeLogFileLinesLimitProcessor implements ChangeLogFileRule {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Lines limit.
+     */
     private final Integer linesLimit;
+    /**
+     * Excluded file names.
+     */
     private final Set<String> excludedFileNames;
 
     /**
@@ -61,15 +68,15 @@ public class ChangeLogFileLinesLimitProcessor implements ChangeLogFileRule {
     /**
      * Validate.
      *
-     * @param changeLogFile - changeLog file.
+     * @param source - changeLog source.
      * @throws ValidationException - if validation fails.
      */
     @Override
-    public void validateChangeLogFile(final File changeLogFile) throws ValidationException {
-        String fileName = changeLogFile.getName();
+    public void validateChangeLogFile(final ChangeLogSource source) throws ValidationException {
+        String fileName = source.getName();
         try {
             long lines = 0;
-            try (BufferedReader reader = new BufferedReader(new FileReader(changeLogFile))) {
+            try (BufferedReader reader = source.openReader()) {
                 while (reader.readLine() != null) {
                     lines++;
                 }
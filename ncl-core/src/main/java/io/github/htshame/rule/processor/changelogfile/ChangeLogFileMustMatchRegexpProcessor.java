@@ -1,5 +1,6 @@
 package io.github.htshame.rule.processor.changelogfile;
 
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.dto.RuleValidationErrorDto;
 import io.github.htshame.enums.RuleEnum;
 import io.github.htshame.enums.RuleStructureEnum;
@@ -8,7 +9,6 @@ import io.github.htshame.parser.rule.ChangeLogFileRule;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
-import java.io.File;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -39,7 +39,15 @@ import static io.github.htshame.util.RuleUtil.shouldCollectValuesRuleListFormat;
  */
 public class ChangeLogFileMustMatchRegexpProcessor implements ChangeLogFileRule {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * File name regexp.
+     */
     private final String fileNameRegexp;
+    /**
+     * Excluded file names.
+     */
     private final Set<String> excludedFileNames;
 
     /**
@@ -58,12 +66,12 @@ public class ChangeLogFileMustMatchRegexpProcessor implements ChangeLogFileRule
     /**
      * Validate.
      *
-     * @param changeLogFile - changeLog file.
+     * @param source - changeLog source.
      * @throws ValidationException - if validation fails.
      */
     @Override
-    public void validateChangeLogFile(final File changeLogFile) throws ValidationException {
-        String fileName = changeLogFile.getName();
+    public void validateChangeLogFile(final ChangeLogSource source) throws ValidationException {
+        String fileName = source.getName();
         if (!excludedFileNames.contains(fileName) && !fileName.matches(fileNameRegexp)) {
             Object[] messageArguments = {
                     fileName,
@@ -1,5 +1,6 @@
 package io.github.htshame.rule.processor.changelogfile;
 
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.enums.RuleEnum;
 import io.github.htshame.exception.ChangeLogRuleProcessingException;
 import io.github.htshame.exception.RuleParserException;
@@ -9,10 +10,7 @@ import io.github.htshame.util.RuleUtil;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 /**
  * Business logic for the <code>changelog-must-end-with-newline</code> rule.
@@ -29,6 +27,8 @@ import java.io.RandomAccessFile;
  */
 public class ChangeLogMustEndWithNewlineProcessor implements ChangeLogFileRule {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      * Constructor.
      */
@@ -39,15 +39,15 @@ public class ChangeLogMustEndWithNewlineProcessor implements ChangeLogFileRule {
     /**
      * Validate.
      *
-     * @param changeLogFile - changeLog file.
+     * @param source - changeLog source.
      * @throws ValidationException - if validation fails.
      */
     @Override
-    public void validateChangeLogFile(final File changeLogFile) throws ValidationException {
-        String fileName = changeLogFile.getName();
+    public void validateChangeLogFile(final ChangeLogSource source) throws ValidationException {
+        String fileName = source.getName();
         boolean doesFileEndWithNewLine;
         try {
-            doesFileEndWithNewLine = endsWithNewline(changeLogFile);
+            doesFileEndWithNewLine = endsWithNewline(source.getContent());
         } catch (IOException e) {
             throw new ChangeLogRuleProcessingException("Failed to process changeLog file [" + fileName + "]", e);
         }
@@ -63,46 +63,14 @@ public class ChangeLogMustEndWithNewlineProcessor implements ChangeLogFileRule {
     }
 
     /**
-     * Check that file ends with a new line.
+     * Check that content ends with a new line.
+     * Both Unix-style (<code>\n</code>) and Windows-style (<code>\r\n</code>) line endings end with <code>\n</code>.
      *
-     * @param file - file.
+     * @param content - changeLog content.
      * @return <code>true</code> if ends, <code>false</code> - if not.
-     * @throws IOException - in case something's wrong with the file.
      */
-    private static boolean endsWithNewline(final File file) throws IOException {
-        if (!file.exists()) {
-            throw new FileNotFoundException("File: " + file.getName() + " not found");
-        }
-        if (file.length() == 0) {
-            return false;
-        }
-
-        boolean endsWithNewline = false;
-
-        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
-            long length = randomAccessFile.length();
-            if (length >= 2) {
-                randomAccessFile.seek(length - 2);
-                int secondLastByte = randomAccessFile.read();
-                int lastByte = randomAccessFile.read();
-                // Check for Windows-style line ending (\r\n)
-                if (secondLastByte == '\r' && lastByte == '\n') {
-                    endsWithNewline = true;
-                } else if (lastByte == '\n') {
-                    // Check for Unix-style line ending (\n)
-                    endsWithNewline = true;
-                }
-            } else {
-                // File is only 1 byte long, check for Unix-style line ending
-                randomAccessFile.seek(length - 1);
-                int lastByte = randomAccessFile.read();
-                if (lastByte == '\n') {
-                    endsWithNewline = true;
-                }
-            }
-        }
-
-        return endsWithNewline;
+    private static boolean endsWithNewline(final byte[] content) {
+        return content.length > 0 && content[content.length - 1] == '\n';
     }
 
     /**
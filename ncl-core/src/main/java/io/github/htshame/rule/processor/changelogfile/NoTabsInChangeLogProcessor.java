@@ -1,5 +1,6 @@
 package io.github.htshame.rule.processor.changelogfile;
 
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.dto.RuleValidationErrorDto;
 import io.github.htshame.enums.RuleEnum;
 import io.github.htshame.exception.ChangeLogRuleProcessingException;
@@ -9,10 +10,7 @@ import io.github.htshame.parser.rule.ChangeLogFileRule;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.util.stream.Stream;
 
 import static io.github.htshame.util.ErrorMessageUtil.getChangeLogFileErrorMessage;
 
@@ -31,7 +29,8 @@ import static io.github.htshame.util.ErrorMessageUtil.getChangeLogFileErrorMessa
  */
 public class NoTabsInChangeLogProcessor implements ChangeLogFileRule {
 
-    private static final String TAB_CHARACTER = "\t";
+    private static final long serialVersionUID = 1L;
+    private static final byte TAB_CHARACTER = '\t';
 
     /**
      * Constructor.
@@ -43,23 +42,41 @@ public class NoTabsInChangeLogProcessor implements ChangeLogFileRule {
     /**
      * Validate.
      *
-     * @param changeLogFile - changeLog file.
+     * @param source - changeLog source.
      * @throws ValidationException - if validation fails.
      */
     @Override
-    public void validateChangeLogFile(final File changeLogFile) throws ValidationException {
-        String fileName = changeLogFile.getName();
-        try (Stream<String> linesStream = Files.lines(changeLogFile.toPath())) {
-            if (linesStream.anyMatch(line -> line.contains(TAB_CHARACTER))) {
-                Object[] messageArguments = {fileName, getName().getValue()};
-                String errorMessage = getChangeLogFileErrorMessage(
-                        getName(),
-                        messageArguments);
-                throw new ValidationException(new RuleValidationErrorDto(getName(), errorMessage, fileName));
-            }
+    public void validateChangeLogFile(final ChangeLogSource source) throws ValidationException {
+        String fileName = source.getName();
+        byte[] content;
+        try {
+            content = source.getContent();
         } catch (IOException e) {
             throw new ChangeLogRuleProcessingException("Failed to process changeLog file [" + fileName + "]", e);
         }
+        if (containsTab(content)) {
+            Object[] messageArguments = {fileName, getName().getValue()};
+            String errorMessage = getChangeLogFileErrorMessage(
+                    getName(),
+                    messageArguments);
+            throw new ValidationException(new RuleValidationErrorDto(getName(), errorMessage, fileName));
+        }
+    }
+
+    /**
+     * Check whether the content contains a tab. The tab byte is never a part of a multibyte UTF-8 character,
+     * so the content is scanned without decoding it.
+     *
+     * @param content - changeLog content.
+     * @return <code>true</code> if the content contains a tab.
+     */
+    private static boolean containsTab(final byte[] content) {
+        for (byte character : content) {
+            if (character == TAB_CHARACTER) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.github.htshame.rule.processor.changelogfile;
 
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.enums.RuleEnum;
 import io.github.htshame.exception.ChangeLogRuleProcessingException;
 import io.github.htshame.exception.RuleParserException;
@@ -10,11 +11,11 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Business logic for the <code>no-trailing-spaces-in-changelog</code> rule.
@@ -31,7 +32,8 @@ import java.util.List;
  */
 public class NoTrailingSpacesInChangeLogProcessor implements ChangeLogFileRule {
 
-    private static final String TRAILING_SPACES_REGEXP = ".*\\s$";
+    private static final long serialVersionUID = 1L;
+    private static final Pattern TRAILING_SPACES_REGEXP = Pattern.compile(".*\\s$");
 
     /**
      * Constructor.
@@ -43,18 +45,19 @@ public class NoTrailingSpacesInChangeLogProcessor implements ChangeLogFileRule {
     /**
      * Validate.
      *
-     * @param changeLogFile - changeLog file.
+     * @param source - changeLog source.
      * @throws ValidationException - if validation fails.
      */
     @Override
-    public void validateChangeLogFile(final File changeLogFile) throws ValidationException {
-        String fileName = changeLogFile.getName();
+    public void validateChangeLogFile(final ChangeLogSource source) throws ValidationException {
+        String fileName = source.getName();
         List<String> linesWithTrailingSpaces = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(changeLogFile))) {
+        try (BufferedReader reader = source.openReader()) {
             String line;
             int lineNumber = 1;
+            Matcher matcher = TRAILING_SPACES_REGEXP.matcher("");
             while ((line = reader.readLine()) != null) {
-                if (line.matches(TRAILING_SPACES_REGEXP)) {
+                if (matcher.reset(line).matches()) {
                     linesWithTrailingSpaces.add(fileName + ":" + lineNumber + " has trailing spaces or trailing tabs");
                 }
                 lineNumber++;
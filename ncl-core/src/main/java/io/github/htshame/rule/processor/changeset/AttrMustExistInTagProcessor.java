@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static io.github.htshame.util.ErrorMessageUtil.validationErrorMessage;
 
@@ -37,7 +38,15 @@ import static io.github.htshame.util.ErrorMessageUtil.validationErrorMessage;
  */
 public class AttrMustExistInTagProcessor implements ChangeSetRule {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Rule.tag value.
+     */
     private final String tag;
+    /**
+     * Rule.requiredAttr value.
+     */
     private final String requiredAttribute;
 
     /**
@@ -135,4 +144,14 @@ public class AttrMustExistInTagProcessor implements ChangeSetRule {
         }
         return childTags.item(0).getTextContent().trim();
     }
+
+    /**
+     * Get names of the tags the rule targets.
+     *
+     * @return <code>rule.tag</code> value.
+     */
+    @Override
+    public Set<String> getTargetTags() {
+        return Set.of(tag);
+    }
 }
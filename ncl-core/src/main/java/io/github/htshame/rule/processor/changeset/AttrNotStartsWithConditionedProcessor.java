@@ -7,6 +7,7 @@ import io.github.htshame.enums.RuleStructureEnum;
 import io.github.htshame.exception.ValidationException;
 import io.github.htshame.parser.ExclusionParser;
 import io.github.htshame.parser.rule.ChangeSetRule;
+import io.github.htshame.util.ChangeSetUtil;
 import io.github.htshame.util.ErrorMessageUtil;
 import io.github.htshame.util.RuleUtil;
 import org.w3c.dom.Element;
@@ -14,6 +15,7 @@ import org.w3c.dom.Element;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import static io.github.htshame.util.ErrorMessageUtil.validationErrorMessage;
 import static io.github.htshame.util.RuleUtil.getText;
@@ -45,10 +47,27 @@ import static io.github.htshame.util.RuleUtil.getText;
  */
 public class AttrNotStartsWithConditionedProcessor implements ChangeSetRule {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Rule.tag value.
+     */
     private final String tag;
+    /**
+     * Rule.conditionAttr value.
+     */
     private final String conditionAttr;
+    /**
+     * Rule.conditionValue value.
+     */
     private final String conditionValue;
+    /**
+     * Rule.targetAttr value.
+     */
     private final String targetAttr;
+    /**
+     * Rule.forbiddenPrefix value.
+     */
     private final String forbiddenPrefix;
 
     /**
@@ -152,4 +171,25 @@ public class AttrNotStartsWithConditionedProcessor implements ChangeSetRule {
                     RuleUtil.composeErrorMessage(changeSetElement, changeLogFileName, getName(), errors));
         }
     }
+
+    /**
+     * Whether the rule reads the changeSet id or author.
+     *
+     * @return <code>true</code> if the rule targets the <code>id</code> or <code>author</code> of the changeSet.
+     */
+    @Override
+    public boolean dependsOnChangeSetIdentity() {
+        return ChangeSetUtil.isIdentityAttribute(tag, targetAttr)
+                || ChangeSetUtil.isIdentityAttribute(tag, conditionAttr);
+    }
+
+    /**
+     * Get names of the tags the rule targets.
+     *
+     * @return <code>rule.tag</code> value.
+     */
+    @Override
+    public Set<String> getTargetTags() {
+        return Set.of(tag);
+    }
 }
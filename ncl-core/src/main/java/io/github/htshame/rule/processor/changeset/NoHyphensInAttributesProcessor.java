@@ -43,8 +43,12 @@ import static io.github.htshame.util.RuleUtil.shouldCollectValuesRuleListFormat;
  */
 public class NoHyphensInAttributesProcessor implements ChangeSetRule {
 
+    private static final long serialVersionUID = 1L;
     private static final String HYPHEN = "-";
 
+    /**
+     * Excluded attributes.
+     */
     private final Set<String> excludedAttrs;
 
     /**
@@ -42,6 +42,11 @@ import static io.github.htshame.util.RuleUtil.shouldCollectValuesRuleListFormat;
  */
 public class NoLowercaseInAttributesProcessor implements ChangeSetRule {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Excluded attributes.
+     */
     private final Set<String> excludedAttrs;
 
     /**
@@ -43,7 +43,11 @@ import static io.github.htshame.util.RuleUtil.shouldCollectValuesRuleListFormat;
  */
 public class NoSpacesInAttributesProcessor implements ChangeSetRule {
 
+    private static final long serialVersionUID = 1L;
     private static final Pattern SPACES_REGEXP = Pattern.compile(".*\\s+.*");
+    /**
+     * Excluded attributes.
+     */
     private final Set<String> excludedAttrs;
 
     /**
@@ -42,8 +42,12 @@ import static io.github.htshame.util.RuleUtil.shouldCollectValuesRuleListFormat;
  */
 public class NoUnderscoresInAttributesProcessor implements ChangeSetRule {
 
+    private static final long serialVersionUID = 1L;
     private static final String UNDERSCORE = "_";
 
+    /**
+     * Excluded attributes.
+     */
     private final Set<String> excludedAttrs;
 
     /**
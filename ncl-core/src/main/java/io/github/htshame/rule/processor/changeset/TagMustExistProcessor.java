@@ -50,7 +50,15 @@ import static io.github.htshame.util.RuleUtil.shouldCollectValuesRuleListFormat;
  */
 public class TagMustExistProcessor implements ChangeSetRule {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Rule.requiredTag value.
+     */
     private final String requiredTag;
+    /**
+     * Set of tags to search in for <code>requiredTag</code>.
+     */
     private final Set<String> requiredForChildTags;
 
     /**
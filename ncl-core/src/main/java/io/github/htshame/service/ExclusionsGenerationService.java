@@ -88,7 +88,8 @@ public class ExclusionsGenerationService {
                     + exclusionFileContent
                     + "</exclusions>"
                     + "\n====== Content generation of the exclusions file complete ======";
-            if (PluginTypeEnum.MAVEN.equals(config.getPluginType())) {
+            if (PluginTypeEnum.MAVEN.equals(config.getPluginType())
+                    || PluginTypeEnum.CLI.equals(config.getPluginType())) {
                 logger.info(exclusionsContent);
             } else if (PluginTypeEnum.GRADLE.equals(config.getPluginType())) {
                 logger.error(exclusionsContent);
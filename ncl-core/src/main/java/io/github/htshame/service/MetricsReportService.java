@@ -0,0 +1,256 @@
+package io.github.htshame.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.enums.RuleEnum;
+import io.github.htshame.log.PluginLogger;
+import io.github.htshame.metrics.FileMetrics;
+import io.github.htshame.metrics.RuleMetrics;
+import io.github.htshame.metrics.ValidationMetrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the performance report of the validation run.
+ * <br>
+ * The report consists of a JSON file, an OpenMetrics text file and a summary of the slowest files and rules.
+ */
+public class MetricsReportService {
+
+    /**
+     * JSON report file name.
+     */
+    public static final String JSON_REPORT_FILE_NAME = "ncl-metrics.json";
+
+    /**
+     * OpenMetrics report file name.
+     */
+    public static final String OPEN_METRICS_REPORT_FILE_NAME = "ncl-metrics.prom";
+
+    private static final int SUMMARY_SIZE = 10;
+    private static final double NANOS_IN_SECOND = 1_000_000_000d;
+    private static final double NANOS_IN_MILLISECOND = 1_000_000d;
+    private static final String LINE_BREAK = "\n";
+
+    private final PluginLogger logger;
+    private final PluginConfig config;
+
+    /**
+     * Constructor.
+     *
+     * @param logger - logger.
+     * @param config - plugin configuration.
+     */
+    public MetricsReportService(final PluginLogger logger,
+                                final PluginConfig config) {
+        this.logger = logger;
+        this.config = config;
+    }
+
+    /**
+     * Write the report files and log the summary.
+     *
+     * @param metrics - collected metrics.
+     */
+    public void report(final ValidationMetrics metrics) {
+        logSummary(metrics);
+        File outputDirectory = config.getOutputDirectory();
+        if (outputDirectory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(outputDirectory.toPath());
+            File jsonReport = new File(outputDirectory, JSON_REPORT_FILE_NAME);
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(jsonReport, toJsonReport(metrics));
+            File openMetricsReport = new File(outputDirectory, OPEN_METRICS_REPORT_FILE_NAME);
+            Files.write(openMetricsReport.toPath(), toOpenMetrics(metrics).getBytes(StandardCharsets.UTF_8));
+            logger.info("Performance report is written to [" + jsonReport + "] and [" + openMetricsReport + "]");
+        } catch (IOException e) {
+            logger.error("Failed to write performance report to [" + outputDirectory + "]", e);
+        }
+    }
+
+    /**
+     * Log top-10 slowest files and rules.
+     *
+     * @param metrics - collected metrics.
+     */
+    private void logSummary(final ValidationMetrics metrics) {
+        StringBuilder summary = new StringBuilder("====== Slowest changeLog files ======");
+        for (Map.Entry<String, FileMetrics> entry
+                : slowest(metrics.getFileMetrics(), FileMetrics::getTotalNanos)) {
+            FileMetrics fileMetrics = entry.getValue();
+            summary.append(LINE_BREAK).append(String.format(Locale.ROOT,
+                    "%10.3f ms (parse %.3f ms, rules %.3f ms) %s",
+                    toMillis(fileMetrics.getTotalNanos()),
+                    toMillis(fileMetrics.getParseNanos()),
+                    toMillis(fileMetrics.getEvaluationNanos()),
+                    entry.getKey()));
+        }
+        summary.append(LINE_BREAK).append("====== Slowest rules ======");
+        for (Map.Entry<RuleEnum, RuleMetrics> entry
+                : slowest(metrics.getRuleMetrics(), RuleMetrics::getEvaluationNanos)) {
+            RuleMetrics ruleMetrics = entry.getValue();
+            summary.append(LINE_BREAK).append(String.format(Locale.ROOT,
+                    "%10.3f ms (%d invocations, %d violations) %s",
+                    toMillis(ruleMetrics.getEvaluationNanos()),
+                    ruleMetrics.getInvocations(),
+                    ruleMetrics.getViolations(),
+                    entry.getKey().getValue()));
+        }
+        logger.info(summary.toString());
+    }
+
+    /**
+     * Compose the JSON report.
+     *
+     * @param metrics - collected metrics.
+     * @return JSON report structure.
+     */
+    private Map<String, Object> toJsonReport(final ValidationMetrics metrics) {
+        List<Map<String, Object>> files = new ArrayList<>();
+        for (Map.Entry<String, FileMetrics> entry
+                : slowest(metrics.getFileMetrics(), FileMetrics::getTotalNanos, Integer.MAX_VALUE)) {
+            FileMetrics fileMetrics = entry.getValue();
+            Map<String, Object> file = new LinkedHashMap<>();
+            file.put("path", entry.getKey());
+            file.put("parseNanos", fileMetrics.getParseNanos());
+            file.put("evaluationNanos", fileMetrics.getEvaluationNanos());
+            file.put("bytesRead", fileMetrics.getBytesRead());
+            file.put("elementsParsed", fileMetrics.getElementsParsed());
+            file.put("violations", fileMetrics.getViolations());
+            files.add(file);
+        }
+        List<Map<String, Object>> rules = new ArrayList<>();
+        for (Map.Entry<RuleEnum, RuleMetrics> entry
+                : slowest(metrics.getRuleMetrics(), RuleMetrics::getEvaluationNanos, Integer.MAX_VALUE)) {
+            RuleMetrics ruleMetrics = entry.getValue();
+            Map<String, Object> rule = new LinkedHashMap<>();
+            rule.put("rule", entry.getKey().getValue());
+            rule.put("evaluationNanos", ruleMetrics.getEvaluationNanos());
+            rule.put("invocations", ruleMetrics.getInvocations());
+            rule.put("violations", ruleMetrics.getViolations());
+            rules.add(rule);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("pluginVersion", config.getPluginVersion());
+        report.put("files", files);
+        report.put("rules", rules);
+        return report;
+    }
+
+    /**
+     * Compose the OpenMetrics report.
+     *
+     * @param metrics - collected metrics.
+     * @return OpenMetrics text exposition.
+     */
+    private String toOpenMetrics(final ValidationMetrics metrics) {
+        StringBuilder text = new StringBuilder();
+        Map<String, FileMetrics> files = metrics.getFileMetrics();
+        Map<RuleEnum, RuleMetrics> rules = metrics.getRuleMetrics();
+        appendSeconds(text, "ncl_file_parse_seconds", "Time spent parsing the changeLog file.",
+                "file", files, FileMetrics::getParseNanos);
+        appendSeconds(text, "ncl_file_evaluation_seconds", "Time spent evaluating rules against the changeLog file.",
+                "file", files, FileMetrics::getEvaluationNanos);
+        appendCounter(text, "ncl_file_bytes_read", "Bytes read from the changeLog file.",
+                "file", files, FileMetrics::getBytesRead);
+        appendCounter(text, "ncl_file_elements_parsed", "ChangeLog elements built by the parsers.",
+                "file", files, FileMetrics::getElementsParsed);
+        appendCounter(text, "ncl_file_violations", "Violations found in the changeLog file.",
+                "file", files, FileMetrics::getViolations);
+        Map<String, RuleMetrics> rulesByName = rules.entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().getValue(), Map.Entry::getValue));
+        appendSeconds(text, "ncl_rule_evaluation_seconds", "Time spent evaluating the rule.",
+                "rule", rulesByName, RuleMetrics::getEvaluationNanos);
+        appendCounter(text, "ncl_rule_invocations", "Number of rule invocations.",
+                "rule", rulesByName, RuleMetrics::getInvocations);
+        appendCounter(text, "ncl_rule_violations", "Violations found by the rule.",
+                "rule", rulesByName, RuleMetrics::getViolations);
+        return text.append("# EOF").append(LINE_BREAK).toString();
+    }
+
+    private static <T> void appendCounter(final StringBuilder text,
+                                          final String name,
+                                          final String help,
+                                          final String label,
+                                          final Map<String, T> values,
+                                          final ToLongFunction<T> getter) {
+        appendHeader(text, name, help);
+        for (Map.Entry<String, T> entry : values.entrySet()) {
+            appendSample(text, name, label, entry.getKey(), String.valueOf(getter.applyAsLong(entry.getValue())));
+        }
+    }
+
+    private static <T> void appendSeconds(final StringBuilder text,
+                                          final String name,
+                                          final String help,
+                                          final String label,
+                                          final Map<String, T> values,
+                                          final ToLongFunction<T> getter) {
+        appendHeader(text, name, help);
+        for (Map.Entry<String, T> entry : values.entrySet()) {
+            double seconds = getter.applyAsLong(entry.getValue()) / NANOS_IN_SECOND;
+            appendSample(text, name, label, entry.getKey(), String.format(Locale.ROOT, "%.9f", seconds));
+        }
+    }
+
+    private static void appendHeader(final StringBuilder text,
+                                     final String name,
+                                     final String help) {
+        text.append("# TYPE ").append(name).append(" counter").append(LINE_BREAK)
+                .append("# HELP ").append(name).append(' ').append(help).append(LINE_BREAK);
+    }
+
+    private static void appendSample(final StringBuilder text,
+                                     final String name,
+                                     final String label,
+                                     final String labelValue,
+                                     final String value) {
+        text.append(name).append("_total{").append(label).append("=\"")
+                .append(escapeLabelValue(labelValue)).append("\"} ")
+                .append(value).append(LINE_BREAK);
+    }
+
+    /**
+     * Escape OpenMetrics label value.
+     *
+     * @param value - label value.
+     * @return escaped label value.
+     */
+    static String escapeLabelValue(final String value) {
+        return value.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n");
+    }
+
+    private static <K, V> List<Map.Entry<K, V>> slowest(final Map<K, V> values,
+                                                        final ToLongFunction<V> nanos) {
+        return slowest(values, nanos, SUMMARY_SIZE);
+    }
+
+    private static <K, V> List<Map.Entry<K, V>> slowest(final Map<K, V> values,
+                                                        final ToLongFunction<V> nanos,
+                                                        final int limit) {
+        return values.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<K, V> entry) -> nanos.applyAsLong(entry.getValue())).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / NANOS_IN_MILLISECOND;
+    }
+}
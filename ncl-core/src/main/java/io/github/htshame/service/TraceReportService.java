@@ -0,0 +1,144 @@
+package io.github.htshame.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.log.PluginLogger;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.Tracer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the spans of the validation run to a file in OTLP JSON format.
+ * <br>
+ * The file can be sent to any OpenTelemetry collector as is, e.g. with the OTLP/HTTP JSON exporter,
+ * or loaded into a trace viewer. No collector is required during the build.
+ */
+public class TraceReportService {
+
+    /**
+     * Trace file name.
+     */
+    public static final String TRACE_FILE_NAME = "ncl-trace.json";
+
+    private static final String SERVICE_NAME = "naming-convention-liquibase";
+    private static final String SCOPE_NAME = "io.github.htshame.ncl";
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int STATUS_CODE_ERROR = 2;
+
+    private final PluginLogger logger;
+    private final PluginConfig config;
+
+    /**
+     * Constructor.
+     *
+     * @param logger - logger.
+     * @param config - plugin configuration.
+     */
+    public TraceReportService(final PluginLogger logger,
+                              final PluginConfig config) {
+        this.logger = logger;
+        this.config = config;
+    }
+
+    /**
+     * Write finished spans of the tracer to the trace file.
+     *
+     * @param tracer - tracer.
+     */
+    public void report(final Tracer tracer) {
+        List<Span> spans = tracer.drainFinishedSpans();
+        File outputDirectory = config.getOutputDirectory();
+        if (outputDirectory == null || spans.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(outputDirectory.toPath());
+            File traceFile = new File(outputDirectory, TRACE_FILE_NAME);
+            new ObjectMapper().writeValue(traceFile, toOtlpJson(spans));
+            logger.info("Trace is written to [" + traceFile + "]");
+        } catch (IOException e) {
+            logger.error("Failed to write trace to [" + outputDirectory + "]", e);
+        }
+    }
+
+    /**
+     * Compose OTLP JSON trace request.
+     *
+     * @param spans - finished spans.
+     * @return OTLP JSON structure.
+     */
+    private Map<String, Object> toOtlpJson(final List<Span> spans) {
+        List<Map<String, Object>> otlpSpans = new ArrayList<>();
+        for (Span span : spans) {
+            Map<String, Object> otlpSpan = new LinkedHashMap<>();
+            otlpSpan.put("traceId", span.getTraceId());
+            otlpSpan.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                otlpSpan.put("parentSpanId", span.getParentSpanId());
+            }
+            otlpSpan.put("name", span.getName());
+            otlpSpan.put("kind", SPAN_KIND_INTERNAL);
+            otlpSpan.put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()));
+            otlpSpan.put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+            otlpSpan.put("attributes", toAttributes(span.getAttributes()));
+            if (span.getErrorMessage() != null) {
+                Map<String, Object> status = new LinkedHashMap<>();
+                status.put("code", STATUS_CODE_ERROR);
+                status.put("message", span.getErrorMessage());
+                otlpSpan.put("status", status);
+            }
+            otlpSpans.add(otlpSpan);
+        }
+
+        Map<String, String> resourceAttributes = new LinkedHashMap<>();
+        resourceAttributes.put("service.name", SERVICE_NAME);
+        resourceAttributes.put("service.version", config.getPluginVersion());
+        if (config.getPluginType() != null) {
+            resourceAttributes.put("ncl.plugin.type", config.getPluginType().name());
+        }
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("attributes", toAttributes(resourceAttributes));
+
+        Map<String, Object> scope = new LinkedHashMap<>();
+        scope.put("name", SCOPE_NAME);
+        scope.put("version", config.getPluginVersion());
+
+        Map<String, Object> scopeSpans = new LinkedHashMap<>();
+        scopeSpans.put("scope", scope);
+        scopeSpans.put("spans", otlpSpans);
+
+        Map<String, Object> resourceSpans = new LinkedHashMap<>();
+        resourceSpans.put("resource", resource);
+        resourceSpans.put("scopeSpans", Collections.singletonList(scopeSpans));
+
+        return Collections.singletonMap("resourceSpans", Collections.singletonList(resourceSpans));
+    }
+
+    /**
+     * Convert attributes to OTLP key-value list.
+     *
+     * @param attributes - attributes.
+     * @return OTLP key-value list.
+     */
+    private static List<Map<String, Object>> toAttributes(final Map<String, String> attributes) {
+        List<Map<String, Object>> keyValues = new ArrayList<>();
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            if (attribute.getValue() == null) {
+                continue;
+            }
+            Map<String, Object> keyValue = new LinkedHashMap<>();
+            keyValue.put("key", attribute.getKey());
+            keyValue.put("value", Collections.singletonMap("stringValue", attribute.getValue()));
+            keyValues.add(keyValue);
+        }
+        return keyValues;
+    }
+}
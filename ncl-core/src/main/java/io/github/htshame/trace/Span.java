@@ -0,0 +1,173 @@
+package io.github.htshame.trace;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single timed operation of the validation run.
+ * <br>
+ * Span is ended either explicitly via {@link #end()} or by try-with-resources.
+ * While the span is open, it is the parent of the spans started on the same thread.
+ */
+public final class Span implements AutoCloseable {
+
+    /**
+     * Span that records nothing. Returned by a disabled tracer.
+     */
+    static final Span NOOP = new Span(null, null, "", "", null, 0L);
+
+    private final Tracer tracer;
+    private final Span previous;
+    private final String name;
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final long startEpochNanos;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private long endEpochNanos;
+    private String errorMessage;
+    private boolean ended;
+
+    /**
+     * Constructor.
+     *
+     * @param tracer          - tracer that created the span.
+     * @param previous        - span that was current on the thread when this span started.
+     * @param name            - span name.
+     * @param traceId         - trace id.
+     * @param parentSpanId    - parent span id. Null for the root span.
+     * @param startEpochNanos - start time in nanoseconds since epoch.
+     */
+    Span(final Tracer tracer,
+         final Span previous,
+         final String name,
+         final String traceId,
+         final String parentSpanId,
+         final long startEpochNanos) {
+        this.tracer = tracer;
+        this.previous = previous;
+        this.name = name;
+        this.traceId = traceId;
+        this.spanId = tracer == null ? "" : Tracer.randomHex(Tracer.SPAN_ID_BYTES);
+        this.parentSpanId = parentSpanId;
+        this.startEpochNanos = startEpochNanos;
+    }
+
+    /**
+     * Set span attribute.
+     *
+     * @param key   - attribute key.
+     * @param value - attribute value.
+     * @return this span.
+     */
+    public Span setAttribute(final String key, final Object value) {
+        if (tracer != null && value != null) {
+            attributes.put(key, String.valueOf(value));
+        }
+        return this;
+    }
+
+    /**
+     * Mark the span as failed.
+     *
+     * @param message - error message.
+     */
+    public void setError(final String message) {
+        if (tracer != null) {
+            this.errorMessage = message;
+        }
+    }
+
+    /**
+     * End the span and restore the previous span as the current one.
+     */
+    public void end() {
+        if (tracer == null || ended) {
+            return;
+        }
+        ended = true;
+        endEpochNanos = tracer.nowEpochNanos();
+        tracer.finish(this, previous);
+    }
+
+    /**
+     * End the span.
+     */
+    @Override
+    public void close() {
+        end();
+    }
+
+    /**
+     * Get span name.
+     *
+     * @return span name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get trace id.
+     *
+     * @return hex-encoded trace id.
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Get span id.
+     *
+     * @return hex-encoded span id.
+     */
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Get parent span id.
+     *
+     * @return hex-encoded parent span id. Null for the root span.
+     */
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    /**
+     * Get start time.
+     *
+     * @return start time in nanoseconds since epoch.
+     */
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    /**
+     * Get end time.
+     *
+     * @return end time in nanoseconds since epoch.
+     */
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    /**
+     * Get span attributes.
+     *
+     * @return unmodifiable map of attributes.
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Get error message.
+     *
+     * @return error message. Null if the span did not fail.
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
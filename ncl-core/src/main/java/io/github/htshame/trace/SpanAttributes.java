@@ -0,0 +1,54 @@
+package io.github.htshame.trace;
+
+/**
+ * Keys of the span attributes.
+ */
+public final class SpanAttributes {
+
+    /**
+     * Path to the changeLog file.
+     */
+    public static final String FILE_PATH = "ncl.file.path";
+
+    /**
+     * ChangeLog format.
+     */
+    public static final String FORMAT = "ncl.changelog.format";
+
+    /**
+     * Rule name.
+     */
+    public static final String RULE = "ncl.rule";
+
+    /**
+     * Source of the rules or exclusions: file path or URL.
+     */
+    public static final String SOURCE = "ncl.source";
+
+    /**
+     * Number of items produced by the span: rules, exclusions, files or parsed elements.
+     */
+    public static final String COUNT = "ncl.count";
+
+    /**
+     * Number of violations found.
+     */
+    public static final String VIOLATIONS = "ncl.violations";
+
+    /**
+     * Whether the result was loaded from a cache.
+     */
+    public static final String CACHE_HIT = "ncl.cache.hit";
+
+    /**
+     * Whether the changeLog was skipped, since no rule targets its tags.
+     */
+    public static final String SKIPPED = "ncl.skipped";
+
+    /**
+     * Private constructor.
+     */
+    private SpanAttributes() {
+
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.htshame.trace;
+
+/**
+ * Names of the spans of the validation run.
+ */
+public final class SpanNames {
+
+    /**
+     * Root span of the plugin execution.
+     */
+    public static final String EXECUTE = "ncl.execute";
+
+    /**
+     * Loading of the rules file.
+     */
+    public static final String RULES_LOAD = "ncl.rules.load";
+
+    /**
+     * Loading of the exclusions file.
+     */
+    public static final String EXCLUSIONS_LOAD = "ncl.exclusions.load";
+
+    /**
+     * Collection of the changeLog files.
+     */
+    public static final String CHANGELOG_COLLECT = "ncl.changelog.collect";
+
+    /**
+     * Staged validation pipeline: directory walk, reading, parsing and rule evaluation.
+     */
+    public static final String PIPELINE = "ncl.pipeline";
+
+    /**
+     * Validation of the changeLog files reachable from the master changeLog.
+     */
+    public static final String INCLUDE_GRAPH = "ncl.include.graph";
+
+    /**
+     * Validation of the changeLog files of a single JAR or ZIP archive.
+     */
+    public static final String ARCHIVE_VALIDATE = "ncl.archive.validate";
+
+    /**
+     * Reading of a single changeLog file.
+     */
+    public static final String CHANGELOG_READ = "ncl.changelog.read";
+
+    /**
+     * Validation of a single changeLog file.
+     */
+    public static final String CHANGELOG_VALIDATE = "ncl.changelog.validate";
+
+    /**
+     * Parsing of a single changeLog file.
+     */
+    public static final String CHANGELOG_PARSE = "ncl.changelog.parse";
+
+    /**
+     * ChangeLog file rule validator stage.
+     */
+    public static final String CHANGELOG_FILE_RULE_VALIDATOR = "ncl.validator.changeLogFile";
+
+    /**
+     * ChangeSet rule validator stage.
+     */
+    public static final String CHANGESET_RULE_VALIDATOR = "ncl.validator.changeSet";
+
+    /**
+     * ChangeLog rule validator stage.
+     */
+    public static final String CHANGELOG_RULE_VALIDATOR = "ncl.validator.changeLog";
+
+    /**
+     * Evaluation of a single rule against a changeLog file.
+     */
+    public static final String RULE_EVALUATE = "ncl.rule.evaluate";
+
+    /**
+     * Private constructor.
+     */
+    private SpanNames() {
+
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.htshame.trace;
+
+import io.github.htshame.util.HashUtil;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates spans of the validation run and collects the finished ones.
+ * <br>
+ * The current span is tracked per thread, so a span started without an explicit parent
+ * becomes a child of the span that is open on the same thread.
+ * A span started with no open span becomes the root of a new trace.
+ * The tracer is thread-safe.
+ */
+public final class Tracer {
+
+    /**
+     * Trace id length in bytes.
+     */
+    static final int TRACE_ID_BYTES = 16;
+
+    /**
+     * Span id length in bytes.
+     */
+    static final int SPAN_ID_BYTES = 8;
+
+    private static final Tracer DISABLED = new Tracer(false);
+
+    private final boolean enabled;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final ThreadLocal<Span> currentSpan = new ThreadLocal<>();
+    private final Queue<Span> finishedSpans = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Default constructor.
+     */
+    public Tracer() {
+        this(true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param enabled - whether spans should be recorded.
+     */
+    private Tracer(final boolean enabled) {
+        this.enabled = enabled;
+        this.startEpochNanos = ChronoUnit.NANOS.between(Instant.EPOCH, Instant.now());
+        this.startNanoTime = System.nanoTime();
+    }
+
+    /**
+     * Get tracer that records nothing.
+     *
+     * @return disabled tracer.
+     */
+    public static Tracer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Start a span as a child of the span that is open on the current thread.
+     *
+     * @param name - span name.
+     * @return started span.
+     */
+    public Span startSpan(final String name) {
+        return startSpan(name, currentSpan.get());
+    }
+
+    /**
+     * Start a span as a child of the given span.
+     *
+     * @param name   - span name.
+     * @param parent - parent span. Null to start a new trace.
+     * @return started span.
+     */
+    public Span startSpan(final String name, final Span parent) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        boolean isRoot = parent == null || parent == Span.NOOP;
+        Span span = new Span(
+                this,
+                currentSpan.get(),
+                name,
+                isRoot ? randomHex(TRACE_ID_BYTES) : parent.getTraceId(),
+                isRoot ? null : parent.getSpanId(),
+                nowEpochNanos());
+        currentSpan.set(span);
+        return span;
+    }
+
+    /**
+     * Get the span that is open on the current thread.
+     *
+     * @return current span. Null if there is none.
+     */
+    public Span getCurrentSpan() {
+        return currentSpan.get();
+    }
+
+    /**
+     * Remove and return all finished spans.
+     *
+     * @return finished spans in the order they ended.
+     */
+    public List<Span> drainFinishedSpans() {
+        List<Span> spans = new ArrayList<>();
+        Span span;
+        while ((span = finishedSpans.poll()) != null) {
+            spans.add(span);
+        }
+        return spans;
+    }
+
+    /**
+     * Register a finished span.
+     *
+     * @param span     - finished span.
+     * @param previous - span to restore as the current one.
+     */
+    void finish(final Span span, final Span previous) {
+        finishedSpans.add(span);
+        if (currentSpan.get() == span) {
+            if (previous == null) {
+                currentSpan.remove();
+            } else {
+                currentSpan.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Get current time. Monotonic within the tracer.
+     *
+     * @return current time in nanoseconds since epoch.
+     */
+    long nowEpochNanos() {
+        return startEpochNanos + (System.nanoTime() - startNanoTime);
+    }
+
+    /**
+     * Generate random hex-encoded id.
+     *
+     * @param bytes - id length in bytes.
+     * @return hex-encoded id.
+     */
+    static String randomHex(final int bytes) {
+        byte[] id = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(id);
+        return HashUtil.toHex(id);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.htshame.util;
+
+import java.io.File;
+
+/**
+ * Utility class for locating artifacts in the local Maven repository.
+ */
+public final class ArtifactUtil {
+
+    private static final String DEFAULT_TYPE = "jar";
+    private static final int GROUP_ID = 0;
+    private static final int ARTIFACT_ID = 1;
+    private static final int VERSION = 2;
+    private static final int TYPE = 3;
+    private static final int CLASSIFIER = 4;
+    private static final int MIN_PARTS = 3;
+    private static final int MAX_PARTS = 5;
+
+    /**
+     * Private constructor.
+     */
+    private ArtifactUtil() {
+
+    }
+
+    /**
+     * Resolve artifact coordinates to the artifact file of the local repository.
+     * <br>
+     * Coordinates have the form <code>groupId:artifactId:version[:type[:classifier]]</code>,
+     * type is <code>jar</code> by default. The artifact is neither downloaded nor checked for existence.
+     *
+     * @param localRepository - local repository directory, e.g. <code>~/.m2/repository</code>.
+     * @param coordinates     - artifact coordinates.
+     * @return artifact file.
+     * @throws IllegalArgumentException - thrown if the coordinates are malformed.
+     */
+    public static File resolveArtifact(final File localRepository,
+                                       final String coordinates) {
+        String[] parts = coordinates.trim().split(":", -1);
+        if (parts.length < MIN_PARTS || parts.length > MAX_PARTS) {
+            throw new IllegalArgumentException(invalidCoordinates(coordinates));
+        }
+        for (String part : parts) {
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException(invalidCoordinates(coordinates));
+            }
+        }
+        String type = parts.length > TYPE ? parts[TYPE] : DEFAULT_TYPE;
+        String classifier = parts.length > CLASSIFIER ? "-" + parts[CLASSIFIER] : "";
+        File directory = new File(localRepository, parts[GROUP_ID].replace('.', File.separatorChar));
+        directory = new File(new File(directory, parts[ARTIFACT_ID]), parts[VERSION]);
+        return new File(directory, parts[ARTIFACT_ID] + "-" + parts[VERSION] + classifier + "." + type);
+    }
+
+    private static String invalidCoordinates(final String coordinates) {
+        return "Artifact coordinates [" + coordinates + "] must have the form "
+                + "groupId:artifactId:version[:type[:classifier]]";
+    }
+}
@@ -1,18 +1,40 @@
 package io.github.htshame.util;
 
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.exception.ChangeLogCollectorException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Collects all XML files within the given changeLog directory.
+ * Collects changeLog files within the given changeLog directories.
+ * <br>
+ * Ignored directories are pruned before they are descended into, see {@link ChangeLogIgnore}.
+ * Extensions are compared in place on the file names, without lowercase copies of the paths.
  */
 public final class ChangeLogFilesCollector {
 
@@ -24,7 +46,7 @@ public final class ChangeLogFilesCollector {
     }
 
     /**
-     * Collect XML files from the changeLog directory.
+     * Collect changeLog files of the format from the changeLog directory.
      *
      * @param changeLogFilesPath - path to changeLog files.
      * @param fileExtension      - file extension.
@@ -34,14 +56,435 @@ public final class ChangeLogFilesCollector {
     public static List<File> collectChangeLogFiles(final File changeLogFilesPath,
                                                    final ChangeLogFormatEnum fileExtension)
             throws ChangeLogCollectorException {
-        try (Stream<Path> paths = Files.walk(changeLogFilesPath.toPath())) {
-            return paths
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().toLowerCase().endsWith("." + fileExtension.getValue()))
-                    .map(Path::toFile)
+        return collectChangeLogFiles(List.of(changeLogFilesPath), EnumSet.of(fileExtension));
+    }
+
+    /**
+     * Collect changeLog files of any of the formats from the changeLog directories.
+     * <br>
+     * Files found under several directories, e.g. nested ones, are collected once.
+     *
+     * @param changeLogDirectories - changeLog directories.
+     * @param fileExtensions       - file extensions.
+     * @return list of changeLog files, in the order of the directories.
+     * @throws ChangeLogCollectorException - thrown in case collection fails.
+     */
+    public static List<File> collectChangeLogFiles(final List<File> changeLogDirectories,
+                                                   final Set<ChangeLogFormatEnum> fileExtensions)
+            throws ChangeLogCollectorException {
+        return collectChangeLogFiles(changeLogDirectories, fileExtensions, ChangeLogIgnore.NONE);
+    }
+
+    /**
+     * Collect changeLog files of any of the formats from the changeLog directories, skipping ignored paths.
+     * <br>
+     * Every directory tree is walked in parallel by the common {@link ForkJoinPool}: subdirectories are
+     * listed concurrently, and files are returned in the same order as a sequential walk would return them.
+     * Files found under several directories, e.g. nested ones, are collected once.
+     *
+     * @param changeLogDirectories - changeLog directories.
+     * @param fileExtensions       - file extensions.
+     * @param changeLogIgnore      - ignored paths.
+     * @return list of changeLog files, in the order of the directories.
+     * @throws ChangeLogCollectorException - thrown in case collection fails.
+     */
+    public static List<File> collectChangeLogFiles(final List<File> changeLogDirectories,
+                                                   final Set<ChangeLogFormatEnum> fileExtensions,
+                                                   final ChangeLogIgnore changeLogIgnore)
+            throws ChangeLogCollectorException {
+        Set<Path> collected = new HashSet<>();
+        List<File> changeLogFiles = new ArrayList<>();
+        for (File changeLogDirectory : changeLogDirectories) {
+            List<Path> paths;
+            try {
+                Path root = changeLogDirectory.toPath();
+                paths = isDirectory(root)
+                        ? ForkJoinPool.commonPool().invoke(
+                                new DirectoryWalk(root, changeLogIgnore.root(root), fileExtensions))
+                        : rootFile(root, fileExtensions);
+            } catch (IOException e) {
+                throw new ChangeLogCollectorException("Failed to walk directory: " + changeLogDirectory, e);
+            } catch (UncheckedIOException e) {
+                throw new ChangeLogCollectorException("Failed to walk directory: " + changeLogDirectory,
+                        e.getCause());
+            }
+            for (Path path : paths) {
+                if (collected.add(path.toAbsolutePath().normalize())) {
+                    changeLogFiles.add(path.toFile());
+                }
+            }
+        }
+        return changeLogFiles;
+    }
+
+    /**
+     * Collect changeLog files from the changeLog directory of any file system, e.g. a directory inside a zip file.
+     *
+     * @param changeLogDirectory - changeLog directory.
+     * @param fileExtension      - file extension.
+     * @return list of changeLog sources. Files are read on first use.
+     * @throws ChangeLogCollectorException - thrown in case collection fails.
+     */
+    public static List<ChangeLogSource> collectChangeLogSources(final Path changeLogDirectory,
+                                                                final ChangeLogFormatEnum fileExtension)
+            throws ChangeLogCollectorException {
+        return collectChangeLogSources(changeLogDirectory, EnumSet.of(fileExtension));
+    }
+
+    /**
+     * Collect changeLog files of any of the formats from the changeLog directory of any file system.
+     *
+     * @param changeLogDirectory - changeLog directory.
+     * @param fileExtensions     - file extensions.
+     * @return list of changeLog sources. Files are read on first use.
+     * @throws ChangeLogCollectorException - thrown in case collection fails.
+     */
+    public static List<ChangeLogSource> collectChangeLogSources(final Path changeLogDirectory,
+                                                                final Set<ChangeLogFormatEnum> fileExtensions)
+            throws ChangeLogCollectorException {
+        try (Stream<Path> paths = walk(changeLogDirectory, fileExtensions, ChangeLogIgnore.NONE)) {
+            return paths.map(ChangeLogSource::of)
                     .collect(Collectors.toList());
         } catch (IOException e) {
-            throw new ChangeLogCollectorException("Failed to walk directory: " + changeLogFilesPath, e);
+            throw new ChangeLogCollectorException("Failed to walk directory: " + changeLogDirectory, e);
+        } catch (UncheckedIOException e) {
+            throw new ChangeLogCollectorException("Failed to walk directory: " + changeLogDirectory, e.getCause());
+        }
+    }
+
+    /**
+     * Lazily walk the changeLog directory.
+     * <br>
+     * Files are produced while the directory is being walked, so the consumer can start processing
+     * the first files before the walk is complete. The stream must be closed after use.
+     * An I/O error during the walk is thrown as {@link UncheckedIOException} by the stream.
+     *
+     * @param changeLogFilesPath - path to changeLog files.
+     * @param fileExtension      - file extension.
+     * @return stream of changeLog files.
+     * @throws ChangeLogCollectorException - thrown in case the walk cannot be started.
+     */
+    public static Stream<File> streamChangeLogFiles(final File changeLogFilesPath,
+                                                    final ChangeLogFormatEnum fileExtension)
+            throws ChangeLogCollectorException {
+        return streamChangeLogFiles(List.of(changeLogFilesPath), EnumSet.of(fileExtension));
+    }
+
+    /**
+     * Lazily walk the changeLog directories one after another, producing files of any of the formats.
+     *
+     * @param changeLogDirectories - changeLog directories.
+     * @param fileExtensions       - file extensions.
+     * @return stream of changeLog files.
+     * @throws ChangeLogCollectorException - thrown in case the walk of a directory cannot be started.
+     * @see #streamChangeLogFiles(List, Set, ChangeLogIgnore)
+     */
+    public static Stream<File> streamChangeLogFiles(final List<File> changeLogDirectories,
+                                                    final Set<ChangeLogFormatEnum> fileExtensions)
+            throws ChangeLogCollectorException {
+        return streamChangeLogFiles(changeLogDirectories, fileExtensions, ChangeLogIgnore.NONE);
+    }
+
+    /**
+     * Lazily walk the changeLog directories one after another, producing files of any of the formats
+     * and skipping ignored paths.
+     * <br>
+     * Files found under several directories, e.g. nested ones, are produced once.
+     * The stream must be closed after use.
+     * An I/O error during the walk is thrown as {@link UncheckedIOException} by the stream.
+     *
+     * @param changeLogDirectories - changeLog directories.
+     * @param fileExtensions       - file extensions.
+     * @param changeLogIgnore      - ignored paths.
+     * @return stream of changeLog files.
+     * @throws ChangeLogCollectorException - thrown in case the walk of a directory cannot be started.
+     */
+    public static Stream<File> streamChangeLogFiles(final List<File> changeLogDirectories,
+                                                    final Set<ChangeLogFormatEnum> fileExtensions,
+                                                    final ChangeLogIgnore changeLogIgnore)
+            throws ChangeLogCollectorException {
+        List<Stream<Path>> walks = new ArrayList<>(changeLogDirectories.size());
+        for (File changeLogDirectory : changeLogDirectories) {
+            try {
+                walks.add(walk(changeLogDirectory.toPath(), fileExtensions, changeLogIgnore));
+            } catch (IOException e) {
+                walks.forEach(Stream::close);
+                throw new ChangeLogCollectorException("Failed to walk directory: " + changeLogDirectory, e);
+            }
+        }
+        Set<Path> collected = new HashSet<>();
+        return walks.stream()
+                .flatMap(walk -> walk)
+                .filter(path -> collected.add(path.toAbsolutePath().normalize()))
+                .map(Path::toFile)
+                .onClose(() -> walks.forEach(Stream::close));
+    }
+
+    /**
+     * Check if the file name matches the changeLog format.
+     *
+     * @param path          - file path.
+     * @param fileExtension - file extension.
+     * @return <code>true</code> if the file is a changeLog file of the format.
+     */
+    public static boolean isChangeLogFile(final Path path,
+                                          final ChangeLogFormatEnum fileExtension) {
+        Path fileName = path.getFileName();
+        return fileName != null && fileExtension.matches(fileName.toString());
+    }
+
+    /**
+     * Check if the file name matches any of the changeLog formats.
+     *
+     * @param path           - file path.
+     * @param fileExtensions - file extensions.
+     * @return <code>true</code> if the file is a changeLog file of any of the formats.
+     */
+    public static boolean isChangeLogFile(final Path path,
+                                          final Set<ChangeLogFormatEnum> fileExtensions) {
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return false;
+        }
+        String name = fileName.toString();
+        for (ChangeLogFormatEnum fileExtension : fileExtensions) {
+            if (fileExtension.matches(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lazily walk the directory depth-first, in the order of the directory entries.
+     *
+     * @param root            - directory.
+     * @param fileExtensions  - file extensions.
+     * @param changeLogIgnore - ignored paths.
+     * @return stream of changeLog files. Must be closed after use.
+     * @throws IOException - thrown if the directory cannot be opened.
+     */
+    private static Stream<Path> walk(final Path root,
+                                     final Set<ChangeLogFormatEnum> fileExtensions,
+                                     final ChangeLogIgnore changeLogIgnore) throws IOException {
+        if (!isDirectory(root)) {
+            return rootFile(root, fileExtensions).stream();
+        }
+        DirectoryIterator iterator = new DirectoryIterator(root, changeLogIgnore.root(root), fileExtensions);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Get the walked path if it is a changeLog file itself rather than a directory.
+     *
+     * @param root           - walked path.
+     * @param fileExtensions - file extensions.
+     * @return the path if it is a changeLog file, otherwise an empty list.
+     * @throws IOException - thrown if the path does not exist.
+     */
+    private static List<Path> rootFile(final Path root,
+                                       final Set<ChangeLogFormatEnum> fileExtensions) throws IOException {
+        Files.readAttributes(root, BasicFileAttributes.class);
+        return classify(root, fileExtensions) == EntryType.CHANGELOG_FILE ? List.of(root) : List.of();
+    }
+
+    private static boolean isDirectory(final Path path) {
+        return Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS);
+    }
+
+    /**
+     * Classify the directory entry. Attributes are read once per entry, without following links.
+     *
+     * @param entry          - directory entry.
+     * @param fileExtensions - file extensions.
+     * @return entry type.
+     * @throws IOException - thrown if the attributes cannot be read.
+     */
+    private static EntryType classify(final Path entry,
+                                      final Set<ChangeLogFormatEnum> fileExtensions) throws IOException {
+        BasicFileAttributes attributes =
+                Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (attributes.isDirectory()) {
+            return EntryType.DIRECTORY;
+        }
+        if (!isChangeLogFile(entry, fileExtensions)) {
+            return EntryType.OTHER;
+        }
+        if (attributes.isRegularFile() || attributes.isSymbolicLink() && Files.isRegularFile(entry)) {
+            return EntryType.CHANGELOG_FILE;
+        }
+        return EntryType.OTHER;
+    }
+
+    /**
+     * Type of directory entry.
+     */
+    private enum EntryType {
+        DIRECTORY,
+        CHANGELOG_FILE,
+        OTHER
+    }
+
+    /**
+     * Walk of a directory tree. Subdirectories are walked by forked tasks, and their files are joined
+     * in place of the subdirectory, which keeps the order of a sequential depth-first walk.
+     */
+    private static final class DirectoryWalk extends RecursiveTask<List<Path>> {
+
+        private final Path directory;
+        private final ChangeLogIgnore.Scope scope;
+        private final Set<ChangeLogFormatEnum> fileExtensions;
+
+        /**
+         * Constructor.
+         *
+         * @param directory      - directory.
+         * @param scope          - ignore rules in effect in the directory.
+         * @param fileExtensions - file extensions.
+         */
+        private DirectoryWalk(final Path directory,
+                              final ChangeLogIgnore.Scope scope,
+                              final Set<ChangeLogFormatEnum> fileExtensions) {
+            this.directory = directory;
+            this.scope = scope;
+            this.fileExtensions = fileExtensions;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            List<Object> entries = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path entry : stream) {
+                    EntryType type = classify(entry, fileExtensions);
+                    if (type == EntryType.DIRECTORY && !scope.isIgnored(entry, true)) {
+                        DirectoryWalk subdirectory = new DirectoryWalk(entry, scope.enter(entry), fileExtensions);
+                        subdirectory.fork();
+                        entries.add(subdirectory);
+                    } else if (type == EntryType.CHANGELOG_FILE && !scope.isIgnored(entry, false)) {
+                        entries.add(entry);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (DirectoryIteratorException e) {
+                throw new UncheckedIOException(e.getCause());
+            }
+            List<Path> changeLogFiles = new ArrayList<>(entries.size());
+            for (Object entry : entries) {
+                if (entry instanceof DirectoryWalk) {
+                    changeLogFiles.addAll(((DirectoryWalk) entry).join());
+                } else {
+                    changeLogFiles.add((Path) entry);
+                }
+            }
+            return changeLogFiles;
+        }
+    }
+
+    /**
+     * Lazy depth-first walk of a directory tree. Every directory is listed when it is reached,
+     * and its stream is closed when its last entry is consumed or when the iterator is closed.
+     */
+    private static final class DirectoryIterator implements Iterator<Path> {
+
+        private final Set<ChangeLogFormatEnum> fileExtensions;
+        private final Deque<Level> levels = new ArrayDeque<>();
+        private Path next;
+
+        /**
+         * Constructor.
+         *
+         * @param root           - directory.
+         * @param scope          - ignore rules in effect in the directory.
+         * @param fileExtensions - file extensions.
+         * @throws IOException - thrown if the directory cannot be opened.
+         */
+        private DirectoryIterator(final Path root,
+                                  final ChangeLogIgnore.Scope scope,
+                                  final Set<ChangeLogFormatEnum> fileExtensions) throws IOException {
+            this.fileExtensions = fileExtensions;
+            this.levels.push(new Level(Files.newDirectoryStream(root), scope));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Path result = next;
+            next = null;
+            return result;
+        }
+
+        private Path advance() {
+            try {
+                while (!levels.isEmpty()) {
+                    Level level = levels.peek();
+                    if (!level.entries.hasNext()) {
+                        levels.pop().stream.close();
+                        continue;
+                    }
+                    Path entry = level.entries.next();
+                    EntryType type = classify(entry, fileExtensions);
+                    if (type == EntryType.DIRECTORY && !level.scope.isIgnored(entry, true)) {
+                        levels.push(new Level(Files.newDirectoryStream(entry), level.scope.enter(entry)));
+                    } else if (type == EntryType.CHANGELOG_FILE && !level.scope.isIgnored(entry, false)) {
+                        return entry;
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (DirectoryIteratorException e) {
+                throw new UncheckedIOException(e.getCause());
+            }
+        }
+
+        /**
+         * Close all open directory streams.
+         */
+        private void close() {
+            while (!levels.isEmpty()) {
+                try {
+                    levels.pop().stream.close();
+                } catch (IOException e) {
+                    // nothing to do: the directory has been read already
+                }
+            }
+        }
+    }
+
+    /**
+     * Directory being listed.
+     */
+    private static final class Level {
+
+        private final DirectoryStream<Path> stream;
+        private final Iterator<Path> entries;
+        private final ChangeLogIgnore.Scope scope;
+
+        /**
+         * Constructor.
+         *
+         * @param stream - directory stream.
+         * @param scope  - ignore rules in effect in the directory.
+         */
+        private Level(final DirectoryStream<Path> stream,
+                      final ChangeLogIgnore.Scope scope) {
+            this.stream = stream;
+            this.entries = stream.iterator();
+            this.scope = scope;
         }
     }
 }
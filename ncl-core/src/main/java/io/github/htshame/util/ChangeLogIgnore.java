@@ -0,0 +1,285 @@
+package io.github.htshame.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Paths skipped while changeLog directories are walked.
+ * <br>
+ * Patterns follow the <code>.gitignore</code> syntax: a pattern without a slash matches the name of a file
+ * or a directory at any depth, a pattern with a slash matches the path relative to the changeLog directory,
+ * or to the directory of the ignore file it was read from. A trailing slash matches directories only,
+ * a leading <code>!</code> re-includes a path ignored by a previous pattern, and <code>#</code> starts a comment.
+ * Ignored directories are not descended into.
+ */
+public final class ChangeLogIgnore {
+
+    /**
+     * Nothing is ignored.
+     */
+    public static final ChangeLogIgnore NONE = new ChangeLogIgnore(Collections.emptyList(), null);
+
+    private final List<String> patterns;
+    private final String ignoreFileName;
+
+    /**
+     * Constructor.
+     *
+     * @param patterns       - ignore patterns.
+     * @param ignoreFileName - name of ignore files. Null if ignore files are not read.
+     */
+    private ChangeLogIgnore(final List<String> patterns,
+                            final String ignoreFileName) {
+        this.patterns = patterns;
+        this.ignoreFileName = ignoreFileName;
+    }
+
+    /**
+     * Create ignore rules.
+     *
+     * @param patterns       - ignore patterns, relative to every changeLog directory. Null if there are none.
+     * @param ignoreFileName - name of ignore files read from every walked directory, e.g. <code>.gitignore</code>.
+     *                       Null if ignore files are not read.
+     * @return ignore rules.
+     */
+    public static ChangeLogIgnore of(final List<String> patterns,
+                                     final String ignoreFileName) {
+        List<String> ignorePatterns = patterns == null ? Collections.emptyList() : List.copyOf(patterns);
+        String fileName = ignoreFileName == null || ignoreFileName.isBlank() ? null : ignoreFileName.trim();
+        if (ignorePatterns.isEmpty() && fileName == null) {
+            return NONE;
+        }
+        return new ChangeLogIgnore(ignorePatterns, fileName);
+    }
+
+    /**
+     * Get ignore patterns.
+     *
+     * @return ignore patterns.
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Get name of ignore files.
+     *
+     * @return name of ignore files. Null if ignore files are not read.
+     */
+    public String getIgnoreFileName() {
+        return ignoreFileName;
+    }
+
+    /**
+     * Check whether the path under the changeLog directory is ignored, reading the ignore files
+     * of every directory between them.
+     *
+     * @param changeLogDirectory - changeLog directory.
+     * @param path               - path under the changeLog directory.
+     * @param directory          - <code>true</code> if the path is a directory.
+     * @return <code>true</code> if the path or any of its parent directories is ignored.
+     * @throws IOException - thrown if an ignore file cannot be read.
+     */
+    public boolean isIgnored(final Path changeLogDirectory,
+                             final Path path,
+                             final boolean directory) throws IOException {
+        if (this == NONE || !path.startsWith(changeLogDirectory) || path.equals(changeLogDirectory)) {
+            return false;
+        }
+        Scope scope = root(changeLogDirectory);
+        Path current = changeLogDirectory;
+        for (Path name : changeLogDirectory.relativize(path)) {
+            current = current.resolve(name);
+            boolean last = current.equals(path);
+            if (scope.isIgnored(current, !last || directory)) {
+                return true;
+            }
+            if (!last) {
+                scope = scope.enter(current);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get rules of the changeLog directory: the ignore patterns and its own ignore file.
+     *
+     * @param changeLogDirectory - changeLog directory.
+     * @return rules of the changeLog directory.
+     * @throws IOException - thrown if the ignore file cannot be read.
+     */
+    Scope root(final Path changeLogDirectory) throws IOException {
+        List<Rule> rules = new ArrayList<>(patterns.size());
+        for (String pattern : patterns) {
+            Rule rule = Rule.parse(changeLogDirectory, pattern);
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+        return new Scope(rules, ignoreFileName).enter(changeLogDirectory);
+    }
+
+    /**
+     * Rules in effect in a directory: the rules of the parent directory and the rules of its ignore file.
+     */
+    static final class Scope {
+
+        private final List<Rule> rules;
+        private final String ignoreFileName;
+
+        /**
+         * Constructor.
+         *
+         * @param rules          - rules in effect.
+         * @param ignoreFileName - name of ignore files. Null if ignore files are not read.
+         */
+        private Scope(final List<Rule> rules,
+                      final String ignoreFileName) {
+            this.rules = rules;
+            this.ignoreFileName = ignoreFileName;
+        }
+
+        /**
+         * Get rules in effect in the subdirectory.
+         *
+         * @param directory - subdirectory.
+         * @return rules of the subdirectory. The same scope if the subdirectory has no ignore file.
+         * @throws IOException - thrown if the ignore file cannot be read.
+         */
+        Scope enter(final Path directory) throws IOException {
+            if (ignoreFileName == null) {
+                return this;
+            }
+            Path ignoreFile = directory.resolve(ignoreFileName);
+            if (!Files.isRegularFile(ignoreFile)) {
+                return this;
+            }
+            List<Rule> directoryRules = new ArrayList<>(rules);
+            for (String line : Files.readAllLines(ignoreFile, StandardCharsets.UTF_8)) {
+                Rule rule = Rule.parse(directory, line);
+                if (rule != null) {
+                    directoryRules.add(rule);
+                }
+            }
+            return new Scope(directoryRules, ignoreFileName);
+        }
+
+        /**
+         * Check whether the path is ignored. The last matching rule wins.
+         *
+         * @param path      - path.
+         * @param directory - <code>true</code> if the path is a directory.
+         * @return <code>true</code> if the path is ignored.
+         */
+        boolean isIgnored(final Path path,
+                          final boolean directory) {
+            boolean ignored = false;
+            for (Rule rule : rules) {
+                if (rule.matches(path, directory)) {
+                    ignored = !rule.negated;
+                }
+            }
+            return ignored;
+        }
+    }
+
+    /**
+     * Single ignore pattern.
+     */
+    private static final class Rule {
+
+        private static final String ANY_DEPTH = "**/";
+
+        private final Path base;
+        private final PathMatcher matcher;
+        private final boolean nameOnly;
+        private final boolean directoryOnly;
+        private final boolean negated;
+
+        /**
+         * Constructor.
+         *
+         * @param base          - directory the pattern is relative to.
+         * @param matcher       - glob matcher.
+         * @param nameOnly      - <code>true</code> if the pattern matches the name at any depth.
+         * @param directoryOnly - <code>true</code> if the pattern matches directories only.
+         * @param negated       - <code>true</code> if the pattern re-includes matching paths.
+         */
+        private Rule(final Path base,
+                     final PathMatcher matcher,
+                     final boolean nameOnly,
+                     final boolean directoryOnly,
+                     final boolean negated) {
+            this.base = base;
+            this.matcher = matcher;
+            this.nameOnly = nameOnly;
+            this.directoryOnly = directoryOnly;
+            this.negated = negated;
+        }
+
+        /**
+         * Parse the pattern.
+         *
+         * @param base    - directory the pattern is relative to.
+         * @param pattern - pattern.
+         * @return rule. Null for blank lines and comments.
+         */
+        private static Rule parse(final Path base,
+                                  final String pattern) {
+            String glob = pattern.trim();
+            if (glob.isEmpty() || glob.startsWith("#")) {
+                return null;
+            }
+            boolean negated = glob.startsWith("!");
+            if (negated) {
+                glob = glob.substring(1);
+            }
+            boolean directoryOnly = glob.endsWith("/");
+            if (directoryOnly) {
+                glob = glob.substring(0, glob.length() - 1);
+            }
+            if (glob.startsWith(ANY_DEPTH) && glob.indexOf('/', ANY_DEPTH.length()) < 0) {
+                glob = glob.substring(ANY_DEPTH.length());
+            } else if (glob.startsWith("/")) {
+                glob = glob.substring(1);
+                if (glob.indexOf('/') < 0) {
+                    glob = "./" + glob;
+                }
+            }
+            if (glob.isEmpty()) {
+                return null;
+            }
+            boolean nameOnly = glob.indexOf('/') < 0;
+            if (glob.startsWith("./")) {
+                glob = glob.substring(2);
+            }
+            PathMatcher matcher = base.getFileSystem().getPathMatcher("glob:" + glob);
+            return new Rule(base, matcher, nameOnly, directoryOnly, negated);
+        }
+
+        /**
+         * Check whether the rule matches the path.
+         *
+         * @param path      - path under the base directory.
+         * @param directory - <code>true</code> if the path is a directory.
+         * @return <code>true</code> if the rule matches.
+         */
+        private boolean matches(final Path path,
+                                final boolean directory) {
+            if (directoryOnly && !directory) {
+                return false;
+            }
+            if (nameOnly) {
+                Path name = path.getFileName();
+                return name != null && matcher.matches(name);
+            }
+            return path.startsWith(base) && matcher.matches(base.relativize(path));
+        }
+    }
+}
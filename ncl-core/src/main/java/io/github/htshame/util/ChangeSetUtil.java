@@ -50,6 +50,19 @@ public final class ChangeSetUtil {
         return new ChangeSetAttributeDto("", "");
     }
 
+    /**
+     * Check whether the attribute of the tag is the <code>id</code> or the <code>author</code> of the changeSet.
+     *
+     * @param tag       - tag name.
+     * @param attribute - attribute name.
+     * @return <code>true</code> if the attribute identifies the changeSet. <code>false</code> - if not.
+     */
+    public static boolean isIdentityAttribute(final String tag,
+                                              final String attribute) {
+        return CHANGE_SET_TAG_NAME.equals(tag)
+                && (ID_ATTR_NAME.equals(attribute) || AUTHOR_ATTR_NAME.equals(attribute));
+    }
+
     /**
      * Retrieve the value of the specified attribute from the given element.
      *
@@ -0,0 +1,38 @@
+package io.github.htshame.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory of the plugin worker threads.
+ * <br>
+ * Threads are daemons, so a stuck worker never keeps the build JVM alive,
+ * and are named after the task they perform to be recognizable in thread dumps.
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param name - name of the task performed by the threads.
+     */
+    public DaemonThreadFactory(final String name) {
+        this.namePrefix = "ncl-" + name + "-";
+    }
+
+    /**
+     * Create a new thread.
+     *
+     * @param runnable - task to run.
+     * @return new daemon thread.
+     */
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.htshame.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utility class for SHA-256 hashing.
+ */
+public final class HashUtil {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int BUFFER_SIZE = 8192;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+
+    /**
+     * Private constructor.
+     */
+    private HashUtil() {
+
+    }
+
+    /**
+     * Create SHA-256 message digest.
+     *
+     * @return message digest.
+     */
+    public static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not supported by the JVM", e);
+        }
+    }
+
+    /**
+     * Calculate SHA-256 of bytes.
+     *
+     * @param bytes - bytes.
+     * @return hex-encoded SHA-256.
+     */
+    public static String sha256Hex(final byte[] bytes) {
+        return toHex(newSha256Digest().digest(bytes));
+    }
+
+    /**
+     * Calculate SHA-256 of file content.
+     *
+     * @param file - file.
+     * @return hex-encoded SHA-256.
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    public static String sha256Hex(final Path file) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, bytesRead);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Encode bytes as lowercase hex string.
+     *
+     * @param bytes - bytes.
+     * @return hex string.
+     */
+    public static String toHex(final byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX[(bytes[i] >> NIBBLE_BITS) & NIBBLE_MASK];
+            hex[i * 2 + 1] = HEX[bytes[i] & NIBBLE_MASK];
+        }
+        return new String(hex);
+    }
+}
@@ -111,17 +111,48 @@ public final class RuleUtil {
                                                              final String changeLogFileName,
                                                              final RuleEnum ruleName,
                                                              final List<String> errors) {
+        return composeErrorMessage(changeSetElement, changeLogFileName, ruleName,
+                "\n    " + String.join("\n    ", errors));
+    }
+
+    /**
+     * Compose error details for changeSet from the errors that follow the changeSet header.
+     * <br>
+     * Used to report errors of a changeSet that were found in another changeSet with the same structure.
+     *
+     * @param changeSetElement  - changeSet element.
+     * @param changeLogFileName - changeLog file name.
+     * @param ruleName          - rule name.
+     * @param errorDetails      - errors, as they follow {@link #composeChangeSetHeader(ChangeLogElement, RuleEnum)}.
+     * @return error details.
+     */
+    public static RuleValidationErrorDto composeErrorMessage(final ChangeLogElement changeSetElement,
+                                                             final String changeLogFileName,
+                                                             final RuleEnum ruleName,
+                                                             final String errorDetails) {
         ChangeSetAttributeDto changeSetAttributeDto = ChangeSetUtil.getAttributesFromAncestor(changeSetElement);
         return new RuleValidationErrorDto(
                 ruleName,
                 changeSetAttributeDto.getId(),
                 changeSetAttributeDto.getAuthor(),
                 changeLogFileName,
-                String.format("ChangeSet: id=\"%s\", author=\"%s\". Rule [%s]\n    %s",
-                        changeSetAttributeDto.getId(),
-                        changeSetAttributeDto.getAuthor(),
-                        ruleName.getValue(),
-                        String.join("\n    ", errors)));
+                composeChangeSetHeader(changeSetElement, ruleName) + errorDetails);
+    }
+
+    /**
+     * Compose the header of changeSet error details: the changeSet id and author, and the rule name.
+     *
+     * @param changeSetElement - changeSet element.
+     * @param ruleName         - rule name.
+     * @return header of error details.
+     */
+    public static String composeChangeSetHeader(final ChangeLogElement changeSetElement,
+                                                final RuleEnum ruleName) {
+        ChangeSetAttributeDto changeSetAttributeDto = ChangeSetUtil.getAttributesFromAncestor(changeSetElement);
+        return String.format("ChangeSet: id=\"%s\", author=\"%s\". Rule [%s]",
+                changeSetAttributeDto.getId(),
+                changeSetAttributeDto.getAuthor(),
+                ruleName.getValue());
     }
 
     /**
@@ -6,14 +6,36 @@ import javax.xml.parsers.ParserConfigurationException;
 
 /**
  * Utility class for XML processing.
+ * <br>
+ * Document builders are not thread-safe, so every thread reuses its own builder,
+ * which is reset before each parse.
  */
 public final class XmlUtil {
 
+    /**
+     * Do not load external DTDs. Default attribute values of a DTD are not used by the rules,
+     * and loading a DTD may require a network request for every parsed file.
+     */
+    private static final String LOAD_EXTERNAL_DTD_FEATURE =
+            "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+
+    /**
+     * Build the whole DOM while parsing. Validation visits every node of the document,
+     * so deferring node creation only adds bookkeeping.
+     */
+    private static final String DEFER_NODE_EXPANSION_FEATURE =
+            "http://apache.org/xml/features/dom/defer-node-expansion";
+
     /**
      * Document builder factory.
      */
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = createFactory();
 
+    /**
+     * Document builders of the threads.
+     */
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<>();
+
     /**
      * Private constructor.
      */
@@ -27,7 +49,28 @@ public final class XmlUtil {
      * @return document builder factory.
      */
     private static DocumentBuilderFactory createFactory() {
-        return DocumentBuilderFactory.newInstance();
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setXIncludeAware(false);
+        setFeature(factory, LOAD_EXTERNAL_DTD_FEATURE, false);
+        setFeature(factory, DEFER_NODE_EXPANSION_FEATURE, false);
+        return factory;
+    }
+
+    /**
+     * Set factory feature if it is supported by the XML parser implementation.
+     *
+     * @param factory - document builder factory.
+     * @param feature - feature name.
+     * @param value   - feature value.
+     */
+    private static void setFeature(final DocumentBuilderFactory factory,
+                                   final String feature,
+                                   final boolean value) {
+        try {
+            factory.setFeature(feature, value);
+        } catch (ParserConfigurationException e) {
+            // feature is not supported by the XML parser implementation; parse with its default
+        }
     }
 
     /**
@@ -37,6 +80,28 @@ public final class XmlUtil {
      * @throws ParserConfigurationException - thrown if there's a configuration error.
      */
     public static DocumentBuilder newXmlDocumentBuilder() throws ParserConfigurationException {
-        return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+        synchronized (DOCUMENT_BUILDER_FACTORY) {
+            return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+        }
+    }
+
+    /**
+     * Get XML document builder of the current thread.
+     * <br>
+     * The builder is reset and must not be used after the parsed document is obtained,
+     * since the next call on the same thread resets it again.
+     *
+     * @return document builder.
+     * @throws ParserConfigurationException - thrown if there's a configuration error.
+     */
+    public static DocumentBuilder xmlDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder documentBuilder = DOCUMENT_BUILDER.get();
+        if (documentBuilder == null) {
+            documentBuilder = newXmlDocumentBuilder();
+            DOCUMENT_BUILDER.set(documentBuilder);
+        } else {
+            documentBuilder.reset();
+        }
+        return documentBuilder;
     }
 }
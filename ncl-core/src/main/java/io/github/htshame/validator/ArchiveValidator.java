@@ -0,0 +1,156 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.util.DaemonThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.ProviderNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Validator of changeLog files packaged in JAR or ZIP archives.
+ * <br>
+ * Archives are never extracted: every archive is opened as a zip file system and walked like a directory,
+ * and every changeLog entry is inflated straight into memory when it is read, so nothing is written to disk.
+ * Archives are validated concurrently, one archive per worker at a time.
+ * Validation errors are returned in the order of the archives, and of the entries inside every archive.
+ */
+public final class ArchiveValidator {
+
+    private final ValidationManager validationManager;
+    private final Tracer tracer;
+    private final int threads;
+
+    /**
+     * Constructor.
+     *
+     * @param validationManager - validation manager that parses and evaluates single files.
+     * @param tracer            - tracer.
+     * @param threads           - maximum number of archives validated at the same time.
+     */
+    public ArchiveValidator(final ValidationManager validationManager,
+                            final Tracer tracer,
+                            final int threads) {
+        this.validationManager = validationManager;
+        this.tracer = tracer;
+        this.threads = threads;
+    }
+
+    /**
+     * Validate changeLog files of the archives.
+     *
+     * @param archives         - JAR or ZIP archives.
+     * @param archiveDirectory - directory inside the archives that contains changeLog files,
+     *                         e.g. <code>db/changelog</code>. Null or <code>/</code> for the whole archive.
+     * @param changeLogFormats - changeLog formats. Every entry is parsed according to its extension.
+     * @param rules            - rules to validate against.
+     * @param exclusionParser  - exclusions.
+     * @return list of validation errors. Empty list if there are no errors.
+     * @throws ChangeLogCollectorException - thrown if an archive cannot be opened or walked.
+     */
+    public List<RuleValidationErrorDto> validate(final List<File> archives,
+                                                 final String archiveDirectory,
+                                                 final Set<ChangeLogFormatEnum> changeLogFormats,
+                                                 final List<Rule> rules,
+                                                 final ExclusionParser exclusionParser)
+            throws ChangeLogCollectorException {
+        if (archives.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Span parent = tracer.getCurrentSpan();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(threads, archives.size()), new DaemonThreadFactory("archive"));
+        try {
+            List<CompletableFuture<List<RuleValidationErrorDto>>> results = new ArrayList<>(archives.size());
+            for (File archive : archives) {
+                results.add(CompletableFuture.supplyAsync(() -> validateArchive(
+                        archive, archiveDirectory, changeLogFormats, rules, exclusionParser, parent), executor));
+            }
+            return collect(results);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Validate changeLog files of a single archive. The archive is closed when validation completes.
+     *
+     * @param archive          - JAR or ZIP archive.
+     * @param archiveDirectory - directory inside the archive that contains changeLog files.
+     * @param changeLogFormats - changeLog formats.
+     * @param rules            - rules to validate against.
+     * @param exclusionParser  - exclusions.
+     * @param parent           - parent span.
+     * @return list of validation errors of the archive.
+     */
+    private List<RuleValidationErrorDto> validateArchive(final File archive,
+                                                         final String archiveDirectory,
+                                                         final Set<ChangeLogFormatEnum> changeLogFormats,
+                                                         final List<Rule> rules,
+                                                         final ExclusionParser exclusionParser,
+                                                         final Span parent) {
+        try (Span span = tracer.startSpan(SpanNames.ARCHIVE_VALIDATE, parent);
+             FileSystem zip = FileSystems.newFileSystem(archive.toPath(), (ClassLoader) null)) {
+            span.setAttribute(SpanAttributes.FILE_PATH, archive);
+            List<ChangeLogSource> sources = ChangeLogFilesCollector.collectChangeLogSources(
+                    zip.getPath(archiveDirectory == null || archiveDirectory.isEmpty() ? "/" : archiveDirectory),
+                    changeLogFormats);
+            span.setAttribute(SpanAttributes.COUNT, sources.size());
+            return validationManager.validateSources(
+                    sources, rules, exclusionParser, changeLogFormats.iterator().next(), span);
+        } catch (IOException | ProviderNotFoundException | ChangeLogCollectorException e) {
+            throw new CompletionException(
+                    new ChangeLogCollectorException("Failed to read archive: " + archive, e));
+        }
+    }
+
+    /**
+     * Wait for all archives and collect validation errors in the order of the archives.
+     *
+     * @param results - per-archive results.
+     * @return list of validation errors.
+     * @throws ChangeLogCollectorException - thrown if an archive cannot be opened or walked.
+     */
+    private static List<RuleValidationErrorDto> collect(
+            final List<CompletableFuture<List<RuleValidationErrorDto>>> results)
+            throws ChangeLogCollectorException {
+        List<RuleValidationErrorDto> validationErrors = new ArrayList<>();
+        for (CompletableFuture<List<RuleValidationErrorDto>> result : results) {
+            try {
+                validationErrors.addAll(result.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ChangeLogCollectorException) {
+                    throw (ChangeLogCollectorException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+        return validationErrors;
+    }
+}
@@ -1,13 +1,20 @@
 package io.github.htshame.validator;
 
+import io.github.htshame.change.parser.ParsedChangeLog;
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.dto.RuleValidationErrorDto;
-import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.event.FlightRecorderEvents;
+import io.github.htshame.event.RuleEvaluatedEvent;
 import io.github.htshame.exception.ValidationException;
+import io.github.htshame.metrics.ValidationMetrics;
 import io.github.htshame.parser.ExclusionParser;
 import io.github.htshame.parser.rule.ChangeLogFileRule;
 import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
 
-import java.io.File;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -18,12 +25,19 @@ import java.util.Set;
 public class ChangeLogFileRuleValidator implements RuleValidator {
 
     private final Set<ChangeLogFileRule> rules = new HashSet<>();
+    private final ValidationMetrics metrics;
+    private final Tracer tracer;
 
     /**
-     * Default constructor.
+     * Constructor.
+     *
+     * @param metrics - validation metrics.
+     * @param tracer  - tracer.
      */
-    public ChangeLogFileRuleValidator() {
-
+    public ChangeLogFileRuleValidator(final ValidationMetrics metrics,
+                                       final Tracer tracer) {
+        this.metrics = metrics;
+        this.tracer = tracer;
     }
 
     /**
@@ -39,22 +53,40 @@ public class ChangeLogFileRuleValidator implements RuleValidator {
     /**
      * Process changeLog file rules.
      *
-     * @param changeLogFile    - changeLog file.
+     * @param changeLog        - parsed changeLog.
      * @param validationErrors - validation errors.
-     * @param changeLogFormat  - changeLog format.
      * @param exclusionParser  - exclusion parser.
      */
     @Override
-    public void validate(final File changeLogFile,
+    public void validate(final ParsedChangeLog changeLog,
                          final List<RuleValidationErrorDto> validationErrors,
-                         final ChangeLogFormatEnum changeLogFormat,
                          final ExclusionParser exclusionParser) {
-        for (ChangeLogFileRule rule : rules) {
-            try {
-                rule.validateChangeLogFile(changeLogFile);
-            } catch (ValidationException e) {
-                e.getRuleValidationError().setGenericMessage("[" + changeLogFile.getName() + "] " + e.getMessage());
-                validationErrors.add(e.getRuleValidationError());
+        ChangeLogSource source = changeLog.getSource();
+        try (Span stage = tracer.startSpan(SpanNames.CHANGELOG_FILE_RULE_VALIDATOR)) {
+            stage.setAttribute(SpanAttributes.FILE_PATH, source.getLocation());
+            for (ChangeLogFileRule rule : rules) {
+                Span span = tracer.startSpan(SpanNames.RULE_EVALUATE)
+                        .setAttribute(SpanAttributes.RULE, rule.getName().getValue());
+                RuleEvaluatedEvent event = FlightRecorderEvents.isEnabled() ? new RuleEvaluatedEvent() : null;
+                if (event != null) {
+                    event.begin();
+                }
+                long evaluationStart = System.nanoTime();
+                int violations = 0;
+                try {
+                    rule.validateChangeLogFile(source);
+                } catch (ValidationException e) {
+                    e.getRuleValidationError()
+                            .setGenericMessage("[" + source.getName() + "] " + e.getMessage());
+                    validationErrors.add(e.getRuleValidationError());
+                    violations++;
+                }
+                if (event != null) {
+                    event.complete(rule.getName(), source, null, violations);
+                }
+                metrics.recordRuleEvaluation(source, rule.getName(), System.nanoTime() - evaluationStart,
+                        1, violations);
+                span.setAttribute(SpanAttributes.VIOLATIONS, violations).end();
             }
         }
     }
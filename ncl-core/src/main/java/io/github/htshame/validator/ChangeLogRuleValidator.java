@@ -1,33 +1,46 @@
 package io.github.htshame.validator;
 
 import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.parser.ParsedChangeLog;
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.dto.RuleValidationErrorDto;
 import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.event.FlightRecorderEvents;
+import io.github.htshame.event.RuleEvaluatedEvent;
 import io.github.htshame.exception.ChangeLogParseException;
 import io.github.htshame.exception.ValidationException;
+import io.github.htshame.metrics.ValidationMetrics;
 import io.github.htshame.parser.ExclusionParser;
 import io.github.htshame.parser.rule.ChangeLogRule;
 import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
 
-import java.io.File;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import static io.github.htshame.validator.ValidationManager.CHANGESET_PARSER_MAP;
-
 /**
  * ChangeSet rule validator.
  */
 public class ChangeLogRuleValidator implements RuleValidator {
 
     private final Set<ChangeLogRule> rules = new HashSet<>();
+    private final ValidationMetrics metrics;
+    private final Tracer tracer;
 
     /**
-     * Default constructor.
+     * Constructor.
+     *
+     * @param metrics - validation metrics.
+     * @param tracer  - tracer.
      */
-    public ChangeLogRuleValidator() {
-
+    public ChangeLogRuleValidator(final ValidationMetrics metrics,
+                                   final Tracer tracer) {
+        this.metrics = metrics;
+        this.tracer = tracer;
     }
 
     /**
@@ -43,33 +56,52 @@ public class ChangeLogRuleValidator implements RuleValidator {
     /**
      * Process changeSet rules.
      *
-     * @param changeLogFile    - changeLog file.
+     * @param changeLog        - parsed changeLog.
      * @param validationErrors - validation errors.
-     * @param changeLogFormat  - changeLog format.
      * @param exclusionParser  - exclusion parser.
-     * @throws ChangeLogParseException - thrown if changeLog parsing fails.
+     * @throws ChangeLogParseException - thrown if changeLog parsing failed.
      */
     @Override
-    public void validate(final File changeLogFile,
+    public void validate(final ParsedChangeLog changeLog,
                          final List<RuleValidationErrorDto> validationErrors,
-                         final ChangeLogFormatEnum changeLogFormat,
                          final ExclusionParser exclusionParser) throws ChangeLogParseException {
-        List<ChangeLogElement> changeSets = CHANGESET_PARSER_MAP.get(changeLogFormat)
-                .parseNonChangeSets(changeLogFile);
+        ChangeLogSource source = changeLog.getSource();
+        ChangeLogFormatEnum changeLogFormat = changeLog.getFormat();
+        try (Span stage = tracer.startSpan(SpanNames.CHANGELOG_RULE_VALIDATOR)) {
+            stage.setAttribute(SpanAttributes.FILE_PATH, source.getLocation());
+            List<ChangeLogElement> changeSets = changeLog.getNonChangeSets();
 
-        for (ChangeLogRule rule : rules) {
-            for (ChangeLogElement changeSet : changeSets) {
-                try {
-                    rule.validateChangeLog(changeSet, exclusionParser, changeLogFile.getName(), changeLogFormat);
-                } catch (ValidationException e) {
-                    validationErrors.add(
-                            new RuleValidationErrorDto(
-                                    e.getRuleValidationError().getRule(),
-                                    e.getRuleValidationError().getChangeSetId(),
-                                    e.getRuleValidationError().getChangeSetAuthor(),
-                                    e.getRuleValidationError().getChangeLogFileName(),
-                                    "[" + changeLogFile.getName() + "] " + e.getMessage()));
+            for (ChangeLogRule rule : rules) {
+                Span span = tracer.startSpan(SpanNames.RULE_EVALUATE)
+                        .setAttribute(SpanAttributes.RULE, rule.getName().getValue());
+                long evaluationStart = System.nanoTime();
+                int violations = 0;
+                for (ChangeLogElement changeSet : changeSets) {
+                    RuleEvaluatedEvent event = FlightRecorderEvents.isEnabled() ? new RuleEvaluatedEvent() : null;
+                    if (event != null) {
+                        event.begin();
+                    }
+                    int elementViolations = 0;
+                    try {
+                        rule.validateChangeLog(changeSet, exclusionParser, source.getName(), changeLogFormat);
+                    } catch (ValidationException e) {
+                        validationErrors.add(
+                                new RuleValidationErrorDto(
+                                        e.getRuleValidationError().getRule(),
+                                        e.getRuleValidationError().getChangeSetId(),
+                                        e.getRuleValidationError().getChangeSetAuthor(),
+                                        e.getRuleValidationError().getChangeLogFileName(),
+                                        "[" + source.getName() + "] " + e.getMessage()));
+                        elementViolations++;
+                    }
+                    if (event != null) {
+                        event.complete(rule.getName(), source, changeSet, elementViolations);
+                    }
+                    violations += elementViolations;
                 }
+                metrics.recordRuleEvaluation(source, rule.getName(), System.nanoTime() - evaluationStart,
+                        changeSets.size(), violations);
+                span.setAttribute(SpanAttributes.VIOLATIONS, violations).end();
             }
         }
     }
@@ -0,0 +1,372 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.parser.rule.ChangeSetRule;
+import io.github.htshame.util.ChangeSetUtil;
+import io.github.htshame.util.HashUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Results of changeSet rules memoized by the structure of the changeSets.
+ * <br>
+ * Every changeSet is hashed with the names, attributes and values of all its elements, so structurally identical
+ * changeSets, e.g. copy-pasted grants, are evaluated once per rule and changeLog format. The values of the changeSet
+ * <code>id</code> and <code>author</code> are not hashed, unless the rule reads them, and the error details are
+ * re-bound to the id and author of every changeSet. Exclusions are checked before the results are looked up.
+ * <br>
+ * A cache backed by a file keeps the results between executions, so changeSets of an edited changeLog
+ * are not evaluated again unless they are changed. Rules are identified by their compiled form and the plugin
+ * version, so results of changed rules are not used. A results file that cannot be read is ignored and rewritten.
+ */
+public final class ChangeSetResultCache {
+
+    /**
+     * Results file extension.
+     */
+    public static final String RESULTS_EXTENSION = ".results";
+
+    /**
+     * Result of a changeSet that passed the rule.
+     */
+    static final String PASSED = "";
+
+    private static final int MAGIC = 0x4E434C4D;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_ENTRIES = 500_000;
+    private static final int HASH_BYTES = 16;
+    private static final int NULL_VALUE = -1;
+    private static final int MASKED_VALUE = -2;
+
+    private final Path resultsFile;
+    private final String pluginVersion;
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> results = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> storedResults = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ChangeSetRule, String> ruleKeys = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile boolean modified;
+
+    /**
+     * Constructor of the cache that keeps results in memory for a single execution.
+     */
+    public ChangeSetResultCache() {
+        this(null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param resultsFile   - file that keeps results between executions. Null to keep results in memory only.
+     * @param pluginVersion - plugin version. Results of other versions are not used.
+     */
+    public ChangeSetResultCache(final File resultsFile,
+                                final String pluginVersion) {
+        this.resultsFile = resultsFile == null ? null : resultsFile.toPath();
+        this.pluginVersion = pluginVersion;
+        this.loaded = resultsFile == null;
+    }
+
+    /**
+     * Get results of the rule for the changeLog format.
+     *
+     * @param rule            - changeSet rule.
+     * @param changeLogFormat - changeLog format.
+     * @return results keyed by structural hash of the changeSets. Null if results of the rule cannot be memoized.
+     */
+    Results resultsOf(final ChangeSetRule rule,
+                      final ChangeLogFormatEnum changeLogFormat) {
+        String ruleKey = ruleKeys.computeIfAbsent(rule, this::ruleKey);
+        if (ruleKey.isEmpty()) {
+            return null;
+        }
+        load();
+        String key = ruleKey + '/' + changeLogFormat.name();
+        return new Results(results.computeIfAbsent(key, k -> new ConcurrentHashMap<>()), storedResults.get(key));
+    }
+
+    /**
+     * Write results to the results file. Results used or found in this execution are written first,
+     * then stored results that were not used, up to the maximum number of results.
+     * Failures are ignored: results are evaluated again by the next execution.
+     */
+    public void save() {
+        if (resultsFile == null || !modified) {
+            return;
+        }
+        Path directory = resultsFile.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "results", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                int remaining = MAX_ENTRIES;
+                remaining = writeResults(out, results, null, remaining);
+                writeResults(out, storedResults, results, remaining);
+                out.writeUTF("");
+            }
+            moveInPlace(temp, resultsFile);
+            modified = false;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Compute structural hash of the changeSet: names, attributes and values of the changeSet and all its elements,
+     * in their order.
+     *
+     * @param changeSet    - changeSet element.
+     * @param withIdentity - whether values of the changeSet id and author are hashed.
+     *                     If not, only their presence and whether they are blank is hashed.
+     * @param digest       - digest to use. Reset before use.
+     * @return hex-encoded structural hash.
+     */
+    static String structuralHash(final ChangeLogElement changeSet,
+                                 final boolean withIdentity,
+                                 final MessageDigest digest) {
+        digest.reset();
+        update(digest, changeSet, !withIdentity);
+        return HashUtil.toHex(Arrays.copyOf(digest.digest(), HASH_BYTES));
+    }
+
+    private static void update(final MessageDigest digest,
+                               final ChangeLogElement element,
+                               final boolean maskIdentity) {
+        String name = element.getName();
+        update(digest, name);
+        Map<String, String> properties = element.getProperties();
+        updateInt(digest, properties.size());
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            update(digest, property.getKey());
+            String value = property.getValue();
+            if (maskIdentity && value != null && !value.isBlank()
+                    && ChangeSetUtil.isIdentityAttribute(name, property.getKey())) {
+                updateInt(digest, MASKED_VALUE);
+            } else {
+                update(digest, value);
+            }
+        }
+        update(digest, element.getValue());
+        List<ChangeLogElement> children = element.getChildren();
+        updateInt(digest, children.size());
+        for (ChangeLogElement child : children) {
+            update(digest, child, false);
+        }
+    }
+
+    private static void update(final MessageDigest digest,
+                               final String value) {
+        if (value == null) {
+            updateInt(digest, NULL_VALUE);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        updateInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateInt(final MessageDigest digest,
+                                  final int value) {
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            digest.update((byte) (value >>> shift));
+        }
+    }
+
+    /**
+     * Compute key of the rule: SHA-256 of the plugin version and the serialized rule.
+     *
+     * @param rule - changeSet rule.
+     * @return hex-encoded key. Empty string if the rule cannot be serialized.
+     */
+    private String ruleKey(final ChangeSetRule rule) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(rule);
+        } catch (IOException e) {
+            return "";
+        }
+        MessageDigest digest = HashUtil.newSha256Digest();
+        digest.update(String.valueOf(pluginVersion).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(bytes.toByteArray());
+        return HashUtil.toHex(digest.digest());
+    }
+
+    /**
+     * Read stored results once. Results that cannot be read are ignored.
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            if (Files.isRegularFile(resultsFile)) {
+                try (DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(Files.newInputStream(resultsFile)))) {
+                    readResults(in);
+                } catch (IOException | RuntimeException e) {
+                    storedResults.clear();
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    private void readResults(final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            return;
+        }
+        String key = in.readUTF();
+        while (!key.isEmpty()) {
+            int size = in.readInt();
+            ConcurrentMap<String, String> keyResults = new ConcurrentHashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                keyResults.put(in.readUTF(), readString(in));
+            }
+            storedResults.put(key, keyResults);
+            key = in.readUTF();
+        }
+    }
+
+    private static int writeResults(final DataOutputStream out,
+                                    final Map<String, ConcurrentMap<String, String>> source,
+                                    final Map<String, ConcurrentMap<String, String>> written,
+                                    final int remaining) throws IOException {
+        int left = remaining;
+        for (Map.Entry<String, ConcurrentMap<String, String>> entry : source.entrySet()) {
+            Map<String, String> skipped = written == null ? null : written.get(entry.getKey());
+            Map<String, String> keyResults = new HashMap<>();
+            for (Map.Entry<String, String> result : entry.getValue().entrySet()) {
+                if (left == 0) {
+                    break;
+                }
+                if (skipped == null || !skipped.containsKey(result.getKey())) {
+                    keyResults.put(result.getKey(), result.getValue());
+                    left--;
+                }
+            }
+            if (keyResults.isEmpty()) {
+                continue;
+            }
+            out.writeUTF(entry.getKey());
+            out.writeInt(keyResults.size());
+            for (Map.Entry<String, String> result : keyResults.entrySet()) {
+                out.writeUTF(result.getKey());
+                writeString(out, result.getValue());
+            }
+        }
+        return left;
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(final DataOutputStream out,
+                                    final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void moveInPlace(final Path source,
+                                    final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Results of a single rule and changeLog format.
+     */
+    final class Results {
+
+        private final ConcurrentMap<String, String> current;
+        private final ConcurrentMap<String, String> stored;
+
+        /**
+         * Constructor.
+         *
+         * @param current - results used or found in this execution.
+         * @param stored  - results read from the results file. Null if there are none.
+         */
+        private Results(final ConcurrentMap<String, String> current,
+                        final ConcurrentMap<String, String> stored) {
+            this.current = current;
+            this.stored = stored;
+        }
+
+        /**
+         * Get result of the changeSet.
+         *
+         * @param structuralHash - structural hash of the changeSet.
+         * @return error details that follow the changeSet header, {@link #PASSED} if the changeSet passed the rule,
+         * or null if the result is not known.
+         */
+        String get(final String structuralHash) {
+            String result = current.get(structuralHash);
+            if (result == null && stored != null) {
+                result = stored.get(structuralHash);
+                if (result != null) {
+                    current.putIfAbsent(structuralHash, result);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Remember result of the changeSet.
+         *
+         * @param structuralHash - structural hash of the changeSet.
+         * @param result         - error details that follow the changeSet header,
+         *                       or {@link #PASSED} if the changeSet passed the rule.
+         */
+        void put(final String structuralHash,
+                 final String result) {
+            if (current.putIfAbsent(structuralHash, result) == null) {
+                modified = true;
+            }
+        }
+    }
+}
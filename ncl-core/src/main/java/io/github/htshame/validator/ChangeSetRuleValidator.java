@@ -1,33 +1,97 @@
 package io.github.htshame.validator;
 
 import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.element.SnapshotChangeLogElement;
+import io.github.htshame.change.element.XmlChangeLogElement;
+import io.github.htshame.change.parser.ParsedChangeLog;
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.dto.RuleValidationErrorDto;
 import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.event.FlightRecorderEvents;
+import io.github.htshame.event.RuleEvaluatedEvent;
 import io.github.htshame.exception.ChangeLogParseException;
 import io.github.htshame.exception.ValidationException;
+import io.github.htshame.metrics.ValidationMetrics;
 import io.github.htshame.parser.ExclusionParser;
 import io.github.htshame.parser.rule.ChangeSetRule;
 import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.HashUtil;
+import io.github.htshame.util.RuleUtil;
 
-import java.io.File;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-
-import static io.github.htshame.validator.ValidationManager.CHANGESET_PARSER_MAP;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * ChangeSet rule validator.
+ * <br>
+ * With a fork-join pool, changeSets of a changeLog with many changeSets are split into tasks evaluated in parallel.
+ * Errors are collected by changeSet index, so they are reported in the same order as in the sequential validation.
  */
 public class ChangeSetRuleValidator implements RuleValidator {
 
+    /**
+     * Minimum number of changeSets of a changeLog evaluated in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 1024;
+
+    private static final int TASK_CHANGE_SETS = 128;
+
     private final Set<ChangeSetRule> rules = new HashSet<>();
+    private final ValidationMetrics metrics;
+    private final Tracer tracer;
+    private final ChangeSetResultCache resultCache;
+    private final ForkJoinPool changeSetPool;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics - validation metrics.
+     * @param tracer  - tracer.
+     */
+    public ChangeSetRuleValidator(final ValidationMetrics metrics,
+                                   final Tracer tracer) {
+        this(metrics, tracer, null);
+    }
 
     /**
-     * Default constructor.
+     * Constructor.
+     *
+     * @param metrics     - validation metrics.
+     * @param tracer      - tracer.
+     * @param resultCache - results of changeSets memoized by their structure. Null if results are not memoized.
      */
-    public ChangeSetRuleValidator() {
+    public ChangeSetRuleValidator(final ValidationMetrics metrics,
+                                   final Tracer tracer,
+                                   final ChangeSetResultCache resultCache) {
+        this(metrics, tracer, resultCache, null);
+    }
 
+    /**
+     * Constructor.
+     *
+     * @param metrics       - validation metrics.
+     * @param tracer        - tracer.
+     * @param resultCache   - results of changeSets memoized by their structure. Null if results are not memoized.
+     * @param changeSetPool - pool evaluating changeSets of large changeLogs. Null if changeSets are evaluated
+     *                      one by one. ChangeSets are also evaluated one by one once the pool is shut down.
+     */
+    public ChangeSetRuleValidator(final ValidationMetrics metrics,
+                                   final Tracer tracer,
+                                   final ChangeSetResultCache resultCache,
+                                   final ForkJoinPool changeSetPool) {
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.resultCache = resultCache;
+        this.changeSetPool = changeSetPool;
     }
 
     /**
@@ -43,28 +107,284 @@ public class ChangeSetRuleValidator implements RuleValidator {
     /**
      * Process changeSet rules.
      *
-     * @param changeLogFile    - changeLog file.
+     * @param changeLog        - parsed changeLog.
      * @param validationErrors - validation errors.
-     * @param changeLogFormat  - changeLog format.
      * @param exclusionParser  - exclusion parser.
-     * @throws ChangeLogParseException - thrown if changeLog parsing fails.
+     * @throws ChangeLogParseException - thrown if changeLog parsing failed.
      */
     @Override
-    public void validate(final File changeLogFile,
+    public void validate(final ParsedChangeLog changeLog,
                          final List<RuleValidationErrorDto> validationErrors,
-                         final ChangeLogFormatEnum changeLogFormat,
                          final ExclusionParser exclusionParser) throws ChangeLogParseException {
-        List<ChangeLogElement> changeSets = CHANGESET_PARSER_MAP.get(changeLogFormat).parseChangeSets(changeLogFile);
-
-        for (ChangeSetRule rule : rules) {
-            for (ChangeLogElement changeSet : changeSets) {
-                try {
-                    rule.validateChangeSet(changeSet, exclusionParser, changeLogFile.getName(), changeLogFormat);
-                } catch (ValidationException e) {
-                    e.getRuleValidationError().setGenericMessage("[" + changeLogFile.getName() + "] " + e.getMessage());
-                    validationErrors.add(e.getRuleValidationError());
+        ChangeLogSource source = changeLog.getSource();
+        ChangeLogFormatEnum changeLogFormat = changeLog.getFormat();
+        try (Span stage = tracer.startSpan(SpanNames.CHANGESET_RULE_VALIDATOR)) {
+            stage.setAttribute(SpanAttributes.FILE_PATH, source.getLocation());
+            List<ChangeLogElement> changeSets = changeLog.getChangeSets();
+            boolean parallel = changeSetPool != null && !changeSetPool.isShutdown()
+                    && changeSets.size() >= PARALLEL_THRESHOLD;
+            if (parallel) {
+                changeSets = snapshot(changeSets, changeLogFormat);
+            }
+            StructuralHashes hashes = resultCache == null ? null : new StructuralHashes(changeSets);
+
+            for (ChangeSetRule rule : rules) {
+                Span span = tracer.startSpan(SpanNames.RULE_EVALUATE)
+                        .setAttribute(SpanAttributes.RULE, rule.getName().getValue());
+                long evaluationStart = System.nanoTime();
+                ChangeSetResultCache.Results results = resultCache == null
+                        ? null
+                        : resultCache.resultsOf(rule, changeLogFormat);
+                RuleEvaluation evaluation = new RuleEvaluation(
+                        rule, changeSets, exclusionParser, changeLog, results, hashes);
+                if (parallel) {
+                    changeSetPool.invoke(new ChangeSetTask(evaluation, 0, changeSets.size()));
+                } else {
+                    evaluation.evaluate(0, changeSets.size());
+                }
+                int violations = 0;
+                for (RuleValidationErrorDto error : evaluation.errors) {
+                    if (error != null) {
+                        validationErrors.add(error);
+                        violations++;
+                    }
+                }
+                metrics.recordRuleEvaluation(source, rule.getName(), System.nanoTime() - evaluationStart,
+                        changeSets.size(), violations);
+                span.setAttribute(SpanAttributes.VIOLATIONS, violations).end();
+            }
+        }
+    }
+
+    /**
+     * Copy changeSets that cannot be read by several threads at once.
+     *
+     * @param changeSets      - changeSets.
+     * @param changeLogFormat - changeLog format.
+     * @return changeSets that can be read by several threads at once.
+     */
+    private static List<ChangeLogElement> snapshot(final List<ChangeLogElement> changeSets,
+                                                   final ChangeLogFormatEnum changeLogFormat) {
+        String missingPropertyValue = changeLogFormat == ChangeLogFormatEnum.XML ? "" : null;
+        List<ChangeLogElement> snapshot = new ArrayList<>(changeSets.size());
+        for (ChangeLogElement changeSet : changeSets) {
+            snapshot.add(changeSet instanceof XmlChangeLogElement
+                    ? SnapshotChangeLogElement.copyOf(changeSet, missingPropertyValue)
+                    : changeSet);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Evaluate the rule against the changeSet.
+     *
+     * @param rule              - changeSet rule.
+     * @param changeSet         - changeSet.
+     * @param exclusionParser   - exclusion parser.
+     * @param changeLogFileName - changeLog file name.
+     * @param changeLogFormat   - changeLog format.
+     * @return validation error. Null if the changeSet passed the rule.
+     */
+    private static RuleValidationErrorDto evaluate(final ChangeSetRule rule,
+                                                   final ChangeLogElement changeSet,
+                                                   final ExclusionParser exclusionParser,
+                                                   final String changeLogFileName,
+                                                   final ChangeLogFormatEnum changeLogFormat) {
+        try {
+            rule.validateChangeSet(changeSet, exclusionParser, changeLogFileName, changeLogFormat);
+            return null;
+        } catch (ValidationException e) {
+            return e.getRuleValidationError();
+        }
+    }
+
+    /**
+     * Evaluate the rule against the changeSet, or reuse the result of a changeSet with the same structure.
+     * <br>
+     * Excluded changeSets are neither evaluated nor remembered. Errors that do not start with the changeSet header
+     * are not remembered, since they cannot be re-bound to another changeSet.
+     *
+     * @param rule              - changeSet rule.
+     * @param changeSet         - changeSet.
+     * @param exclusionParser   - exclusion parser.
+     * @param changeLogFileName - changeLog file name.
+     * @param changeLogFormat   - changeLog format.
+     * @param results           - memoized results of the rule.
+     * @param structuralHash    - structural hash of the changeSet.
+     * @return validation error. Null if the changeSet passed the rule or is excluded.
+     */
+    private static RuleValidationErrorDto evaluate(final ChangeSetRule rule,
+                                                   final ChangeLogElement changeSet,
+                                                   final ExclusionParser exclusionParser,
+                                                   final String changeLogFileName,
+                                                   final ChangeLogFormatEnum changeLogFormat,
+                                                   final ChangeSetResultCache.Results results,
+                                                   final String structuralHash) {
+        if (RuleUtil.shouldSkipProcessingRule(changeSet, exclusionParser, changeLogFileName, rule.getName())) {
+            return null;
+        }
+        String result = results.get(structuralHash);
+        if (result != null) {
+            return ChangeSetResultCache.PASSED.equals(result)
+                    ? null
+                    : RuleUtil.composeErrorMessage(changeSet, changeLogFileName, rule.getName(), result);
+        }
+        RuleValidationErrorDto error = evaluate(rule, changeSet, exclusionParser, changeLogFileName, changeLogFormat);
+        if (error == null) {
+            results.put(structuralHash, ChangeSetResultCache.PASSED);
+        } else {
+            String header = RuleUtil.composeChangeSetHeader(changeSet, rule.getName());
+            String message = error.getErrorMessage();
+            if (message != null && message.length() > header.length() && message.startsWith(header)) {
+                results.put(structuralHash, message.substring(header.length()));
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Evaluation of a rule against the changeSets of a changeLog. Errors are kept by changeSet index,
+     * so ranges of changeSets can be evaluated by different threads.
+     */
+    private static final class RuleEvaluation {
+
+        private final ChangeSetRule rule;
+        private final List<ChangeLogElement> changeSets;
+        private final ExclusionParser exclusionParser;
+        private final ChangeLogSource source;
+        private final ChangeLogFormatEnum changeLogFormat;
+        private final ChangeSetResultCache.Results results;
+        private final StructuralHashes hashes;
+        private final RuleValidationErrorDto[] errors;
+
+        /**
+         * Constructor.
+         *
+         * @param rule            - changeSet rule.
+         * @param changeSets      - changeSets of the changeLog.
+         * @param exclusionParser - exclusion parser.
+         * @param changeLog       - parsed changeLog.
+         * @param results         - memoized results of the rule. Null if results are not memoized.
+         * @param hashes          - structural hashes of the changeSets. Null if results are not memoized.
+         */
+        private RuleEvaluation(final ChangeSetRule rule,
+                               final List<ChangeLogElement> changeSets,
+                               final ExclusionParser exclusionParser,
+                               final ParsedChangeLog changeLog,
+                               final ChangeSetResultCache.Results results,
+                               final StructuralHashes hashes) {
+            this.rule = rule;
+            this.changeSets = changeSets;
+            this.exclusionParser = exclusionParser;
+            this.source = changeLog.getSource();
+            this.changeLogFormat = changeLog.getFormat();
+            this.results = results;
+            this.hashes = hashes;
+            this.errors = new RuleValidationErrorDto[changeSets.size()];
+        }
+
+        /**
+         * Evaluate the rule against the range of changeSets in the calling thread.
+         *
+         * @param from - index of the first changeSet, inclusive.
+         * @param to   - index of the last changeSet, exclusive.
+         */
+        private void evaluate(final int from,
+                              final int to) {
+            MessageDigest digest = results == null ? null : HashUtil.newSha256Digest();
+            for (int i = from; i < to; i++) {
+                ChangeLogElement changeSet = changeSets.get(i);
+                RuleEvaluatedEvent event = FlightRecorderEvents.isEnabled() ? new RuleEvaluatedEvent() : null;
+                if (event != null) {
+                    event.begin();
                 }
+                RuleValidationErrorDto error = results == null
+                        ? ChangeSetRuleValidator.evaluate(rule, changeSet, exclusionParser, source.getName(),
+                                changeLogFormat)
+                        : ChangeSetRuleValidator.evaluate(rule, changeSet, exclusionParser, source.getName(),
+                                changeLogFormat, results, hashes.get(i, rule.dependsOnChangeSetIdentity(), digest));
+                if (error != null) {
+                    error.setGenericMessage("[" + source.getName() + "] " + error.getErrorMessage());
+                    errors[i] = error;
+                }
+                if (event != null) {
+                    event.complete(rule.getName(), source, changeSet, error == null ? 0 : 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fork-join task evaluating a range of changeSets. Ranges larger than a task are split in halves.
+     */
+    private static final class ChangeSetTask extends RecursiveAction {
+
+        private final RuleEvaluation evaluation;
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructor.
+         *
+         * @param evaluation - evaluation of the rule.
+         * @param from       - index of the first changeSet, inclusive.
+         * @param to         - index of the last changeSet, exclusive.
+         */
+        private ChangeSetTask(final RuleEvaluation evaluation,
+                              final int from,
+                              final int to) {
+            this.evaluation = evaluation;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_CHANGE_SETS) {
+                evaluation.evaluate(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChangeSetTask(evaluation, from, middle), new ChangeSetTask(evaluation, middle, to));
+        }
+    }
+
+    /**
+     * Structural hashes of the changeSets, computed once per changeSet when a rule needs them.
+     */
+    private static final class StructuralHashes {
+
+        private final List<ChangeLogElement> changeSets;
+        private final String[] hashes;
+        private final String[] identityHashes;
+
+        /**
+         * Constructor.
+         *
+         * @param changeSets - changeSets.
+         */
+        private StructuralHashes(final List<ChangeLogElement> changeSets) {
+            this.changeSets = changeSets;
+            this.hashes = new String[changeSets.size()];
+            this.identityHashes = new String[changeSets.size()];
+        }
+
+        /**
+         * Get structural hash of the changeSet. Hashes of different changeSets can be computed by different threads.
+         *
+         * @param index        - index of the changeSet.
+         * @param withIdentity - whether values of the changeSet id and author are hashed.
+         * @param digest       - digest of the calling thread.
+         * @return structural hash.
+         */
+        private String get(final int index,
+                           final boolean withIdentity,
+                           final MessageDigest digest) {
+            String[] target = withIdentity ? identityHashes : hashes;
+            if (target[index] == null) {
+                target[index] = ChangeSetResultCache.structuralHash(changeSets.get(index), withIdentity, digest);
             }
+            return target[index];
         }
     }
 }
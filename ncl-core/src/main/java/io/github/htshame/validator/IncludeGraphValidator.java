@@ -0,0 +1,336 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.parser.ParsedChangeLog;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.exception.ChangeLogParseException;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.util.DaemonThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validator of the changeLog files reachable from a master changeLog through <code>include</code>
+ * and <code>includeAll</code> elements.
+ * <br>
+ * Only the reachable files are validated, so stale files that are not included any more are skipped.
+ * The include graph is walked breadth-first: all files of a level are parsed concurrently,
+ * and every parsed file is handed to the rule workers at once, while its includes make up the next level.
+ * Every file is parsed once, both for its includes and for the rules, and validated once,
+ * however many times it is included: files are deduplicated by their real path.
+ * <br>
+ * Included files of another format than the validated one, e.g. SQL files, are neither validated nor followed.
+ * Missing included files and circular includes are reported as violations of the including file,
+ * after the violations of the rules.
+ * Validation errors are returned in the order the files were discovered.
+ */
+public final class IncludeGraphValidator {
+
+    private static final String INCLUDE = "include";
+    private static final String INCLUDE_ALL = "includeAll";
+    private static final String FILE = "file";
+    private static final String PATH = "path";
+    private static final String RELATIVE_TO_CHANGELOG_FILE = "relativeToChangelogFile";
+    private static final String ERROR_IF_MISSING = "errorIfMissing";
+    private static final String ERROR_IF_MISSING_OR_EMPTY = "errorIfMissingOrEmpty";
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final ValidationManager validationManager;
+    private final Tracer tracer;
+    private final int threads;
+
+    /**
+     * Constructor.
+     *
+     * @param validationManager - validation manager that parses and evaluates single files.
+     * @param tracer            - tracer.
+     * @param threads           - number of parser threads and of rule threads.
+     */
+    public IncludeGraphValidator(final ValidationManager validationManager,
+                                 final Tracer tracer,
+                                 final int threads) {
+        this.validationManager = validationManager;
+        this.tracer = tracer;
+        this.threads = threads;
+    }
+
+    /**
+     * Validate the master changeLog and all changeLog files it includes, directly or indirectly.
+     *
+     * @param masterChangeLog - master changeLog file.
+     * @param searchPath      - directory against which includes that are not relative to the changeLog file
+     *                        are resolved, e.g. <code>src/main/resources</code>.
+     * @param changeLogFormats - changeLog formats. Every file is parsed according to its extension.
+     * @param rules           - rules to validate against.
+     * @param exclusionParser - exclusions.
+     * @return list of validation errors. Empty list if there are no errors.
+     * @throws ChangeLogCollectorException - thrown if the master changeLog does not exist
+     *                                     or an included directory cannot be walked.
+     */
+    public List<RuleValidationErrorDto> validate(final Path masterChangeLog,
+                                                 final Path searchPath,
+                                                 final Set<ChangeLogFormatEnum> changeLogFormats,
+                                                 final List<Rule> rules,
+                                                 final ExclusionParser exclusionParser)
+            throws ChangeLogCollectorException {
+        ChangeLogFormatEnum defaultFormat = changeLogFormats.iterator().next();
+        ExecutorService parsers = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("include-parse"));
+        ExecutorService evaluators = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("include-rules"));
+        try (Span span = tracer.startSpan(SpanNames.INCLUDE_GRAPH)) {
+            span.setAttribute(SpanAttributes.FILE_PATH, masterChangeLog);
+            Map<Path, List<Path>> includeGraph = new LinkedHashMap<>();
+            List<RuleValidationErrorDto> includeErrors = new ArrayList<>();
+            List<CompletableFuture<List<RuleValidationErrorDto>>> results = new ArrayList<>();
+
+            List<Path> level = new ArrayList<>();
+            level.add(realPath(masterChangeLog));
+            Set<Path> discovered = new HashSet<>(level);
+            while (!level.isEmpty()) {
+                List<CompletableFuture<ParsedChangeLog>> parsedLevel = new ArrayList<>(level.size());
+                for (Path changeLogFile : level) {
+                    CompletableFuture<ParsedChangeLog> parsed = CompletableFuture.supplyAsync(() ->
+                            validationManager.parse(ChangeLogSource.of(changeLogFile), defaultFormat, span), parsers);
+                    results.add(parsed.thenApplyAsync(changeLog ->
+                            validationManager.evaluate(changeLog, rules, exclusionParser, span), evaluators));
+                    parsedLevel.add(parsed);
+                }
+                List<Path> nextLevel = new ArrayList<>();
+                for (int i = 0; i < level.size(); i++) {
+                    List<Path> includes = findIncludes(
+                            join(parsedLevel.get(i)), searchPath, changeLogFormats, includeErrors);
+                    includeGraph.put(level.get(i), includes);
+                    for (Path include : includes) {
+                        if (discovered.add(include)) {
+                            nextLevel.add(include);
+                        }
+                    }
+                }
+                level = nextLevel;
+            }
+            span.setAttribute(SpanAttributes.COUNT, discovered.size());
+
+            List<RuleValidationErrorDto> validationErrors = new ArrayList<>();
+            for (CompletableFuture<List<RuleValidationErrorDto>> result : results) {
+                validationErrors.addAll(join(result));
+            }
+            validationErrors.addAll(includeErrors);
+            validationErrors.addAll(findCycles(includeGraph));
+            return validationErrors;
+        } finally {
+            parsers.shutdownNow();
+            evaluators.shutdownNow();
+        }
+    }
+
+    /**
+     * Find changeLog files included by the parsed changeLog, in the order of the include elements.
+     *
+     * @param changeLog       - parsed changeLog.
+     * @param searchPath      - directory against which includes that are not relative to the changeLog file
+     *                        are resolved.
+     * @param changeLogFormats - changeLog formats.
+     * @param includeErrors   - errors of missing included files.
+     * @return real paths of the included changeLog files. Empty list if the changeLog failed to parse.
+     * @throws ChangeLogCollectorException - thrown if an included directory cannot be walked.
+     */
+    private static List<Path> findIncludes(final ParsedChangeLog changeLog,
+                                           final Path searchPath,
+                                           final Set<ChangeLogFormatEnum> changeLogFormats,
+                                           final List<RuleValidationErrorDto> includeErrors)
+            throws ChangeLogCollectorException {
+        List<ChangeLogElement> nonChangeSets;
+        try {
+            nonChangeSets = changeLog.getNonChangeSets();
+        } catch (ChangeLogParseException e) {
+            return new ArrayList<>();
+        }
+        Path changeLogFile = changeLog.getSource().getPath();
+        List<Path> includes = new ArrayList<>();
+        for (ChangeLogElement element : nonChangeSets) {
+            String name = localName(element.getName());
+            if (INCLUDE.equals(name)) {
+                String file = property(element, FILE);
+                if (file == null
+                        || !ChangeLogFilesCollector.isChangeLogFile(searchPath.resolve(file), changeLogFormats)) {
+                    continue;
+                }
+                Path include = resolve(changeLogFile, searchPath, file, element);
+                if (Files.isRegularFile(include)) {
+                    includes.add(realPath(include));
+                } else if (!"false".equalsIgnoreCase(property(element, ERROR_IF_MISSING))) {
+                    includeErrors.add(includeError(changeLogFile, "Included file [" + file + "] does not exist"));
+                }
+            } else if (INCLUDE_ALL.equals(name)) {
+                String path = property(element, PATH);
+                Path directory = path == null ? null : resolve(changeLogFile, searchPath, path, element);
+                boolean errorIfMissingOrEmpty =
+                        !"false".equalsIgnoreCase(property(element, ERROR_IF_MISSING_OR_EMPTY));
+                if (directory != null && Files.isDirectory(directory)) {
+                    List<Path> files = listChangeLogFiles(directory, changeLogFormats);
+                    if (files.isEmpty() && errorIfMissingOrEmpty) {
+                        includeErrors.add(includeError(changeLogFile,
+                                "Included directory [" + path + "] has no changeLog files"));
+                    }
+                    includes.addAll(files);
+                } else if (errorIfMissingOrEmpty) {
+                    includeErrors.add(includeError(changeLogFile,
+                            "Included directory [" + path + "] does not exist"));
+                }
+            }
+        }
+        return includes;
+    }
+
+    /**
+     * Find circular includes.
+     *
+     * @param includeGraph - included files of every discovered file, in the order of discovery.
+     * @return errors of circular includes. Every cycle is reported once.
+     */
+    private static List<RuleValidationErrorDto> findCycles(final Map<Path, List<Path>> includeGraph) {
+        List<RuleValidationErrorDto> cycleErrors = new ArrayList<>();
+        Map<Path, Boolean> onPath = new HashMap<>();
+        for (Path root : includeGraph.keySet()) {
+            if (onPath.containsKey(root)) {
+                continue;
+            }
+            Deque<Path> path = new ArrayDeque<>();
+            Deque<Integer> nextInclude = new ArrayDeque<>();
+            path.push(root);
+            nextInclude.push(0);
+            onPath.put(root, true);
+            while (!path.isEmpty()) {
+                Path file = path.peek();
+                List<Path> includes = includeGraph.getOrDefault(file, new ArrayList<>());
+                int index = nextInclude.pop();
+                if (index == includes.size()) {
+                    path.pop();
+                    onPath.put(file, false);
+                    continue;
+                }
+                nextInclude.push(index + 1);
+                Path include = includes.get(index);
+                Boolean visiting = onPath.get(include);
+                if (visiting == null) {
+                    path.push(include);
+                    nextInclude.push(0);
+                    onPath.put(include, true);
+                } else if (visiting) {
+                    cycleErrors.add(includeError(file, "Circular include: " + describeCycle(path, include)));
+                }
+            }
+        }
+        return cycleErrors;
+    }
+
+    private static String describeCycle(final Deque<Path> path,
+                                        final Path include) {
+        List<Path> files = new ArrayList<>(path);
+        StringBuilder cycle = new StringBuilder();
+        for (int i = files.indexOf(include); i >= 0; i--) {
+            cycle.append(files.get(i).getFileName()).append(" -> ");
+        }
+        return cycle.append(include.getFileName()).toString();
+    }
+
+    private static List<Path> listChangeLogFiles(final Path directory,
+                                                 final Set<ChangeLogFormatEnum> changeLogFormats)
+            throws ChangeLogCollectorException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> files = paths.filter(Files::isRegularFile)
+                    .filter(path -> ChangeLogFilesCollector.isChangeLogFile(path, changeLogFormats))
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<Path> realPaths = new ArrayList<>(files.size());
+            for (Path file : files) {
+                realPaths.add(realPath(file));
+            }
+            return realPaths;
+        } catch (IOException e) {
+            throw new ChangeLogCollectorException("Failed to walk directory: " + directory, e);
+        } catch (UncheckedIOException e) {
+            throw new ChangeLogCollectorException("Failed to walk directory: " + directory, e.getCause());
+        }
+    }
+
+    private static Path resolve(final Path changeLogFile,
+                                final Path searchPath,
+                                final String include,
+                                final ChangeLogElement element) {
+        String relativePath = include.startsWith(CLASSPATH_PREFIX)
+                ? include.substring(CLASSPATH_PREFIX.length())
+                : include;
+        if ("true".equalsIgnoreCase(property(element, RELATIVE_TO_CHANGELOG_FILE))) {
+            return changeLogFile.resolveSibling(relativePath).normalize();
+        }
+        while (relativePath.startsWith("/")) {
+            relativePath = relativePath.substring(1);
+        }
+        return searchPath.resolve(relativePath).normalize();
+    }
+
+    private static Path realPath(final Path file) throws ChangeLogCollectorException {
+        try {
+            return file.toRealPath();
+        } catch (IOException e) {
+            throw new ChangeLogCollectorException("Failed to read changeLog file: " + file, e);
+        }
+    }
+
+    private static String property(final ChangeLogElement element,
+                                   final String name) {
+        String value = element.getPropertyValue(name);
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static String localName(final String name) {
+        return name.substring(name.indexOf(':') + 1);
+    }
+
+    private static RuleValidationErrorDto includeError(final Path changeLogFile,
+                                                       final String message) {
+        return new RuleValidationErrorDto("[" + changeLogFile.getFileName() + "] " + message);
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
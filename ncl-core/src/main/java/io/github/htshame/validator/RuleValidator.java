@@ -1,12 +1,11 @@
 package io.github.htshame.validator;
 
+import io.github.htshame.change.parser.ParsedChangeLog;
 import io.github.htshame.dto.RuleValidationErrorDto;
-import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.exception.ChangeLogParseException;
 import io.github.htshame.parser.ExclusionParser;
 import io.github.htshame.rule.Rule;
 
-import java.io.File;
 import java.util.List;
 
 /**
@@ -24,14 +23,12 @@ public interface RuleValidator {
     /**
      * Process rules.
      *
-     * @param changeLogFile    - changeLog file.
+     * @param changeLog        - parsed changeLog.
      * @param validationErrors - validation errors.
-     * @param changeLogFormat  - changeLog format.
      * @param exclusionParser  - exclusion parser.
-     * @throws ChangeLogParseException - thrown if changeLog parsing fails.
+     * @throws ChangeLogParseException - thrown if changeLog parsing failed.
      */
-    void validate(File changeLogFile,
+    void validate(ParsedChangeLog changeLog,
                   List<RuleValidationErrorDto> validationErrors,
-                  ChangeLogFormatEnum changeLogFormat,
                   ExclusionParser exclusionParser) throws ChangeLogParseException;
 }
@@ -1,11 +1,14 @@
 package io.github.htshame.validator;
 
 import io.github.htshame.enums.RuleTypeEnum;
+import io.github.htshame.metrics.ValidationMetrics;
 import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Tracer;
 
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Rule validator factory.
@@ -22,15 +25,57 @@ public final class RuleValidatorFactory {
     /**
      * Instantiate rule validators.
      *
-     * @param rules - rules.
+     * @param rules   - rules.
+     * @param metrics - validation metrics.
+     * @param tracer  - tracer.
      * @return collection of rule validators.
      */
-    public static Collection<RuleValidator> instantiate(final Set<Rule> rules) {
+    public static Collection<RuleValidator> instantiate(final Set<Rule> rules,
+                                                        final ValidationMetrics metrics,
+                                                        final Tracer tracer) {
+        return instantiate(rules, metrics, tracer, null);
+    }
+
+    /**
+     * Instantiate rule validators.
+     *
+     * @param rules                - rules.
+     * @param metrics              - validation metrics.
+     * @param tracer               - tracer.
+     * @param changeSetResultCache - results of changeSets memoized by their structure.
+     *                             Null if results are not memoized.
+     * @return collection of rule validators.
+     */
+    public static Collection<RuleValidator> instantiate(final Set<Rule> rules,
+                                                        final ValidationMetrics metrics,
+                                                        final Tracer tracer,
+                                                        final ChangeSetResultCache changeSetResultCache) {
+        return instantiate(rules, metrics, tracer, changeSetResultCache, null);
+    }
+
+    /**
+     * Instantiate rule validators.
+     *
+     * @param rules                - rules.
+     * @param metrics              - validation metrics.
+     * @param tracer               - tracer.
+     * @param changeSetResultCache - results of changeSets memoized by their structure.
+     *                             Null if results are not memoized.
+     * @param changeSetPool        - pool evaluating changeSets of large changeLogs.
+     *                             Null if changeSets are evaluated one by one.
+     * @return collection of rule validators.
+     */
+    public static Collection<RuleValidator> instantiate(final Set<Rule> rules,
+                                                        final ValidationMetrics metrics,
+                                                        final Tracer tracer,
+                                                        final ChangeSetResultCache changeSetResultCache,
+                                                        final ForkJoinPool changeSetPool) {
 
         EnumMap<RuleTypeEnum, RuleValidator> validatorMap = new EnumMap<>(RuleTypeEnum.class);
-        validatorMap.put(RuleTypeEnum.CHANGE_LOG_FILE_RULE, new ChangeLogFileRuleValidator());
-        validatorMap.put(RuleTypeEnum.CHANGE_SET_RULE, new ChangeSetRuleValidator());
-        validatorMap.put(RuleTypeEnum.CHANGE_LOG_RULE, new ChangeLogRuleValidator());
+        validatorMap.put(RuleTypeEnum.CHANGE_LOG_FILE_RULE, new ChangeLogFileRuleValidator(metrics, tracer));
+        validatorMap.put(RuleTypeEnum.CHANGE_SET_RULE,
+                new ChangeSetRuleValidator(metrics, tracer, changeSetResultCache, changeSetPool));
+        validatorMap.put(RuleTypeEnum.CHANGE_LOG_RULE, new ChangeLogRuleValidator(metrics, tracer));
 
         for (Rule rule : rules) {
             validatorMap.get(rule.getName().getType()).addRule(rule);
@@ -1,14 +1,24 @@
 package io.github.htshame.validator;
 
 import io.github.htshame.change.parser.ChangeLogParser;
+import io.github.htshame.change.parser.ChangeLogTagIndex;
 import io.github.htshame.change.parser.JsonChangeLogParser;
+import io.github.htshame.change.parser.ParsedChangeLog;
+import io.github.htshame.change.parser.ParsedChangeLogCache;
 import io.github.htshame.change.parser.XmlChangeLogParser;
 import io.github.htshame.change.parser.YamlChangeLogParser;
+import io.github.htshame.change.source.ChangeLogSource;
 import io.github.htshame.dto.RuleValidationErrorDto;
 import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.exception.ChangeLogParseException;
+import io.github.htshame.metrics.ValidationMetrics;
 import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.rule.ChangeLogFileRule;
 import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -17,6 +27,9 @@ import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class is responsible for actual validation based on
@@ -38,11 +51,122 @@ public class ValidationManager {
         CHANGESET_PARSER_MAP.put(ChangeLogFormatEnum.JSON, new JsonChangeLogParser());
     }
 
+    private final ValidationMetrics metrics;
+    private final Tracer tracer;
+    private final ConcurrentMap<Set<Rule>, Collection<RuleValidator>> ruleValidatorCache;
+    private final ChangeSetResultCache changeSetResultCache;
+    private final ParsedChangeLogCache parsedChangeLogCache;
+    private final ForkJoinPool changeSetPool;
+
     /**
      * Default constructor.
      */
     public ValidationManager() {
+        this(new ValidationMetrics(), Tracer.disabled());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param metrics - validation metrics to collect.
+     * @param tracer  - tracer.
+     */
+    public ValidationManager(final ValidationMetrics metrics,
+                             final Tracer tracer) {
+        this(metrics, tracer, false);
+    }
+
+    /**
+     * Constructor.
+     * <br>
+     * Rule validators only hold the rules, so a manager that always gets the same rules
+     * may create the validators once per set of rules left after exclusions and share them between threads.
+     *
+     * @param metrics             - validation metrics to collect.
+     * @param tracer              - tracer.
+     * @param cacheRuleValidators - whether rule validators should be created once per set of rules.
+     */
+    public ValidationManager(final ValidationMetrics metrics,
+                             final Tracer tracer,
+                             final boolean cacheRuleValidators) {
+        this(metrics, tracer, cacheRuleValidators, null);
+    }
+
+    /**
+     * Constructor.
+     * <br>
+     * With the changeSet result cache, changeSets with the same structure are evaluated once per rule,
+     * and results kept by the cache between executions are reused.
+     *
+     * @param metrics              - validation metrics to collect.
+     * @param tracer               - tracer.
+     * @param cacheRuleValidators  - whether rule validators should be created once per set of rules.
+     * @param changeSetResultCache - results of changeSets memoized by their structure.
+     *                             Null if results are not memoized.
+     */
+    public ValidationManager(final ValidationMetrics metrics,
+                             final Tracer tracer,
+                             final boolean cacheRuleValidators,
+                             final ChangeSetResultCache changeSetResultCache) {
+        this(metrics, tracer, cacheRuleValidators, changeSetResultCache, null);
+    }
+
+    /**
+     * Constructor.
+     * <br>
+     * With the parsed changeLog cache, changeLogs with the same content are loaded from the cache
+     * instead of being parsed again, e.g. after the rules change.
+     *
+     * @param metrics              - validation metrics to collect.
+     * @param tracer               - tracer.
+     * @param cacheRuleValidators  - whether rule validators should be created once per set of rules.
+     * @param changeSetResultCache - results of changeSets memoized by their structure.
+     *                             Null if results are not memoized.
+     * @param parsedChangeLogCache - parsed changeLogs keyed by their content. Null if changeLogs are always parsed.
+     */
+    public ValidationManager(final ValidationMetrics metrics,
+                             final Tracer tracer,
+                             final boolean cacheRuleValidators,
+                             final ChangeSetResultCache changeSetResultCache,
+                             final ParsedChangeLogCache parsedChangeLogCache) {
+        this(metrics, tracer, cacheRuleValidators, changeSetResultCache, parsedChangeLogCache, null);
+    }
 
+    /**
+     * Constructor.
+     * <br>
+     * With the changeSet pool, changeSets of changeLogs with many changeSets are evaluated in parallel.
+     *
+     * @param metrics              - validation metrics to collect.
+     * @param tracer               - tracer.
+     * @param cacheRuleValidators  - whether rule validators should be created once per set of rules.
+     * @param changeSetResultCache - results of changeSets memoized by their structure.
+     *                             Null if results are not memoized.
+     * @param parsedChangeLogCache - parsed changeLogs keyed by their content. Null if changeLogs are always parsed.
+     * @param changeSetPool        - pool evaluating changeSets of large changeLogs.
+     *                             Null if changeSets are evaluated one by one.
+     */
+    public ValidationManager(final ValidationMetrics metrics,
+                             final Tracer tracer,
+                             final boolean cacheRuleValidators,
+                             final ChangeSetResultCache changeSetResultCache,
+                             final ParsedChangeLogCache parsedChangeLogCache,
+                             final ForkJoinPool changeSetPool) {
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.ruleValidatorCache = cacheRuleValidators ? new ConcurrentHashMap<>() : null;
+        this.changeSetResultCache = changeSetResultCache;
+        this.parsedChangeLogCache = parsedChangeLogCache;
+        this.changeSetPool = changeSetPool;
+    }
+
+    /**
+     * Get metrics collected by this validation manager.
+     *
+     * @return validation metrics.
+     */
+    public ValidationMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -58,39 +182,273 @@ public class ValidationManager {
                                                  final List<Rule> rules,
                                                  final ExclusionParser exclusionParser,
                                                  final ChangeLogFormatEnum changeLogFormat) {
+        List<ChangeLogSource> sources = new ArrayList<>(changeLogFiles.size());
+        for (File changeLogFile : changeLogFiles) {
+            sources.add(ChangeLogSource.of(changeLogFile));
+        }
+        return validateSources(sources, rules, exclusionParser, changeLogFormat);
+    }
+
+    /**
+     * Commence validation of changeLog sources, e.g. files of other file systems or content held in memory.
+     *
+     * @param sources         - changeLog sources to validate.
+     * @param rules           - set of rules to validate against.
+     * @param exclusionParser - exclusions.
+     * @param changeLogFormat - changeLog format.
+     * @return list of validation errors. Empty list if there are no errors.
+     */
+    public List<RuleValidationErrorDto> validateSources(final List<ChangeLogSource> sources,
+                                                        final List<Rule> rules,
+                                                        final ExclusionParser exclusionParser,
+                                                        final ChangeLogFormatEnum changeLogFormat) {
+        return validateSources(sources, rules, exclusionParser, changeLogFormat, tracer.getCurrentSpan());
+    }
+
+    /**
+     * Commence validation of changeLog sources under the given span.
+     *
+     * @param sources         - changeLog sources to validate.
+     * @param rules           - set of rules to validate against.
+     * @param exclusionParser - exclusions.
+     * @param changeLogFormat - changeLog format.
+     * @param parent          - parent span.
+     * @return list of validation errors. Empty list if there are no errors.
+     */
+    List<RuleValidationErrorDto> validateSources(final List<ChangeLogSource> sources,
+                                                 final List<Rule> rules,
+                                                 final ExclusionParser exclusionParser,
+                                                 final ChangeLogFormatEnum changeLogFormat,
+                                                 final Span parent) {
         List<RuleValidationErrorDto> validationErrors = new ArrayList<>();
+        for (ChangeLogSource source : sources) {
+            ParsedChangeLog changeLog = parse(source, changeLogFormat, rules, exclusionParser, parent);
+            validationErrors.addAll(evaluate(changeLog, rules, exclusionParser, parent));
+        }
+        return validationErrors;
+    }
 
-        for (File changeLogFile : changeLogFiles) {
-            Set<Rule> rulesToValidateAgainst = excludeRulesBasedOnExclusionFile(rules, exclusionParser, changeLogFile);
+    /**
+     * Read and parse changeLog file.
+     * <br>
+     * The parsed changeLog can be evaluated any number of times, e.g. again after rules change.
+     *
+     * @param changeLogFile   - changeLog file.
+     * @param changeLogFormat - changeLog format.
+     * @return parsed changeLog. If reading or parsing fails, the failure is kept in the parsed changeLog.
+     */
+    public ParsedChangeLog parse(final File changeLogFile,
+                                 final ChangeLogFormatEnum changeLogFormat) {
+        return parse(ChangeLogSource.of(changeLogFile), changeLogFormat);
+    }
+
+    /**
+     * Read and parse changeLog.
+     * <br>
+     * The parsed changeLog can be evaluated any number of times, e.g. again after rules change.
+     *
+     * @param source          - changeLog source.
+     * @param changeLogFormat - changeLog format.
+     * @return parsed changeLog. If reading or parsing fails, the failure is kept in the parsed changeLog.
+     */
+    public ParsedChangeLog parse(final ChangeLogSource source,
+                                 final ChangeLogFormatEnum changeLogFormat) {
+        return parse(source, changeLogFormat, tracer.getCurrentSpan());
+    }
+
+    /**
+     * Evaluate rules against parsed changeLog.
+     *
+     * @param changeLog       - parsed changeLog.
+     * @param rules           - set of rules to validate against.
+     * @param exclusionParser - exclusions.
+     * @return list of validation errors of the changeLog. Empty list if there are no errors.
+     */
+    public List<RuleValidationErrorDto> evaluate(final ParsedChangeLog changeLog,
+                                                 final List<Rule> rules,
+                                                 final ExclusionParser exclusionParser) {
+        return evaluate(changeLog, rules, exclusionParser, tracer.getCurrentSpan());
+    }
+
+    /**
+     * Read and parse changeLog. Content that is already read is not read again.
+     * <br>
+     * The parser is chosen by the file extension, so changeLog files of several formats can be validated together.
+     * The given format is used for files without a changeLog extension, e.g. content held in memory.
+     * ChangeLogs found in the parsed changeLog cache are loaded from it instead.
+     *
+     * @param source        - changeLog source.
+     * @param defaultFormat - changeLog format of files without a changeLog extension.
+     * @param parent        - parent span.
+     * @return parsed changeLog. If reading or parsing fails, the failure is kept in the parsed changeLog.
+     */
+    ParsedChangeLog parse(final ChangeLogSource source,
+                          final ChangeLogFormatEnum defaultFormat,
+                          final Span parent) {
+        return parse(source, defaultFormat, null, null, parent);
+    }
 
-            Collection<RuleValidator> ruleValidators = RuleValidatorFactory.instantiate(rulesToValidateAgainst);
+    /**
+     * Read and parse changeLog that is going to be evaluated against the rules.
+     * <br>
+     * If the tag index of the parsed changeLog cache shows that the changeLog contains none of the tags
+     * targeted by the rules, the changeLog is neither parsed nor loaded: it has no elements for the rules
+     * to evaluate, while changeLog file rules still read its content.
+     *
+     * @param source          - changeLog source.
+     * @param defaultFormat   - changeLog format of files without a changeLog extension.
+     * @param rules           - rules the changeLog is going to be evaluated against. Null if not known.
+     * @param exclusionParser - exclusions.
+     * @param parent          - parent span.
+     * @return parsed changeLog. If reading or parsing fails, the failure is kept in the parsed changeLog.
+     */
+    ParsedChangeLog parse(final ChangeLogSource source,
+                          final ChangeLogFormatEnum defaultFormat,
+                          final List<Rule> rules,
+                          final ExclusionParser exclusionParser,
+                          final Span parent) {
+        ChangeLogFormatEnum fileFormat = ChangeLogFormatEnum.fromFileName(source.getName());
+        ChangeLogFormatEnum changeLogFormat = fileFormat == null ? defaultFormat : fileFormat;
+        String cacheKey;
+        try {
+            byte[] content = ChangeLogParser.readContent(source);
+            cacheKey = parsedChangeLogCache == null ? null : parsedChangeLogCache.key(changeLogFormat, content);
+        } catch (ChangeLogParseException e) {
+            return ParsedChangeLog.failed(source, changeLogFormat, e);
+        }
+        ChangeLogTagIndex.Tags tags = cacheKey == null ? null : parsedChangeLogCache.getTagIndex().get(cacheKey);
+        Span span = tracer.startSpan(SpanNames.CHANGELOG_PARSE, parent)
+                .setAttribute(SpanAttributes.FILE_PATH, source.getLocation())
+                .setAttribute(SpanAttributes.FORMAT, changeLogFormat.getValue());
+        try {
+            if (tags != null && rules != null && !isTargeted(tags, rules, exclusionParser, source.getName())) {
+                span.setAttribute(SpanAttributes.SKIPPED, true);
+                return ParsedChangeLog.parsed(source, changeLogFormat, List.of(), List.of());
+            }
+            long parseStart = System.nanoTime();
+            ParsedChangeLog changeLog = cacheKey == null
+                    ? null
+                    : parsedChangeLogCache.read(cacheKey, source, changeLogFormat);
+            boolean cached = changeLog != null;
+            if (!cached) {
+                changeLog = CHANGESET_PARSER_MAP.get(changeLogFormat).parseChangeLog(source);
+            }
+            metrics.recordParse(source, System.nanoTime() - parseStart, cached ? 0 : changeLog.getElementCount());
+            span.setAttribute(SpanAttributes.COUNT, changeLog.getElementCount());
+            if (cacheKey != null) {
+                span.setAttribute(SpanAttributes.CACHE_HIT, cached);
+                if (!cached) {
+                    parsedChangeLogCache.write(cacheKey, changeLog);
+                }
+                if (tags == null && changeLog.getFailure() == null) {
+                    parsedChangeLogCache.getTagIndex().put(cacheKey, changeLog);
+                }
+            }
+            return changeLog;
+        } catch (ChangeLogParseException e) {
+            span.setError(e.getMessage());
+            return ParsedChangeLog.failed(source, changeLogFormat, e);
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Check whether any of the rules applied to the changeLog can report an error on its elements.
+     * ChangeLog file rules are not counted, since they do not read the elements.
+     *
+     * @param tags            - tag names of the changeLog.
+     * @param rules           - rules to validate against.
+     * @param exclusionParser - exclusions.
+     * @param changeLogName   - changeLog file name.
+     * @return <code>true</code> if the changeLog contains a tag targeted by a rule, or a rule targets any tag.
+     */
+    private static boolean isTargeted(final ChangeLogTagIndex.Tags tags,
+                                      final List<Rule> rules,
+                                      final ExclusionParser exclusionParser,
+                                      final String changeLogName) {
+        for (Rule rule : rules) {
+            if (rule instanceof ChangeLogFileRule || exclusionParser.isFileExcluded(changeLogName, rule.getName())) {
+                continue;
+            }
+            Set<String> targetTags = rule.getTargetTags();
+            if (targetTags == null) {
+                return true;
+            }
+            for (String targetTag : targetTags) {
+                if (tags.contains(targetTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluate rules against parsed changeLog.
+     *
+     * @param changeLog       - parsed changeLog.
+     * @param rules           - set of rules to validate against.
+     * @param exclusionParser - exclusions.
+     * @param parent          - parent span.
+     * @return list of validation errors of the changeLog. Empty list if there are no errors.
+     */
+    List<RuleValidationErrorDto> evaluate(final ParsedChangeLog changeLog,
+                                          final List<Rule> rules,
+                                          final ExclusionParser exclusionParser,
+                                          final Span parent) {
+        ChangeLogSource source = changeLog.getSource();
+        List<RuleValidationErrorDto> validationErrors = new ArrayList<>();
+        Set<Rule> rulesToValidateAgainst = excludeRulesBasedOnExclusionFile(rules, exclusionParser, source.getName());
+
+        try (Span span = tracer.startSpan(SpanNames.CHANGELOG_VALIDATE, parent)) {
+            span.setAttribute(SpanAttributes.FILE_PATH, source.getLocation())
+                    .setAttribute(SpanAttributes.FORMAT, changeLog.getFormat().getValue());
+            Collection<RuleValidator> ruleValidators = instantiateRuleValidators(rulesToValidateAgainst);
             for (RuleValidator ruleValidator : ruleValidators) {
                 try {
-                    ruleValidator.validate(changeLogFile, validationErrors, changeLogFormat, exclusionParser);
+                    ruleValidator.validate(changeLog, validationErrors, exclusionParser);
                 } catch (ChangeLogParseException e) {
+                    span.setError(e.getMessage());
                     validationErrors.add(
                             new RuleValidationErrorDto(
-                                    "[" + changeLogFile.getName() + "] Failed to parse: " + e.getMessage()));
+                                    "[" + source.getName() + "] Failed to parse: " + e.getMessage()));
                 }
             }
+            span.setAttribute(SpanAttributes.VIOLATIONS, validationErrors.size());
         }
         return validationErrors;
     }
 
+    /**
+     * Instantiate rule validators or get the cached ones.
+     *
+     * @param rulesToValidateAgainst - rules left after exclusions.
+     * @return collection of rule validators.
+     */
+    private Collection<RuleValidator> instantiateRuleValidators(final Set<Rule> rulesToValidateAgainst) {
+        if (ruleValidatorCache == null) {
+            return RuleValidatorFactory.instantiate(
+                    rulesToValidateAgainst, metrics, tracer, changeSetResultCache, changeSetPool);
+        }
+        return ruleValidatorCache.computeIfAbsent(rulesToValidateAgainst,
+                rules -> RuleValidatorFactory.instantiate(rules, metrics, tracer, changeSetResultCache, changeSetPool));
+    }
+
     /**
      * Exclude rules based on the data from the exclusion file.
      *
      * @param changeSetRules  - set of specified rules.
      * @param exclusionParser - exclusion parser.
-     * @param changeLogFile   - changeLog file.
+     * @param changeLogName   - changeLog file name.
      * @return set of rules to apply to the given changeLog file.
      */
     private Set<Rule> excludeRulesBasedOnExclusionFile(final List<Rule> changeSetRules,
                                                        final ExclusionParser exclusionParser,
-                                                       final File changeLogFile) {
+                                                       final String changeLogName) {
         Set<Rule> rulesToValidateWith = new HashSet<>();
         for (Rule changeSetRule : changeSetRules) {
-            if (!exclusionParser.isFileExcluded(changeLogFile.getName(), changeSetRule.getName())) {
+            if (!exclusionParser.isFileExcluded(changeLogName, changeSetRule.getName())) {
                 rulesToValidateWith.add(changeSetRule);
             }
         }
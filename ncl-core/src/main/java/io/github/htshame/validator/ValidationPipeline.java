@@ -0,0 +1,258 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.change.parser.ChangeLogParser;
+import io.github.htshame.change.parser.ParsedChangeLog;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.exception.ChangeLogParseException;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Span;
+import io.github.htshame.trace.SpanAttributes;
+import io.github.htshame.trace.SpanNames;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.util.ChangeLogIgnore;
+import io.github.htshame.util.DaemonThreadFactory;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Staged validation pipeline.
+ * <br>
+ * The directory walk, file reading, parsing and rule evaluation overlap instead of running one after another:
+ * <ul>
+ *     <li>the calling thread walks the changeLog directory and submits files as soon as they are found;</li>
+ *     <li>read-ahead workers load file content;</li>
+ *     <li>parser workers build changeLog trees;</li>
+ *     <li>rule workers evaluate the rules.</li>
+ * </ul>
+ * The number of files in flight is bounded, so the walker blocks when the later stages fall behind
+ * and memory stays bounded regardless of the number of files.
+ * Validation errors are returned in the same order as in the sequential validation.
+ */
+public final class ValidationPipeline {
+
+    private static final int IN_FLIGHT_FILES_PER_THREAD = 4;
+
+    private final ValidationManager validationManager;
+    private final Tracer tracer;
+    private final int threads;
+
+    /**
+     * Constructor.
+     *
+     * @param validationManager - validation manager that parses and evaluates single files.
+     * @param tracer            - tracer.
+     * @param threads           - number of worker threads of every stage.
+     */
+    public ValidationPipeline(final ValidationManager validationManager,
+                              final Tracer tracer,
+                              final int threads) {
+        this.validationManager = validationManager;
+        this.tracer = tracer;
+        this.threads = threads;
+    }
+
+    /**
+     * Walk the changeLog directory and validate changeLog files.
+     *
+     * @param changeLogDirectory - changeLog directory.
+     * @param changeLogFormat    - changeLog format.
+     * @param rules              - rules to validate against.
+     * @param exclusionParser    - exclusions.
+     * @return list of validation errors. Empty list if there are no errors.
+     * @throws ChangeLogCollectorException - thrown if the directory walk fails.
+     */
+    public List<RuleValidationErrorDto> validate(final File changeLogDirectory,
+                                                 final ChangeLogFormatEnum changeLogFormat,
+                                                 final List<Rule> rules,
+                                                 final ExclusionParser exclusionParser)
+            throws ChangeLogCollectorException {
+        return validate(List.of(changeLogDirectory), EnumSet.of(changeLogFormat), rules, exclusionParser);
+    }
+
+    /**
+     * Walk the changeLog directories in a single pass and validate changeLog files of any of the formats.
+     * <br>
+     * Every file is parsed according to its extension.
+     *
+     * @param changeLogDirectories - changeLog directories.
+     * @param changeLogFormats     - changeLog formats.
+     * @param rules                - rules to validate against.
+     * @param exclusionParser      - exclusions.
+     * @return list of validation errors. Empty list if there are no errors.
+     * @throws ChangeLogCollectorException - thrown if the directory walk fails.
+     */
+    public List<RuleValidationErrorDto> validate(final List<File> changeLogDirectories,
+                                                 final Set<ChangeLogFormatEnum> changeLogFormats,
+                                                 final List<Rule> rules,
+                                                 final ExclusionParser exclusionParser)
+            throws ChangeLogCollectorException {
+        return validate(changeLogDirectories, changeLogFormats, ChangeLogIgnore.NONE, rules, exclusionParser);
+    }
+
+    /**
+     * Walk the changeLog directories in a single pass, skipping ignored paths,
+     * and validate changeLog files of any of the formats.
+     * <br>
+     * Every file is parsed according to its extension.
+     *
+     * @param changeLogDirectories - changeLog directories.
+     * @param changeLogFormats     - changeLog formats.
+     * @param changeLogIgnore      - paths skipped by the walk.
+     * @param rules                - rules to validate against.
+     * @param exclusionParser      - exclusions.
+     * @return list of validation errors. Empty list if there are no errors.
+     * @throws ChangeLogCollectorException - thrown if the directory walk fails.
+     */
+    public List<RuleValidationErrorDto> validate(final List<File> changeLogDirectories,
+                                                 final Set<ChangeLogFormatEnum> changeLogFormats,
+                                                 final ChangeLogIgnore changeLogIgnore,
+                                                 final List<Rule> rules,
+                                                 final ExclusionParser exclusionParser)
+            throws ChangeLogCollectorException {
+        ChangeLogFormatEnum defaultFormat = changeLogFormats.iterator().next();
+        Object changeLogDirectory = changeLogDirectories.size() == 1
+                ? changeLogDirectories.get(0)
+                : changeLogDirectories;
+        ExecutorService readers = newStage("read");
+        ExecutorService parsers = newStage("parse");
+        ExecutorService evaluators = newStage("evaluate");
+        Semaphore inFlight = new Semaphore(threads * IN_FLIGHT_FILES_PER_THREAD);
+        List<CompletableFuture<List<RuleValidationErrorDto>>> results = new ArrayList<>();
+
+        try (Span span = tracer.startSpan(SpanNames.PIPELINE)) {
+            span.setAttribute(SpanAttributes.FILE_PATH, changeLogDirectory);
+            try (Stream<File> files =
+                         ChangeLogFilesCollector.streamChangeLogFiles(
+                                 changeLogDirectories, changeLogFormats, changeLogIgnore)) {
+                Iterator<File> iterator = files.iterator();
+                while (iterator.hasNext()) {
+                    ChangeLogSource source = ChangeLogSource.of(iterator.next());
+                    inFlight.acquire();
+                    results.add(CompletableFuture
+                            .supplyAsync(() -> read(source, span), readers)
+                            .handleAsync((content, e) ->
+                                    parse(source, defaultFormat, rules, exclusionParser, e, span), parsers)
+                            .thenApplyAsync(changeLog ->
+                                    validationManager.evaluate(changeLog, rules, exclusionParser, span), evaluators)
+                            .whenComplete((errors, e) -> inFlight.release()));
+                }
+            } catch (UncheckedIOException e) {
+                throw new ChangeLogCollectorException("Failed to walk directory: " + changeLogDirectory, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ChangeLogCollectorException("Interrupted while walking directory: " + changeLogDirectory, e);
+            }
+            span.setAttribute(SpanAttributes.COUNT, results.size());
+            return collect(results);
+        } finally {
+            readers.shutdownNow();
+            parsers.shutdownNow();
+            evaluators.shutdownNow();
+        }
+    }
+
+    /**
+     * Read changeLog content. The content is kept by the source for the parser and the rules.
+     *
+     * @param source - changeLog source.
+     * @param parent - parent span.
+     * @return changeLog content.
+     */
+    private byte[] read(final ChangeLogSource source,
+                        final Span parent) {
+        try (Span span = tracer.startSpan(SpanNames.CHANGELOG_READ, parent)) {
+            span.setAttribute(SpanAttributes.FILE_PATH, source.getLocation());
+            return ChangeLogParser.readContent(source);
+        } catch (ChangeLogParseException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Parse changeLog content read by the read-ahead stage.
+     *
+     * @param source          - changeLog source.
+     * @param changeLogFormat - changeLog format.
+     * @param rules           - rules the changeLog is going to be evaluated against.
+     * @param exclusionParser - exclusions.
+     * @param readFailure     - reading failure. Null if reading succeeded.
+     * @param parent          - parent span.
+     * @return parsed changeLog.
+     */
+    private ParsedChangeLog parse(final ChangeLogSource source,
+                                  final ChangeLogFormatEnum changeLogFormat,
+                                  final List<Rule> rules,
+                                  final ExclusionParser exclusionParser,
+                                  final Throwable readFailure,
+                                  final Span parent) {
+        if (readFailure == null) {
+            return validationManager.parse(source, changeLogFormat, rules, exclusionParser, parent);
+        }
+        Throwable cause = unwrap(readFailure);
+        if (cause instanceof ChangeLogParseException) {
+            return ParsedChangeLog.failed(source, changeLogFormat, (ChangeLogParseException) cause);
+        }
+        throw new CompletionException(cause);
+    }
+
+    /**
+     * Wait for all files and collect validation errors in the order the files were found.
+     *
+     * @param results - per-file results.
+     * @return list of validation errors.
+     */
+    private static List<RuleValidationErrorDto> collect(
+            final List<CompletableFuture<List<RuleValidationErrorDto>>> results) {
+        List<RuleValidationErrorDto> validationErrors = new ArrayList<>();
+        for (CompletableFuture<List<RuleValidationErrorDto>> result : results) {
+            try {
+                validationErrors.addAll(result.join());
+            } catch (CompletionException e) {
+                Throwable cause = unwrap(e);
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+        return validationErrors;
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Create executor of a pipeline stage.
+     *
+     * @param stageName - stage name.
+     * @return executor service.
+     */
+    private ExecutorService newStage(final String stageName) {
+        return Executors.newFixedThreadPool(threads, new DaemonThreadFactory(stageName));
+    }
+}
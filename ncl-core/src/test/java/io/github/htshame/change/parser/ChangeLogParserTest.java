@@ -0,0 +1,184 @@
+package io.github.htshame.change.parser;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.exception.ChangeLogParseException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ChangeLog parser test.
+ */
+public class ChangeLogParserTest {
+
+    private static final int CHANGE_SETS = 200;
+    private static final String XML = "<databaseChangeLog>\n"
+            + "<property name=\"schema\" value=\"public\"/>\n"
+            + "<changeSet id=\"1\" author=\"alice\"><createTable tableName=\"orders\"/></changeSet>\n"
+            + "<include file=\"other.xml\"/>\n"
+            + "<changeSet id=\"2\" author=\"bob\"><dropTable tableName=\"orders\"/></changeSet>\n"
+            + "</databaseChangeLog>\n";
+    private static final String YAML = "databaseChangeLog:\n"
+            + "  - property:\n"
+            + "      name: schema\n"
+            + "      value: public\n"
+            + "  - changeSet:\n"
+            + "      id: 1\n"
+            + "      author: alice\n"
+            + "  - include:\n"
+            + "      file: other.yaml\n"
+            + "  - changeSet:\n"
+            + "      id: 2\n"
+            + "      author: bob\n";
+    private static final String JSON = "{\"databaseChangeLog\": [\n"
+            + "{\"property\": {\"name\": \"schema\", \"value\": \"public\"}},\n"
+            + "{\"changeSet\": {\"id\": \"1\", \"author\": \"alice\"}},\n"
+            + "{\"include\": {\"file\": \"other.json\"}},\n"
+            + "{\"changeSet\": {\"id\": \"2\", \"author\": \"bob\"}}\n"
+            + "]}\n";
+    private static final List<String> EXPECTED = List.of(
+            "property", "changeSet:1", "include", "changeSet:2");
+
+    /**
+     * Test that entries of every format are returned in document order and tagged as changeSets or not.
+     */
+    @Test
+    public void testEntriesInDocumentOrder() throws Exception {
+        // arrange
+        ChangeLogSource xml = source("changeLog.xml", XML);
+        ChangeLogSource yaml = source("changeLog.yaml", YAML);
+        ChangeLogSource json = source("changeLog.json", JSON);
+
+        // act
+        List<String> xmlEntries = describe(new XmlChangeLogParser(), xml);
+        List<String> yamlEntries = describe(new YamlChangeLogParser(), yaml);
+        List<String> jsonEntries = describe(new JsonChangeLogParser(), json);
+
+        // assert
+        assertEquals(EXPECTED, xmlEntries);
+        assertEquals(EXPECTED, yamlEntries);
+        assertEquals(EXPECTED, jsonEntries);
+    }
+
+    /**
+     * Test that the parsed changeLog collects the same elements as the entries.
+     */
+    @Test
+    public void testParsedChangeLogCollectsEntries() throws Exception {
+        // arrange
+        ChangeLogParser parser = new YamlChangeLogParser();
+        ChangeLogSource source = source("changeLog.yaml", YAML);
+
+        // act
+        ParsedChangeLog actual = parser.parseChangeLog(source);
+
+        // assert
+        assertEquals(List.of("1", "2"), actual.getChangeSets().stream()
+                .map(changeSet -> changeSet.getPropertyValue("id"))
+                .collect(Collectors.toList()));
+        assertEquals(List.of("property", "include"), actual.getNonChangeSets().stream()
+                .map(ChangeLogElement::getName)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Test that a consumer can stop at the first changeSet.
+     */
+    @Test
+    public void testEarlyTermination() throws Exception {
+        // arrange
+        Spliterator<ChangeLogEntry> entries = new XmlChangeLogParser().parseEntries(source("changeLog.xml", XML));
+        List<ChangeLogEntry> consumed = new ArrayList<>();
+
+        // act
+        while (consumed.isEmpty() || !consumed.get(consumed.size() - 1).isChangeSet()) {
+            assertTrue(entries.tryAdvance(consumed::add));
+        }
+        Optional<ChangeLogEntry> firstChangeSet = new JsonChangeLogParser()
+                .streamEntries(source("changeLog.json", JSON), false)
+                .filter(ChangeLogEntry::isChangeSet)
+                .findFirst();
+
+        // assert
+        assertEquals(2, consumed.size());
+        assertFalse(consumed.get(0).isChangeSet());
+        assertEquals("1", consumed.get(1).getElement().getPropertyValue("id"));
+        assertTrue(firstChangeSet.isPresent());
+        assertEquals("1", firstChangeSet.get().getElement().getPropertyValue("id"));
+    }
+
+    /**
+     * Test that JSON and YAML entries are split for parallel streams, keeping document order,
+     * and XML entries are not split.
+     */
+    @Test
+    public void testParallelStreamKeepsOrder() throws Exception {
+        // arrange
+        StringBuilder json = new StringBuilder("{\"databaseChangeLog\": [\n");
+        StringBuilder yaml = new StringBuilder("databaseChangeLog:\n");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < CHANGE_SETS; i++) {
+            json.append(i == 0 ? "" : ",\n")
+                    .append("{\"changeSet\": {\"id\": \"").append(i).append("\", \"author\": \"test\"}}");
+            yaml.append("  - changeSet:\n      id: \"").append(i).append("\"\n      author: test\n");
+            expected.add(String.valueOf(i));
+        }
+        json.append("\n]}\n");
+
+        // act
+        List<String> jsonIds = new JsonChangeLogParser().streamEntries(source("big.json", json.toString()), true)
+                .map(entry -> entry.getElement().getPropertyValue("id"))
+                .collect(Collectors.toList());
+        List<String> yamlIds = new YamlChangeLogParser().streamEntries(source("big.yaml", yaml.toString()), true)
+                .map(entry -> entry.getElement().getPropertyValue("id"))
+                .collect(Collectors.toList());
+        Spliterator<ChangeLogEntry> jsonEntries = new JsonChangeLogParser()
+                .parseEntries(source("big.json", json.toString()));
+        Spliterator<ChangeLogEntry> xmlEntries = new XmlChangeLogParser()
+                .parseEntries(source("changeLog.xml", XML));
+
+        // assert
+        assertEquals(expected, jsonIds);
+        assertEquals(expected, yamlIds);
+        assertNotNull(jsonEntries.trySplit());
+        assertNull(xmlEntries.trySplit());
+    }
+
+    /**
+     * Test that parsing errors are thrown before entries are consumed.
+     */
+    @Test(expected = ChangeLogParseException.class)
+    public void testInvalidChangeLog() throws Exception {
+        // arrange
+        ChangeLogSource source = source("invalid.json", "{\"changeSets\": []}");
+
+        // act
+        new JsonChangeLogParser().parseEntries(source);
+    }
+
+    private static List<String> describe(final ChangeLogParser parser,
+                                         final ChangeLogSource source) throws ChangeLogParseException {
+        return parser.streamEntries(source, false)
+                .map(entry -> entry.isChangeSet()
+                        ? entry.getElement().getName() + ":" + entry.getElement().getPropertyValue("id")
+                        : entry.getElement().getName())
+                .collect(Collectors.toList());
+    }
+
+    private static ChangeLogSource source(final String name,
+                                          final String content) {
+        return ChangeLogSource.of("db/" + name, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.htshame.change.parser;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.enums.RuleEnum;
+import io.github.htshame.exception.ValidationException;
+import io.github.htshame.metrics.ValidationMetrics;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.rule.ChangeSetRule;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.RuleUtil;
+import io.github.htshame.validator.ValidationManager;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ChangeLog tag index test.
+ */
+public class ChangeLogTagIndexTest {
+
+    private static final String VERSION = "1.0.0";
+    private static final String INDEXES = "<databaseChangeLog>\n"
+            + "<changeSet id=\"1\" author=\"alice\"><createIndex tableName=\"orders\" indexName=\"orders_email\">"
+            + "<column name=\"email\"/></createIndex></changeSet>\n"
+            + "</databaseChangeLog>\n";
+    private static final String TABLES = "<databaseChangeLog>\n"
+            + "<changeSet id=\"2\" author=\"bob\"><createTable tableName=\"orders\">"
+            + "<column name=\"email\"/></createTable></changeSet>\n"
+            + "</databaseChangeLog>\n";
+
+    /**
+     * Temporary folder.
+     */
+    @org.junit.Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that the index holds the exact tag names of the changeLog and keeps them between executions.
+     */
+    @Test
+    public void testTagsReusedBetweenExecutions() throws Exception {
+        // arrange
+        File indexFile = new File(temporaryFolder.getRoot(), "cache/" + ChangeLogTagIndex.INDEX_FILE_NAME);
+        ChangeLogTagIndex first = new ChangeLogTagIndex(indexFile);
+        first.put("indexes", new XmlChangeLogParser().parseChangeLog(source("indexes.xml", INDEXES)));
+        first.save();
+
+        // act
+        ChangeLogTagIndex.Tags actual = new ChangeLogTagIndex(indexFile).get("indexes");
+
+        // assert
+        assertNotNull(actual);
+        assertTrue(actual.contains("changeSet"));
+        assertTrue(actual.contains("createIndex"));
+        assertTrue(actual.contains("column"));
+        assertFalse(actual.contains("createTable"));
+        assertFalse(actual.contains("createIndexes"));
+        assertNull(new ChangeLogTagIndex(indexFile).get("tables"));
+    }
+
+    /**
+     * Test that an unreadable index file is ignored.
+     */
+    @Test
+    public void testCorruptedIndexIgnored() throws Exception {
+        // arrange
+        File indexFile = temporaryFolder.newFile(ChangeLogTagIndex.INDEX_FILE_NAME);
+        Files.write(indexFile.toPath(), "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        ChangeLogTagIndex.Tags actual = new ChangeLogTagIndex(indexFile).get("indexes");
+
+        // assert
+        assertNull(actual);
+    }
+
+    /**
+     * Test that changeLogs without the tags targeted by the rules are not evaluated once they are indexed,
+     * and that errors stay the same.
+     */
+    @Test
+    public void testChangeLogsWithoutTargetedTagsSkipped() throws Exception {
+        // arrange
+        File cacheDirectory = temporaryFolder.newFolder("parsed");
+        CountingRule coldRule = new CountingRule(Set.of("createIndex"));
+        List<String> expected = validate(cacheDirectory, coldRule);
+        CountingRule warmRule = new CountingRule(Set.of("createIndex"));
+        CountingRule anyTagRule = new CountingRule(null);
+
+        // act
+        List<String> actual = validate(cacheDirectory, warmRule);
+        validate(cacheDirectory, anyTagRule);
+
+        // assert
+        assertEquals(List.of("[indexes.xml] ChangeSet: id=\"1\", author=\"alice\". Rule [attr-starts-with]\n"
+                + "    indexName=orders_email"), expected);
+        assertEquals(expected, actual);
+        assertEquals(2, coldRule.evaluations.get());
+        assertEquals(1, warmRule.evaluations.get());
+        assertEquals(2, anyTagRule.evaluations.get());
+    }
+
+    private static List<String> validate(final File cacheDirectory,
+                                         final ChangeSetRule rule) throws Exception {
+        ParsedChangeLogCache cache = new ParsedChangeLogCache(cacheDirectory, VERSION);
+        List<RuleValidationErrorDto> errors = new ValidationManager(
+                ValidationMetrics.disabled(), Tracer.disabled(), false, null, cache).validateSources(
+                List.of(source("indexes.xml", INDEXES), source("tables.xml", TABLES)),
+                List.<Rule>of(rule),
+                ExclusionParser.parseExclusions((File) null),
+                ChangeLogFormatEnum.XML);
+        cache.save();
+        List<String> messages = new ArrayList<>();
+        for (RuleValidationErrorDto error : errors) {
+            messages.add(error.getGenericMessage());
+        }
+        return messages;
+    }
+
+    private static ChangeLogSource source(final String name,
+                                          final String content) {
+        return ChangeLogSource.of("db/" + name, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rule that requires the index name prefix and counts the changeSets it evaluates.
+     */
+    private static final class CountingRule implements ChangeSetRule {
+
+        private final Set<String> targetTags;
+        private final transient AtomicInteger evaluations = new AtomicInteger();
+
+        private CountingRule(final Set<String> targetTags) {
+            this.targetTags = targetTags;
+        }
+
+        @Override
+        public RuleEnum getName() {
+            return RuleEnum.ATTRIBUTE_STARTS_WITH;
+        }
+
+        @Override
+        public Set<String> getTargetTags() {
+            return targetTags;
+        }
+
+        @Override
+        public void validateChangeSet(final ChangeLogElement changeSetElement,
+                                      final ExclusionParser exclusionParser,
+                                      final String changeLogFileName,
+                                      final ChangeLogFormatEnum changeLogFormat) throws ValidationException {
+            evaluations.incrementAndGet();
+            List<String> errors = new ArrayList<>();
+            for (ChangeLogElement index : changeSetElement.findElementsByName(changeSetElement, "createIndex")) {
+                String indexName = index.getPropertyValue("indexName");
+                if (!indexName.startsWith("idx_")) {
+                    errors.add("indexName=" + indexName);
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new ValidationException(
+                        RuleUtil.composeErrorMessage(changeSetElement, changeLogFileName, getName(), errors));
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.htshame.change.parser;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.element.SnapshotChangeLogElement;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.metrics.ValidationMetrics;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.validator.ValidationManager;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Parsed changeLog cache test.
+ */
+public class ParsedChangeLogCacheTest {
+
+    private static final String CORE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final String CHANGESET_PATH = "src/test/resources/io/github/htshame/rule/processor/changeset/";
+    private static final String VERSION = "1.0.0";
+
+    /**
+     * Temporary folder.
+     */
+    @org.junit.Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that changeLogs loaded from the cache give the same errors, in the same order, as parsed changeLogs.
+     */
+    @Test
+    public void testSameErrorsAsParsed() throws Exception {
+        // arrange
+        List<Rule> rules = RuleParser.parseRules(new File(CORE_PATH + "rules.xml"));
+        ExclusionParser exclusionParser = ExclusionParser.parseExclusions(new File(CORE_PATH + "exclusions.xml"));
+        List<File> changeLogFiles = new ArrayList<>(ChangeLogFilesCollector.collectChangeLogFiles(
+                new File(CORE_PATH + "changelog"), ChangeLogFormatEnum.XML));
+        for (String rule : List.of("attr-ends-with", "attr-must-exist-in-tag", "tag-must-exist")) {
+            changeLogFiles.addAll(ChangeLogFilesCollector.collectChangeLogFiles(
+                    new File(CHANGESET_PATH + rule + "/yaml"), ChangeLogFormatEnum.YAML));
+            changeLogFiles.addAll(ChangeLogFilesCollector.collectChangeLogFiles(
+                    new File(CHANGESET_PATH + rule + "/json"), ChangeLogFormatEnum.JSON));
+        }
+        List<String> expected = toMessages(new ValidationManager().validate(
+                changeLogFiles, rules, exclusionParser, ChangeLogFormatEnum.XML));
+        File cacheDirectory = temporaryFolder.newFolder("parsed");
+        List<String> cold = toMessages(manager(cacheDirectory).validate(
+                changeLogFiles, rules, exclusionParser, ChangeLogFormatEnum.XML));
+
+        // act
+        List<String> warm = toMessages(manager(cacheDirectory).validate(
+                changeLogFiles, rules, exclusionParser, ChangeLogFormatEnum.XML));
+
+        // assert
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, cold);
+        assertEquals(expected, warm);
+        assertEquals(changeLogFiles.size(), treeFiles(cacheDirectory).length);
+    }
+
+    /**
+     * Test that the cached changeLog is built of snapshot elements that behave as the elements of its format.
+     */
+    @Test
+    public void testCachedElements() throws Exception {
+        // arrange
+        File cacheDirectory = temporaryFolder.newFolder("parsed");
+        File xmlFile = new File(CHANGESET_PATH + "attr-ends-with/xml/attr-ends-with-failure.xml");
+        File yamlFile = new File(CHANGESET_PATH + "attr-ends-with/yaml/attr-ends-with-failure.yaml");
+        ParsedChangeLog parsedXml = manager(cacheDirectory).parse(xmlFile, ChangeLogFormatEnum.XML);
+        ParsedChangeLog parsedYaml = manager(cacheDirectory).parse(yamlFile, ChangeLogFormatEnum.YAML);
+
+        // act
+        ParsedChangeLog cachedXml = manager(cacheDirectory).parse(xmlFile, ChangeLogFormatEnum.XML);
+        ParsedChangeLog cachedYaml = manager(cacheDirectory).parse(yamlFile, ChangeLogFormatEnum.YAML);
+
+        // assert
+        ChangeLogElement xmlChangeSet = cachedXml.getChangeSets().get(0);
+        ChangeLogElement yamlChangeSet = cachedYaml.getChangeSets().get(0);
+        assertTrue(xmlChangeSet instanceof SnapshotChangeLogElement);
+        assertTrue(yamlChangeSet instanceof SnapshotChangeLogElement);
+        assertEquals(parsedXml.getElementCount(), cachedXml.getElementCount());
+        assertEquals(parsedXml.getChangeSets().get(0).getProperties(), xmlChangeSet.getProperties());
+        assertEquals("", xmlChangeSet.getPropertyValue("missing"));
+        assertNull(yamlChangeSet.getPropertyValue("missing"));
+        assertEquals(xmlChangeSet.findElementsByName(xmlChangeSet, "changeSet").size(),
+                parsedXml.getChangeSets().get(0).findElementsByName(parsedXml.getChangeSets().get(0), "changeSet")
+                        .size());
+    }
+
+    /**
+     * Test that an unreadable tree is ignored and rewritten.
+     */
+    @Test
+    public void testCorruptedTreeIgnored() throws Exception {
+        // arrange
+        File cacheDirectory = temporaryFolder.newFolder("parsed");
+        File xmlFile = new File(CHANGESET_PATH + "attr-ends-with/xml/attr-ends-with-failure.xml");
+        ParsedChangeLog parsed = manager(cacheDirectory).parse(xmlFile, ChangeLogFormatEnum.XML);
+        File treeFile = treeFiles(cacheDirectory)[0];
+        Files.write(treeFile.toPath(), "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        ParsedChangeLog actual = manager(cacheDirectory).parse(xmlFile, ChangeLogFormatEnum.XML);
+
+        // assert
+        assertFalse(actual.getChangeSets().get(0) instanceof SnapshotChangeLogElement);
+        assertEquals(parsed.getElementCount(), actual.getElementCount());
+        assertTrue(treeFile.length() > "corrupted".length());
+    }
+
+    /**
+     * Test that trees cached by another plugin version are not used.
+     */
+    @Test
+    public void testTreesOfOtherVersionIgnored() throws Exception {
+        // arrange
+        File cacheDirectory = temporaryFolder.newFolder("parsed");
+        File xmlFile = new File(CHANGESET_PATH + "attr-ends-with/xml/attr-ends-with-failure.xml");
+        manager(cacheDirectory).parse(xmlFile, ChangeLogFormatEnum.XML);
+
+        // act
+        ParsedChangeLog actual = manager(cacheDirectory, "2.0.0").parse(xmlFile, ChangeLogFormatEnum.XML);
+        ParsedChangeLog cached = manager(cacheDirectory).parse(xmlFile, ChangeLogFormatEnum.XML);
+
+        // assert
+        assertFalse(actual.getChangeSets().get(0) instanceof SnapshotChangeLogElement);
+        assertTrue(cached.getChangeSets().get(0) instanceof SnapshotChangeLogElement);
+        assertEquals(2, treeFiles(cacheDirectory).length);
+    }
+
+    private static ValidationManager manager(final File cacheDirectory) {
+        return manager(cacheDirectory, VERSION);
+    }
+
+    private static ValidationManager manager(final File cacheDirectory,
+                                             final String pluginVersion) {
+        return new ValidationManager(ValidationMetrics.disabled(), Tracer.disabled(), false, null,
+                new ParsedChangeLogCache(cacheDirectory, pluginVersion));
+    }
+
+    private static File[] treeFiles(final File cacheDirectory) {
+        return cacheDirectory.listFiles((directory, name) -> name.endsWith(ParsedChangeLogCache.TREE_EXTENSION));
+    }
+
+    private static List<String> toMessages(final List<RuleValidationErrorDto> errors) {
+        List<String> messages = new ArrayList<>();
+        for (RuleValidationErrorDto error : errors) {
+            messages.add(error.getGenericMessage());
+        }
+        return messages;
+    }
+}
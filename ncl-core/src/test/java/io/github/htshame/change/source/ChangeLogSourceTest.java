@@ -0,0 +1,138 @@
+package io.github.htshame.change.source;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ChangeLog source test.
+ */
+public class ChangeLogSourceTest {
+
+    private static final byte[] CONTENT = "<databaseChangeLog/>\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that the file is read once and the content is shared.
+     *
+     * @throws IOException - thrown if the file cannot be written or read.
+     */
+    @Test
+    public void testFileContentIsReadOnce() throws IOException {
+        // arrange
+        File file = temporaryFolder.newFile("changelog_01.xml");
+        Files.write(file.toPath(), CONTENT);
+        ChangeLogSource source = ChangeLogSource.of(file);
+
+        // act
+        long sizeBeforeRead = source.size();
+        byte[] first = source.getContent();
+        Files.delete(file.toPath());
+        byte[] second = source.getContent();
+
+        // assert
+        assertEquals(CONTENT.length, sizeBeforeRead);
+        assertArrayEquals(CONTENT, first);
+        assertSame(first, second);
+        assertEquals("changelog_01.xml", source.getName());
+        assertEquals(file.getPath(), source.getLocation());
+        assertEquals(file.toPath().toUri().toString(), source.getSystemId());
+    }
+
+    /**
+     * Test source of content held in memory.
+     *
+     * @throws IOException - thrown if the content cannot be read.
+     */
+    @Test
+    public void testContentInMemory() throws IOException {
+        // arrange
+        ChangeLogSource bytes = ChangeLogSource.of("db/changelog/changelog_02.xml", CONTENT);
+        ChangeLogSource stream = ChangeLogSource.of("db\\changelog\\changelog_03.xml",
+                new ByteArrayInputStream(CONTENT));
+
+        // act
+        String line;
+        try (BufferedReader reader = bytes.openReader()) {
+            line = reader.readLine();
+        }
+
+        // assert
+        assertSame(CONTENT, bytes.getContent());
+        assertEquals("changelog_02.xml", bytes.getName());
+        assertEquals("db/changelog/changelog_02.xml", bytes.toString());
+        assertNull(bytes.getPath());
+        assertNull(bytes.getSystemId());
+        assertEquals("<databaseChangeLog/>", line);
+        assertEquals("changelog_03.xml", stream.getName());
+        assertArrayEquals(CONTENT, stream.getContent());
+        assertEquals(CONTENT.length, stream.size());
+    }
+
+    /**
+     * Test source of a file inside a zip file.
+     *
+     * @throws IOException - thrown if the zip file cannot be written or read.
+     */
+    @Test
+    public void testZipFileSystem() throws IOException {
+        // arrange
+        File zipFile = new File(temporaryFolder.getRoot(), "changelog.zip");
+        URI uri = URI.create("jar:" + zipFile.toURI());
+
+        try (FileSystem zip = FileSystems.newFileSystem(uri, Collections.singletonMap("create", "true"))) {
+            Path path = Files.createDirectories(zip.getPath("db")).resolve("changelog_04.xml");
+            Files.write(path, CONTENT);
+
+            // act
+            ChangeLogSource source = ChangeLogSource.of(path);
+
+            // assert
+            assertEquals("changelog_04.xml", source.getName());
+            assertTrue(source.getLocation().startsWith("jar:file:"));
+            assertTrue(source.getLocation().endsWith("changelog.zip!/db/changelog_04.xml"));
+            assertArrayEquals(CONTENT, source.getContent());
+        }
+    }
+
+    /**
+     * Test missing file.
+     */
+    @Test
+    public void testMissingFile() {
+        // arrange
+        ChangeLogSource source = ChangeLogSource.of(new File(temporaryFolder.getRoot(), "missing.xml").toPath());
+
+        // act
+        long size = source.size();
+
+        // assert
+        assertEquals(0L, size);
+        assertThrows(NoSuchFileException.class, source::getContent);
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.htshame.core;
+
+import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.log.CollectingPluginLogger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * ChangeLog watcher test.
+ */
+public class ChangeLogWatcherTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long POLL_MILLIS = 10L;
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final CollectingPluginLogger logger = new CollectingPluginLogger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private File changeLogDirectory;
+    private File rulesFile;
+    private ChangeLogWatcher watcher;
+    private Thread watchThread;
+
+    /**
+     * Copy changeLog files, rules and exclusions.
+     *
+     * @throws IOException - thrown if files cannot be copied.
+     */
+    @Before
+    public void init() throws IOException {
+        changeLogDirectory = temporaryFolder.newFolder("changelog");
+        for (String name : new String[]{"changelog-master.xml", "changelog_01.xml", "changelog_02.xml"}) {
+            Files.copy(Paths.get(BASE_PATH, "changelog", name), changeLogDirectory.toPath().resolve(name));
+        }
+        File configDirectory = temporaryFolder.newFolder("config");
+        rulesFile = new File(configDirectory, "rules.xml");
+        Files.copy(Paths.get(BASE_PATH, "rules.xml"), rulesFile.toPath());
+        File exclusionsFile = new File(configDirectory, "exclusions.xml");
+        Files.copy(Paths.get(BASE_PATH, "exclusions.xml"), exclusionsFile.toPath());
+    }
+
+    /**
+     * Stop the watcher.
+     *
+     * @throws InterruptedException - thrown if interrupted while waiting for the watcher.
+     */
+    @After
+    public void stop() throws InterruptedException {
+        if (watcher != null) {
+            watcher.close();
+            watchThread.join(TIMEOUT_MILLIS);
+            assertFalse(watchThread.isAlive());
+        }
+    }
+
+    /**
+     * Test that changed changeLog files are validated and rules are reloaded.
+     *
+     * @throws Exception - thrown if files cannot be changed or the watcher fails.
+     */
+    @Test
+    public void testWatch() throws Exception {
+        // arrange
+        startWatcher();
+        awaitInfo("Watching " + changeLogDirectory.toPath().toAbsolutePath().normalize() + " for changes");
+        assertTrue(logger.getWarnMessages().get(0)
+                .startsWith("Validation failed: 4 violation(s) found in 2 file(s). Validated 3 file(s) in "));
+
+        // act
+        Files.delete(changeLogDirectory.toPath().resolve("changelog-master.xml"));
+
+        // assert
+        awaitWarn("Validation failed: 2 violation(s) found in 1 file(s). Validated 0 file(s) in ");
+        assertTrue(logger.getInfoMessages().contains("[changelog-master.xml] removed"));
+
+        // act
+        Files.write(rulesFile.toPath(),
+                "<rules><rule name=\"no-tabs-in-changelog\"/></rules>".getBytes(StandardCharsets.UTF_8));
+
+        // assert
+        awaitInfo("All ChangeLog files passed validation. Validated 2 file(s) in ");
+        assertTrue(logger.getInfoMessages().contains("Reloaded rules and exclusions"));
+
+        // act
+        Path nested = Files.createDirectory(changeLogDirectory.toPath().resolve("nested"));
+        Files.write(nested.resolve("changelog_03.xml"),
+                "<databaseChangeLog>\n\t<changeSet id=\"1\" author=\"test\"/>\n</databaseChangeLog>\n"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        // assert
+        awaitWarn("Validation failed: 1 violation(s) found in 1 file(s). Validated 1 file(s) in ");
+        assertNull(failure.get());
+    }
+
+    /**
+     * Test that changeLog files of all changeLog directories are validated and watched.
+     *
+     * @throws Exception - thrown if files cannot be changed or the watcher fails.
+     */
+    @Test
+    public void testWatchSeveralDirectories() throws Exception {
+        // arrange
+        File otherDirectory = temporaryFolder.newFolder("other");
+        Files.copy(Paths.get(BASE_PATH, "changelog", "changelog_01.xml"),
+                otherDirectory.toPath().resolve("changelog_01.xml"));
+        startWatcher(prepareConfigBuilder().changeLogDirectories(List.of(otherDirectory)).build());
+        awaitInfo("Watching " + changeLogDirectory.toPath().toAbsolutePath().normalize() + ", "
+                + otherDirectory.toPath().toAbsolutePath().normalize() + " for changes");
+        assertTrue(logger.getInfoMessages().contains("[changelog_01.xml] passed validation"));
+        assertTrue(logger.getWarnMessages().get(0)
+                .startsWith("Validation failed: 4 violation(s) found in 2 file(s). Validated 4 file(s) in "));
+
+        // act
+        Files.copy(Paths.get(BASE_PATH, "changelog", "changelog-master.xml"),
+                otherDirectory.toPath().resolve("changelog-master.xml"));
+
+        // assert
+        awaitWarn("Validation failed: 6 violation(s) found in 3 file(s). Validated 1 file(s) in ");
+        assertNull(failure.get());
+    }
+
+    /**
+     * Test that invalid rules stop the watcher before it starts watching.
+     *
+     * @throws IOException                - thrown if the rules file cannot be written.
+     * @throws ValidateChangeLogException - thrown if the file system cannot be watched.
+     */
+    @Test
+    public void testWatchWithInvalidRules() throws IOException, ValidateChangeLogException {
+        // arrange
+        Files.write(rulesFile.toPath(), "<rules>".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        try (ChangeLogWatcher invalidWatcher = new ChangeLogWatcher(logger, prepareConfig(), 1L)) {
+            assertThrows(ValidateChangeLogException.class, invalidWatcher::watch);
+        }
+
+        // assert
+        assertEquals(1, logger.getErrorMessages().size());
+        assertTrue(logger.getInfoMessages().isEmpty());
+    }
+
+    private void startWatcher() throws ValidateChangeLogException {
+        startWatcher(prepareConfig());
+    }
+
+    private void startWatcher(final PluginConfig config) throws ValidateChangeLogException {
+        watcher = new ChangeLogWatcher(logger, config, ChangeLogWatcher.DEFAULT_DEBOUNCE_MILLIS);
+        watchThread = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        watchThread.start();
+    }
+
+    private PluginConfig prepareConfig() {
+        return prepareConfigBuilder().build();
+    }
+
+    private PluginConfig.Builder prepareConfigBuilder() {
+        return PluginConfig.builder()
+                .changeLogFormat("xml")
+                .pathToRulesFile(rulesFile)
+                .pathToExclusionsFile(new File(rulesFile.getParentFile(), "exclusions.xml"))
+                .changeLogDirectory(changeLogDirectory)
+                .pluginVersion("1.0-watch")
+                .pluginType(PluginTypeEnum.MAVEN);
+    }
+
+    private void awaitInfo(final String prefix) throws InterruptedException {
+        await(logger.getInfoMessages(), prefix);
+    }
+
+    private void awaitWarn(final String prefix) throws InterruptedException {
+        await(logger.getWarnMessages(), prefix);
+    }
+
+    private void await(final List<String> messages,
+                       final String prefix) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (messages.stream().anyMatch(message -> message.startsWith(prefix))) {
+                return;
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        fail("No message starting with '" + prefix + "' in " + messages + ", failure: " + failure.get());
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.htshame.core;
+
+import io.github.htshame.rule.Rule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Shared config registry test.
+ */
+public class SharedConfigRegistryTest {
+
+    private static final byte[] CONTENT = "<rules/>".getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_ENTRIES = 8;
+
+    /**
+     * Clear the registry.
+     */
+    @Before
+    public void setUp() {
+        SharedConfigRegistry.RULES.clear();
+    }
+
+    /**
+     * Clear the registry.
+     */
+    @After
+    public void tearDown() {
+        SharedConfigRegistry.RULES.clear();
+    }
+
+    /**
+     * Test that the same content is parsed once.
+     */
+    @Test
+    public void testGetParsesOnce() {
+        // arrange
+        AtomicInteger parseCount = new AtomicInteger();
+        List<Rule> expected = SharedConfigRegistry.RULES.get("1.0", CONTENT, () -> {
+            parseCount.incrementAndGet();
+            return new ArrayList<>();
+        });
+
+        // act
+        List<Rule> actual = SharedConfigRegistry.RULES.get("1.0", CONTENT.clone(), () -> {
+            parseCount.incrementAndGet();
+            return new ArrayList<>();
+        });
+
+        // assert
+        assertSame(expected, actual);
+        assertEquals(1, parseCount.get());
+    }
+
+    /**
+     * Test that changed content and another plugin version are parsed again.
+     */
+    @Test
+    public void testGetParsesChangedContent() {
+        // arrange
+        List<Rule> original = SharedConfigRegistry.RULES.get("1.0", CONTENT, ArrayList::new);
+
+        // act
+        List<Rule> changed = SharedConfigRegistry.RULES.get("1.0",
+                "<rules></rules>".getBytes(StandardCharsets.UTF_8), ArrayList::new);
+        List<Rule> otherVersion = SharedConfigRegistry.RULES.get("2.0", CONTENT, ArrayList::new);
+
+        // assert
+        assertNotSame(original, changed);
+        assertNotSame(original, otherVersion);
+    }
+
+    /**
+     * Test that a parsing failure is propagated and not registered.
+     */
+    @Test
+    public void testGetParsingFailure() {
+        // act
+        IllegalStateException actual = assertThrows(IllegalStateException.class,
+                () -> SharedConfigRegistry.RULES.get("1.0", CONTENT, () -> {
+                    throw new IllegalStateException("broken");
+                }));
+
+        // assert
+        assertEquals("broken", actual.getMessage());
+        assertEquals(0, SharedConfigRegistry.RULES.size());
+    }
+
+    /**
+     * Test that only the most recently used entries are kept.
+     */
+    @Test
+    public void testGetEvictsEldestEntries() {
+        // arrange
+        List<Rule> first = SharedConfigRegistry.RULES.get("1.0", CONTENT, ArrayList::new);
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            SharedConfigRegistry.RULES.get(String.valueOf(i), CONTENT, ArrayList::new);
+        }
+
+        // act
+        List<Rule> actual = SharedConfigRegistry.RULES.get("1.0", CONTENT, ArrayList::new);
+
+        // assert
+        assertEquals(MAX_ENTRIES, SharedConfigRegistry.RULES.size());
+        assertNotSame(first, actual);
+    }
+}
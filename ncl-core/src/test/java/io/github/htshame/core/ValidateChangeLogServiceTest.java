@@ -0,0 +1,360 @@
+package io.github.htshame.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.exception.ExclusionParserException;
+import io.github.htshame.exception.RuleParserException;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.log.CollectingPluginLogger;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.service.MetricsReportService;
+import io.github.htshame.service.TraceReportService;
+import io.github.htshame.trace.SpanNames;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate changeLog service test.
+ */
+public class ValidateChangeLogServiceTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final int FILE_COUNT = 3;
+    private static final int VIOLATION_COUNT = 4;
+    private static final int LARGE_CHANGE_SETS = 2048;
+    private static final int BAD_INDEX_EVERY = 3;
+    private static final int THREADS = 4;
+    private static final long TERMINATION_TIMEOUT_SECONDS = 10L;
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test validation with performance report.
+     */
+    @Test
+    public void testExecuteWithMetrics() throws IOException {
+        // arrange
+        File outputDirectory = temporaryFolder.newFolder("target");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = prepareConfig()
+                .shouldGenerateMetrics(true)
+                .outputDirectory(outputDirectory)
+                .build();
+
+        // act
+        ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                () -> new ValidateChangeLogService(logger, config).execute());
+
+        // assert
+        assertEquals("Validation failed: 4 violation(s) found.", actual.getMessage());
+        JsonNode report = new ObjectMapper().readTree(
+                new File(outputDirectory, MetricsReportService.JSON_REPORT_FILE_NAME));
+        assertEquals("1.0", report.get("pluginVersion").asText());
+        assertEquals(FILE_COUNT, report.get("files").size());
+        long violations = 0;
+        for (JsonNode rule : report.get("rules")) {
+            violations += rule.get("violations").asLong();
+            assertTrue(rule.get("invocations").asLong() > 0);
+        }
+        assertEquals(VIOLATION_COUNT, violations);
+        String openMetrics = new String(Files.readAllBytes(
+                new File(outputDirectory, MetricsReportService.OPEN_METRICS_REPORT_FILE_NAME).toPath()),
+                StandardCharsets.UTF_8);
+        assertTrue(openMetrics.contains("ncl_rule_violations_total{rule=\"tag-must-not-exist-in-changelog\"} 2"));
+        assertTrue(openMetrics.endsWith("# EOF\n"));
+        assertTrue(logger.getInfoMessages().stream()
+                .anyMatch(message -> message.startsWith("====== Slowest changeLog files ======")));
+    }
+
+    /**
+     * Test validation without performance report.
+     */
+    @Test
+    public void testExecuteWithoutMetrics() throws IOException {
+        // arrange
+        File outputDirectory = temporaryFolder.newFolder("target");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = prepareConfig()
+                .outputDirectory(outputDirectory)
+                .build();
+
+        // act
+        assertThrows(ValidateChangeLogException.class, () -> new ValidateChangeLogService(logger, config).execute());
+
+        // assert
+        assertFalse(new File(outputDirectory, MetricsReportService.JSON_REPORT_FILE_NAME).exists());
+        assertFalse(new File(outputDirectory, MetricsReportService.OPEN_METRICS_REPORT_FILE_NAME).exists());
+        assertFalse(new File(outputDirectory, TraceReportService.TRACE_FILE_NAME).exists());
+    }
+
+    /**
+     * Test validation with execution trace.
+     */
+    @Test
+    public void testExecuteWithTrace() throws IOException {
+        // arrange
+        File outputDirectory = temporaryFolder.newFolder("target");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = prepareConfig()
+                .shouldGenerateTrace(true)
+                .outputDirectory(outputDirectory)
+                .build();
+
+        // act
+        assertThrows(ValidateChangeLogException.class, () -> new ValidateChangeLogService(logger, config).execute());
+
+        // assert
+        JsonNode resourceSpans = new ObjectMapper().readTree(
+                new File(outputDirectory, TraceReportService.TRACE_FILE_NAME)).get("resourceSpans").get(0);
+        assertEquals("1.0", resourceSpans.get("scopeSpans").get(0).get("scope").get("version").asText());
+        JsonNode spans = resourceSpans.get("scopeSpans").get(0).get("spans");
+        Map<String, JsonNode> spansById = new HashMap<>();
+        Set<String> traceIds = new HashSet<>();
+        JsonNode root = null;
+        int fileSpanCount = 0;
+        for (JsonNode span : spans) {
+            spansById.put(span.get("spanId").asText(), span);
+            traceIds.add(span.get("traceId").asText());
+            if (SpanNames.EXECUTE.equals(span.get("name").asText())) {
+                root = span;
+            }
+            if (SpanNames.CHANGELOG_VALIDATE.equals(span.get("name").asText())) {
+                fileSpanCount++;
+            }
+        }
+        assertNotNull(root);
+        assertNull(root.get("parentSpanId"));
+        assertEquals("Validation failed: 4 violation(s) found.", root.get("status").get("message").asText());
+        assertEquals(1, traceIds.size());
+        assertEquals(FILE_COUNT, fileSpanCount);
+        for (JsonNode span : spans) {
+            if (span != root) {
+                assertTrue(spansById.containsKey(span.get("parentSpanId").asText()));
+            }
+            assertTrue(span.get("endTimeUnixNano").asLong() >= span.get("startTimeUnixNano").asLong());
+        }
+    }
+
+    /**
+     * Test validation in the staged pipeline.
+     */
+    @Test
+    public void testExecuteInPipeline() {
+        // arrange
+        PluginConfig config = prepareConfig()
+                .pipelineThreads(2)
+                .build();
+
+        // act
+        ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                () -> new ValidateChangeLogService(new CollectingPluginLogger(), config).execute());
+
+        // assert
+        assertEquals("Validation failed: 4 violation(s) found.", actual.getMessage());
+    }
+
+    /**
+     * Test that a rules loading failure takes precedence over the failures of the steps running concurrently.
+     */
+    @Test
+    public void testExecuteWithRulesAndExclusionsFailure() {
+        // arrange
+        File missingRules = new File(temporaryFolder.getRoot(), "missing-rules.xml");
+        File missingExclusions = new File(temporaryFolder.getRoot(), "missing-exclusions.xml");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = prepareConfig()
+                .pathToRulesFile(missingRules)
+                .pathToExclusionsFile(missingExclusions)
+                .changeLogDirectory(new File(temporaryFolder.getRoot(), "missing"))
+                .build();
+        String expectedMessage = assertThrows(RuleParserException.class,
+                () -> RuleParser.parseRules(missingRules)).getMessage();
+
+        // act
+        ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                () -> new ValidateChangeLogService(logger, config).execute());
+
+        // assert
+        assertEquals(expectedMessage, actual.getMessage());
+        assertTrue(logger.getErrorMessages().stream()
+                .anyMatch(message -> message.startsWith("Error parsing rules file.")));
+    }
+
+    /**
+     * Test that an exclusions loading failure is propagated.
+     */
+    @Test
+    public void testExecuteWithExclusionsFailure() {
+        // arrange
+        File missingExclusions = new File(temporaryFolder.getRoot(), "missing-exclusions.xml");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = prepareConfig()
+                .pathToExclusionsFile(missingExclusions)
+                .build();
+        String expectedMessage = assertThrows(ExclusionParserException.class,
+                () -> ExclusionParser.parseExclusions(missingExclusions)).getMessage();
+
+        // act
+        ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                () -> new ValidateChangeLogService(logger, config).execute());
+
+        // assert
+        assertEquals(expectedMessage, actual.getMessage());
+        assertTrue(logger.getErrorMessages().stream()
+                .anyMatch(message -> message.startsWith("Error parsing exclusions file.")));
+    }
+
+    /**
+     * Test that a changeLog collection failure is propagated.
+     */
+    @Test
+    public void testExecuteWithChangeLogDirectoryFailure() {
+        // arrange
+        File missingDirectory = new File(temporaryFolder.getRoot(), "missing");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = prepareConfig()
+                .changeLogDirectory(missingDirectory)
+                .build();
+
+        // act
+        ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                () -> new ValidateChangeLogService(logger, config).execute());
+
+        // assert
+        assertEquals("Failed to walk directory: " + missingDirectory, actual.getMessage());
+        assertEquals(1, logger.getErrorMessages().size());
+    }
+
+    /**
+     * Test validation of the given changeLog files and reporting of their violations.
+     */
+    @Test
+    public void testValidateFilesAndReportViolations() throws ValidateChangeLogException {
+        // arrange
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = prepareConfig()
+                .shouldGenerateExclusions(true)
+                .build();
+        File changeLogDirectory = new File(BASE_PATH + "changelog");
+        List<File> changeLogFiles = Arrays.asList(
+                new File(changeLogDirectory, "changelog-master.xml"),
+                new File(changeLogDirectory, "changelog_01.xml"),
+                new File(changeLogDirectory, "changelog_02.xml"));
+        ValidateChangeLogService service = new ValidateChangeLogService(logger, config);
+
+        // act
+        List<RuleValidationErrorDto> actual = service.validateFiles(changeLogFiles);
+        ValidateChangeLogException exception = assertThrows(ValidateChangeLogException.class,
+                () -> service.reportViolations(actual));
+
+        // assert
+        assertEquals(VIOLATION_COUNT, actual.size());
+        assertEquals("Validation failed: 4 violation(s) found.", exception.getMessage());
+        assertEquals(VIOLATION_COUNT + 1, logger.getErrorMessages().size());
+        assertTrue(logger.getInfoMessages().stream()
+                .anyMatch(message -> message.contains("<changeLogExclusion fileName=\"changelog-master.xml\"")));
+    }
+
+    /**
+     * Test reporting without violations.
+     */
+    @Test
+    public void testReportNoViolations() throws ValidateChangeLogException {
+        // arrange
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+
+        // act
+        new ValidateChangeLogService(logger, prepareConfig().build()).reportViolations(Collections.emptyList());
+
+        // assert
+        assertEquals(Collections.singletonList("All ChangeLog files passed validation"), logger.getInfoMessages());
+        assertTrue(logger.getErrorMessages().isEmpty());
+    }
+
+    /**
+     * Test that the pool evaluating changeSets of large changeLogs is shut down after every validation,
+     * and that the same errors are found with and without it.
+     */
+    @Test
+    public void testChangeSetPoolShutDownAfterValidation() throws Exception {
+        // arrange
+        StringBuilder changeLog = new StringBuilder("<databaseChangeLog>\n");
+        for (int i = 0; i < LARGE_CHANGE_SETS; i++) {
+            changeLog.append("<changeSet id=\"").append(i).append("\" author=\"test\">")
+                    .append("<comment>Comment</comment><createIndex tableName=\"orders\" indexName=\"")
+                    .append(i % BAD_INDEX_EVERY == 0 ? "ix_orders_email_" : "idx_orders_email_").append(i)
+                    .append("\"><column name=\"email\"/></createIndex></changeSet>\n");
+        }
+        changeLog.append("</databaseChangeLog>\n");
+        File changeLogFile = temporaryFolder.newFile("large.xml");
+        Files.write(changeLogFile.toPath(), changeLog.toString().getBytes(StandardCharsets.UTF_8));
+        List<File> changeLogFiles = Collections.singletonList(changeLogFile);
+        List<RuleValidationErrorDto> expected = new ValidateChangeLogService(
+                new CollectingPluginLogger(), prepareConfig().build()).validateFiles(changeLogFiles);
+        PluginConfig config = prepareConfig()
+                .changeSetThreads(THREADS)
+                .build();
+        ValidateChangeLogService first = new ValidateChangeLogService(new CollectingPluginLogger(), config);
+        ValidateChangeLogService second = new ValidateChangeLogService(new CollectingPluginLogger(), config);
+
+        // act
+        List<RuleValidationErrorDto> firstErrors = first.validateFiles(changeLogFiles);
+        List<RuleValidationErrorDto> secondErrors = second.validateFiles(changeLogFiles);
+        List<RuleValidationErrorDto> reusedErrors = second.validateFiles(changeLogFiles);
+
+        // assert
+        assertFalse(expected.isEmpty());
+        assertEquals(messages(expected), messages(firstErrors));
+        assertEquals(messages(expected), messages(secondErrors));
+        assertEquals(messages(expected), messages(reusedErrors));
+        assertTrue(first.getChangeSetPool().awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(second.getChangeSetPool().awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static List<String> messages(final List<RuleValidationErrorDto> errors) {
+        List<String> messages = new ArrayList<>();
+        for (RuleValidationErrorDto error : errors) {
+            messages.add(error.getGenericMessage());
+        }
+        return messages;
+    }
+
+    private PluginConfig.Builder prepareConfig() {
+        return PluginConfig.builder()
+                .changeLogFormat("xml")
+                .pathToRulesFile(new File(BASE_PATH + "rules.xml"))
+                .pathToExclusionsFile(new File(BASE_PATH + "exclusions.xml"))
+                .changeLogDirectory(new File(BASE_PATH + "changelog"))
+                .pluginVersion("1.0")
+                .pluginType(PluginTypeEnum.MAVEN);
+    }
+}
@@ -0,0 +1,233 @@
+package io.github.htshame.core;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ValidateChangeLogException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validation session test.
+ */
+public class ValidationSessionTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final File CHANGE_LOG_DIRECTORY = new File(BASE_PATH + "changelog");
+    private static final int FILE_COUNT = 3;
+    private static final int VIOLATION_COUNT = 4;
+    private static final int THREADS = 4;
+    private static final int VALIDATIONS = 50;
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test validation of the changeLog directory.
+     *
+     * @throws ValidateChangeLogException - thrown if the session cannot be built.
+     */
+    @Test
+    public void testValidateDirectory() throws ValidateChangeLogException {
+        // arrange
+        ValidationSession session = prepareSession();
+
+        // act
+        ValidationResult actual = session.validateDirectory(CHANGE_LOG_DIRECTORY);
+
+        // assert
+        assertFalse(actual.isValid());
+        assertEquals(FILE_COUNT, actual.getValidatedFileCount());
+        assertEquals(VIOLATION_COUNT, actual.getViolations().size());
+        assertEquals(VIOLATION_COUNT, actual.getMessages().size());
+        Map<String, List<RuleValidationErrorDto>> violationsByFile = actual.getViolationsByFile();
+        assertEquals(2, violationsByFile.size());
+        assertEquals(2, violationsByFile.get("changelog_02.xml").size());
+        assertEquals(ChangeLogFormatEnum.XML, session.getChangeLogFormat());
+        assertEquals(VIOLATION_COUNT, session.getRules().size());
+    }
+
+    /**
+     * Test that a single session gives the same result to concurrent validations.
+     *
+     * @throws Exception - thrown if the session cannot be built or a validation fails.
+     */
+    @Test
+    public void testValidateConcurrently() throws Exception {
+        // arrange
+        ValidationSession session = prepareSession();
+        List<String> expected = session.validateDirectory(CHANGE_LOG_DIRECTORY).getMessages();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<ValidationResult>> futures = new ArrayList<>();
+
+        // act
+        try {
+            for (int i = 0; i < VALIDATIONS; i++) {
+                futures.add(executor.submit(() -> session.validateDirectory(CHANGE_LOG_DIRECTORY)));
+            }
+
+            // assert
+            for (Future<ValidationResult> future : futures) {
+                assertEquals(expected, future.get().getMessages());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test validation of changeLog content held in memory.
+     *
+     * @throws ValidateChangeLogException - thrown if the session cannot be built.
+     */
+    @Test
+    public void testValidateContent() throws ValidateChangeLogException {
+        // arrange
+        ValidationSession session = prepareSession();
+
+        // act
+        ValidationResult actual = session.validateSources(Arrays.asList(
+                ChangeLogSource.of("db/changelog_03.xml",
+                        "<databaseChangeLog>\n\t</databaseChangeLog>\n".getBytes(StandardCharsets.UTF_8)),
+                ChangeLogSource.of("db/changelog_04.xml",
+                        "<databaseChangeLog>\n</databaseChangeLog>\n".getBytes(StandardCharsets.UTF_8)),
+                ChangeLogSource.of("db/changelog_05.xml",
+                        "<databaseChangeLog>".getBytes(StandardCharsets.UTF_8))));
+
+        // assert
+        assertEquals(FILE_COUNT, actual.getValidatedFileCount());
+        List<String> messages = actual.getMessages();
+        assertEquals("changelog_03.xml", actual.getViolations().get(0).getChangeLogFileName());
+        assertEquals(2, actual.getViolationsByFile().size());
+        assertTrue(messages.get(messages.size() - 1).startsWith("[changelog_05.xml] Failed to parse: "));
+    }
+
+    /**
+     * Test validation of changeLog files inside a zip file.
+     *
+     * @throws Exception - thrown if the zip file cannot be written or the session cannot be built.
+     */
+    @Test
+    public void testValidateZipDirectory() throws Exception {
+        // arrange
+        ValidationSession session = prepareSession();
+        List<String> expected = session.validateDirectory(CHANGE_LOG_DIRECTORY).getMessages();
+        URI uri = URI.create("jar:" + new File(temporaryFolder.getRoot(), "changelog.zip").toURI());
+
+        try (FileSystem zip = FileSystems.newFileSystem(uri, Collections.singletonMap("create", "true"))) {
+            Path directory = Files.createDirectories(zip.getPath("db", "changelog"));
+            for (String name : new String[]{"changelog-master.xml", "changelog_01.xml", "changelog_02.xml"}) {
+                Files.copy(Paths.get(BASE_PATH, "changelog", name), directory.resolve(name));
+            }
+
+            // act
+            ValidationResult actual = session.validateDirectory(zip.getPath("db"));
+
+            // assert
+            assertEquals(FILE_COUNT, actual.getValidatedFileCount());
+            assertEquals(expected, actual.getMessages());
+        }
+    }
+
+    /**
+     * Test that a missing changeLog directory is reported.
+     *
+     * @throws ValidateChangeLogException - thrown if the session cannot be built.
+     */
+    @Test
+    public void testValidateMissingDirectory() throws ValidateChangeLogException {
+        // arrange
+        ValidationSession session = prepareSession();
+        Path directory = Paths.get(BASE_PATH, "missing");
+
+        // act
+        ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                () -> session.validateDirectory(directory));
+
+        // assert
+        assertEquals("Failed to walk directory: " + directory, actual.getMessage());
+    }
+
+    /**
+     * Test session built from URLs of rules and exclusions.
+     *
+     * @throws ValidateChangeLogException - thrown if the session cannot be built.
+     * @throws MalformedURLException      - thrown if the URL cannot be created.
+     */
+    @Test
+    public void testBuildFromUrl() throws ValidateChangeLogException, MalformedURLException {
+        // arrange
+        ValidationSession session = ValidationSession.builder()
+                .rulesFileUrl(new File(BASE_PATH + "rules.xml").toURI().toURL())
+                .exclusionsFileUrl(new File(BASE_PATH + "exclusions.xml").toURI().toURL())
+                .build();
+
+        // act
+        ValidationResult actual = session.validate(new File(CHANGE_LOG_DIRECTORY, "changelog_02.xml"));
+
+        // assert
+        assertEquals(2, actual.getViolations().size());
+    }
+
+    /**
+     * Test that a session cannot be built without valid rules and exclusions.
+     *
+     * @throws MalformedURLException - thrown if the URL cannot be created.
+     */
+    @Test
+    public void testBuildFailure() throws MalformedURLException {
+        // arrange
+        File missingFile = new File(BASE_PATH + "missing.xml");
+
+        // act
+        ValidateChangeLogException noRules = assertThrows(ValidateChangeLogException.class,
+                () -> ValidationSession.builder().build());
+        ValidateChangeLogException missingRules = assertThrows(ValidateChangeLogException.class,
+                () -> ValidationSession.builder().rulesFileUrl(missingFile.toURI().toURL()).build());
+        ValidateChangeLogException missingExclusions = assertThrows(ValidateChangeLogException.class,
+                () -> ValidationSession.builder()
+                        .pathToRulesFile(new File(BASE_PATH + "rules.xml"))
+                        .pathToExclusionsFile(missingFile)
+                        .build());
+
+        // assert
+        assertEquals("Either path to rules file or rules file URL must be set", noRules.getMessage());
+        assertTrue(missingRules.getMessage().startsWith("Error parsing ruleset XML file. Message: "));
+        assertEquals("Error parsing exclusion XML file", missingExclusions.getMessage());
+    }
+
+    private ValidationSession prepareSession() throws ValidateChangeLogException {
+        return ValidationSession.builder()
+                .changeLogFormat("XML")
+                .pathToRulesFile(new File(BASE_PATH + "rules.xml"))
+                .pathToExclusionsFile(new File(BASE_PATH + "exclusions.xml"))
+                .build();
+    }
+}
@@ -0,0 +1,292 @@
+package io.github.htshame.daemon;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.log.CollectingPluginLogger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validation daemon test.
+ */
+public class ValidationDaemonTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final String VERSION = "1.0";
+    private static final long IDLE_TIMEOUT_SECONDS = 60L;
+    private static final long STOP_TIMEOUT_MILLIS = 10000L;
+    private static final long POLL_MILLIS = 50L;
+    private static final int THREADS = 4;
+    private static final long TTL = 300L;
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test validation in a running daemon.
+     */
+    @Test
+    public void testExecuteInDaemon() throws IOException {
+        // arrange
+        File directory = temporaryFolder.newFolder("daemon");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        ValidationDaemonClient client = new ValidationDaemonClient(directory, IDLE_TIMEOUT_SECONDS, logger);
+        Path stateFile = directory.toPath().resolve(ValidationDaemonClient.STATE_FILE_NAME);
+
+        try (ValidationDaemon daemon = ValidationDaemon.start(
+                stateFile, client.fingerprint(VERSION, ValidationDaemonClient.classpath()), IDLE_TIMEOUT_SECONDS)) {
+            // act
+            ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                    () -> client.execute(prepareConfig()));
+
+            // assert
+            assertEquals("Validation failed: 4 violation(s) found.", actual.getMessage());
+            assertFalse(logger.getErrorMessages().isEmpty());
+            assertTrue(logger.getWarnMessages().stream()
+                    .noneMatch(message -> message.endsWith("Validating in the build JVM.")));
+            assertEquals(daemon.getPort(), DaemonState.read(stateFile).getPort());
+            assertFalse(daemon.isStopped());
+        }
+        assertFalse(Files.exists(stateFile));
+    }
+
+    /**
+     * Test request with a wrong token is rejected.
+     */
+    @Test
+    public void testUnauthorizedRequest() throws IOException {
+        // arrange
+        Path stateFile = temporaryFolder.getRoot().toPath().resolve(ValidationDaemonClient.STATE_FILE_NAME);
+
+        try (ValidationDaemon daemon = ValidationDaemon.start(stateFile, "fingerprint", IDLE_TIMEOUT_SECONDS);
+             Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            // act
+            DaemonProtocol.write(writer, DaemonProtocol.message(DaemonProtocol.SHUTDOWN)
+                    .put(DaemonProtocol.TOKEN, "wrong"));
+
+            // assert
+            assertNull(DaemonProtocol.read(reader));
+            assertFalse(daemon.isStopped());
+        }
+    }
+
+    /**
+     * Test stop request.
+     */
+    @Test
+    public void testStop() throws IOException, InterruptedException {
+        // arrange
+        File directory = temporaryFolder.newFolder("daemon");
+        ValidationDaemonClient client = new ValidationDaemonClient(
+                directory, IDLE_TIMEOUT_SECONDS, new CollectingPluginLogger());
+        Path stateFile = directory.toPath().resolve(ValidationDaemonClient.STATE_FILE_NAME);
+        ValidationDaemon daemon = ValidationDaemon.start(stateFile, "fingerprint", IDLE_TIMEOUT_SECONDS);
+
+        // act
+        boolean actual = client.stop();
+
+        // assert
+        assertTrue(actual);
+        daemon.awaitStop();
+        assertFalse(client.stop());
+    }
+
+    /**
+     * Test daemon stops when idle.
+     */
+    @Test
+    public void testIdleTimeout() throws IOException, InterruptedException {
+        // arrange
+        Path stateFile = temporaryFolder.getRoot().toPath().resolve(ValidationDaemonClient.STATE_FILE_NAME);
+
+        // act
+        ValidationDaemon daemon = ValidationDaemon.start(stateFile, "fingerprint", 1L);
+
+        // assert
+        long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+        while (!daemon.isStopped() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_MILLIS);
+        }
+        assertTrue(daemon.isStopped());
+        assertFalse(Files.exists(stateFile));
+    }
+
+    /**
+     * Test daemon with another fingerprint is replaced by a new daemon process.
+     */
+    @Test
+    public void testStaleDaemonIsReplaced() throws IOException {
+        // arrange
+        File directory = temporaryFolder.newFolder("daemon");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        ValidationDaemonClient client = new ValidationDaemonClient(directory, IDLE_TIMEOUT_SECONDS, logger);
+        Path stateFile = directory.toPath().resolve(ValidationDaemonClient.STATE_FILE_NAME);
+        ValidationDaemon stale = ValidationDaemon.start(stateFile, "stale", IDLE_TIMEOUT_SECONDS);
+
+        try {
+            // act
+            ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                    () -> client.execute(prepareConfig()));
+
+            // assert
+            assertEquals("Validation failed: 4 violation(s) found.", actual.getMessage());
+            assertTrue(stale.isStopped());
+            DaemonState state = DaemonState.read(stateFile);
+            assertNotNull(state);
+            assertNotEquals(ProcessHandle.current().pid(), state.getPid());
+            assertTrue(logger.getInfoMessages().stream()
+                    .anyMatch(message -> message.startsWith("Started validation daemon")));
+            assertTrue(logger.getWarnMessages().stream()
+                    .noneMatch(message -> message.endsWith("Validating in the build JVM.")));
+        } finally {
+            client.stop();
+            stale.close();
+        }
+    }
+
+    /**
+     * Test validation is neither sent again nor run in the build JVM once the daemon has logged part of it.
+     */
+    @Test
+    public void testConnectionLostAfterReplayedMessage() throws Exception {
+        // arrange
+        File directory = temporaryFolder.newFolder("daemon");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        ValidationDaemonClient client = new ValidationDaemonClient(directory, IDLE_TIMEOUT_SECONDS, logger);
+        AtomicInteger requests = new AtomicInteger();
+
+        try (ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            new DaemonState(server.getLocalPort(), "token",
+                    client.fingerprint(VERSION, ValidationDaemonClient.classpath()), ProcessHandle.current().pid())
+                    .write(directory.toPath().resolve(ValidationDaemonClient.STATE_FILE_NAME));
+            Thread daemon = new Thread(() -> logAndDisconnect(server, requests));
+            daemon.setDaemon(true);
+            daemon.start();
+
+            // act
+            ValidateChangeLogException actual = assertThrows(ValidateChangeLogException.class,
+                    () -> client.execute(prepareConfig()));
+
+            // assert
+            assertTrue(actual.getMessage().startsWith("Validation daemon closed the connection during validation"));
+            assertEquals(1, requests.get());
+            assertEquals(List.of("Validating"), logger.getInfoMessages());
+            assertTrue(logger.getWarnMessages().isEmpty());
+        }
+    }
+
+    /**
+     * Test plugin configuration survives the wire format.
+     */
+    @Test
+    public void testConfigRoundTrip() throws IOException {
+        // arrange
+        PluginConfig config = PluginConfig.builder()
+                .changeLogFormat("yaml")
+                .pathToRulesFile(new File("rules.xml"))
+                .exclusionsFileUrl(new URL("https://example.com/exclusions.xml"))
+                .exclusionsFileSha256("abc")
+                .configCacheTtlSeconds(TTL)
+                .compiledRulesCacheDirectory(new File("compiled-rules"))
+                .changeSetResultCacheDirectory(new File("results"))
+                .changeLogDirectory(new File("changelog"))
+                .changeLogDirectories(List.of(new File("changelog"), new File("other")))
+                .changeLogFormats(List.of("xml"))
+                .shouldGenerateMetrics(true)
+                .pipelineThreads(THREADS)
+                .pluginVersion(VERSION)
+                .pluginType(PluginTypeEnum.MAVEN)
+                .build();
+
+        // act
+        ObjectNode json = DaemonProtocol.toJson(config);
+        PluginConfig actual = DaemonProtocol.fromJson(json);
+
+        // assert
+        assertEquals(config.getChangeLogFormat(), actual.getChangeLogFormat());
+        assertEquals(new File("rules.xml").getAbsoluteFile(), actual.getPathToRulesFile());
+        assertNull(actual.getPathToExclusionsFile());
+        assertEquals(config.getExclusionsFileUrl(), actual.getExclusionsFileUrl());
+        assertEquals("abc", actual.getExclusionsFileSha256());
+        assertEquals(TTL, actual.getConfigCacheTtlSeconds());
+        assertEquals(new File("compiled-rules").getAbsoluteFile(), actual.getCompiledRulesCacheDirectory());
+        assertEquals(new File("results").getAbsoluteFile(), actual.getChangeSetResultCacheDirectory());
+        assertNull(actual.getParsedChangeLogCacheDirectory());
+        assertEquals(new File("changelog").getAbsoluteFile(), actual.getChangeLogDirectory());
+        assertEquals(List.of(new File("changelog").getAbsoluteFile(), new File("other").getAbsoluteFile()),
+                actual.getChangeLogDirectories());
+        assertEquals(EnumSet.of(ChangeLogFormatEnum.XML), actual.getChangeLogFormats());
+        assertTrue(actual.getShouldGenerateMetrics());
+        assertFalse(actual.getShouldGenerateTrace());
+        assertEquals(THREADS, actual.getPipelineThreads());
+        assertEquals(PluginTypeEnum.MAVEN, actual.getPluginType());
+    }
+
+    private static void logAndDisconnect(final ServerSocket server,
+                                         final AtomicInteger requests) {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept();
+                 BufferedReader reader = new BufferedReader(
+                         new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 Writer writer = new BufferedWriter(
+                         new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+                if (DaemonProtocol.read(reader) != null) {
+                    requests.incrementAndGet();
+                    DaemonProtocol.write(writer, DaemonProtocol.message(DaemonProtocol.LOG)
+                            .put(DaemonProtocol.LEVEL, DaemonProtocol.INFO)
+                            .put(DaemonProtocol.MESSAGE, "Validating"));
+                }
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private PluginConfig prepareConfig() {
+        return PluginConfig.builder()
+                .changeLogFormat("xml")
+                .pathToRulesFile(new File(BASE_PATH + "rules.xml"))
+                .pathToExclusionsFile(new File(BASE_PATH + "exclusions.xml"))
+                .changeLogDirectory(new File(BASE_PATH + "changelog"))
+                .pluginVersion(VERSION)
+                .pluginType(PluginTypeEnum.MAVEN)
+                .build();
+    }
+}
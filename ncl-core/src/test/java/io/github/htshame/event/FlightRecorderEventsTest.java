@@ -0,0 +1,96 @@
+package io.github.htshame.event;
+
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.core.ValidateChangeLogService;
+import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.exception.ValidateChangeLogException;
+import io.github.htshame.log.CollectingPluginLogger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Java Flight Recorder events test.
+ */
+public class FlightRecorderEventsTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that parse, rule evaluation and exclusions events are recorded.
+     */
+    @Test
+    public void testEventsRecorded() throws IOException {
+        // arrange
+        PluginConfig config = PluginConfig.builder()
+                .changeLogFormat("xml")
+                .pathToRulesFile(new File(BASE_PATH + "rules.xml"))
+                .pathToExclusionsFile(new File(BASE_PATH + "exclusions.xml"))
+                .changeLogDirectory(new File(BASE_PATH + "changelog"))
+                // a version of its own, so the exclusions are parsed rather than shared with other tests
+                .pluginVersion("1.0-jfr")
+                .pluginType(PluginTypeEnum.MAVEN)
+                .build();
+        Path recordingFile = temporaryFolder.newFile("recording.jfr").toPath();
+
+        // act
+        try (Recording recording = new Recording()) {
+            recording.enable(FileParsedEvent.NAME).withoutThreshold();
+            recording.enable(RuleEvaluatedEvent.NAME).withoutThreshold();
+            recording.enable(ExclusionsLoadedEvent.NAME).withoutThreshold();
+            recording.start();
+            assertThrows(ValidateChangeLogException.class,
+                    () -> new ValidateChangeLogService(new CollectingPluginLogger(), config).execute());
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+        // assert
+        List<RecordedEvent> fileParsedEvents = filter(events, FileParsedEvent.NAME);
+        assertFalse(fileParsedEvents.isEmpty());
+        RecordedEvent fileParsedEvent = fileParsedEvents.get(0);
+        assertEquals("xml", fileParsedEvent.getString("format"));
+        assertTrue(fileParsedEvent.getLong("bytes") > 0);
+        assertTrue(fileParsedEvent.getString("path").endsWith(".xml"));
+
+        List<RecordedEvent> ruleEvaluatedEvents = filter(events, RuleEvaluatedEvent.NAME);
+        assertTrue(ruleEvaluatedEvents.stream()
+                .anyMatch(event -> "changelog_02_1".equals(event.getString("changeSetId"))
+                        && "attr-starts-with".equals(event.getString("rule"))
+                        && event.getInt("violationCount") == 1));
+        assertTrue(ruleEvaluatedEvents.stream()
+                .anyMatch(event -> "no-tabs-in-changelog".equals(event.getString("rule"))));
+
+        List<RecordedEvent> exclusionsLoadedEvents = filter(events, ExclusionsLoadedEvent.NAME);
+        assertEquals(1, exclusionsLoadedEvents.size());
+        assertEquals(1, exclusionsLoadedEvents.get(0).getInt("changeSetExclusions"));
+    }
+
+    private static List<RecordedEvent> filter(final List<RecordedEvent> events,
+                                              final String name) {
+        return events.stream()
+                .filter(event -> name.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,8 +1,14 @@
 package io.github.htshame.gateway;
 
 import com.sun.net.httpserver.HttpServer;
+import io.github.htshame.exception.ConfigApiGatewayException;
+import io.github.htshame.log.CollectingPluginLogger;
+import io.github.htshame.util.HashUtil;
+import org.junit.After;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
@@ -10,6 +16,10 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Config API gateway test.
@@ -17,6 +27,34 @@ import java.net.URL;
 public class ConfigApiGatewayTest {
 
     private static final int OK_200 = 200;
+    private static final int NOT_MODIFIED_304 = 304;
+    private static final int SERVER_ERROR_500 = 500;
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+    private static final byte[] BODY = "<rules/>".getBytes(StandardCharsets.UTF_8);
+    private static final long TTL_SECONDS = 3600L;
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+    private final List<String> ifModifiedSinceHeaders = new CopyOnWriteArrayList<>();
+    private volatile int status = OK_200;
+    private HttpServer configServer;
+    private URL configUrl;
+
+    /**
+     * Stop the stand-in config server.
+     */
+    @After
+    public void tearDown() {
+        if (configServer != null) {
+            configServer.stop(0);
+        }
+    }
 
     /**
      * Test getting file from URL.
@@ -55,4 +93,242 @@ public class ConfigApiGatewayTest {
             server.stop(0);
         }
     }
+
+    /**
+     * Test that HTTP error fails without cache.
+     */
+    @Test
+    public void testGetFileHttpError() throws IOException {
+        // arrange
+        startConfigServer();
+        status = SERVER_ERROR_500;
+
+        // act
+        ConfigApiGatewayException actual = Assert.assertThrows(ConfigApiGatewayException.class,
+                () -> new ConfigApiGateway().getFile(configUrl));
+
+        // assert
+        Assert.assertEquals("Error reading configuration content from URL: " + configUrl + ". Status code: 500",
+                actual.getMessage());
+    }
+
+    /**
+     * Test that the cached file is revalidated with a conditional request.
+     */
+    @Test
+    public void testGetFileRevalidatesCachedFile() throws IOException {
+        // arrange
+        startConfigServer();
+        ConfigApiGateway gateway = new ConfigApiGateway(temporaryFolder.getRoot(), 0L, new CollectingPluginLogger());
+        File first = gateway.getFile(configUrl);
+
+        // act
+        File actual = gateway.getFile(configUrl);
+
+        // assert
+        Assert.assertEquals(first, actual);
+        Assert.assertArrayEquals(BODY, Files.readAllBytes(actual.toPath()));
+        Assert.assertEquals(HashUtil.sha256Hex(BODY) + ".xml", actual.getName());
+        Assert.assertEquals(List.of("null", ETAG), ifNoneMatchHeaders);
+        Assert.assertEquals(List.of("null", LAST_MODIFIED), ifModifiedSinceHeaders);
+    }
+
+    /**
+     * Test that the cached file is used without request within the TTL.
+     */
+    @Test
+    public void testGetFileWithinTtl() throws IOException {
+        // arrange
+        startConfigServer();
+        ConfigApiGateway gateway =
+                new ConfigApiGateway(temporaryFolder.getRoot(), TTL_SECONDS, new CollectingPluginLogger());
+        gateway.getFile(configUrl);
+
+        // act
+        File actual = gateway.getFile(configUrl);
+
+        // assert
+        Assert.assertArrayEquals(BODY, Files.readAllBytes(actual.toPath()));
+        Assert.assertEquals(1, ifNoneMatchHeaders.size());
+    }
+
+    /**
+     * Test that the last good copy is used when the server fails.
+     */
+    @Test
+    public void testGetFileOfflineFallback() throws IOException {
+        // arrange
+        startConfigServer();
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        ConfigApiGateway gateway = new ConfigApiGateway(temporaryFolder.getRoot(), 0L, logger);
+        gateway.getFile(configUrl);
+        configServer.stop(0);
+
+        // act
+        File actual = gateway.getFile(configUrl);
+
+        // assert
+        Assert.assertArrayEquals(BODY, Files.readAllBytes(actual.toPath()));
+        Assert.assertEquals(1, logger.getWarnMessages().size());
+        Assert.assertTrue(logger.getWarnMessages().get(0)
+                .startsWith("Error getting config file from URL: " + configUrl));
+    }
+
+    /**
+     * Test that the pinned SHA-256 is verified.
+     */
+    @Test
+    public void testGetFilePinnedSha256Mismatch() throws IOException {
+        // arrange
+        startConfigServer();
+        String expectedSha256 = HashUtil.sha256Hex("<other/>".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        ConfigApiGatewayException actual = Assert.assertThrows(ConfigApiGatewayException.class,
+                () -> new ConfigApiGateway().getFile(configUrl, expectedSha256));
+
+        // assert
+        Assert.assertEquals("SHA-256 of config file from URL: " + configUrl + " is [" + HashUtil.sha256Hex(BODY)
+                + "], expected [" + expectedSha256 + "]", actual.getMessage());
+    }
+
+    /**
+     * Test that the cached file matching the pinned SHA-256 is used without request.
+     */
+    @Test
+    public void testGetFilePinnedSha256FromCache() throws IOException {
+        // arrange
+        startConfigServer();
+        ConfigApiGateway gateway = new ConfigApiGateway(temporaryFolder.getRoot(), 0L, new CollectingPluginLogger());
+        String expectedSha256 = HashUtil.sha256Hex(BODY);
+        gateway.getFile(configUrl, expectedSha256);
+
+        // act
+        File actual = gateway.getFile(configUrl, expectedSha256.toUpperCase());
+
+        // assert
+        Assert.assertArrayEquals(BODY, Files.readAllBytes(actual.toPath()));
+        Assert.assertEquals(1, ifNoneMatchHeaders.size());
+    }
+
+    /**
+     * Test that a corrupted cached file is downloaded again.
+     */
+    @Test
+    public void testGetFileCorruptedCache() throws IOException {
+        // arrange
+        startConfigServer();
+        ConfigApiGateway gateway = new ConfigApiGateway(temporaryFolder.getRoot(), TTL_SECONDS,
+                new CollectingPluginLogger());
+        File cached = gateway.getFile(configUrl);
+        Files.write(cached.toPath(), "<corrupted/>".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        File actual = gateway.getFile(configUrl);
+
+        // assert
+        Assert.assertArrayEquals(BODY, Files.readAllBytes(actual.toPath()));
+        Assert.assertEquals(List.of("null", "null"), ifNoneMatchHeaders);
+    }
+
+    /**
+     * Test that the error is thrown when there is no cached copy.
+     */
+    @Test
+    public void testGetFileHttpErrorWithEmptyCache() throws IOException {
+        // arrange
+        startConfigServer();
+        status = SERVER_ERROR_500;
+        ConfigApiGateway gateway = new ConfigApiGateway(temporaryFolder.getRoot(), 0L, new CollectingPluginLogger());
+
+        // act
+        ConfigApiGatewayException actual = Assert.assertThrows(ConfigApiGatewayException.class,
+                () -> gateway.getFile(configUrl));
+
+        // assert
+        Assert.assertTrue(actual.getMessage().endsWith("Status code: 500"));
+    }
+
+    /**
+     * Test that the response body is streamed into the reader and verified even if not read to the end.
+     */
+    @Test
+    public void testReadStreamsContent() throws IOException {
+        // arrange
+        startConfigServer();
+        String expectedSha256 = HashUtil.sha256Hex(BODY);
+
+        // act
+        String actual = new ConfigApiGateway().read(configUrl, expectedSha256,
+                (content, systemId) -> (char) content.read() + systemId);
+
+        // assert
+        Assert.assertEquals("<" + configUrl, actual);
+    }
+
+    /**
+     * Test that the pinned SHA-256 of the streamed content is verified.
+     */
+    @Test
+    public void testReadPinnedSha256Mismatch() throws IOException {
+        // arrange
+        startConfigServer();
+        String expectedSha256 = HashUtil.sha256Hex("<other/>".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        ConfigApiGatewayException actual = Assert.assertThrows(ConfigApiGatewayException.class,
+                () -> new ConfigApiGateway().read(configUrl, expectedSha256, (content, systemId) -> content.read()));
+
+        // assert
+        Assert.assertEquals("SHA-256 of config file from URL: " + configUrl + " is [" + HashUtil.sha256Hex(BODY)
+                + "], expected [" + expectedSha256 + "]", actual.getMessage());
+    }
+
+    /**
+     * Test that the content is read from the cached copy if caching is enabled.
+     */
+    @Test
+    public void testReadFromCache() throws IOException {
+        // arrange
+        startConfigServer();
+        ConfigApiGateway gateway = new ConfigApiGateway(temporaryFolder.getRoot(), TTL_SECONDS,
+                new CollectingPluginLogger());
+        File cached = gateway.getFile(configUrl);
+
+        // act
+        String actual = gateway.read(configUrl, null,
+                (content, systemId) -> new String(content.readAllBytes(), StandardCharsets.UTF_8) + systemId);
+
+        // assert
+        Assert.assertEquals(new String(BODY, StandardCharsets.UTF_8) + cached.toPath().toUri(), actual);
+        Assert.assertEquals(1, ifNoneMatchHeaders.size());
+    }
+
+    private void startConfigServer() throws IOException {
+        configServer = HttpServer.create(new InetSocketAddress(0), 0);
+        configServer.createContext("/rules.xml", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatchHeaders.add(String.valueOf(ifNoneMatch));
+            ifModifiedSinceHeaders.add(String.valueOf(exchange.getRequestHeaders().getFirst("If-Modified-Since")));
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+            if (status == OK_200 && ETAG.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(NOT_MODIFIED_304, -1);
+                exchange.close();
+                return;
+            }
+            if (status != OK_200) {
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(OK_200, BODY.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(BODY);
+            }
+        });
+        configServer.start();
+        configUrl = new URL("http://localhost:" + configServer.getAddress().getPort() + "/rules.xml");
+    }
 }
@@ -0,0 +1,68 @@
+package io.github.htshame.log;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link PluginLogger} that collects logged messages for assertions.
+ */
+public class CollectingPluginLogger implements PluginLogger {
+
+    private final List<String> infoMessages = new CopyOnWriteArrayList<>();
+    private final List<String> warnMessages = new CopyOnWriteArrayList<>();
+    private final List<String> errorMessages = new CopyOnWriteArrayList<>();
+
+    /**
+     * Info.
+     *
+     * @param message - info message.
+     */
+    @Override
+    public void info(final String message) {
+        infoMessages.add(message);
+    }
+
+    /**
+     * Warn.
+     *
+     * @param message - warn message.
+     */
+    @Override
+    public void warn(final String message) {
+        warnMessages.add(message);
+    }
+
+    /**
+     * Error.
+     *
+     * @param message - error message.
+     */
+    @Override
+    public void error(final String message) {
+        errorMessages.add(message);
+    }
+
+    /**
+     * Error.
+     *
+     * @param message - error message.
+     * @param e       - exception.
+     */
+    @Override
+    public void error(final String message,
+                      final Exception e) {
+        errorMessages.add(message);
+    }
+
+    public List<String> getInfoMessages() {
+        return infoMessages;
+    }
+
+    public List<String> getWarnMessages() {
+        return warnMessages;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
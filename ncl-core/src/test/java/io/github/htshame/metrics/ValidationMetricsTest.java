@@ -0,0 +1,71 @@
+package io.github.htshame.metrics;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.enums.RuleEnum;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validation metrics test.
+ */
+public class ValidationMetricsTest {
+
+    private static final File CHANGE_LOG_FILE = new File("src/test/resources/io/github/htshame/core/"
+            + "changelog/changelog_01.xml");
+    private static final ChangeLogSource SOURCE = ChangeLogSource.of(CHANGE_LOG_FILE);
+    private static final long PARSE_NANOS = 100L;
+    private static final long EVALUATION_NANOS = 50L;
+    private static final long ELEMENTS = 2L;
+
+    /**
+     * Test collecting file and rule metrics.
+     */
+    @Test
+    public void testRecord() {
+        // arrange
+        ValidationMetrics metrics = new ValidationMetrics();
+
+        // act
+        metrics.recordParse(SOURCE, PARSE_NANOS, ELEMENTS);
+        metrics.recordBytesRead(SOURCE);
+        metrics.recordRuleEvaluation(SOURCE, RuleEnum.TAG_MUST_EXIST, EVALUATION_NANOS, ELEMENTS, 1);
+        metrics.recordRuleEvaluation(SOURCE, RuleEnum.TAG_MUST_EXIST, EVALUATION_NANOS, ELEMENTS, 0);
+
+        // assert
+        FileMetrics fileMetrics = metrics.getFileMetrics().get(CHANGE_LOG_FILE.getPath());
+        assertEquals(PARSE_NANOS, fileMetrics.getParseNanos());
+        assertEquals(2 * EVALUATION_NANOS, fileMetrics.getEvaluationNanos());
+        assertEquals(PARSE_NANOS + 2 * EVALUATION_NANOS, fileMetrics.getTotalNanos());
+        assertEquals(2 * CHANGE_LOG_FILE.length(), fileMetrics.getBytesRead());
+        assertTrue(fileMetrics.getBytesRead() > 0);
+        assertEquals(ELEMENTS, fileMetrics.getElementsParsed());
+        assertEquals(1, fileMetrics.getViolations());
+
+        RuleMetrics ruleMetrics = metrics.getRuleMetrics().get(RuleEnum.TAG_MUST_EXIST);
+        assertEquals(2 * EVALUATION_NANOS, ruleMetrics.getEvaluationNanos());
+        assertEquals(2 * ELEMENTS, ruleMetrics.getInvocations());
+        assertEquals(1, ruleMetrics.getViolations());
+    }
+
+    /**
+     * Test that disabled metrics record nothing.
+     */
+    @Test
+    public void testDisabled() {
+        // arrange
+        ValidationMetrics metrics = ValidationMetrics.disabled();
+
+        // act
+        metrics.recordParse(SOURCE, PARSE_NANOS, ELEMENTS);
+        metrics.recordBytesRead(SOURCE);
+        metrics.recordRuleEvaluation(SOURCE, RuleEnum.TAG_MUST_EXIST, EVALUATION_NANOS, ELEMENTS, 1);
+
+        // assert
+        assertTrue(metrics.getFileMetrics().isEmpty());
+        assertTrue(metrics.getRuleMetrics().isEmpty());
+    }
+}
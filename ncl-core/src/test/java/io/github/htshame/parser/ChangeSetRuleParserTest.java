@@ -24,6 +24,9 @@ import io.github.htshame.rule.processor.changeset.TagMustExistProcessor;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -87,4 +90,22 @@ public class ChangeSetRuleParserTest {
         // act & assert
         assertThrows(RuleParserException.class, () -> RuleParser.parseRules(ruleFile));
     }
+
+    /**
+     * Test parsing of rules.xml content stream.
+     */
+    @Test
+    public void testParseRulesFromStream() throws IOException {
+        // arrange
+        File ruleFile = new File("src/test/resources/rules.xml");
+
+        // act
+        List<Rule> actual;
+        try (InputStream content = Files.newInputStream(ruleFile.toPath())) {
+            actual = RuleParser.parseRules(content, ruleFile.toURI().toString());
+        }
+
+        // assert
+        assertEquals(RULE_SET_SIZE, actual.size());
+    }
 }
@@ -0,0 +1,120 @@
+package io.github.htshame.parser;
+
+import io.github.htshame.exception.RuleParserException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Compiled rules cache test.
+ */
+public class CompiledRulesCacheTest {
+
+    private static final File RULES_FILE = new File("src/test/resources/rules.xml");
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that the rules are read from the snapshot on the second run.
+     */
+    @Test
+    public void testParseRulesFromSnapshot() throws IOException {
+        // arrange
+        File directory = temporaryFolder.newFolder("compiled-rules");
+        List<io.github.htshame.rule.Rule> expected = RuleParser.parseRules(RULES_FILE);
+        new CompiledRulesCache(directory, "1.0").parseRules(RULES_FILE);
+
+        // act
+        List<io.github.htshame.rule.Rule> actual = new CompiledRulesCache(directory, "1.0").parseRules(RULES_FILE);
+
+        // assert
+        assertEquals(1, snapshots(directory).size());
+        assertEquals(names(expected), names(actual));
+        assertEquals(names(expected), names(CompiledRulesCache.readSnapshot(snapshots(directory).get(0))));
+    }
+
+    /**
+     * Test that snapshots of other plugin versions are not used.
+     */
+    @Test
+    public void testSnapshotKeyDependsOnPluginVersion() {
+        // arrange
+        byte[] content = "<rules/>".getBytes(StandardCharsets.UTF_8);
+
+        // act
+        String actual = new CompiledRulesCache(temporaryFolder.getRoot(), "1.0").snapshotKey(content);
+
+        // assert
+        assertNotEquals(new CompiledRulesCache(temporaryFolder.getRoot(), "2.0").snapshotKey(content), actual);
+    }
+
+    /**
+     * Test that a corrupted snapshot is ignored and rewritten.
+     */
+    @Test
+    public void testParseRulesCorruptedSnapshot() throws IOException {
+        // arrange
+        File directory = temporaryFolder.newFolder("compiled-rules");
+        CompiledRulesCache cache = new CompiledRulesCache(directory, "1.0");
+        cache.parseRules(RULES_FILE);
+        Path snapshot = snapshots(directory).get(0);
+        byte[] valid = Files.readAllBytes(snapshot);
+        Files.write(snapshot, "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        List<io.github.htshame.rule.Rule> actual = cache.parseRules(RULES_FILE);
+
+        // assert
+        assertEquals(names(RuleParser.parseRules(RULES_FILE)), names(actual));
+        assertEquals(valid.length, Files.size(snapshot));
+        assertNotNull(CompiledRulesCache.readSnapshot(snapshot));
+    }
+
+    /**
+     * Test that parsing failure of the rules file is propagated.
+     */
+    @Test
+    public void testParseRulesFailure() throws IOException {
+        // arrange
+        CompiledRulesCache cache = new CompiledRulesCache(temporaryFolder.newFolder("compiled-rules"), "1.0");
+        File missing = new File(temporaryFolder.getRoot(), "missing.xml");
+
+        // act
+        RuleParserException actual = assertThrows(RuleParserException.class, () -> cache.parseRules(missing));
+
+        // assert
+        assertEquals(assertThrows(RuleParserException.class, () -> RuleParser.parseRules(missing)).getMessage(),
+                actual.getMessage());
+    }
+
+    private static List<Path> snapshots(final File directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory.toPath())) {
+            return files.filter(path -> path.toString().endsWith(CompiledRulesCache.SNAPSHOT_EXTENSION))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> names(final List<io.github.htshame.rule.Rule> rules) {
+        return rules.stream()
+                .map(rule -> rule.getClass().getName() + rule.getName())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.htshame.service;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.enums.RuleEnum;
+import io.github.htshame.log.CollectingPluginLogger;
+import io.github.htshame.metrics.ValidationMetrics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Metrics report service test.
+ */
+public class MetricsReportServiceTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test escaping of OpenMetrics label values.
+     */
+    @Test
+    public void testEscapeLabelValue() {
+        assertEquals("C:\\\\db\\\"x\\\"\\n", MetricsReportService.escapeLabelValue("C:\\db\"x\"\n"));
+    }
+
+    /**
+     * Test failure to write the report. Validation must not be affected.
+     */
+    @Test
+    public void testReportWriteFailure() throws IOException {
+        // arrange
+        File notADirectory = temporaryFolder.newFile("target");
+        CollectingPluginLogger logger = new CollectingPluginLogger();
+        PluginConfig config = PluginConfig.builder().outputDirectory(notADirectory).build();
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordRuleEvaluation(ChangeLogSource.of(notADirectory), RuleEnum.NO_TABS_IN_CHANGELOG, 1L, 1L, 0L);
+
+        // act
+        new MetricsReportService(logger, config).report(metrics);
+
+        // assert
+        assertEquals(1, logger.getErrorMessages().size());
+        assertTrue(logger.getErrorMessages().get(0).startsWith("Failed to write performance report"));
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.htshame.trace;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tracer test.
+ */
+public class TracerTest {
+
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int SPAN_ID_LENGTH = 16;
+    private static final int SPAN_COUNT = 3;
+
+    /**
+     * Test that nested spans are linked to their parents and the current span is restored.
+     */
+    @Test
+    public void testNestedSpans() {
+        // arrange
+        Tracer tracer = new Tracer();
+
+        // act
+        Span root = tracer.startSpan("root");
+        Span child = tracer.startSpan("child").setAttribute("key", 1);
+        child.end();
+        Span sibling = tracer.startSpan("sibling");
+        sibling.close();
+        root.end();
+        root.end();
+
+        // assert
+        List<Span> spans = tracer.drainFinishedSpans();
+        assertEquals(SPAN_COUNT, spans.size());
+        assertSame(child, spans.get(0));
+        assertSame(root, spans.get(2));
+        assertNull(root.getParentSpanId());
+        assertEquals(TRACE_ID_LENGTH, root.getTraceId().length());
+        assertEquals(SPAN_ID_LENGTH, root.getSpanId().length());
+        assertEquals(root.getSpanId(), child.getParentSpanId());
+        assertEquals(root.getSpanId(), sibling.getParentSpanId());
+        assertEquals(root.getTraceId(), sibling.getTraceId());
+        assertEquals("1", child.getAttributes().get("key"));
+        assertTrue(root.getEndEpochNanos() >= child.getEndEpochNanos());
+        assertNull(tracer.getCurrentSpan());
+        assertTrue(tracer.drainFinishedSpans().isEmpty());
+    }
+
+    /**
+     * Test that disabled tracer records nothing.
+     */
+    @Test
+    public void testDisabledTracer() {
+        // arrange
+        Tracer tracer = Tracer.disabled();
+
+        // act
+        Span span = tracer.startSpan("root").setAttribute("key", "value");
+        span.setError("error");
+        span.end();
+
+        // assert
+        assertTrue(tracer.drainFinishedSpans().isEmpty());
+        assertTrue(span.getAttributes().isEmpty());
+        assertNull(span.getErrorMessage());
+        assertNull(tracer.getCurrentSpan());
+    }
+}
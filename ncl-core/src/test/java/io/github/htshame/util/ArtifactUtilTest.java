@@ -0,0 +1,64 @@
+package io.github.htshame.util;
+
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Artifact util test.
+ */
+public class ArtifactUtilTest {
+
+    private static final File LOCAL_REPOSITORY = new File("repository");
+
+    /**
+     * Test resolution of coordinates with the default type.
+     */
+    @Test
+    public void testResolveArtifact() {
+        // arrange
+        File expected = new File(LOCAL_REPOSITORY, "com/example/db/migrations/1.0/migrations-1.0.jar");
+
+        // act
+        File actual = ArtifactUtil.resolveArtifact(LOCAL_REPOSITORY, "com.example.db:migrations:1.0");
+
+        // assert
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Test resolution of coordinates with type and classifier.
+     */
+    @Test
+    public void testResolveArtifactWithClassifier() {
+        // arrange
+        File expected = new File(LOCAL_REPOSITORY, "com/example/migrations/1.0/migrations-1.0-changelog.zip");
+
+        // act
+        File actual = ArtifactUtil.resolveArtifact(LOCAL_REPOSITORY, " com.example:migrations:1.0:zip:changelog ");
+
+        // assert
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Test that malformed coordinates are rejected.
+     */
+    @Test
+    public void testResolveMalformedArtifact() {
+        // act
+        IllegalArgumentException tooShort = assertThrows(IllegalArgumentException.class,
+                () -> ArtifactUtil.resolveArtifact(LOCAL_REPOSITORY, "com.example:migrations"));
+        IllegalArgumentException emptyPart = assertThrows(IllegalArgumentException.class,
+                () -> ArtifactUtil.resolveArtifact(LOCAL_REPOSITORY, "com.example::1.0"));
+
+        // assert
+        assertEquals("Artifact coordinates [com.example:migrations] must have the form "
+                + "groupId:artifactId:version[:type[:classifier]]", tooShort.getMessage());
+        assertEquals("Artifact coordinates [com.example::1.0] must have the form "
+                + "groupId:artifactId:version[:type[:classifier]]", emptyPart.getMessage());
+    }
+}
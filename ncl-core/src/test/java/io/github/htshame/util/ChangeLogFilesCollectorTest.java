@@ -0,0 +1,192 @@
+package io.github.htshame.util;
+
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ChangeLog files collector test.
+ */
+public class ChangeLogFilesCollectorTest {
+
+    private static final int DIRECTORIES = 8;
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path root;
+
+    /**
+     * Create changeLog files of all formats.
+     *
+     * @throws IOException - thrown if files cannot be written.
+     */
+    @Before
+    public void init() throws IOException {
+        root = temporaryFolder.getRoot().toPath();
+        for (String path : List.of("a/1.xml", "a/2.yml", "a/3.YAML", "a/nested/4.json",
+                "b/5.xml", "b/6.sql", "b/xml")) {
+            write(path);
+        }
+    }
+
+    /**
+     * Test that YAML and YML formats both match <code>.yaml</code> and <code>.yml</code> files.
+     */
+    @Test
+    public void testYamlFormatsMatchBothExtensions() throws Exception {
+        // act
+        List<String> yaml = names(ChangeLogFilesCollector.collectChangeLogFiles(
+                root.resolve("a").toFile(), ChangeLogFormatEnum.YAML));
+        List<String> yml = names(ChangeLogFilesCollector.collectChangeLogFiles(
+                root.resolve("a").toFile(), ChangeLogFormatEnum.YML));
+
+        // assert
+        assertEquals(List.of("2.yml", "3.YAML"), yaml);
+        assertEquals(yaml, yml);
+    }
+
+    /**
+     * Test that all directories are walked once for all formats and that files of nested roots
+     * are collected once.
+     */
+    @Test
+    public void testCollectMultipleDirectoriesAndFormats() throws Exception {
+        // arrange
+        List<File> directories = List.of(
+                root.resolve("a").toFile(),
+                root.resolve("b").toFile(),
+                root.resolve("a/nested").toFile());
+
+        // act
+        List<String> actual = names(ChangeLogFilesCollector.collectChangeLogFiles(
+                directories, EnumSet.of(ChangeLogFormatEnum.XML, ChangeLogFormatEnum.JSON)));
+
+        // assert
+        assertEquals(List.of("1.xml", "4.json", "5.xml"), actual);
+    }
+
+    /**
+     * Test that ignored directories are pruned and that ignore files apply to their own subtree,
+     * with later patterns re-including paths ignored by earlier ones.
+     */
+    @Test
+    public void testIgnorePatternsAndIgnoreFiles() throws Exception {
+        // arrange
+        write("c/target/7.xml");
+        write("c/node_modules/pkg/8.xml");
+        write("c/keep/9.xml");
+        write("c/keep/drafts/10.xml");
+        write("c/keep/drafts/11.xml");
+        write("c/other/drafts/12.xml");
+        Files.write(root.resolve("c/keep/.nclignore"), List.of("# drafts are not released", "drafts/*.xml",
+                "!drafts/11.xml"));
+        ChangeLogIgnore changeLogIgnore = ChangeLogIgnore.of(List.of("target/", "/node_modules"), ".nclignore");
+
+        // act
+        List<String> actual = names(ChangeLogFilesCollector.collectChangeLogFiles(
+                List.of(root.resolve("c").toFile()), EnumSet.of(ChangeLogFormatEnum.XML), changeLogIgnore));
+
+        // assert
+        assertEquals(List.of("11.xml", "12.xml", "9.xml"), actual);
+        assertTrue(changeLogIgnore.isIgnored(root.resolve("c"), root.resolve("c/target/7.xml"), false));
+        assertTrue(changeLogIgnore.isIgnored(root.resolve("c"), root.resolve("c/keep/drafts/10.xml"), false));
+        assertFalse(changeLogIgnore.isIgnored(root.resolve("c"), root.resolve("c/keep/drafts/11.xml"), false));
+        assertFalse(changeLogIgnore.isIgnored(root.resolve("c"), root.resolve("c/other/drafts/12.xml"), false));
+    }
+
+    /**
+     * Test that the parallel walk returns files in the same order as the lazy sequential walk.
+     */
+    @Test
+    public void testParallelWalkKeepsWalkOrder() throws Exception {
+        // arrange
+        for (int i = 0; i < DIRECTORIES; i++) {
+            for (int j = 0; j < DIRECTORIES; j++) {
+                write("tree/" + i + "/" + j + "/changelog_" + i + "_" + j + ".xml");
+            }
+        }
+        List<File> directories = List.of(root.resolve("tree").toFile());
+        List<File> expected;
+        try (Stream<File> files = ChangeLogFilesCollector.streamChangeLogFiles(
+                directories, EnumSet.of(ChangeLogFormatEnum.XML))) {
+            expected = files.collect(Collectors.toList());
+        }
+
+        // act
+        List<File> actual = ChangeLogFilesCollector.collectChangeLogFiles(
+                directories, EnumSet.of(ChangeLogFormatEnum.XML));
+
+        // assert
+        assertEquals(DIRECTORIES * DIRECTORIES, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Test that a missing directory fails the collection.
+     */
+    @Test
+    public void testMissingDirectory() {
+        // arrange
+        File missing = root.resolve("missing").toFile();
+
+        // act
+        ChangeLogCollectorException actual = assertThrows(ChangeLogCollectorException.class,
+                () -> ChangeLogFilesCollector.collectChangeLogFiles(missing, ChangeLogFormatEnum.XML));
+
+        // assert
+        assertEquals("Failed to walk directory: " + missing, actual.getMessage());
+    }
+
+    /**
+     * Test format of the file by its extension.
+     */
+    @Test
+    public void testFromFileName() {
+        // assert
+        assertEquals(ChangeLogFormatEnum.YML, ChangeLogFormatEnum.fromFileName("db/changelog.YML"));
+        assertEquals(ChangeLogFormatEnum.JSON, ChangeLogFormatEnum.fromFileName("changelog.json"));
+        assertNull(ChangeLogFormatEnum.fromFileName("changelog.sql"));
+        assertNull(ChangeLogFormatEnum.fromFileName("xml"));
+        assertTrue(ChangeLogFormatEnum.YAML.matches("changelog.yml"));
+        assertFalse(ChangeLogFormatEnum.XML.matches("changelog.yml"));
+    }
+
+    private void write(final String path) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+
+    private static List<String> names(final List<File> files) {
+        List<String> names = new ArrayList<>();
+        for (File file : files) {
+            names.add(file.getName());
+        }
+        Collections.sort(names);
+        return names;
+    }
+}
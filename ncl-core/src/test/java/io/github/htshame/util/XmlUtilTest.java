@@ -0,0 +1,66 @@
+package io.github.htshame.util;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * XML util test.
+ */
+public class XmlUtilTest {
+
+    /**
+     * Test that the document builder is reused by the thread and not shared with other threads.
+     */
+    @Test
+    public void testXmlDocumentBuilderPerThread() throws Exception {
+        // arrange
+        DocumentBuilder expected = XmlUtil.xmlDocumentBuilder();
+
+        // act
+        DocumentBuilder actual = XmlUtil.xmlDocumentBuilder();
+        DocumentBuilder otherThread = CompletableFuture.supplyAsync(() -> {
+            try {
+                return XmlUtil.xmlDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        // assert
+        assertSame(expected, actual);
+        assertNotSame(expected, otherThread);
+    }
+
+    /**
+     * Test that the reused document builder parses after a failed parse.
+     */
+    @Test
+    public void testXmlDocumentBuilderAfterFailure() throws ParserConfigurationException, IOException,
+            SAXException {
+        // arrange
+        assertThrows(SAXException.class, () -> XmlUtil.xmlDocumentBuilder().parse(stream("<broken>")));
+
+        // act
+        Document actual = XmlUtil.xmlDocumentBuilder().parse(stream("<!DOCTYPE a SYSTEM \"missing.dtd\"><a/>"));
+
+        // assert
+        assertEquals("a", actual.getDocumentElement().getTagName());
+    }
+
+    private static ByteArrayInputStream stream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
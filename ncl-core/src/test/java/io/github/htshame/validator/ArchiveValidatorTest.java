@@ -0,0 +1,169 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Archive validator test.
+ */
+public class ArchiveValidatorTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final File CHANGE_LOG_DIRECTORY = new File(BASE_PATH + "changelog");
+    private static final int THREADS = 2;
+    private static final int ARCHIVE_COUNT = 5;
+    private static final Set<ChangeLogFormatEnum> XML_FORMATS = EnumSet.of(ChangeLogFormatEnum.XML);
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that archives give the same errors as the extracted changeLog directory, grouped in the order
+     * of the archives. Entries of an archive may be walked in another order than the files of the directory.
+     */
+    @Test
+    public void testSameResultAsDirectoryValidation() throws Exception {
+        // arrange
+        List<io.github.htshame.rule.Rule> rules = RuleParser.parseRules(new File(BASE_PATH + "rules.xml"));
+        ExclusionParser exclusionParser = ExclusionParser.parseExclusions(new File(BASE_PATH + "exclusions.xml"));
+        List<String> directoryMessages = toMessages(new ValidationManager().validate(
+                ChangeLogFilesCollector.collectChangeLogFiles(CHANGE_LOG_DIRECTORY, ChangeLogFormatEnum.XML),
+                rules,
+                exclusionParser,
+                ChangeLogFormatEnum.XML));
+        List<File> archives = new ArrayList<>();
+        for (int i = 0; i < ARCHIVE_COUNT; i++) {
+            archives.add(createArchive("changelog_" + i + ".jar", "db/changelog/"));
+        }
+        ArchiveValidator validator = new ArchiveValidator(new ValidationManager(), Tracer.disabled(), THREADS);
+
+        // act
+        List<RuleValidationErrorDto> actual =
+                validator.validate(archives, "db/changelog", XML_FORMATS, rules, exclusionParser);
+
+        // assert
+        assertFalse(directoryMessages.isEmpty());
+        assertEquals(ARCHIVE_COUNT * directoryMessages.size(), actual.size());
+        List<String> messages = toMessages(actual);
+        for (int i = 0; i < ARCHIVE_COUNT; i++) {
+            List<String> archiveMessages = new ArrayList<>(messages.subList(
+                    i * directoryMessages.size(), (i + 1) * directoryMessages.size()));
+            Collections.sort(archiveMessages);
+            assertEquals(sorted(directoryMessages), archiveMessages);
+        }
+    }
+
+    /**
+     * Test that the whole archive is validated if no directory inside the archive is set.
+     */
+    @Test
+    public void testWholeArchive() throws Exception {
+        // arrange
+        List<io.github.htshame.rule.Rule> rules = RuleParser.parseRules(new File(BASE_PATH + "rules.xml"));
+        ExclusionParser exclusionParser = ExclusionParser.parseExclusions(new File(BASE_PATH + "exclusions.xml"));
+        List<File> archives = List.of(createArchive("changelog.zip", "db/changelog/"));
+        ArchiveValidator validator = new ArchiveValidator(new ValidationManager(), Tracer.disabled(), THREADS);
+        List<String> expected = toMessages(
+                validator.validate(archives, "db", XML_FORMATS, rules, exclusionParser));
+
+        // act
+        List<RuleValidationErrorDto> actual =
+                validator.validate(archives, null, XML_FORMATS, rules, exclusionParser);
+
+        // assert
+        assertEquals(expected, toMessages(actual));
+    }
+
+    /**
+     * Test that an archive that cannot be read fails the validation.
+     */
+    @Test
+    public void testInvalidArchive() throws Exception {
+        // arrange
+        File archive = temporaryFolder.newFile("broken.jar");
+        Files.write(archive.toPath(), new byte[]{1, 2});
+        ArchiveValidator validator = new ArchiveValidator(new ValidationManager(), Tracer.disabled(), THREADS);
+
+        // act
+        ChangeLogCollectorException actual = assertThrows(ChangeLogCollectorException.class,
+                () -> validator.validate(List.of(archive), null, XML_FORMATS, List.of(),
+                        ExclusionParser.parseExclusions(null)));
+
+        // assert
+        assertEquals("Failed to read archive: " + archive, actual.getMessage());
+    }
+
+    /**
+     * Test that a missing directory inside the archive fails the validation.
+     */
+    @Test
+    public void testMissingArchiveDirectory() throws Exception {
+        // arrange
+        File archive = createArchive("changelog.jar", "");
+        ArchiveValidator validator = new ArchiveValidator(new ValidationManager(), Tracer.disabled(), THREADS);
+
+        // act
+        ChangeLogCollectorException actual = assertThrows(ChangeLogCollectorException.class,
+                () -> validator.validate(List.of(archive), "db/changelog", XML_FORMATS, List.of(),
+                        ExclusionParser.parseExclusions(null)));
+
+        // assert
+        assertEquals("Failed to read archive: " + archive, actual.getMessage());
+    }
+
+    private File createArchive(final String name,
+                               final String entryPrefix) throws IOException {
+        File archive = temporaryFolder.newFile(name);
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(archive))) {
+            for (File changeLogFile : ChangeLogFilesCollector.collectChangeLogFiles(
+                    CHANGE_LOG_DIRECTORY, ChangeLogFormatEnum.XML)) {
+                zip.putNextEntry(new ZipEntry(entryPrefix + changeLogFile.getName()));
+                zip.write(Files.readAllBytes(changeLogFile.toPath()));
+                zip.closeEntry();
+            }
+        } catch (ChangeLogCollectorException e) {
+            throw new IOException(e);
+        }
+        return archive;
+    }
+
+    private static List<String> sorted(final List<String> messages) {
+        List<String> result = new ArrayList<>(messages);
+        Collections.sort(result);
+        return result;
+    }
+
+    private static List<String> toMessages(final List<RuleValidationErrorDto> errors) {
+        return errors.stream()
+                .map(error -> error.getErrorMessage() == null ? error.getGenericMessage() : error.getErrorMessage())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.change.element.ChangeLogElement;
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.enums.RuleEnum;
+import io.github.htshame.exception.ValidationException;
+import io.github.htshame.metrics.ValidationMetrics;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.parser.rule.ChangeSetRule;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import io.github.htshame.util.RuleUtil;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ChangeSet result cache test.
+ */
+public class ChangeSetResultCacheTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final int CHANGE_SETS = 4;
+    private static final String CHANGE_LOG = "<databaseChangeLog>\n"
+            + changeSet("grant_1", "alice", "orders_email")
+            + changeSet("grant_2", "bob", "orders_email")
+            + changeSet("grant_3", "alice", "orders_email")
+            + changeSet("grant_4", "alice", "idx_orders_email")
+            + "</databaseChangeLog>";
+
+    /**
+     * Temporary folder.
+     */
+    @org.junit.Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that memoized results give the same errors, in the same order, as evaluating every changeSet.
+     */
+    @Test
+    public void testSameErrorsAsWithoutCache() throws Exception {
+        // arrange
+        List<Rule> rules = RuleParser.parseRules(new File(BASE_PATH + "rules.xml"));
+        ExclusionParser exclusionParser = ExclusionParser.parseExclusions(new File(BASE_PATH + "exclusions.xml"));
+        List<File> changeLogFiles = ChangeLogFilesCollector.collectChangeLogFiles(
+                new File(BASE_PATH + "changelog"), ChangeLogFormatEnum.XML);
+        List<String> expected = toMessages(new ValidationManager().validate(
+                changeLogFiles, rules, exclusionParser, ChangeLogFormatEnum.XML));
+
+        // act
+        List<String> actual = toMessages(manager(new ChangeSetResultCache()).validate(
+                changeLogFiles, rules, exclusionParser, ChangeLogFormatEnum.XML));
+
+        // assert
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Test that changeSets with the same structure are evaluated once, that errors are re-bound to the id
+     * and author of every changeSet, and that excluded changeSets are not reported.
+     */
+    @Test
+    public void testDuplicatesEvaluatedOnce() throws Exception {
+        // arrange
+        CountingRule rule = new CountingRule("idx_", false);
+        ExclusionParser exclusionParser = ExclusionParser.parseExclusions(new ByteArrayInputStream(
+                ("<exclusions><changeSetExclusion fileName=\"grants.xml\" changeSetId=\"grant_3\" "
+                        + "changeSetAuthor=\"alice\" rule=\"attr-starts-with\"/></exclusions>")
+                        .getBytes(StandardCharsets.UTF_8)), "exclusions.xml");
+
+        // act
+        List<RuleValidationErrorDto> actual = validate(new ChangeSetResultCache(), rule, exclusionParser);
+
+        // assert
+        assertEquals(2, rule.evaluations.get());
+        assertEquals(2, actual.size());
+        assertEquals("grant_1", actual.get(0).getChangeSetId());
+        assertEquals("bob", actual.get(1).getChangeSetAuthor());
+        assertEquals("ChangeSet: id=\"grant_2\", author=\"bob\". Rule [attr-starts-with]\n"
+                + "    indexName=orders_email", actual.get(1).getErrorMessage());
+        assertEquals("[grants.xml] " + actual.get(1).getErrorMessage(), actual.get(1).getGenericMessage());
+    }
+
+    /**
+     * Test that rules reading the changeSet id or author are evaluated for every changeSet.
+     */
+    @Test
+    public void testIdentityDependentRule() throws Exception {
+        // arrange
+        CountingRule rule = new CountingRule("idx_", true);
+        ExclusionParser noExclusions = ExclusionParser.parseExclusions((File) null);
+
+        // act
+        List<RuleValidationErrorDto> actual = validate(new ChangeSetResultCache(), rule, noExclusions);
+
+        // assert
+        assertEquals(CHANGE_SETS, rule.evaluations.get());
+        assertEquals(CHANGE_SETS - 1, actual.size());
+    }
+
+    /**
+     * Test that saved results are reused by the next execution unless the rule changes,
+     * and that an unreadable results file is ignored.
+     */
+    @Test
+    public void testResultsReusedBetweenExecutions() throws Exception {
+        // arrange
+        ExclusionParser noExclusions = ExclusionParser.parseExclusions((File) null);
+        File resultsFile = new File(temporaryFolder.getRoot(),
+                "cache/grants" + ChangeSetResultCache.RESULTS_EXTENSION);
+        ChangeSetResultCache first = new ChangeSetResultCache(resultsFile, "1.0");
+        List<String> expected = toMessages(validate(first, new CountingRule("idx_", false), noExclusions));
+        first.save();
+        CountingRule sameRule = new CountingRule("idx_", false);
+        CountingRule changedRule = new CountingRule("ix_", false);
+        File corruptedFile = temporaryFolder.newFile("corrupted" + ChangeSetResultCache.RESULTS_EXTENSION);
+        CountingRule corruptedRule = new CountingRule("idx_", false);
+
+        // act
+        List<String> actual = toMessages(validate(
+                new ChangeSetResultCache(resultsFile, "1.0"), sameRule, noExclusions));
+        validate(new ChangeSetResultCache(resultsFile, "1.0"), changedRule, noExclusions);
+        validate(new ChangeSetResultCache(corruptedFile, "1.0"), corruptedRule, noExclusions);
+
+        // assert
+        assertTrue(resultsFile.isFile());
+        assertEquals(expected, actual);
+        assertEquals(0, sameRule.evaluations.get());
+        assertEquals(2, changedRule.evaluations.get());
+        assertEquals(2, corruptedRule.evaluations.get());
+    }
+
+    private static List<RuleValidationErrorDto> validate(final ChangeSetResultCache cache,
+                                                         final ChangeSetRule rule,
+                                                         final ExclusionParser exclusionParser) {
+        return manager(cache).validateSources(
+                List.of(ChangeLogSource.of("db/grants.xml", CHANGE_LOG.getBytes(StandardCharsets.UTF_8))),
+                List.<Rule>of(rule),
+                exclusionParser,
+                ChangeLogFormatEnum.XML);
+    }
+
+    private static ValidationManager manager(final ChangeSetResultCache cache) {
+        return new ValidationManager(ValidationMetrics.disabled(), Tracer.disabled(), false, cache);
+    }
+
+    private static String changeSet(final String id,
+                                    final String author,
+                                    final String indexName) {
+        return "<changeSet id=\"" + id + "\" author=\"" + author + "\">"
+                + "<createIndex tableName=\"orders\" indexName=\"" + indexName + "\"><column name=\"email\"/>"
+                + "</createIndex></changeSet>\n";
+    }
+
+    private static List<String> toMessages(final List<RuleValidationErrorDto> errors) {
+        List<String> messages = new ArrayList<>();
+        for (RuleValidationErrorDto error : errors) {
+            messages.add(error.getGenericMessage());
+        }
+        return messages;
+    }
+
+    /**
+     * Rule that requires the index name prefix and counts its evaluations.
+     */
+    private static final class CountingRule implements ChangeSetRule {
+
+        private final String requiredPrefix;
+        private final boolean dependsOnIdentity;
+        private final transient AtomicInteger evaluations = new AtomicInteger();
+
+        private CountingRule(final String requiredPrefix,
+                             final boolean dependsOnIdentity) {
+            this.requiredPrefix = requiredPrefix;
+            this.dependsOnIdentity = dependsOnIdentity;
+        }
+
+        @Override
+        public RuleEnum getName() {
+            return RuleEnum.ATTRIBUTE_STARTS_WITH;
+        }
+
+        @Override
+        public boolean dependsOnChangeSetIdentity() {
+            return dependsOnIdentity;
+        }
+
+        @Override
+        public void validateChangeSet(final ChangeLogElement changeSetElement,
+                                      final ExclusionParser exclusionParser,
+                                      final String changeLogFileName,
+                                      final ChangeLogFormatEnum changeLogFormat) throws ValidationException {
+            if (RuleUtil.shouldSkipProcessingRule(changeSetElement, exclusionParser, changeLogFileName, getName())) {
+                return;
+            }
+            evaluations.incrementAndGet();
+            List<String> errors = new ArrayList<>();
+            for (ChangeLogElement index : changeSetElement.findElementsByName(changeSetElement, "createIndex")) {
+                String indexName = index.getPropertyValue("indexName");
+                if (!indexName.startsWith(requiredPrefix)) {
+                    errors.add("indexName=" + indexName);
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new ValidationException(
+                        RuleUtil.composeErrorMessage(changeSetElement, changeLogFileName, getName(), errors));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.change.source.ChangeLogSource;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.metrics.ValidationMetrics;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.rule.Rule;
+import io.github.htshame.trace.Tracer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ChangeSet rule validator test.
+ */
+public class ChangeSetRuleValidatorTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final int CHANGE_SETS = ChangeSetRuleValidator.PARALLEL_THRESHOLD * 2 + 7;
+    private static final int THREADS = 4;
+    private static final int BAD_INDEX_EVERY = 3;
+    private static final int NO_COMMENT_EVERY = 5;
+
+    private final ForkJoinPool changeSetPool = new ForkJoinPool(THREADS);
+
+    /**
+     * Shut the pool down.
+     */
+    @After
+    public void tearDown() {
+        changeSetPool.shutdownNow();
+    }
+
+    /**
+     * Test that changeSets of a large XML changeLog evaluated in parallel give the same errors, in the same order,
+     * as changeSets evaluated one by one.
+     */
+    @Test
+    public void testParallelXmlSameErrorsAsSequential() throws Exception {
+        // arrange
+        StringBuilder changeLog = new StringBuilder("<databaseChangeLog>\n");
+        for (int i = 0; i < CHANGE_SETS; i++) {
+            changeLog.append("<changeSet id=\"").append(i).append("\" author=\"test\">")
+                    .append(i % NO_COMMENT_EVERY == 0 ? "" : "<comment>Comment</comment>")
+                    .append("<createIndex tableName=\"orders\" indexName=\"").append(indexName(i)).append("\">")
+                    .append("<column name=\"email\"/></createIndex></changeSet>\n");
+        }
+        changeLog.append("</databaseChangeLog>\n");
+
+        // act & assert
+        assertSameErrors("big.xml", changeLog.toString());
+    }
+
+    /**
+     * Test that changeSets of a large JSON changeLog evaluated in parallel give the same errors, in the same order,
+     * as changeSets evaluated one by one.
+     */
+    @Test
+    public void testParallelJsonSameErrorsAsSequential() throws Exception {
+        // arrange
+        StringBuilder changeLog = new StringBuilder("{\"databaseChangeLog\": [\n");
+        for (int i = 0; i < CHANGE_SETS; i++) {
+            changeLog.append(i == 0 ? "" : ",\n")
+                    .append("{\"changeSet\": {\"id\": \"").append(i).append("\", \"author\": \"test\", ")
+                    .append(i % NO_COMMENT_EVERY == 0 ? "" : "\"comment\": \"Comment\", ")
+                    .append("\"changes\": [{\"createIndex\": {\"tableName\": \"orders\", \"indexName\": \"")
+                    .append(indexName(i)).append("\", \"columns\": [{\"column\": {\"name\": \"email\"}}]}}]}}");
+        }
+        changeLog.append("\n]}\n");
+
+        // act & assert
+        assertSameErrors("big.json", changeLog.toString());
+    }
+
+    private void assertSameErrors(final String fileName,
+                                  final String changeLog) throws Exception {
+        List<Rule> rules = RuleParser.parseRules(new File(BASE_PATH + "rules.xml"));
+        ExclusionParser noExclusions = ExclusionParser.parseExclusions((File) null);
+        List<String> expected = validate(new ValidationManager(), fileName, changeLog, rules, noExclusions);
+
+        List<String> parallel = validate(
+                new ValidationManager(ValidationMetrics.disabled(), Tracer.disabled(), false, null, null,
+                        changeSetPool),
+                fileName, changeLog, rules, noExclusions);
+        List<String> parallelMemoized = validate(
+                new ValidationManager(ValidationMetrics.disabled(), Tracer.disabled(), false,
+                        new ChangeSetResultCache(), null, changeSetPool),
+                fileName, changeLog, rules, noExclusions);
+
+        assertTrue(expected.size() > CHANGE_SETS / BAD_INDEX_EVERY);
+        assertEquals(expected, parallel);
+        assertEquals(expected, parallelMemoized);
+    }
+
+    private static List<String> validate(final ValidationManager validationManager,
+                                         final String fileName,
+                                         final String changeLog,
+                                         final List<Rule> rules,
+                                         final ExclusionParser exclusionParser) {
+        List<RuleValidationErrorDto> errors = validationManager.validateSources(
+                List.of(ChangeLogSource.of("db/" + fileName, changeLog.getBytes(StandardCharsets.UTF_8))),
+                rules,
+                exclusionParser,
+                ChangeLogFormatEnum.XML);
+        List<String> messages = new ArrayList<>();
+        for (RuleValidationErrorDto error : errors) {
+            messages.add(error.getGenericMessage());
+        }
+        return messages;
+    }
+
+    private static String indexName(final int changeSet) {
+        return (changeSet % BAD_INDEX_EVERY == 0 ? "ix_orders_email_" : "idx_orders_email_") + changeSet;
+    }
+}
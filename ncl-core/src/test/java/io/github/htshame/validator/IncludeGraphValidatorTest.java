@@ -0,0 +1,137 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.trace.Tracer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Include graph validator test.
+ */
+public class IncludeGraphValidatorTest {
+
+    private static final int THREADS = 2;
+    private static final String CHANGELOG_START =
+            "<databaseChangeLog xmlns=\"http://www.liquibase.org/xml/ns/dbchangelog\">\n";
+    private static final String CHANGELOG_END = "</databaseChangeLog>\n";
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path root;
+    private List<io.github.htshame.rule.Rule> rules;
+
+    /**
+     * Create changeLog tree and a rule that is violated by every validated file.
+     *
+     * @throws IOException - thrown if files cannot be written.
+     */
+    @Before
+    public void init() throws IOException {
+        root = temporaryFolder.getRoot().toPath().toRealPath();
+        File rulesFile = temporaryFolder.newFile("rules.xml");
+        Files.write(rulesFile.toPath(), ("<rules><rule name=\"changelog-file-name-must-match-regexp\">"
+                + "<fileNameRegexp>^none$</fileNameRegexp></rule></rules>").getBytes(StandardCharsets.UTF_8));
+        rules = RuleParser.parseRules(rulesFile);
+        write("db/changelog/master.xml",
+                "<include file=\"a.xml\" relativeToChangelogFile=\"true\"/>",
+                "<include file=\"classpath:/db/b.xml\"/>",
+                "<includeAll path=\"all\" relativeToChangelogFile=\"true\"/>",
+                "<include file=\"./a.xml\" relativeToChangelogFile=\"true\"/>",
+                "<include file=\"missing.xml\" relativeToChangelogFile=\"true\"/>",
+                "<include file=\"optional.xml\" relativeToChangelogFile=\"true\" errorIfMissing=\"false\"/>",
+                "<include file=\"script.sql\" relativeToChangelogFile=\"true\"/>",
+                "<includeAll path=\"empty\" relativeToChangelogFile=\"true\"/>",
+                "<includeAll path=\"optional\" relativeToChangelogFile=\"true\" errorIfMissingOrEmpty=\"false\"/>");
+        write("db/changelog/a.xml", "<include file=\"master.xml\" relativeToChangelogFile=\"true\"/>");
+        write("db/b.xml", "<include file=\"db/changelog/a.xml\"/>");
+        write("db/changelog/all/d.xml");
+        write("db/changelog/all/nested/c.xml");
+        write("db/changelog/stale.xml");
+        Files.createDirectories(root.resolve("db/changelog/empty"));
+        Files.write(root.resolve("db/changelog/empty/README.txt"), new byte[0]);
+        Files.createDirectories(root.resolve("db/changelog/optional"));
+    }
+
+    /**
+     * Test that only reachable files are validated, once each, in the order of discovery,
+     * and that missing includes, empty included directories and circular includes are reported.
+     */
+    @Test
+    public void testValidateReachableFiles() throws Exception {
+        // arrange
+        IncludeGraphValidator validator =
+                new IncludeGraphValidator(new ValidationManager(), Tracer.disabled(), THREADS);
+
+        // act
+        List<RuleValidationErrorDto> actual = validator.validate(root.resolve("db/changelog/master.xml"), root,
+                EnumSet.of(ChangeLogFormatEnum.XML), rules, ExclusionParser.parseExclusions(null));
+
+        // assert
+        List<String> validatedFiles = new ArrayList<>();
+        List<String> includeErrors = new ArrayList<>();
+        for (RuleValidationErrorDto error : actual) {
+            if (error.getChangeLogFileName() == null) {
+                includeErrors.add(error.getGenericMessage());
+            } else {
+                validatedFiles.add(error.getChangeLogFileName());
+            }
+        }
+        assertEquals(List.of("master.xml", "a.xml", "b.xml", "d.xml", "c.xml"), validatedFiles);
+        assertEquals(List.of(
+                "[master.xml] Included file [missing.xml] does not exist",
+                "[master.xml] Included directory [empty] has no changeLog files",
+                "[a.xml] Circular include: master.xml -> a.xml -> master.xml"), includeErrors);
+    }
+
+    /**
+     * Test that a missing master changeLog fails the validation.
+     */
+    @Test
+    public void testMissingMasterChangeLog() {
+        // arrange
+        Path masterChangeLog = root.resolve("missing.xml");
+        IncludeGraphValidator validator =
+                new IncludeGraphValidator(new ValidationManager(), Tracer.disabled(), THREADS);
+
+        // act
+        ChangeLogCollectorException actual = assertThrows(ChangeLogCollectorException.class,
+                () -> validator.validate(masterChangeLog, root, EnumSet.of(ChangeLogFormatEnum.XML), rules,
+                        ExclusionParser.parseExclusions(null)));
+
+        // assert
+        assertEquals("Failed to read changeLog file: " + masterChangeLog, actual.getMessage());
+    }
+
+    private void write(final String path,
+                       final String... elements) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        StringBuilder content = new StringBuilder(CHANGELOG_START);
+        for (String element : elements) {
+            content.append("    ").append(element).append('\n');
+        }
+        Files.write(file, content.append(CHANGELOG_END).toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
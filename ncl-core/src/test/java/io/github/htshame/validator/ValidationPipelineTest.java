@@ -0,0 +1,116 @@
+package io.github.htshame.validator;
+
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.ChangeLogFormatEnum;
+import io.github.htshame.exception.ChangeLogCollectorException;
+import io.github.htshame.parser.ExclusionParser;
+import io.github.htshame.parser.RuleParser;
+import io.github.htshame.trace.Tracer;
+import io.github.htshame.util.ChangeLogFilesCollector;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validation pipeline test.
+ */
+public class ValidationPipelineTest {
+
+    private static final String BASE_PATH = "src/test/resources/io/github/htshame/core/";
+    private static final int THREADS = 2;
+    private static final int BROKEN_FILE_COUNT = 20;
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that the pipeline finds the same errors in the same order as the sequential validation.
+     */
+    @Test
+    public void testSameResultAsSequentialValidation() throws Exception {
+        // arrange
+        File changeLogDirectory = new File(BASE_PATH + "changelog");
+        List<io.github.htshame.rule.Rule> rules = RuleParser.parseRules(new File(BASE_PATH + "rules.xml"));
+        ExclusionParser exclusionParser = ExclusionParser.parseExclusions(new File(BASE_PATH + "exclusions.xml"));
+        List<RuleValidationErrorDto> expected = new ValidationManager().validate(
+                ChangeLogFilesCollector.collectChangeLogFiles(changeLogDirectory, ChangeLogFormatEnum.XML),
+                rules,
+                exclusionParser,
+                ChangeLogFormatEnum.XML);
+        ValidationPipeline pipeline = new ValidationPipeline(new ValidationManager(), Tracer.disabled(), THREADS);
+
+        // act
+        List<RuleValidationErrorDto> actual =
+                pipeline.validate(changeLogDirectory, ChangeLogFormatEnum.XML, rules, exclusionParser);
+
+        // assert
+        assertEquals(toMessages(expected), toMessages(actual));
+    }
+
+    /**
+     * Test that files that fail to parse are reported in the order they were found,
+     * even when there are more files than the pipeline keeps in flight.
+     */
+    @Test
+    public void testBrokenFiles() throws Exception {
+        // arrange
+        File changeLogDirectory = temporaryFolder.newFolder("changelog");
+        for (int i = 0; i < BROKEN_FILE_COUNT; i++) {
+            Files.write(new File(changeLogDirectory, "broken_" + i + ".xml").toPath(),
+                    "<databaseChangeLog>".getBytes(StandardCharsets.UTF_8));
+        }
+        List<io.github.htshame.rule.Rule> rules = RuleParser.parseRules(new File(BASE_PATH + "rules.xml"));
+        ExclusionParser exclusionParser = ExclusionParser.parseExclusions(null);
+        List<RuleValidationErrorDto> expected = new ValidationManager().validate(
+                ChangeLogFilesCollector.collectChangeLogFiles(changeLogDirectory, ChangeLogFormatEnum.XML),
+                rules,
+                exclusionParser,
+                ChangeLogFormatEnum.XML);
+        ValidationPipeline pipeline = new ValidationPipeline(new ValidationManager(), Tracer.disabled(), 1);
+
+        // act
+        List<RuleValidationErrorDto> actual =
+                pipeline.validate(changeLogDirectory, ChangeLogFormatEnum.XML, rules, exclusionParser);
+
+        // assert
+        assertEquals(toMessages(expected), toMessages(actual));
+        assertTrue(toMessages(actual).stream().anyMatch(message -> message.contains("Failed to parse")));
+    }
+
+    /**
+     * Test that a missing changeLog directory fails the pipeline.
+     */
+    @Test
+    public void testMissingDirectory() {
+        // arrange
+        File changeLogDirectory = new File(temporaryFolder.getRoot(), "missing");
+        ValidationPipeline pipeline = new ValidationPipeline(new ValidationManager(), Tracer.disabled(), THREADS);
+
+        // act
+        ChangeLogCollectorException actual = assertThrows(ChangeLogCollectorException.class,
+                () -> pipeline.validate(changeLogDirectory, ChangeLogFormatEnum.XML, List.of(),
+                        ExclusionParser.parseExclusions(null)));
+
+        // assert
+        assertEquals("Failed to walk directory: " + changeLogDirectory, actual.getMessage());
+    }
+
+    private static List<String> toMessages(final List<RuleValidationErrorDto> errors) {
+        return errors.stream()
+                .map(error -> error.getErrorMessage() == null ? error.getGenericMessage() : error.getErrorMessage())
+                .collect(Collectors.toList());
+    }
+}
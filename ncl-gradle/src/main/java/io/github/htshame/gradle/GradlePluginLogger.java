@@ -0,0 +1,45 @@
+package io.github.htshame.gradle;
+
+import io.github.htshame.log.PluginLogger;
+import org.gradle.api.logging.Logger;
+
+/**
+ * Plugin logger writing to the Gradle logger.
+ * <br>
+ * Info messages are written on the <code>lifecycle</code> level, so they are shown without <code>--info</code>,
+ * like the Maven plugin messages.
+ */
+final class GradlePluginLogger implements PluginLogger {
+
+    private final Logger logger;
+
+    /**
+     * Constructor.
+     *
+     * @param logger - Gradle logger.
+     */
+    GradlePluginLogger(final Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void info(final String message) {
+        logger.lifecycle(message);
+    }
+
+    @Override
+    public void warn(final String message) {
+        logger.warn(message);
+    }
+
+    @Override
+    public void error(final String message) {
+        logger.error(message);
+    }
+
+    @Override
+    public void error(final String message,
+                      final Exception e) {
+        logger.error(message, e);
+    }
+}
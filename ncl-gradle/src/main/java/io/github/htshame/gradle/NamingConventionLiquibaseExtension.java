@@ -0,0 +1,54 @@
+package io.github.htshame.gradle;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * <code>namingConventionLiquibase</code> extension. Its properties are the conventions of the validation task.
+ */
+public abstract class NamingConventionLiquibaseExtension {
+
+    /**
+     * Directory with changeLog files. Defaults to <code>src/main/resources/db/changelog</code>.
+     *
+     * @return changeLog directory.
+     */
+    public abstract DirectoryProperty getChangeLogDirectory();
+
+    /**
+     * ChangeLog format: <code>xml</code>, <code>yaml</code>, <code>yml</code> or <code>json</code>.
+     * Defaults to <code>xml</code>.
+     *
+     * @return changeLog format.
+     */
+    public abstract Property<String> getChangeLogFormat();
+
+    /**
+     * XML file with rules.
+     *
+     * @return rules file.
+     */
+    public abstract RegularFileProperty getRulesFile();
+
+    /**
+     * XML file with exclusions.
+     *
+     * @return exclusions file.
+     */
+    public abstract RegularFileProperty getExclusionsFile();
+
+    /**
+     * Whether violations fail the build. Defaults to <code>true</code>.
+     *
+     * @return whether violations fail the build.
+     */
+    public abstract Property<Boolean> getShouldFailBuild();
+
+    /**
+     * Whether the content of the exclusions file covering all violations is logged. Defaults to <code>false</code>.
+     *
+     * @return whether exclusions are generated.
+     */
+    public abstract Property<Boolean> getShouldGenerateExclusions();
+}
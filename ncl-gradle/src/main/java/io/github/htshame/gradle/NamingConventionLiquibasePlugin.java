@@ -0,0 +1,66 @@
+package io.github.htshame.gradle;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.language.base.plugins.LifecycleBasePlugin;
+
+/**
+ * <code>io.github.htshame.naming-convention-liquibase</code> Gradle plugin.
+ * <br>
+ * Adds the <code>namingConventionLiquibase</code> extension and the <code>validateLiquibaseChangeLog</code> task.
+ * The <code>check</code> task depends on the validation task if it exists.
+ */
+public class NamingConventionLiquibasePlugin implements Plugin<Project> {
+
+    /**
+     * Extension name.
+     */
+    public static final String EXTENSION_NAME = "namingConventionLiquibase";
+
+    /**
+     * Validation task name.
+     */
+    public static final String TASK_NAME = "validateLiquibaseChangeLog";
+
+    private static final String DEFAULT_CHANGE_LOG_DIRECTORY = "src/main/resources/db/changelog";
+    private static final String DEFAULT_CHANGE_LOG_FORMAT = "xml";
+    private static final String REPORT_DIRECTORY = "naming-convention-liquibase";
+
+    /**
+     * Apply the plugin.
+     *
+     * @param project - project.
+     */
+    @Override
+    public void apply(final Project project) {
+        NamingConventionLiquibaseExtension extension =
+                project.getExtensions().create(EXTENSION_NAME, NamingConventionLiquibaseExtension.class);
+        extension.getChangeLogDirectory().convention(
+                project.getLayout().getProjectDirectory().dir(DEFAULT_CHANGE_LOG_DIRECTORY));
+        extension.getChangeLogFormat().convention(DEFAULT_CHANGE_LOG_FORMAT);
+        extension.getShouldFailBuild().convention(true);
+        extension.getShouldGenerateExclusions().convention(false);
+
+        TaskProvider<ValidateLiquibaseChangeLogTask> validateTask = project.getTasks().register(
+                TASK_NAME, ValidateLiquibaseChangeLogTask.class, task -> {
+                    task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
+                    task.setDescription("Validates Liquibase changeLog files against the naming convention rules.");
+                    task.getChangeLogFiles().from(extension.getChangeLogDirectory().zip(
+                            extension.getChangeLogFormat(),
+                            (directory, format) -> directory.getAsFileTree()
+                                    .matching(pattern -> pattern.include("**/*." + format))));
+                    task.getRulesFile().convention(extension.getRulesFile());
+                    task.getExclusionsFile().convention(extension.getExclusionsFile());
+                    task.getChangeLogFormat().convention(extension.getChangeLogFormat());
+                    task.getShouldFailBuild().convention(extension.getShouldFailBuild());
+                    task.getShouldGenerateExclusions().convention(extension.getShouldGenerateExclusions());
+                    task.getReportDirectory().convention(
+                            project.getLayout().getBuildDirectory().dir(REPORT_DIRECTORY));
+                });
+
+        project.getPlugins().withType(LifecycleBasePlugin.class, plugin -> project.getTasks()
+                .named(LifecycleBasePlugin.CHECK_TASK_NAME)
+                .configure(check -> check.dependsOn(validateTask)));
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.htshame.gradle;
+
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.core.ValidateChangeLogService;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.exception.ValidateChangeLogException;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logging;
+import org.gradle.workers.WorkAction;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validation of a single changeLog file, submitted to the Gradle worker API.
+ * <br>
+ * Workers run in the build JVM, so rules and exclusions are parsed once per content and shared by all files.
+ * Violations are written to the report file of the changeLog file.
+ */
+public abstract class ValidateChangeLogAction implements WorkAction<ValidateChangeLogParameters> {
+
+    /**
+     * Validate the changeLog file and write its report.
+     */
+    @Override
+    public void execute() {
+        ValidateChangeLogParameters parameters = getParameters();
+        PluginConfig config = PluginConfig.builder()
+                .changeLogFormat(parameters.getChangeLogFormat().get())
+                .pathToRulesFile(parameters.getRulesFile().get().getAsFile())
+                .pathToExclusionsFile(parameters.getExclusionsFile().getAsFile().getOrNull())
+                .pluginVersion(parameters.getPluginVersion().get())
+                .pluginType(PluginTypeEnum.GRADLE)
+                .build();
+        File changeLogFile = parameters.getChangeLogFile().get().getAsFile();
+        File reportFile = parameters.getReportFile().get().getAsFile();
+
+        List<RuleValidationErrorDto> validationErrors;
+        try {
+            validationErrors = new ValidateChangeLogService(
+                    new GradlePluginLogger(Logging.getLogger(ValidateChangeLogAction.class)), config)
+                    .validateFiles(Collections.singletonList(changeLogFile));
+        } catch (ValidateChangeLogException e) {
+            throw new GradleException(e.getMessage(), e);
+        }
+        try {
+            ViolationReports.write(reportFile, validationErrors);
+        } catch (IOException e) {
+            throw new GradleException("Failed to write violation report " + reportFile, e);
+        }
+    }
+}
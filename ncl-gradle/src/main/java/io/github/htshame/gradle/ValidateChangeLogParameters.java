@@ -0,0 +1,53 @@
+package io.github.htshame.gradle;
+
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * Parameters of the validation of a single changeLog file.
+ */
+public interface ValidateChangeLogParameters extends WorkParameters {
+
+    /**
+     * ChangeLog file to validate.
+     *
+     * @return changeLog file.
+     */
+    RegularFileProperty getChangeLogFile();
+
+    /**
+     * Report file with the violations of the changeLog file.
+     *
+     * @return report file.
+     */
+    RegularFileProperty getReportFile();
+
+    /**
+     * XML file with rules.
+     *
+     * @return rules file.
+     */
+    RegularFileProperty getRulesFile();
+
+    /**
+     * XML file with exclusions. Not present if there are no exclusions.
+     *
+     * @return exclusions file.
+     */
+    RegularFileProperty getExclusionsFile();
+
+    /**
+     * ChangeLog format.
+     *
+     * @return changeLog format.
+     */
+    Property<String> getChangeLogFormat();
+
+    /**
+     * Plugin version.
+     *
+     * @return plugin version.
+     */
+    Property<String> getPluginVersion();
+}
@@ -0,0 +1,202 @@
+package io.github.htshame.gradle;
+
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.core.ValidateChangeLogService;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.PluginTypeEnum;
+import io.github.htshame.exception.ValidateChangeLogException;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileType;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Liquibase changeLog validation task.
+ * <br>
+ * The task is incremental: only added and modified changeLog files are validated, each one in a worker.
+ * Violations of every file are kept in a report in the report directory, so violations of unchanged files
+ * are reported and fail the build as well. A change of rules, exclusions or other inputs validates all files.
+ */
+@CacheableTask
+public abstract class ValidateLiquibaseChangeLogTask extends DefaultTask {
+
+    private static final String PLUGIN_VERSION = pluginVersion();
+
+    /**
+     * ChangeLog files to validate.
+     *
+     * @return changeLog files.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getChangeLogFiles();
+
+    /**
+     * XML file with rules.
+     *
+     * @return rules file.
+     */
+    @InputFile
+    @PathSensitive(PathSensitivity.NONE)
+    public abstract RegularFileProperty getRulesFile();
+
+    /**
+     * XML file with exclusions.
+     *
+     * @return exclusions file.
+     */
+    @Optional
+    @InputFile
+    @PathSensitive(PathSensitivity.NONE)
+    public abstract RegularFileProperty getExclusionsFile();
+
+    /**
+     * ChangeLog format.
+     *
+     * @return changeLog format.
+     */
+    @Input
+    public abstract Property<String> getChangeLogFormat();
+
+    /**
+     * Whether violations fail the build.
+     *
+     * @return whether violations fail the build.
+     */
+    @Input
+    public abstract Property<Boolean> getShouldFailBuild();
+
+    /**
+     * Whether the content of the exclusions file covering all violations is logged.
+     *
+     * @return whether exclusions are generated.
+     */
+    @Input
+    public abstract Property<Boolean> getShouldGenerateExclusions();
+
+    /**
+     * Directory with the violation reports of the changeLog files.
+     *
+     * @return report directory.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getReportDirectory();
+
+    /**
+     * Worker executor.
+     *
+     * @return worker executor.
+     */
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    /**
+     * File system operations.
+     *
+     * @return file system operations.
+     */
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    /**
+     * Validate changed changeLog files and report violations of all changeLog files.
+     *
+     * @param inputChanges - changes of the inputs since the previous execution.
+     */
+    @TaskAction
+    public void validate(final InputChanges inputChanges) {
+        File reportDirectory = getReportDirectory().get().getAsFile();
+        if (!inputChanges.isIncremental()) {
+            getFileSystemOperations().delete(spec -> spec.delete(reportDirectory));
+        }
+
+        WorkQueue workQueue = getWorkerExecutor().noIsolation();
+        for (FileChange change : inputChanges.getFileChanges(getChangeLogFiles())) {
+            if (change.getFileType() == FileType.DIRECTORY) {
+                continue;
+            }
+            File reportFile = ViolationReports.reportFile(reportDirectory, change.getNormalizedPath());
+            if (change.getChangeType() == ChangeType.REMOVED) {
+                getFileSystemOperations().delete(spec -> spec.delete(reportFile));
+                continue;
+            }
+            workQueue.submit(ValidateChangeLogAction.class, parameters -> {
+                parameters.getChangeLogFile().set(change.getFile());
+                parameters.getReportFile().set(reportFile);
+                parameters.getRulesFile().set(getRulesFile());
+                parameters.getExclusionsFile().set(getExclusionsFile());
+                parameters.getChangeLogFormat().set(getChangeLogFormat());
+                parameters.getPluginVersion().set(PLUGIN_VERSION);
+            });
+        }
+        workQueue.await();
+
+        reportViolations(reportDirectory);
+    }
+
+    /**
+     * Report violations of all changeLog files.
+     *
+     * @param reportDirectory - report directory.
+     */
+    private void reportViolations(final File reportDirectory) {
+        List<RuleValidationErrorDto> validationErrors;
+        try {
+            validationErrors = ViolationReports.readAll(reportDirectory);
+        } catch (IOException e) {
+            throw new GradleException("Failed to read violation reports from " + reportDirectory, e);
+        }
+        PluginConfig config = PluginConfig.builder()
+                .changeLogFormat(getChangeLogFormat().get())
+                .shouldGenerateExclusions(getShouldGenerateExclusions().get())
+                .pluginVersion(PLUGIN_VERSION)
+                .pluginType(PluginTypeEnum.GRADLE)
+                .build();
+        GradlePluginLogger logger = new GradlePluginLogger(getLogger());
+        try {
+            new ValidateChangeLogService(logger, config).reportViolations(validationErrors);
+        } catch (ValidateChangeLogException e) {
+            if (getShouldFailBuild().get()) {
+                throw new GradleException(e.getMessage());
+            }
+            logger.warn(e.getMessage() + " Build will not fail because 'shouldFailBuild' is set to false");
+        }
+    }
+
+    /**
+     * Get plugin version from the jar manifest.
+     *
+     * @return plugin version. <code>development</code> if the plugin is not loaded from its jar.
+     */
+    static String pluginVersion() {
+        String version = ValidateLiquibaseChangeLogTask.class.getPackage().getImplementationVersion();
+        return version == null ? "development" : version;
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.htshame.gradle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.RuleEnum;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Per-file violation reports of the Gradle task.
+ * <br>
+ * Every validated changeLog file has a JSON report with its violations in the task output directory.
+ * Incremental executions rewrite the reports of changed files only, and the reports of all files
+ * are read to report violations of the whole changeLog directory.
+ */
+final class ViolationReports {
+
+    /**
+     * Report file extension.
+     */
+    static final String REPORT_EXTENSION = ".json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String RULE = "rule";
+    private static final String CHANGE_LOG_FILE_NAME = "changeLogFileName";
+    private static final String CHANGE_SET_ID = "changeSetId";
+    private static final String CHANGE_SET_AUTHOR = "changeSetAuthor";
+    private static final String ERROR_MESSAGE = "errorMessage";
+    private static final String GENERIC_MESSAGE = "genericMessage";
+
+    /**
+     * Private constructor.
+     */
+    private ViolationReports() {
+
+    }
+
+    /**
+     * Get report file of the changeLog file.
+     *
+     * @param reportDirectory - report directory.
+     * @param normalizedPath  - path of the changeLog file relative to the changeLog directory.
+     * @return report file.
+     */
+    static File reportFile(final File reportDirectory,
+                           final String normalizedPath) {
+        return new File(reportDirectory, normalizedPath + REPORT_EXTENSION);
+    }
+
+    /**
+     * Write violations of a changeLog file.
+     *
+     * @param reportFile       - report file.
+     * @param validationErrors - validation errors of the changeLog file.
+     * @throws IOException - thrown if the report cannot be written.
+     */
+    static void write(final File reportFile,
+                      final List<RuleValidationErrorDto> validationErrors) throws IOException {
+        ArrayNode report = OBJECT_MAPPER.createArrayNode();
+        for (RuleValidationErrorDto validationError : validationErrors) {
+            ObjectNode violation = report.addObject();
+            if (validationError.getRule() != null) {
+                violation.put(RULE, validationError.getRule().getValue());
+            }
+            putIfPresent(violation, CHANGE_LOG_FILE_NAME, validationError.getChangeLogFileName());
+            putIfPresent(violation, CHANGE_SET_ID, validationError.getChangeSetId());
+            putIfPresent(violation, CHANGE_SET_AUTHOR, validationError.getChangeSetAuthor());
+            putIfPresent(violation, ERROR_MESSAGE, validationError.getErrorMessage());
+            putIfPresent(violation, GENERIC_MESSAGE, validationError.getGenericMessage());
+        }
+        Files.createDirectories(reportFile.toPath().getParent());
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+    }
+
+    /**
+     * Read violations of a changeLog file.
+     *
+     * @param reportFile - report file.
+     * @return validation errors of the changeLog file.
+     * @throws IOException - thrown if the report cannot be read.
+     */
+    static List<RuleValidationErrorDto> read(final File reportFile) throws IOException {
+        List<RuleValidationErrorDto> validationErrors = new ArrayList<>();
+        for (JsonNode violation : OBJECT_MAPPER.readTree(reportFile)) {
+            RuleValidationErrorDto validationError = new RuleValidationErrorDto(text(violation, GENERIC_MESSAGE));
+            String rule = text(violation, RULE);
+            if (rule != null) {
+                validationError.setRule(RuleEnum.fromValue(rule));
+            }
+            validationError.setChangeLogFileName(text(violation, CHANGE_LOG_FILE_NAME));
+            validationError.setChangeSetId(text(violation, CHANGE_SET_ID));
+            validationError.setChangeSetAuthor(text(violation, CHANGE_SET_AUTHOR));
+            validationError.setErrorMessage(text(violation, ERROR_MESSAGE));
+            validationErrors.add(validationError);
+        }
+        return validationErrors;
+    }
+
+    /**
+     * Read violations of all reports in the report directory, ordered by report path.
+     *
+     * @param reportDirectory - report directory.
+     * @return validation errors of all changeLog files.
+     * @throws IOException - thrown if a report cannot be read.
+     */
+    static List<RuleValidationErrorDto> readAll(final File reportDirectory) throws IOException {
+        List<RuleValidationErrorDto> validationErrors = new ArrayList<>();
+        if (!reportDirectory.isDirectory()) {
+            return validationErrors;
+        }
+        List<Path> reportFiles;
+        try (Stream<Path> paths = Files.walk(reportDirectory.toPath())) {
+            reportFiles = paths
+                    .filter(path -> path.getFileName().toString().endsWith(REPORT_EXTENSION))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path reportFile : reportFiles) {
+            validationErrors.addAll(read(reportFile.toFile()));
+        }
+        return validationErrors;
+    }
+
+    private static void putIfPresent(final ObjectNode node,
+                                     final String name,
+                                     final String value) {
+        if (value != null) {
+            node.put(name, value);
+        }
+    }
+
+    private static String text(final JsonNode node,
+                               final String name) {
+        JsonNode value = node.get(name);
+        return value == null ? null : value.asText();
+    }
+}
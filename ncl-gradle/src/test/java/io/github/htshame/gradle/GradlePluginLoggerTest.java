@@ -0,0 +1,48 @@
+package io.github.htshame.gradle;
+
+import org.gradle.api.logging.Logger;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Gradle plugin logger test.
+ */
+public class GradlePluginLoggerTest {
+
+    /**
+     * Test that messages are written on the matching Gradle log levels.
+     */
+    @Test
+    public void testLogLevels() {
+        // arrange
+        List<String> calls = new ArrayList<>();
+        Logger gradleLogger = (Logger) Proxy.newProxyInstance(
+                Logger.class.getClassLoader(),
+                new Class<?>[]{Logger.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName() + ": " + args[0]
+                            + (args.length > 1 ? " (" + args[1] + ")" : ""));
+                    return null;
+                });
+        GradlePluginLogger logger = new GradlePluginLogger(gradleLogger);
+
+        // act
+        logger.info("info");
+        logger.warn("warn");
+        logger.error("error");
+        logger.error("failure", new IllegalStateException("cause"));
+
+        // assert
+        assertEquals(Arrays.asList(
+                "lifecycle: info",
+                "warn: warn",
+                "error: error",
+                "error: failure (java.lang.IllegalStateException: cause)"), calls);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.htshame.gradle;
+
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Gradle plugin test.
+ */
+public class NamingConventionLiquibasePluginTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that the validation task takes the extension conventions and the check task depends on it.
+     *
+     * @throws IOException - thrown if files cannot be written.
+     */
+    @Test
+    public void testApply() throws IOException {
+        // arrange
+        Project project = ProjectBuilder.builder().withProjectDir(temporaryFolder.newFolder("project")).build();
+        File changeLogDirectory = project.file("src/main/resources/db/changelog");
+        Files.createDirectories(changeLogDirectory.toPath());
+        Files.createFile(new File(changeLogDirectory, "changelog_01.xml").toPath());
+        Files.createFile(new File(changeLogDirectory, "script.sql").toPath());
+        project.getPluginManager().apply("base");
+
+        // act
+        project.getPluginManager().apply(NamingConventionLiquibasePlugin.class);
+
+        // assert
+        ValidateLiquibaseChangeLogTask task = (ValidateLiquibaseChangeLogTask) project.getTasks()
+                .getByName(NamingConventionLiquibasePlugin.TASK_NAME);
+        assertEquals(Set.of(new File(changeLogDirectory, "changelog_01.xml")), task.getChangeLogFiles().getFiles());
+        assertEquals("xml", task.getChangeLogFormat().get());
+        assertTrue(task.getShouldFailBuild().get());
+        assertEquals(project.file("build/naming-convention-liquibase"), task.getReportDirectory().get().getAsFile());
+        Task check = project.getTasks().getByName("check");
+        assertTrue(check.getTaskDependencies().getDependencies(check).contains(task));
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.htshame.gradle;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.internal.project.ProjectInternal;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileSystemLocation;
+import org.gradle.api.file.FileType;
+import org.gradle.api.provider.Provider;
+import org.gradle.internal.operations.BuildOperationContext;
+import org.gradle.internal.operations.BuildOperationDescriptor;
+import org.gradle.internal.operations.BuildOperationRunner;
+import org.gradle.internal.operations.RunnableBuildOperation;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.InputChanges;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validation task test.
+ * <br>
+ * The task action is run in a build operation, as workers require one, with the input changes Gradle would pass
+ * to a full and to an incremental execution.
+ */
+public class ValidateLiquibaseChangeLogTaskTest {
+
+    private static final String VALID = "changelog_01.xml";
+    private static final String INVALID = "changelog_02.xml";
+    private static final String REMOVED = "changelog_03.xml";
+    private static final String VALID_CHANGE_LOG = "<databaseChangeLog>\n"
+            + "    <changeSet id=\"1\" author=\"test\">\n"
+            + "        <createTable tableName=\"orders\"/>\n"
+            + "    </changeSet>\n"
+            + "</databaseChangeLog>\n";
+    private static final String INVALID_CHANGE_LOG = "<databaseChangeLog>\n"
+            + "    <changeSet id=\"1\" author=\"test\">\n"
+            + "        <createTable tableName=\"order_items\"/>\n"
+            + "    </changeSet>\n"
+            + "</databaseChangeLog>\n";
+    private static final String RULES = "<rules>\n"
+            + "    <rule name=\"no-underscores-in-attributes\"/>\n"
+            + "</rules>\n";
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Project project;
+    private ValidateLiquibaseChangeLogTask task;
+    private File changeLogDirectory;
+    private File reportDirectory;
+
+    /**
+     * Create project with the plugin applied and the changeLog files.
+     *
+     * @throws IOException - thrown if files cannot be written.
+     */
+    @Before
+    public void init() throws IOException {
+        project = ProjectBuilder.builder().withProjectDir(temporaryFolder.newFolder("project")).build();
+        project.getPluginManager().apply(NamingConventionLiquibasePlugin.class);
+        File rulesFile = project.file("rules.xml");
+        Files.write(rulesFile.toPath(), RULES.getBytes(StandardCharsets.UTF_8));
+        project.getExtensions().getByType(NamingConventionLiquibaseExtension.class).getRulesFile().set(rulesFile);
+        task = (ValidateLiquibaseChangeLogTask) project.getTasks()
+                .getByName(NamingConventionLiquibasePlugin.TASK_NAME);
+        changeLogDirectory = project.file("src/main/resources/db/changelog");
+        reportDirectory = task.getReportDirectory().get().getAsFile();
+        write(VALID, VALID_CHANGE_LOG);
+        write(INVALID, INVALID_CHANGE_LOG);
+        write(REMOVED, VALID_CHANGE_LOG);
+    }
+
+    /**
+     * Test that a full execution validates all changeLog files, drops reports of the previous executions
+     * and fails the build on violations.
+     *
+     * @throws IOException - thrown if the stale report cannot be written.
+     */
+    @Test
+    public void testFullExecution() throws IOException {
+        // arrange
+        ViolationReports.write(report("stale.xml"), List.of());
+
+        // act
+        GradleException actual = assertThrows(GradleException.class, () -> execute(new StubInputChanges(
+                false, change(VALID, ChangeType.ADDED), change(INVALID, ChangeType.ADDED),
+                change(REMOVED, ChangeType.ADDED))));
+
+        // assert
+        assertEquals("Validation failed: 1 violation(s) found.", actual.getMessage());
+        assertTrue(ViolationReports.read(report(VALID)).isEmpty());
+        assertEquals(1, ViolationReports.read(report(INVALID)).size());
+        assertTrue(report(REMOVED).isFile());
+        assertFalse(report("stale.xml").exists());
+    }
+
+    /**
+     * Test that an incremental execution validates only changed changeLog files, drops reports of removed files
+     * and still reports violations of unchanged files.
+     *
+     * @throws IOException - thrown if files cannot be changed.
+     */
+    @Test
+    public void testIncrementalExecution() throws IOException {
+        // arrange
+        assertThrows(GradleException.class, () -> execute(new StubInputChanges(
+                false, change(VALID, ChangeType.ADDED), change(INVALID, ChangeType.ADDED),
+                change(REMOVED, ChangeType.ADDED))));
+        write(VALID, INVALID_CHANGE_LOG);
+        Files.delete(new File(changeLogDirectory, REMOVED).toPath());
+
+        // act
+        GradleException actual = assertThrows(GradleException.class, () -> execute(new StubInputChanges(
+                true, change(VALID, ChangeType.MODIFIED), change(REMOVED, ChangeType.REMOVED))));
+
+        // assert
+        assertEquals("Validation failed: 2 violation(s) found.", actual.getMessage());
+        assertEquals(1, ViolationReports.read(report(VALID)).size());
+        assertEquals(1, ViolationReports.read(report(INVALID)).size());
+        assertFalse(report(REMOVED).exists());
+    }
+
+    /**
+     * Test that violations do not fail the build if <code>shouldFailBuild</code> is false.
+     */
+    @Test
+    public void testShouldNotFailBuild() {
+        // arrange
+        task.getShouldFailBuild().set(false);
+
+        // act
+        execute(new StubInputChanges(false, change(INVALID, ChangeType.ADDED)));
+
+        // assert
+        assertTrue(report(INVALID).isFile());
+    }
+
+    private void execute(final InputChanges inputChanges) {
+        BuildOperationRunner runner = ((ProjectInternal) project).getServices().get(BuildOperationRunner.class);
+        runner.run(new RunnableBuildOperation() {
+            @Override
+            public void run(final BuildOperationContext context) {
+                task.validate(inputChanges);
+            }
+
+            @Override
+            public BuildOperationDescriptor.Builder description() {
+                return BuildOperationDescriptor.displayName("Validate changeLog files");
+            }
+        });
+    }
+
+    private File report(final String name) {
+        return ViolationReports.reportFile(reportDirectory, name);
+    }
+
+    private FileChange change(final String name,
+                              final ChangeType changeType) {
+        return new StubFileChange(new File(changeLogDirectory, name), name, changeType);
+    }
+
+    private void write(final String name,
+                       final String content) throws IOException {
+        File file = new File(changeLogDirectory, name);
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Input changes of the changeLog files.
+     */
+    private static final class StubInputChanges implements InputChanges {
+
+        private final boolean incremental;
+        private final List<FileChange> fileChanges;
+
+        StubInputChanges(final boolean incremental,
+                         final FileChange... fileChanges) {
+            this.incremental = incremental;
+            this.fileChanges = List.of(fileChanges);
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return incremental;
+        }
+
+        @Override
+        public Iterable<FileChange> getFileChanges(final FileCollection parameter) {
+            return fileChanges;
+        }
+
+        @Override
+        public Iterable<FileChange> getFileChanges(final Provider<? extends FileSystemLocation> parameter) {
+            return fileChanges;
+        }
+    }
+
+    /**
+     * Change of a changeLog file.
+     */
+    private static final class StubFileChange implements FileChange {
+
+        private final File file;
+        private final String normalizedPath;
+        private final ChangeType changeType;
+
+        StubFileChange(final File file,
+                       final String normalizedPath,
+                       final ChangeType changeType) {
+            this.file = file;
+            this.normalizedPath = normalizedPath;
+            this.changeType = changeType;
+        }
+
+        @Override
+        public File getFile() {
+            return file;
+        }
+
+        @Override
+        public ChangeType getChangeType() {
+            return changeType;
+        }
+
+        @Override
+        public FileType getFileType() {
+            return FileType.FILE;
+        }
+
+        @Override
+        public String getNormalizedPath() {
+            return normalizedPath;
+        }
+    }
+}
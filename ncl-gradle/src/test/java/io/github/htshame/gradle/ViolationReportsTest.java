@@ -0,0 +1,114 @@
+package io.github.htshame.gradle;
+
+import io.github.htshame.dto.RuleValidationErrorDto;
+import io.github.htshame.enums.RuleEnum;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Violation reports test.
+ */
+public class ViolationReportsTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that a report keeps all fields of the violations.
+     *
+     * @throws IOException - thrown if the report cannot be written or read.
+     */
+    @Test
+    public void testWriteAndRead() throws IOException {
+        // arrange
+        File reportFile = ViolationReports.reportFile(temporaryFolder.getRoot(), "changelog/changelog_01.xml");
+        RuleValidationErrorDto changeSetViolation = new RuleValidationErrorDto(
+                RuleEnum.NO_UNDERSCORES_IN_ATTRIBUTES, "changelog_01-1", "test", "changelog_01.xml",
+                "ChangeSet: id=\"changelog_01-1\"\n    Attribute [tableName] contains underscore");
+        RuleValidationErrorDto parseFailure = new RuleValidationErrorDto("[changelog_01.xml] Failed to parse");
+
+        // act
+        ViolationReports.write(reportFile, Arrays.asList(changeSetViolation, parseFailure));
+        List<RuleValidationErrorDto> actual = ViolationReports.read(reportFile);
+
+        // assert
+        assertEquals(new File(temporaryFolder.getRoot(), "changelog/changelog_01.xml.json"), reportFile);
+        assertEquals(2, actual.size());
+        assertEquals(RuleEnum.NO_UNDERSCORES_IN_ATTRIBUTES, actual.get(0).getRule());
+        assertEquals("changelog_01-1", actual.get(0).getChangeSetId());
+        assertEquals("test", actual.get(0).getChangeSetAuthor());
+        assertEquals("changelog_01.xml", actual.get(0).getChangeLogFileName());
+        assertEquals(changeSetViolation.getErrorMessage(), actual.get(0).getErrorMessage());
+        assertNull(actual.get(0).getGenericMessage());
+        assertNull(actual.get(1).getRule());
+        assertNull(actual.get(1).getErrorMessage());
+        assertEquals("[changelog_01.xml] Failed to parse", actual.get(1).getGenericMessage());
+    }
+
+    /**
+     * Test that violations of all reports are read in the order of the report paths.
+     *
+     * @throws IOException - thrown if the reports cannot be written or read.
+     */
+    @Test
+    public void testReadAll() throws IOException {
+        // arrange
+        File reportDirectory = temporaryFolder.getRoot();
+        ViolationReports.write(ViolationReports.reportFile(reportDirectory, "changelog/changelog_02.xml"),
+                Collections.singletonList(new RuleValidationErrorDto("second")));
+        ViolationReports.write(ViolationReports.reportFile(reportDirectory, "changelog/changelog_01.xml"),
+                Collections.singletonList(new RuleValidationErrorDto("first")));
+        ViolationReports.write(ViolationReports.reportFile(reportDirectory, "changelog-master.xml"),
+                Collections.emptyList());
+        assertTrue(new File(reportDirectory, "notes.txt").createNewFile());
+
+        // act
+        List<RuleValidationErrorDto> actual = ViolationReports.readAll(reportDirectory);
+
+        // assert
+        assertEquals(2, actual.size());
+        assertEquals("first", actual.get(0).getGenericMessage());
+        assertEquals("second", actual.get(1).getGenericMessage());
+    }
+
+    /**
+     * Test that there are no violations without a report directory.
+     *
+     * @throws IOException - thrown if the reports cannot be read.
+     */
+    @Test
+    public void testReadAllWithoutReportDirectory() throws IOException {
+        // act
+        List<RuleValidationErrorDto> actual =
+                ViolationReports.readAll(new File(temporaryFolder.getRoot(), "missing"));
+
+        // assert
+        assertTrue(actual.isEmpty());
+    }
+
+    /**
+     * Test plugin version outside of the plugin jar.
+     */
+    @Test
+    public void testPluginVersion() {
+        // act
+        String actual = ValidateLiquibaseChangeLogTask.pluginVersion();
+
+        // assert
+        assertEquals("development", actual);
+    }
+}
@@ -2,10 +2,12 @@ package io.github.htshame;
 
 import io.github.htshame.core.PluginConfig;
 import io.github.htshame.core.ValidateChangeLogService;
+import io.github.htshame.daemon.ValidationDaemonClient;
 import io.github.htshame.enums.ChangeLogFormatEnum;
 import io.github.htshame.enums.PluginTypeEnum;
 import io.github.htshame.exception.ValidateChangeLogException;
 import io.github.htshame.log.PluginLogger;
+import io.github.htshame.util.ArtifactUtil;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
@@ -15,11 +17,13 @@ import org.apache.maven.plugins.annotations.Parameter;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * <code>validate-liquibase-changeLog</code> mojo executor.
  */
-@Mojo(name = "validate-liquibase-changeLog", defaultPhase = LifecyclePhase.COMPILE)
+@Mojo(name = "validate-liquibase-changeLog", defaultPhase = LifecyclePhase.COMPILE, threadSafe = true)
 public class ValidateChangeLogMojo extends AbstractMojo {
 
     private static final String INVALID_PATH = "Invalid path: ";
@@ -48,12 +52,153 @@ public class ValidateChangeLogMojo extends AbstractMojo {
     @Parameter
     private URL exclusionsFileUrl;
 
+    /**
+     * Expected SHA-256 of the rules file downloaded from <code>rulesFileUrl</code>.
+     * <br>
+     * If set, the build fails when the downloaded file has a different checksum,
+     * and a matching cached copy is used without any request.
+     */
+    @Parameter
+    private String rulesFileSha256;
+
+    /**
+     * Expected SHA-256 of the exclusions file downloaded from <code>exclusionsFileUrl</code>.
+     * <br>
+     * If set, the build fails when the downloaded file has a different checksum,
+     * and a matching cached copy is used without any request.
+     */
+    @Parameter
+    private String exclusionsFileSha256;
+
+    /**
+     * Cache directory of the files downloaded from <code>rulesFileUrl</code> and <code>exclusionsFileUrl</code>.
+     * <br>
+     * Cached files are revalidated with conditional requests and used as a fallback when the server
+     * cannot be reached.
+     * The directory is shared by all modules and builds.
+     */
+    @Parameter(defaultValue = "${settings.localRepository}/.cache/naming-convention-liquibase")
+    private File configCacheDirectory;
+
+    /**
+     * Time in seconds during which the cached remote config files are used without revalidation.
+     * <br>
+     * Default value is <code>0</code> - cached files are revalidated on every execution.
+     */
+    @Parameter(defaultValue = "0")
+    private long configCacheTtlSeconds;
+
+    /**
+     * Cache directory of the compiled rules snapshots.
+     * <br>
+     * If set, parsed rules are kept as binary snapshots keyed by the rules file content and the plugin version,
+     * so an unchanged rules file is not parsed again.
+     * Not set by default - the rules file is parsed on every execution.
+     */
+    @Parameter
+    private File compiledRulesCacheDirectory;
+
+    /**
+     * Cache directory of the changeSet rule results.
+     * <br>
+     * If set, rule results of changeSets are memoized and kept between executions, keyed by the rule,
+     * the plugin version and the structure of the changeSet, so unchanged and repeated changeSets
+     * are not evaluated again.
+     * Not set by default - every changeSet is evaluated.
+     */
+    @Parameter
+    private File changeSetResultCacheDirectory;
+
+    /**
+     * Cache directory of the parsed changeLog files.
+     * <br>
+     * Parsed changeLog files are kept as compact binary trees keyed by the file content and format,
+     * so unchanged files are not parsed again, even after the rules change.
+     * Point it to a directory outside the build directory to share it between modules and clean builds.
+     * Not set by default - changeLog files are parsed on every execution.
+     */
+    @Parameter
+    private File parsedChangeLogCacheDirectory;
+
     /**
      * Path to directory with changeLog files.
+     * <br>
+     * Optional if <code>changeLogDirectories</code>, <code>changeLogMasterFile</code>,
+     * <code>changeLogArchives</code> or <code>changeLogArtifacts</code> are set.
      */
-    @Parameter(required = true)
+    @Parameter
     private File changeLogDirectory;
 
+    /**
+     * Other directories with changeLog files, validated together with <code>changeLogDirectory</code>.
+     * <br>
+     * All directories are walked once; a file reachable from several directories is validated once.
+     */
+    @Parameter
+    private List<File> changeLogDirectories;
+
+    /**
+     * Master changeLog file, e.g. <code>db.changelog-master.xml</code>.
+     * <br>
+     * If set, only the master changeLog and the files it includes through <code>include</code>
+     * and <code>includeAll</code> are validated, instead of all files of <code>changeLogDirectory</code>.
+     * Includes that are not relative to the changeLog file are resolved against <code>changeLogDirectory</code>,
+     * or against the directory of the master changeLog if <code>changeLogDirectory</code> is not set.
+     */
+    @Parameter
+    private File changeLogMasterFile;
+
+    /**
+     * JAR or ZIP archives with changeLog files, e.g. published migration artifacts.
+     * <br>
+     * Archives are not extracted: changeLog files are read straight from the archives,
+     * and several archives are validated concurrently.
+     */
+    @Parameter
+    private List<File> changeLogArchives;
+
+    /**
+     * Artifacts with changeLog files, resolved from the local repository.
+     * <br>
+     * Coordinates have the form <code>groupId:artifactId:version[:type[:classifier]]</code>,
+     * type is <code>jar</code> by default. The artifacts must already be in the local repository,
+     * e.g. as dependencies of the project. They are validated like <code>changeLogArchives</code>.
+     */
+    @Parameter
+    private List<String> changeLogArtifacts;
+
+    /**
+     * Directory inside <code>changeLogArchives</code> and <code>changeLogArtifacts</code>
+     * that contains changeLog files, e.g. <code>db/changelog</code>.
+     * <br>
+     * Default value is <code>/</code> - the whole archive.
+     */
+    @Parameter(defaultValue = "/")
+    private String changeLogArchiveDirectory;
+
+    /**
+     * <code>.gitignore</code>-style patterns of paths skipped while changeLog directories are walked,
+     * e.g. <code>target/</code> or <code>**&#47;drafts/*.xml</code>.
+     * <br>
+     * Ignored directories are not descended into.
+     */
+    @Parameter
+    private List<String> changeLogIgnorePatterns;
+
+    /**
+     * Name of <code>.gitignore</code>-style files read from every walked directory, e.g. <code>.gitignore</code>.
+     * <br>
+     * Patterns of an ignore file apply to its directory and subdirectories. Ignore files are not read if not set.
+     */
+    @Parameter
+    private String changeLogIgnoreFile;
+
+    /**
+     * Local repository directory used to resolve <code>changeLogArtifacts</code>.
+     */
+    @Parameter(defaultValue = "${settings.localRepository}", readonly = true)
+    private File localRepository;
+
     /**
      * Flag that determines whether the build will be failed in case violations are found.
      * <br>
@@ -84,6 +229,17 @@ public class ValidateChangeLogMojo extends AbstractMojo {
     @Parameter(defaultValue = "xml")
     private String changeLogFormat;
 
+    /**
+     * ChangeLog formats to validate in a single execution, e.g. <code>xml</code> and <code>yaml</code>.
+     * <br>
+     * Every file is parsed according to its extension; <code>yaml</code> and <code>yml</code> files
+     * are both matched by either format.
+     * <p>
+     * Defaults to <code>changeLogFormat</code>.
+     */
+    @Parameter
+    private List<String> changeLogFormats;
+
     /**
      * Flag that determines whether the exclusions file content will be generated if the build fails.
      * <br>
@@ -99,6 +255,85 @@ public class ValidateChangeLogMojo extends AbstractMojo {
     @Parameter(defaultValue = "false")
     private boolean shouldGenerateExclusions;
 
+    /**
+     * Flag that determines whether the performance report will be generated.
+     * <br>
+     * If set to <code>true</code>, parse and rule evaluation timings are written to
+     * <code>ncl-metrics.json</code> and <code>ncl-metrics.prom</code> (OpenMetrics) in the build directory,
+     * and the slowest files and rules are logged.
+     * <br>
+     * Default value is <code>false</code>.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean shouldGenerateMetrics;
+
+    /**
+     * Flag that determines whether the trace file will be generated.
+     * <br>
+     * If set to <code>true</code>, spans of the plugin execution are written to
+     * <code>ncl-trace.json</code> (OTLP JSON) in the build directory.
+     * <br>
+     * Default value is <code>false</code>.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean shouldGenerateTrace;
+
+    /**
+     * Number of worker threads of every stage of the validation pipeline.
+     * <br>
+     * If greater than <code>0</code>, directory walk, file reading, parsing and rule evaluation
+     * run concurrently as a pipeline with a bounded number of files in flight.
+     * Useful when changeLog files are stored on a slow (e.g. network-mounted) file system.
+     * <br>
+     * Default value is <code>0</code> - files are validated one by one.
+     */
+    @Parameter(defaultValue = "0")
+    private int pipelineThreads;
+
+    /**
+     * Number of threads evaluating changeSets of a single large changeLog.
+     * <br>
+     * If greater than <code>0</code>, changeSets of changeLogs with many changeSets are split into fork-join tasks
+     * evaluated in parallel. Validation errors are reported in the same order as in the sequential validation.
+     * Useful when a single changeLog holds tens of thousands of changeSets.
+     * <br>
+     * Default value is <code>0</code> - changeSets are evaluated one by one.
+     */
+    @Parameter(defaultValue = "0")
+    private int changeSetThreads;
+
+    /**
+     * Flag that determines whether changeLog files are validated by a long-lived local validation daemon.
+     * <br>
+     * If set to <code>true</code>, the daemon is started on first use and keeps parsed rules and exclusions,
+     * parsers and JIT-compiled code warm between builds. It is restarted when the plugin version changes.
+     * If the daemon cannot be started or reached, the files are validated in the build JVM.
+     * <br>
+     * Default value is <code>false</code>.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean useDaemon;
+
+    /**
+     * Directory of the validation daemon state and log files.
+     */
+    @Parameter(defaultValue = "${settings.localRepository}/.cache/naming-convention-liquibase/daemon")
+    private File daemonDirectory;
+
+    /**
+     * Time in seconds without requests after which the validation daemon stops.
+     * <br>
+     * Default value is <code>10800</code> (3 hours).
+     */
+    @Parameter(defaultValue = "10800")
+    private long daemonIdleTimeoutSeconds;
+
+    /**
+     * Build directory where the generated reports are written.
+     */
+    @Parameter(defaultValue = "${project.build.directory}", readonly = true)
+    private File outputDirectory;
+
     /**
      * Plugin descriptor.
      */
@@ -121,33 +356,79 @@ public class ValidateChangeLogMojo extends AbstractMojo {
         validateInput();
         configReminder();
 
-        PluginConfig config = PluginConfig.builder()
+        PluginConfig config = prepareConfig();
+        PluginLogger logger = preparePluginLogger();
+
+        try {
+            if (useDaemon) {
+                new ValidationDaemonClient(daemonDirectory, daemonIdleTimeoutSeconds, logger).execute(config);
+            } else {
+                new ValidateChangeLogService(logger, config).execute();
+            }
+        } catch (ValidateChangeLogException e) {
+            if (shouldFailBuild) {
+                throw new MojoExecutionException(e.getMessage());
+            }
+            logger.warn(e.getMessage()
+                    + " Build will not fail because <shouldFailBuild>false</shouldFailBuild>");
+        }
+    }
+
+    /**
+     * Prepare plugin configuration from the parameters.
+     *
+     * @return plugin configuration.
+     */
+    protected PluginConfig prepareConfig() {
+        return PluginConfig.builder()
                 .changeLogFormat(changeLogFormat)
+                .changeLogFormats(changeLogFormats)
                 .pathToRulesFile(pathToRulesFile)
                 .rulesFileUrl(rulesFileUrl)
                 .pathToExclusionsFile(pathToExclusionsFile)
                 .exclusionsFileUrl(exclusionsFileUrl)
+                .rulesFileSha256(rulesFileSha256)
+                .exclusionsFileSha256(exclusionsFileSha256)
+                .configCacheDirectory(configCacheDirectory)
+                .configCacheTtlSeconds(configCacheTtlSeconds)
+                .compiledRulesCacheDirectory(compiledRulesCacheDirectory)
+                .changeSetResultCacheDirectory(changeSetResultCacheDirectory)
+                .parsedChangeLogCacheDirectory(parsedChangeLogCacheDirectory)
                 .changeLogDirectory(changeLogDirectory)
+                .changeLogDirectories(changeLogDirectories)
+                .changeLogMasterFile(changeLogMasterFile)
+                .changeLogArchives(resolveChangeLogArchives())
+                .changeLogArchiveDirectory(changeLogArchiveDirectory)
+                .changeLogIgnorePatterns(changeLogIgnorePatterns)
+                .changeLogIgnoreFile(changeLogIgnoreFile)
                 .shouldGenerateExclusions(shouldGenerateExclusions)
                 .pluginVersion(pluginDescriptor.getVersion())
                 .pluginType(PluginTypeEnum.MAVEN)
+                .shouldGenerateMetrics(shouldGenerateMetrics)
+                .shouldGenerateTrace(shouldGenerateTrace)
+                .pipelineThreads(pipelineThreads)
+                .changeSetThreads(changeSetThreads)
+                .outputDirectory(outputDirectory)
                 .build();
+    }
 
-        PluginLogger logger = preparePluginLogger();
-
-        ValidateChangeLogService validateChangeLogService = new ValidateChangeLogService(
-                logger,
-                config);
-
-        try {
-            validateChangeLogService.execute();
-        } catch (ValidateChangeLogException e) {
-            if (shouldFailBuild) {
-                throw new MojoExecutionException(e.getMessage());
+    /**
+     * Collect changeLog archives and archives of the changeLog artifacts of the local repository.
+     *
+     * @return list of archives. Empty list if there are no archives.
+     * @throws IllegalArgumentException - thrown if artifact coordinates are malformed.
+     */
+    private List<File> resolveChangeLogArchives() {
+        List<File> archives = new ArrayList<>();
+        if (changeLogArchives != null) {
+            archives.addAll(changeLogArchives);
+        }
+        if (changeLogArtifacts != null) {
+            for (String coordinates : changeLogArtifacts) {
+                archives.add(ArtifactUtil.resolveArtifact(localRepository, coordinates));
             }
-            logger.warn(e.getMessage()
-                    + " Build will not fail because <shouldFailBuild>false</shouldFailBuild>");
         }
+        return archives;
     }
 
     /**
@@ -173,7 +454,7 @@ public class ValidateChangeLogMojo extends AbstractMojo {
      *
      * @return plugin logger.
      */
-    private PluginLogger preparePluginLogger() {
+    protected PluginLogger preparePluginLogger() {
         return new PluginLogger() {
             @Override
             public void info(final String message) {
@@ -202,6 +483,8 @@ public class ValidateChangeLogMojo extends AbstractMojo {
      * <p>
      * - changeLog directory exists;
      * <br>
+     * - master changeLog, changeLog archives and artifacts exist if provided;
+     * <br>
      * - XML rules file is present;
      * <br>
      * - XML exclusions file exists if provided;
@@ -210,9 +493,36 @@ public class ValidateChangeLogMojo extends AbstractMojo {
      *
      * @throws MojoExecutionException - if something's not found.
      */
-    private void validateInput() throws MojoExecutionException {
-        if (!changeLogDirectory.isDirectory()) {
-            throw new MojoExecutionException(INVALID_PATH + changeLogDirectory);
+    protected void validateInput() throws MojoExecutionException {
+        List<File> archives;
+        try {
+            archives = resolveChangeLogArchives();
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage());
+        }
+        List<File> directories = new ArrayList<>();
+        if (changeLogDirectory != null) {
+            directories.add(changeLogDirectory);
+        }
+        if (changeLogDirectories != null) {
+            directories.addAll(changeLogDirectories);
+        }
+        if (directories.isEmpty() && changeLogMasterFile == null && archives.isEmpty()) {
+            throw new MojoExecutionException("At least one of 'changeLogDirectory', 'changeLogDirectories', "
+                    + "'changeLogMasterFile', 'changeLogArchives' or 'changeLogArtifacts' parameters must be present");
+        }
+        if (changeLogMasterFile != null && !changeLogMasterFile.isFile()) {
+            throw new MojoExecutionException(INVALID_PATH + changeLogMasterFile);
+        }
+        for (File directory : directories) {
+            if (!directory.isDirectory()) {
+                throw new MojoExecutionException(INVALID_PATH + directory);
+            }
+        }
+        for (File archive : archives) {
+            if (!archive.isFile()) {
+                throw new MojoExecutionException(INVALID_PATH + archive);
+            }
         }
         if (pathToRulesFile != null && !pathToRulesFile.exists()) {
             throw new MojoExecutionException(INVALID_PATH + pathToRulesFile);
@@ -228,10 +538,37 @@ public class ValidateChangeLogMojo extends AbstractMojo {
             throw new MojoExecutionException(
                     "Only one of 'pathToExclusionsFile' or 'exclusionsFileUrl' parameters must be present");
         }
+        if (configCacheTtlSeconds < 0) {
+            throw new MojoExecutionException("'configCacheTtlSeconds' parameter must not be negative");
+        }
+        if (useDaemon && daemonIdleTimeoutSeconds <= 0) {
+            throw new MojoExecutionException("'daemonIdleTimeoutSeconds' parameter must be positive");
+        }
+        if (pipelineThreads < 0) {
+            throw new MojoExecutionException("'pipelineThreads' parameter must not be negative");
+        }
+        if (changeSetThreads < 0) {
+            throw new MojoExecutionException("'changeSetThreads' parameter must not be negative");
+        }
+        validateChangeLogFormat(changeLogFormat);
+        if (changeLogFormats != null) {
+            for (String format : changeLogFormats) {
+                validateChangeLogFormat(format);
+            }
+        }
+    }
+
+    /**
+     * Validate that the changeLog format is supported.
+     *
+     * @param format - changeLog format.
+     * @throws MojoExecutionException - if the changeLog format is not supported.
+     */
+    private static void validateChangeLogFormat(final String format) throws MojoExecutionException {
         try {
-            ChangeLogFormatEnum.fromValue(changeLogFormat.toLowerCase());
+            ChangeLogFormatEnum.fromValue(format.trim().toLowerCase());
         } catch (IllegalArgumentException e) {
-            throw new MojoExecutionException("ChangeLog format [" + changeLogFormat + "] is not supported");
+            throw new MojoExecutionException("ChangeLog format [" + format + "] is not supported");
         }
     }
 
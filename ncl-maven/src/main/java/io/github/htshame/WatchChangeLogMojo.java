@@ -0,0 +1,58 @@
+package io.github.htshame;
+
+import io.github.htshame.core.ChangeLogWatcher;
+import io.github.htshame.core.PluginConfig;
+import io.github.htshame.exception.ValidateChangeLogException;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * <code>watch-liquibase-changeLog</code> mojo executor.
+ * <br>
+ * Validates all changeLog files and then validates changed changeLog files as they are saved,
+ * until the build is stopped. Changes of the rules or exclusions file reload them.
+ * Takes the parameters of <code>validate-liquibase-changeLog</code>.
+ */
+@Mojo(name = "watch-liquibase-changeLog", requiresDirectInvocation = true, threadSafe = true)
+public class WatchChangeLogMojo extends ValidateChangeLogMojo {
+
+    /**
+     * Time in milliseconds without file changes after which changed changeLog files are validated.
+     * <br>
+     * Default value is <code>50</code>.
+     */
+    @Parameter(defaultValue = "50")
+    private long watchDebounceMillis;
+
+    /**
+     * Default constructor.
+     */
+    public WatchChangeLogMojo() {
+
+    }
+
+    /**
+     * Watch the changeLog directories until the build is stopped.
+     *
+     * @throws MojoExecutionException - thrown if the parameters are invalid or the initial validation
+     *                                cannot be done.
+     */
+    @Override
+    public void execute() throws MojoExecutionException {
+        validateInput();
+        if (watchDebounceMillis < 0) {
+            throw new MojoExecutionException("'watchDebounceMillis' parameter must not be negative");
+        }
+        PluginConfig config = prepareConfig();
+        if (config.getChangeLogDirectories().isEmpty()) {
+            throw new MojoExecutionException(
+                    "'changeLogDirectory' or 'changeLogDirectories' parameter must be present");
+        }
+        try (ChangeLogWatcher watcher = new ChangeLogWatcher(preparePluginLogger(), config, watchDebounceMillis)) {
+            watcher.watch();
+        } catch (ValidateChangeLogException e) {
+            throw new MojoExecutionException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.htshame;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Test of parallel executions of {@link ValidateChangeLogMojo}, as in a parallel (<code>-T</code>) build.
+ */
+public class ValidateChangeLogMojoConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int EXECUTIONS_PER_FORMAT = 8;
+    private static final String[][] FORMATS = {
+            {"xml", "Validation failed: 32 violation(s) found."},
+            {"yaml", "Validation failed: 23 violation(s) found."},
+            {"json", "Validation failed: 28 violation(s) found."}
+    };
+
+    /**
+     * Test that parallel executions produce the same results as sequential ones.
+     *
+     * @throws Exception - thrown if an execution fails unexpectedly.
+     */
+    @Test
+    public void testParallelExecutions() throws Exception {
+        // arrange
+        List<Callable<String>> executions = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < EXECUTIONS_PER_FORMAT; i++) {
+            for (String[] format : FORMATS) {
+                ValidateChangeLogMojo mojo = prepareMojo(format[0]);
+                executions.add(() -> assertThrows(MojoExecutionException.class, mojo::execute).getMessage());
+                expected.add(format[1]);
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // act
+        List<String> actual = new ArrayList<>();
+        try {
+            for (Future<String> result : executor.invokeAll(executions)) {
+                actual.add(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // assert
+        assertEquals(expected, actual);
+    }
+
+    private static ValidateChangeLogMojo prepareMojo(final String format)
+            throws NoSuchFieldException, IllegalAccessException {
+        ValidateChangeLogMojo mojo = new ValidateChangeLogMojo();
+        setField(mojo, "pathToRulesFile", new File("src/test/resources/rules.xml"));
+        setField(mojo, "pathToExclusionsFile", new File("src/test/resources/exclusions.xml"));
+        setField(mojo, "changeLogDirectory", new File("src/test/resources/db/" + format));
+        setField(mojo, "shouldFailBuild", true);
+        setField(mojo, "changeLogFormat", format);
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setVersion("1.0");
+        setField(mojo, "pluginDescriptor", pluginDescriptor);
+        return mojo;
+    }
+
+    private static void setField(final ValidateChangeLogMojo mojo,
+                                 final String fieldName,
+                                 final Object value)
+            throws NoSuchFieldException, IllegalAccessException {
+        Field field = mojo.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+}
@@ -11,6 +11,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 
@@ -140,6 +141,50 @@ public class ValidateChangeLogMojoFailureTest {
         Assert.assertTrue(isExceptionThrown);
     }
 
+    /**
+     * Integration test for {@link ValidateChangeLogMojo#execute()}. Should fail because of unsupported format
+     * among the changeLog formats.
+     *
+     * @throws NoSuchFieldException   - thrown if required field is missing.
+     * @throws IllegalAccessException - thrown if files not found.
+     */
+    @Test
+    public void testExecuteWrongFormatsFailure() throws NoSuchFieldException, IllegalAccessException {
+        // arrange
+        setField("pathToRulesFile", new File("src/test/resources/rules.xml"));
+        setField("changeLogDirectory", new File("src/test/resources/db/xml"));
+        setField("changeLogFormats", List.of("xml", "sql"));
+
+        // act
+        MojoExecutionException actual = Assert.assertThrows(MojoExecutionException.class,
+                () -> validateChangeLogMojo.execute());
+
+        // assert
+        assertEquals("ChangeLog format [sql] is not supported", actual.getMessage());
+    }
+
+    /**
+     * Integration test for {@link ValidateChangeLogMojo#execute()}. Should fail because of wrong changeLog directory
+     * among the changeLog directories.
+     *
+     * @throws NoSuchFieldException   - thrown if required field is missing.
+     * @throws IllegalAccessException - thrown if files not found.
+     */
+    @Test
+    public void testExecuteWrongDirectoriesFailure() throws NoSuchFieldException, IllegalAccessException {
+        // arrange
+        setField("pathToRulesFile", new File("src/test/resources/rules.xml"));
+        setField("changeLogDirectory", null);
+        setField("changeLogDirectories", List.of(new File("src/test/resources/db/missing")));
+
+        // act
+        MojoExecutionException actual = Assert.assertThrows(MojoExecutionException.class,
+                () -> validateChangeLogMojo.execute());
+
+        // assert
+        assertEquals("Invalid path: src/test/resources/db/missing", actual.getMessage());
+    }
+
     /**
      * Integration test for {@link ValidateChangeLogMojo#execute()}. Should fail because of wrong changeLog directory.
      *
@@ -355,6 +400,54 @@ public class ValidateChangeLogMojoFailureTest {
         Assert.assertTrue(isExceptionThrown);
     }
 
+    /**
+     * Integration test for {@link ValidateChangeLogMojo#execute()}.
+     * Should fail when neither changeLog directory nor archives are provided.
+     *
+     * @throws NoSuchFieldException   - thrown if required field is missing.
+     * @throws IllegalAccessException - thrown if files not found.
+     */
+    @Test
+    public void testExecuteWithoutChangeLogsFailure() throws NoSuchFieldException, IllegalAccessException {
+        // arrange
+        setField("pathToRulesFile", new File("src/test/resources/rules.xml"));
+        setField("changeLogDirectory", null);
+
+        // act
+        MojoExecutionException actual = Assert.assertThrows(MojoExecutionException.class,
+                () -> validateChangeLogMojo.execute());
+
+        // assert
+        assertEquals("At least one of 'changeLogDirectory', 'changeLogDirectories', 'changeLogMasterFile', "
+                + "'changeLogArchives' or 'changeLogArtifacts' parameters must be present", actual.getMessage());
+    }
+
+    /**
+     * Integration test for {@link ValidateChangeLogMojo#execute()}.
+     * Should fail when a changeLog artifact is not in the local repository.
+     *
+     * @throws NoSuchFieldException   - thrown if required field is missing.
+     * @throws IllegalAccessException - thrown if files not found.
+     */
+    @Test
+    public void testExecuteWithMissingArtifactFailure() throws NoSuchFieldException, IllegalAccessException {
+        // arrange
+        File localRepository = new File("target/missing-repository");
+        setField("pathToRulesFile", new File("src/test/resources/rules.xml"));
+        setField("changeLogDirectory", null);
+        setField("localRepository", localRepository);
+        setField("changeLogArtifacts", List.of("com.example:migrations:1.0"));
+
+        // act
+        MojoExecutionException actual = Assert.assertThrows(MojoExecutionException.class,
+                () -> validateChangeLogMojo.execute());
+
+        // assert
+        assertEquals("Invalid path: "
+                        + new File(localRepository, "com/example/migrations/1.0/migrations-1.0.jar"),
+                actual.getMessage());
+    }
+
     private void setField(final String fieldName,
                           final Object value)
             throws NoSuchFieldException, IllegalAccessException {
@@ -4,15 +4,32 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.Assert.assertEquals;
 
 public class ValidateChangeLogMojoXmlIntegrationTest {
 
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ValidateChangeLogMojo validateChangeLogMojo;
 
     /**
@@ -76,6 +93,86 @@ public class ValidateChangeLogMojoXmlIntegrationTest {
         Assert.assertFalse(isExceptionThrown);
     }
 
+    /**
+     * Integration test for {@link ValidateChangeLogMojo#execute()}.
+     * Should validate only the files included by the master changeLog.
+     *
+     * @throws NoSuchFieldException   - thrown if required field is missing.
+     * @throws IllegalAccessException - thrown if files not found.
+     */
+    @Test
+    public void testExecuteMasterFile() throws NoSuchFieldException, IllegalAccessException {
+        // arrange
+        setField("changeLogMasterFile", new File("src/test/resources/db/xml/changelog-master.xml"));
+
+        // act
+        MojoExecutionException actual = Assert.assertThrows(MojoExecutionException.class,
+                () -> validateChangeLogMojo.execute());
+
+        // assert
+        assertEquals("Validation failed: 22 violation(s) found.", actual.getMessage());
+    }
+
+    /**
+     * Integration test for {@link ValidateChangeLogMojo#execute()}.
+     * Should validate XML, YAML and JSON directories in a single execution, each file with the parser
+     * of its extension, and find the violations of all three formats.
+     *
+     * @throws NoSuchFieldException   - thrown if required field is missing.
+     * @throws IllegalAccessException - thrown if files not found.
+     */
+    @Test
+    public void testExecuteMixedFormats() throws NoSuchFieldException, IllegalAccessException {
+        // arrange
+        setField("changeLogDirectories", List.of(
+                new File("src/test/resources/db/yaml"),
+                new File("src/test/resources/db/json"),
+                new File("src/test/resources/db/xml/changelog")));
+        setField("changeLogFormats", List.of("xml", "yml", "json"));
+
+        // act
+        MojoExecutionException actual = Assert.assertThrows(MojoExecutionException.class,
+                () -> validateChangeLogMojo.execute());
+
+        // assert
+        assertEquals("Validation failed: 83 violation(s) found.", actual.getMessage());
+    }
+
+    /**
+     * Integration test for {@link ValidateChangeLogMojo#execute()}.
+     * Should find the same violations in the artifact of the local repository as in the changeLog directory.
+     *
+     * @throws Exception - thrown if the artifact cannot be written or fields cannot be set.
+     */
+    @Test
+    public void testExecuteArtifact() throws Exception {
+        // arrange
+        File localRepository = temporaryFolder.newFolder("repository");
+        Path changeLogDirectory = Paths.get("src/test/resources/db/xml");
+        File artifact = new File(localRepository, "com/example/migrations/1.0/migrations-1.0.jar");
+        Files.createDirectories(artifact.getParentFile().toPath());
+        try (ZipOutputStream jar = new ZipOutputStream(new FileOutputStream(artifact));
+             Stream<Path> paths = Files.walk(changeLogDirectory)) {
+            for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                String entryName = changeLogDirectory.relativize(path).toString().replace('\\', '/');
+                jar.putNextEntry(new ZipEntry("db/" + entryName));
+                jar.write(Files.readAllBytes(path));
+                jar.closeEntry();
+            }
+        }
+        setField("changeLogDirectory", null);
+        setField("localRepository", localRepository);
+        setField("changeLogArtifacts", List.of("com.example:migrations:1.0"));
+        setField("changeLogArchiveDirectory", "db");
+
+        // act
+        MojoExecutionException actual = Assert.assertThrows(MojoExecutionException.class,
+                () -> validateChangeLogMojo.execute());
+
+        // assert
+        assertEquals("Validation failed: 32 violation(s) found.", actual.getMessage());
+    }
+
     private void setField(final String fieldName,
                           final Object value)
             throws NoSuchFieldException, IllegalAccessException {
@@ -0,0 +1,81 @@
+package io.github.htshame;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Watch mojo test.
+ */
+public class WatchChangeLogMojoTest {
+
+    private WatchChangeLogMojo watchChangeLogMojo;
+
+    /**
+     * Init.
+     *
+     * @throws ReflectiveOperationException - thrown if required field is missing.
+     */
+    @Before
+    public void init() throws ReflectiveOperationException {
+        watchChangeLogMojo = new WatchChangeLogMojo();
+        setField(ValidateChangeLogMojo.class, "changeLogFormat", "xml");
+        setField(ValidateChangeLogMojo.class, "changeLogDirectory", new File("src/test/resources/db/xml"));
+        setField(ValidateChangeLogMojo.class, "pathToExclusionsFile", new File("src/test/resources/exclusions.xml"));
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setVersion("1.0");
+        setField(ValidateChangeLogMojo.class, "pluginDescriptor", pluginDescriptor);
+    }
+
+    /**
+     * Test that a negative debounce time is rejected.
+     *
+     * @throws ReflectiveOperationException - thrown if required field is missing.
+     */
+    @Test
+    public void testNegativeDebounce() throws ReflectiveOperationException {
+        // arrange
+        setField(ValidateChangeLogMojo.class, "pathToRulesFile", new File("src/test/resources/rules.xml"));
+        setField(WatchChangeLogMojo.class, "watchDebounceMillis", -1L);
+
+        // act
+        MojoExecutionException actual = assertThrows(MojoExecutionException.class, watchChangeLogMojo::execute);
+
+        // assert
+        assertEquals("'watchDebounceMillis' parameter must not be negative", actual.getMessage());
+    }
+
+    /**
+     * Test that invalid rules stop the goal before watching.
+     *
+     * @throws ReflectiveOperationException - thrown if required field is missing.
+     */
+    @Test
+    public void testRuleParseFailure() throws ReflectiveOperationException {
+        // arrange
+        setField(ValidateChangeLogMojo.class, "pathToRulesFile",
+                new File("src/test/resources/io/github/htshame/failure/rules_failure.xml"));
+
+        // act
+        MojoExecutionException actual = assertThrows(MojoExecutionException.class, watchChangeLogMojo::execute);
+
+        // assert
+        assertEquals("Error parsing ruleset XML file. Message: Content is not allowed in prolog.",
+                actual.getMessage());
+    }
+
+    private void setField(final Class<?> type,
+                          final String fieldName,
+                          final Object value) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(watchChangeLogMojo, value);
+    }
+}